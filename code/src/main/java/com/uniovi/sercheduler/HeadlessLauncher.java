@@ -0,0 +1,81 @@
+package com.uniovi.sercheduler;
+
+import ch.qos.logback.classic.Level;
+import com.uniovi.sercheduler.commands.BatchCommand;
+import com.uniovi.sercheduler.commands.CommandRegistry;
+import com.uniovi.sercheduler.parser.HostFileLoader;
+import com.uniovi.sercheduler.parser.WorkflowFileLoader;
+import com.uniovi.sercheduler.parser.experiment.ExperimentConfigLoader;
+import com.uniovi.sercheduler.service.ScheduleExporter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Entry point for batch runs that skips Spring Boot and Spring Shell. The loaders and the
+ * commands are created by hand and the command line is parsed by the {@link CommandRegistry} with
+ * the same annotations, so the arguments are the ones of the shell:
+ *
+ * <pre>
+ * java -cp sercheduler.jar com.uniovi.sercheduler.HeadlessLauncher evaluate -H hosts.json ...
+ * </pre>
+ */
+public class HeadlessLauncher {
+
+  static final Logger LOG = LoggerFactory.getLogger(HeadlessLauncher.class);
+
+  private HeadlessLauncher() {}
+
+  /**
+   * Runs one command and exits.
+   *
+   * @param args The name of the command and its options.
+   */
+  public static void main(String[] args) {
+    // Without Spring Boot the logging properties are not applied, the default of logback is DEBUG.
+    ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME))
+        .setLevel(Level.toLevel(System.getenv("DEBUG_LEVEL"), Level.INFO));
+
+    var registry = registry();
+    if (args.length == 0 || !registry.names().contains(args[0])) {
+      System.err.println(
+          "Usage: HeadlessLauncher <command> [options], the commands are " + registry.names());
+      System.exit(2);
+    }
+
+    try {
+      var result = registry.run(args[0], Arrays.asList(args).subList(1, args.length));
+      if (result != null) {
+        System.out.println(result);
+      }
+    } catch (IllegalArgumentException e) {
+      System.err.println(e.getMessage());
+      System.exit(2);
+    } catch (RuntimeException e) {
+      LOG.error("The command {} failed", args[0], e);
+      System.exit(1);
+    }
+    System.exit(0);
+  }
+
+  /**
+   * Creates the commands with their dependencies, the same beans Spring would inject.
+   *
+   * @return The registry of every command.
+   */
+  static CommandRegistry registry() {
+    var workflowLoader = new WorkflowFileLoader();
+    var hostLoader = new HostFileLoader();
+    var experimentConfigLoader = new ExperimentConfigLoader();
+    var scheduleExporter = new ScheduleExporter();
+
+    var targets =
+        new ArrayList<>(
+            CommandRegistry.commands(
+                workflowLoader, hostLoader, experimentConfigLoader, scheduleExporter));
+    targets.add(
+        new BatchCommand(workflowLoader, hostLoader, experimentConfigLoader, scheduleExporter));
+    return new CommandRegistry(targets);
+  }
+}
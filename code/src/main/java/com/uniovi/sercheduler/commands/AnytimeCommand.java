@@ -0,0 +1,160 @@
+package com.uniovi.sercheduler.commands;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.dto.InstanceData;
+import com.uniovi.sercheduler.jmetal.algorithm.AnytimeImprovement;
+import com.uniovi.sercheduler.jmetal.algorithm.AnytimeResult;
+import com.uniovi.sercheduler.jmetal.algorithm.AnytimeScheduler;
+import com.uniovi.sercheduler.jmetal.algorithm.MultilevelScheduler;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import com.uniovi.sercheduler.parser.HostLoader;
+import com.uniovi.sercheduler.parser.WorkflowLoader;
+import com.uniovi.sercheduler.service.FitnessCalculator;
+import com.uniovi.sercheduler.service.ScheduleExporter;
+import com.uniovi.sercheduler.service.WorkflowReducer;
+import com.uniovi.sercheduler.util.UnitParser;
+import java.io.File;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.shell.command.annotation.Command;
+import org.springframework.shell.command.annotation.Option;
+
+/** Command to get the best schedule found within a time budget. */
+@Command
+public class AnytimeCommand {
+
+  static final Logger LOG = LoggerFactory.getLogger(AnytimeCommand.class);
+
+  final WorkflowLoader workflowLoader;
+  final HostLoader hostLoader;
+  final ScheduleExporter scheduleExporter;
+
+  /**
+   * Full constructor.
+   *
+   * @param workflowLoader Loads workflows.
+   * @param hostLoader Loads hosts.
+   * @param scheduleExporter Exports the schedules.
+   */
+  public AnytimeCommand(
+      WorkflowLoader workflowLoader, HostLoader hostLoader, ScheduleExporter scheduleExporter) {
+    this.workflowLoader = workflowLoader;
+    this.hostLoader = hostLoader;
+    this.scheduleExporter = scheduleExporter;
+  }
+
+  /**
+   * Runs the GA until the deadline and exports the best schedule.
+   *
+   * @param hostsFile Relative or Absolute path to the hosts file.
+   * @param workflowFile Relative or Absolute path to the workflow file.
+   * @param budget Milliseconds available to find the schedule.
+   * @param seed Random seed to choose.
+   * @param fitness The fitness function to use.
+   * @param algorithm The algorithm, ga or nsga2.
+   * @param population Size of the population, also the number of children per generation.
+   * @param output The wrench JSON file for the schedule, nothing is written if empty.
+   * @param reduce Contracts the chains of the workflow before the search, see {@link
+   *     WorkflowReducer}.
+   * @param coarsest Runs the multilevel search, coarsening the workflow down to this number of
+   *     tasks, see {@link MultilevelScheduler}. 0 runs the GA on the workflow as it is.
+   * @param levelEvaluations The evaluations of each coarse level of the multilevel search.
+   * @return The text to print at the end.
+   */
+  @Command(command = "anytime")
+  public String anytime(
+      @Option(shortNames = 'H', required = true) String hostsFile,
+      @Option(shortNames = 'W', required = true) String workflowFile,
+      @Option(shortNames = 'B', defaultValue = "500") Long budget,
+      @Option(shortNames = 'S', defaultValue = "1") Long seed,
+      @Option(shortNames = 'F', defaultValue = "simple") String fitness,
+      @Option(shortNames = 'A', defaultValue = "ga") String algorithm,
+      @Option(shortNames = 'P', defaultValue = "100") Integer population,
+      @Option(shortNames = 'O', defaultValue = "") String output,
+      @Option(shortNames = 'R', defaultValue = "false") boolean reduce,
+      @Option(shortNames = 'M', defaultValue = "0") Integer coarsest,
+      @Option(shortNames = 'E', defaultValue = "2000") Integer levelEvaluations) {
+    List<Objective> objectives = List.of(Objective.MAKESPAN, Objective.ENERGY);
+
+    var instanceData =
+        new InstanceData(
+            workflowLoader.load(workflowLoader.readFromFile(new File(workflowFile))),
+            hostLoader.load(hostLoader.readFromFile(new File(hostsFile))),
+            UnitParser.parseUnits("441Gf"));
+    var reduced = reduce ? WorkflowReducer.reduce(instanceData.workflow()) : null;
+    if (reduce) {
+      LOG.info(
+          "Reduced the workflow from {} to {} tasks",
+          instanceData.workflow().size(),
+          reduced.workflow().size());
+    }
+
+    var searchInstance = reduce ? reduced.instanceData(instanceData) : instanceData;
+    Consumer<AnytimeImprovement> onImprovement =
+        improvement ->
+            LOG.info(
+                "New best makespan {} after {} evaluations and {} ms",
+                improvement.fitness(),
+                improvement.evaluations(),
+                improvement.elapsed().toMillis());
+
+    AnytimeResult result;
+    if (coarsest > 0) {
+      var scheduler =
+          new MultilevelScheduler(
+              "Scheduling problem",
+              searchInstance,
+              fitness,
+              objectives,
+              algorithm,
+              population,
+              0,
+              coarsest);
+      result =
+          scheduler.schedule(
+              Duration.ofMillis(budget),
+              levelEvaluations,
+              new SplittableRandom(seed),
+              onImprovement);
+    } else {
+      var problem =
+          new SchedulingProblem(
+              "Scheduling problem",
+              searchInstance,
+              fitness,
+              new Random(seed),
+              objectives,
+              Objective.MAKESPAN.objectiveName);
+      var scheduler = new AnytimeScheduler(problem, algorithm, population, 0);
+      result =
+          scheduler.schedule(Duration.ofMillis(budget), new SplittableRandom(seed), onImprovement);
+    }
+
+    // The schedule of the reduced workflow is expanded to the original tasks.
+    var fitnessInfo =
+        reduce
+            ? reduced.expand(result.best(), FitnessCalculator.getFitness(fitness, instanceData))
+            : result.best().getFitnessInfo();
+
+    if (!output.isEmpty()) {
+      scheduleExporter.generateJsonSchedule(
+          fitnessInfo,
+          hostLoader.readFromFile(new File(hostsFile)),
+          new File(output),
+          "441Gf");
+    }
+
+    return String.format(
+        "Anytime search done in %d ms with %d evaluations, the best makespan is %f and the energy"
+            + " is %f",
+        result.elapsed().toMillis(),
+        result.evaluations(),
+        fitnessInfo.fitness().get(Objective.MAKESPAN.objectiveName),
+        fitnessInfo.fitness().get(Objective.ENERGY.objectiveName));
+  }
+}
@@ -0,0 +1,30 @@
+package com.uniovi.sercheduler.commands;
+
+import com.uniovi.sercheduler.jmetal.archive.ResultArchiveCsvConverter;
+import com.uniovi.sercheduler.jmetal.archive.ResultArchiveReader;
+import java.nio.file.Path;
+import org.springframework.shell.command.annotation.Command;
+import org.springframework.shell.command.annotation.Option;
+
+/** Commands to work with the binary result archives. */
+@Command
+public class ArchiveCommand {
+
+  /**
+   * Converts a binary archive to the FUN and VAR CSV files.
+   *
+   * @param archiveFile The archive to convert.
+   * @param funFile The CSV file for the objectives.
+   * @param varFile The CSV file for the plans.
+   * @return The text to print at the end.
+   */
+  @Command(command = "archive-to-csv")
+  public String archiveToCsv(
+      @Option(shortNames = 'I', required = true) String archiveFile,
+      @Option(shortNames = 'F', required = true) String funFile,
+      @Option(shortNames = 'V', required = true) String varFile) {
+    var archive = ResultArchiveReader.read(Path.of(archiveFile));
+    ResultArchiveCsvConverter.toCsv(archive, Path.of(funFile), Path.of(varFile));
+    return String.format("Converted %d solutions", archive.numberOfSolutions());
+  }
+}
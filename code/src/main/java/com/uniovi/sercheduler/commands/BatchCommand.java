@@ -0,0 +1,227 @@
+package com.uniovi.sercheduler.commands;
+
+import com.uniovi.sercheduler.parser.CachingHostLoader;
+import com.uniovi.sercheduler.parser.CachingWorkflowLoader;
+import com.uniovi.sercheduler.parser.HostLoader;
+import com.uniovi.sercheduler.parser.WorkflowLoader;
+import com.uniovi.sercheduler.parser.experiment.ExperimentConfigLoader;
+import com.uniovi.sercheduler.service.ScheduleExporter;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.shell.command.annotation.Command;
+import org.springframework.shell.command.annotation.Option;
+
+/**
+ * Command to run many jobs in the same JVM, so they share the parsed instances and the code
+ * already compiled by the JIT instead of paying the startup and the warm-up on every run.
+ *
+ * <p>The manifest has one job per line, written as on the command line, for example "evaluate -H
+ * hosts.json -W montage.json -E 1000". Empty lines and lines starting with # are skipped.
+ *
+ * <p>With a warm-up, every job that has an executions option is run first with that budget, and
+ * into a temporary folder when it has an experiment path, so the measured jobs run on compiled
+ * code. Running the same manifest with and without warm-up shows how much of the time of the
+ * first jobs is the JIT.
+ */
+@Command
+public class BatchCommand {
+
+  static final Logger LOG = LoggerFactory.getLogger(BatchCommand.class);
+
+  private static final Pattern TOKEN = Pattern.compile("\"([^\"]*)\"|(\\S+)");
+
+  final WorkflowLoader workflowLoader;
+  final HostLoader hostLoader;
+  final ExperimentConfigLoader experimentConfigLoader;
+  final ScheduleExporter scheduleExporter;
+
+  /**
+   * Full constructor.
+   *
+   * @param workflowLoader Loads workflows.
+   * @param hostLoader Loads hosts.
+   * @param experimentConfigLoader Loads experiment configurations.
+   * @param scheduleExporter Exports the schedules.
+   */
+  public BatchCommand(
+      WorkflowLoader workflowLoader,
+      HostLoader hostLoader,
+      ExperimentConfigLoader experimentConfigLoader,
+      ScheduleExporter scheduleExporter) {
+    this.workflowLoader = workflowLoader;
+    this.hostLoader = hostLoader;
+    this.experimentConfigLoader = experimentConfigLoader;
+    this.scheduleExporter = scheduleExporter;
+  }
+
+  /** A line of the manifest. */
+  record Job(int line, String command, List<String> options) {}
+
+  /**
+   * Runs the jobs of a manifest.
+   *
+   * @param manifest The file with one job per line.
+   * @param warmup The executions of each job in the warm-up, 0 for no warm-up.
+   * @param output The CSV file with the time of each job.
+   * @return The text to print at the end.
+   */
+  @Command(command = "batch")
+  public String batch(
+      @Option(shortNames = 'M', required = true) String manifest,
+      @Option(shortNames = 'U', defaultValue = "0") Integer warmup,
+      @Option(shortNames = 'O', defaultValue = "batch-report.csv") String output) {
+    var jobs = readManifest(new File(manifest));
+    // The jobs of this batch share the parsed instances, the cache goes away with it.
+    var registry =
+        new CommandRegistry(
+            CommandRegistry.commands(
+                new CachingWorkflowLoader(workflowLoader),
+                new CachingHostLoader(hostLoader),
+                experimentConfigLoader,
+                scheduleExporter));
+    for (var job : jobs) {
+      if (!registry.names().contains(job.command())) {
+        throw new IllegalArgumentException(
+            "Unknown command " + job.command() + " in line " + job.line());
+      }
+    }
+
+    var warmupTimes = new long[jobs.size()];
+    long warmupTotal = warmup > 0 ? warmUp(registry, jobs, warmup, warmupTimes) : 0;
+
+    var times = new long[jobs.size()];
+    var statuses = new String[jobs.size()];
+    int failed = 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < jobs.size(); i++) {
+      var job = jobs.get(i);
+      LOG.info("Running job {} of {}: {} {}", i + 1, jobs.size(), job.command(), job.options());
+      long jobStart = System.nanoTime();
+      try {
+        var result = registry.run(job.command(), job.options());
+        statuses[i] = "ok";
+        LOG.info("Job {} done: {}", i + 1, result);
+      } catch (RuntimeException e) {
+        statuses[i] = "failed";
+        failed++;
+        LOG.error("Job {} in line {} failed", i + 1, job.line(), e);
+      }
+      times[i] = (System.nanoTime() - jobStart) / 1_000_000;
+    }
+    long total = (System.nanoTime() - start) / 1_000_000;
+
+    try (BufferedWriter writer =
+        Files.newBufferedWriter(Path.of(output), StandardCharsets.UTF_8)) {
+      writer.write("Line,Command,Warm-up ms,Time ms,Status");
+      writer.newLine();
+      for (int i = 0; i < jobs.size(); i++) {
+        writer.write(
+            String.format(
+                "%d,%s,%s,%d,%s",
+                jobs.get(i).line(),
+                jobs.get(i).command(),
+                warmupTimes[i] > 0 ? Long.toString(warmupTimes[i]) : "",
+                times[i],
+                statuses[i]));
+        writer.newLine();
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    return String.format(
+        "Ran %d jobs in %d ms after a warm-up of %d ms, %d failed, the times are in %s",
+        jobs.size(), total, warmupTotal, failed, output);
+  }
+
+  /**
+   * Runs the jobs with a small budget and discards their results.
+   *
+   * @return The time of the warm-up in milliseconds.
+   */
+  private static long warmUp(
+      CommandRegistry registry, List<Job> jobs, int warmup, long[] warmupTimes) {
+    long start = System.nanoTime();
+    Path folder;
+    try {
+      folder = Files.createTempDirectory("sercheduler-warmup");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    for (int i = 0; i < jobs.size(); i++) {
+      var job = jobs.get(i);
+      if (!registry.hasParameter(job.command(), "executions")) {
+        continue;
+      }
+      var overrides = new HashMap<String, String>();
+      overrides.put("executions", Integer.toString(warmup));
+      if (registry.hasParameter(job.command(), "experimentPath")) {
+        overrides.put("experimentPath", folder.resolve("job" + i).toString());
+      }
+
+      long jobStart = System.nanoTime();
+      try {
+        registry.run(job.command(), job.options(), overrides);
+      } catch (RuntimeException e) {
+        LOG.warn("The warm-up of the job in line {} failed", job.line(), e);
+      }
+      warmupTimes[i] = (System.nanoTime() - jobStart) / 1_000_000;
+    }
+
+    try (Stream<Path> walk = Files.walk(folder)) {
+      for (var path : walk.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    } catch (IOException e) {
+      LOG.warn("Could not delete the warm-up folder {}", folder, e);
+    }
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+
+  /**
+   * Reads the jobs of a manifest.
+   *
+   * @param manifest The file with one job per line, options with spaces go between quotes.
+   * @return The jobs, in order.
+   */
+  static List<Job> readManifest(File manifest) {
+    List<String> lines;
+    try {
+      lines = Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    var jobs = new ArrayList<Job>();
+    for (int i = 0; i < lines.size(); i++) {
+      var line = lines.get(i).strip();
+      if (line.isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+      var tokens = new ArrayList<String>();
+      var matcher = TOKEN.matcher(line);
+      while (matcher.find()) {
+        tokens.add(matcher.group(1) != null ? matcher.group(1) : matcher.group(2));
+      }
+      if (tokens.get(0).equals("batch")) {
+        throw new IllegalArgumentException("A batch cannot run another batch, line " + (i + 1));
+      }
+      jobs.add(new Job(i + 1, tokens.get(0), List.copyOf(tokens.subList(1, tokens.size()))));
+    }
+    return jobs;
+  }
+}
@@ -0,0 +1,233 @@
+package com.uniovi.sercheduler.commands;
+
+import com.uniovi.sercheduler.parser.HostLoader;
+import com.uniovi.sercheduler.parser.WorkflowLoader;
+import com.uniovi.sercheduler.parser.experiment.ExperimentConfigLoader;
+import com.uniovi.sercheduler.service.ScheduleExporter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.springframework.shell.command.annotation.Command;
+import org.springframework.shell.command.annotation.Option;
+
+/**
+ * Runs the commands outside Spring Shell, parsing the command line with the same {@link Option}
+ * annotations: "-X value" or "--name value", where the long name is the name of the parameter.
+ * The classes must be compiled with -parameters, as Spring Shell also needs.
+ */
+public class CommandRegistry {
+
+  /** A method annotated with {@link Command} and the object to call it on. */
+  record CommandMethod(Object target, Method method) {}
+
+  private final Map<String, CommandMethod> commands;
+
+  /**
+   * Full constructor.
+   *
+   * @param targets The objects with the command methods.
+   */
+  public CommandRegistry(List<Object> targets) {
+    this.commands = new HashMap<>();
+    for (var target : targets) {
+      for (var method : target.getClass().getMethods()) {
+        var annotation = method.getAnnotation(Command.class);
+        if (annotation != null) {
+          for (var name : annotation.command()) {
+            commands.put(name, new CommandMethod(target, method));
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Creates the commands that run a single job, with the dependencies Spring would inject.
+   *
+   * @param workflowLoader Loads workflows.
+   * @param hostLoader Loads hosts.
+   * @param experimentConfigLoader Loads experiment configurations.
+   * @param scheduleExporter Exports the schedules.
+   * @return The command objects.
+   */
+  public static List<Object> commands(
+      WorkflowLoader workflowLoader,
+      HostLoader hostLoader,
+      ExperimentConfigLoader experimentConfigLoader,
+      ScheduleExporter scheduleExporter) {
+    return List.of(
+        new AnytimeCommand(workflowLoader, hostLoader, scheduleExporter),
+        new ArchiveCommand(),
+        new EvaluateCommand(workflowLoader, hostLoader, scheduleExporter),
+        new ExperimentCommand(workflowLoader, hostLoader, experimentConfigLoader),
+        new ExperimentJmetalCommand(workflowLoader, hostLoader, experimentConfigLoader),
+        new ProfileCommand(),
+        new ScheduleCommand(workflowLoader, hostLoader, scheduleExporter),
+        new SeedingReportCommand(),
+        new SimulateCommand(workflowLoader, hostLoader));
+  }
+
+  /**
+   * Gets the names of the commands.
+   *
+   * @return The names, sorted.
+   */
+  public Set<String> names() {
+    return new TreeSet<>(commands.keySet());
+  }
+
+  /**
+   * Gets the method of a command.
+   *
+   * @param name The name of the command.
+   * @return The method, null if there is no such command.
+   */
+  Method method(String name) {
+    var command = commands.get(name);
+    return command == null ? null : command.method();
+  }
+
+  /**
+   * Runs a command.
+   *
+   * @param name The name of the command.
+   * @param options The options of the command line.
+   * @return The text returned by the command.
+   * @throws IllegalArgumentException If the command or an option are not valid.
+   */
+  public String run(String name, List<String> options) {
+    return run(name, options, Map.of());
+  }
+
+  /**
+   * Runs a command replacing some of its options.
+   *
+   * @param name The name of the command.
+   * @param options The options of the command line.
+   * @param overrides Values that replace the options with those parameter names, if present.
+   * @return The text returned by the command.
+   * @throws IllegalArgumentException If the command or an option are not valid.
+   */
+  public String run(String name, List<String> options, Map<String, String> overrides) {
+    var command = commands.get(name);
+    if (command == null) {
+      throw new IllegalArgumentException(
+          "Unknown command " + name + ", the commands are " + names());
+    }
+    try {
+      var arguments = arguments(command.method(), options, overrides);
+      var result = command.method().invoke(command.target(), arguments);
+      return result == null ? null : result.toString();
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    } catch (InvocationTargetException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Tells if a command has a parameter.
+   *
+   * @param name The name of the command.
+   * @param parameter The name of the parameter.
+   * @return True if the command exists and has it.
+   */
+  public boolean hasParameter(String name, String parameter) {
+    var command = commands.get(name);
+    return command != null
+        && Arrays.stream(command.method().getParameters())
+            .anyMatch(p -> p.getName().equals(parameter));
+  }
+
+  /**
+   * Parses the options of a command into the arguments of its method.
+   *
+   * @param method The method of the command.
+   * @param options The options. The value of a boolean is optional.
+   * @param overrides Values that replace the options with those parameter names.
+   * @return The arguments, with the default value of the options that are not given.
+   */
+  static Object[] arguments(Method method, List<String> options, Map<String, String> overrides) {
+    var parameters = method.getParameters();
+    var values = new String[parameters.length];
+
+    int i = 0;
+    while (i < options.size()) {
+      var token = options.get(i++);
+      int index = parameterIndex(parameters, token);
+      boolean isBoolean =
+          parameters[index].getType() == boolean.class
+              || parameters[index].getType() == Boolean.class;
+      if (isBoolean && (i == options.size() || options.get(i).startsWith("-"))) {
+        values[index] = "true";
+      } else if (i < options.size()) {
+        values[index] = options.get(i++);
+      } else {
+        throw new IllegalArgumentException("Missing the value of the option " + token);
+      }
+    }
+
+    var arguments = new Object[parameters.length];
+    for (int p = 0; p < parameters.length; p++) {
+      var option = parameters[p].getAnnotation(Option.class);
+      var value = overrides.getOrDefault(parameters[p].getName(), values[p]);
+      if (value == null && option.required()) {
+        throw new IllegalArgumentException("Missing the option --" + parameters[p].getName());
+      }
+      arguments[p] = convert(value == null ? option.defaultValue() : value, parameters[p]);
+    }
+    return arguments;
+  }
+
+  private static int parameterIndex(Parameter[] parameters, String token) {
+    for (int p = 0; p < parameters.length; p++) {
+      var option = parameters[p].getAnnotation(Option.class);
+      if (token.startsWith("--")) {
+        var name = token.substring(2);
+        if (name.equals(parameters[p].getName())
+            || Arrays.asList(option.longNames()).contains(name)) {
+          return p;
+        }
+      } else if (token.length() == 2 && token.charAt(0) == '-') {
+        for (var shortName : option.shortNames()) {
+          if (shortName == token.charAt(1)) {
+            return p;
+          }
+        }
+      }
+    }
+    throw new IllegalArgumentException("Unknown option " + token);
+  }
+
+  private static Object convert(String value, Parameter parameter) {
+    var type = parameter.getType();
+    if (type == String.class) {
+      return value;
+    }
+    if (value.isEmpty()) {
+      return type == boolean.class ? false : null;
+    }
+    if (type == Integer.class || type == int.class) {
+      return Integer.valueOf(value);
+    }
+    if (type == Long.class || type == long.class) {
+      return Long.valueOf(value);
+    }
+    if (type == Double.class || type == double.class) {
+      return Double.valueOf(value);
+    }
+    if (type == Boolean.class || type == boolean.class) {
+      return Boolean.valueOf(value);
+    }
+    throw new IllegalArgumentException("Unsupported option type " + type.getName());
+  }
+}
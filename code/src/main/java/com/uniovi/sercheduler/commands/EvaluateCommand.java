@@ -3,23 +3,15 @@ package com.uniovi.sercheduler.commands;
 import static org.uma.jmetal.util.AbstractAlgorithmRunner.printFinalSolutionSet;
 
 import com.uniovi.sercheduler.dao.Objective;
-import com.uniovi.sercheduler.jmetal.evaluation.MultiThreadEvaluationMulti;
-import com.uniovi.sercheduler.jmetal.operator.ScheduleCrossover;
-import com.uniovi.sercheduler.jmetal.operator.ScheduleMutation;
-import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
-import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
 import com.uniovi.sercheduler.parser.HostLoader;
 import com.uniovi.sercheduler.parser.WorkflowLoader;
-import com.uniovi.sercheduler.service.Operators;
 import com.uniovi.sercheduler.service.ScheduleExporter;
-import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Comparator;
-import java.util.List;
-import java.util.Random;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -28,12 +20,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.shell.command.annotation.Command;
 import org.springframework.shell.command.annotation.Option;
-import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
-import org.uma.jmetal.component.algorithm.multiobjective.NSGAIIBuilder;
-import org.uma.jmetal.component.catalogue.common.termination.Termination;
-import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
-import org.uma.jmetal.operator.crossover.CrossoverOperator;
-import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.util.observer.impl.FitnessObserver;
 
 /** Contains all commands related to the execution of the GA. */
@@ -68,6 +54,13 @@ public class EvaluateCommand {
    * @param workflowFile Relative or Absolute path to the workflow file.
    * @param executions Number of schedule to generate
    * @param seed Random seed to choose.
+   * @param fitness The fitness function to use.
+   * @param population Size of the population, also the number of children per generation.
+   * @param checkpoint File to save the state of the run in, empty for none.
+   * @param checkpointInterval Generations between checkpoints.
+   * @param resume Continues from the checkpoint, if it exists, instead of starting again.
+   * @param memeticElite Fraction of the offspring improved with a local search, 0 for none.
+   * @param memeticBudget Host reassignments tried at most for each improved solution.
    * @return The text to print at the end.
    */
   @Command(command = "evaluate")
@@ -76,49 +69,40 @@ public class EvaluateCommand {
       @Option(shortNames = 'W', required = true) String workflowFile,
       @Option(shortNames = 'E', defaultValue = "1000") Integer executions,
       @Option(shortNames = 'S', defaultValue = "1") Long seed,
-      @Option(shortNames = 'F', defaultValue = "simple") String fitness) {
+      @Option(shortNames = 'F', defaultValue = "simple") String fitness,
+      @Option(shortNames = 'P', defaultValue = "100") Integer population,
+      @Option(shortNames = 'C', defaultValue = "") String checkpoint,
+      @Option(shortNames = 'I', defaultValue = "50") int checkpointInterval,
+      @Option(shortNames = 'R', defaultValue = "false") boolean resume,
+      @Option(shortNames = 'Z', defaultValue = "0") double memeticElite,
+      @Option(shortNames = 'B', defaultValue = "100") int memeticBudget) {
     final Instant start = Instant.now();
-    List<Objective> objectives = List.of(Objective.MAKESPAN, Objective.ENERGY);
-
-    var problem =
-        new SchedulingProblem(
-            new File(workflowFile),
-            new File(hostsFile),
-            "441Gf",
-            fitness,
-            seed,
-            objectives,
-            Objective.MAKESPAN.objectiveName);
-
-    Operators operators = new Operators(problem.getInstanceData(), new Random(seed));
-    CrossoverOperator<SchedulePermutationSolution> crossover = new ScheduleCrossover(1, operators);
-
-    double mutationProbability = 0.1;
-    MutationOperator<SchedulePermutationSolution> mutation =
-        new ScheduleMutation(mutationProbability, operators);
-
-    int populationSize = 100;
-    int offspringPopulationSize = 100;
-
-    Termination termination = new TerminationByEvaluations(executions);
-
-    EvolutionaryAlgorithm<SchedulePermutationSolution> gaAlgo =
-        new NSGAIIBuilder<>(problem, populationSize, offspringPopulationSize, crossover, mutation)
-            .setTermination(termination)
-            .setEvaluation(
-                new MultiThreadEvaluationMulti(16, problem, objectives.get(1).objectiveName))
-            //  .setSelection(new ScheduleSelection(new Random(seed)))
-            //  .setReplacement(new ScheduleReplacement(new Random(seed)))
-            .build();
+    var builder =
+        new EvaluateRunBuilder(hostsFile, workflowFile, fitness, seed)
+            .setExecutions(executions)
+            .setPopulation(population)
+            .setMemetic(memeticElite, memeticBudget);
+    if (!checkpoint.isEmpty()) {
+      builder.setCheckpoint(Path.of(checkpoint), checkpointInterval, resume);
+    }
+    var run = builder.build();
+    var gaAlgo = run.algorithm();
+    var checkpointer = run.checkpointer();
 
     gaAlgo.observable().register(new FitnessObserver(100));
 
     gaAlgo.run();
 
-    var population = gaAlgo.result();
-    LOG.info("Total execution time : {} ms", gaAlgo.totalComputingTime());
-    LOG.info("Number of evaluations: {} ", gaAlgo.numberOfEvaluations());
-    printFinalSolutionSet(population);
+    var result = gaAlgo.result();
+    if (checkpointer != null) {
+      checkpointer.close();
+      LOG.info("Total execution time : {} ms", checkpointer.elapsedMillis());
+      LOG.info("Number of evaluations: {} ", checkpointer.evaluations());
+    } else {
+      LOG.info("Total execution time : {} ms", gaAlgo.totalComputingTime());
+      LOG.info("Number of evaluations: {} ", gaAlgo.numberOfEvaluations());
+    }
+    printFinalSolutionSet(result);
 
     var bestSolution =
         gaAlgo.result().stream()
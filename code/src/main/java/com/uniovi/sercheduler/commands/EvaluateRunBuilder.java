@@ -0,0 +1,161 @@
+package com.uniovi.sercheduler.commands;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.jmetal.algorithm.BiObjectiveNSGAIIBuilder;
+import com.uniovi.sercheduler.jmetal.checkpoint.Checkpointer;
+import com.uniovi.sercheduler.jmetal.evaluation.MemeticEvaluation;
+import com.uniovi.sercheduler.jmetal.evaluation.MultiThreadEvaluationMulti;
+import com.uniovi.sercheduler.jmetal.operator.ScheduleCrossover;
+import com.uniovi.sercheduler.jmetal.operator.ScheduleMutation;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import com.uniovi.sercheduler.service.FitnessCalculatorSimple;
+import com.uniovi.sercheduler.service.Operators;
+import com.uniovi.sercheduler.util.Checkpointable;
+import com.uniovi.sercheduler.util.CheckpointableRandom;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
+import org.uma.jmetal.component.catalogue.common.termination.Termination;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+
+/**
+ * Builds the bi-objective GA of the evaluate command, so the commands that run it, as the profile
+ * one, run the same algorithm. The local search and the checkpoints are optional.
+ */
+class EvaluateRunBuilder {
+
+  /** The speed the runtimes of the workflows are relative to. */
+  static final String REFERENCE_SPEED = "441Gf";
+
+  /** The threads of the evaluation. */
+  static final int THREADS = 16;
+
+  static final List<Objective> OBJECTIVES = List.of(Objective.MAKESPAN, Objective.ENERGY);
+
+  private final File hostsFile;
+  private final File workflowFile;
+  private final String fitness;
+  private final long seed;
+  private int executions = 1000;
+  private int population = 100;
+  private double memeticElite;
+  private int memeticBudget = 100;
+  private Path checkpoint;
+  private int checkpointInterval = 50;
+  private boolean resume;
+
+  /** The algorithm built, with its problem and its checkpointer, null without checkpoints. */
+  record EvaluateRun(
+      SchedulingProblem problem,
+      EvolutionaryAlgorithm<SchedulePermutationSolution> algorithm,
+      Checkpointer checkpointer) {}
+
+  /**
+   * Full constructor.
+   *
+   * @param hostsFile Relative or Absolute path to the hosts file.
+   * @param workflowFile Relative or Absolute path to the workflow file.
+   * @param fitness The fitness function to use.
+   * @param seed Random seed to choose.
+   */
+  EvaluateRunBuilder(String hostsFile, String workflowFile, String fitness, long seed) {
+    this.hostsFile = new File(hostsFile);
+    this.workflowFile = new File(workflowFile);
+    this.fitness = fitness;
+    this.seed = seed;
+  }
+
+  EvaluateRunBuilder setExecutions(int executions) {
+    this.executions = executions;
+    return this;
+  }
+
+  EvaluateRunBuilder setPopulation(int population) {
+    this.population = population;
+    return this;
+  }
+
+  EvaluateRunBuilder setMemetic(double memeticElite, int memeticBudget) {
+    this.memeticElite = memeticElite;
+    this.memeticBudget = memeticBudget;
+    return this;
+  }
+
+  EvaluateRunBuilder setCheckpoint(Path checkpoint, int checkpointInterval, boolean resume) {
+    this.checkpoint = checkpoint;
+    this.checkpointInterval = checkpointInterval;
+    this.resume = resume;
+    return this;
+  }
+
+  EvaluateRun build() {
+    var problem =
+        new SchedulingProblem(
+            workflowFile,
+            hostsFile,
+            REFERENCE_SPEED,
+            fitness,
+            seed,
+            OBJECTIVES,
+            Objective.MAKESPAN.objectiveName);
+
+    // Same numbers as java.util.Random, but their state can be saved in the checkpoints.
+    var operatorsRandom = new CheckpointableRandom(seed);
+    var selectionRandom = new CheckpointableRandom(seed);
+    var operators = new Operators(problem.getInstanceData(), operatorsRandom);
+
+    Termination termination = new TerminationByEvaluations(executions);
+    Evaluation<SchedulePermutationSolution> evaluation =
+        new MultiThreadEvaluationMulti(THREADS, problem, OBJECTIVES.get(1).objectiveName, true);
+    List<Checkpointable> components = new ArrayList<>(List.of(operatorsRandom, selectionRandom));
+    if (memeticElite > 0) {
+      var memeticEvaluation =
+          new MemeticEvaluation(
+              evaluation,
+              problem,
+              new FitnessCalculatorSimple(problem.getInstanceData()),
+              OBJECTIVES,
+              memeticElite,
+              memeticBudget);
+      components.add(memeticEvaluation);
+      evaluation = memeticEvaluation;
+    }
+
+    Checkpointer checkpointer = null;
+    if (checkpoint != null) {
+      checkpointer =
+          new Checkpointer(
+              checkpoint,
+              Map.of(
+                  "population", Integer.toString(population),
+                  "offspring", Integer.toString(population),
+                  "fitness", fitness,
+                  "objectives", OBJECTIVES.toString(),
+                  "evaluations", Integer.toString(executions)),
+              checkpointInterval,
+              components,
+              problem.getInstanceData(),
+              resume);
+      termination = checkpointer.termination(termination);
+      evaluation = checkpointer.evaluation(evaluation);
+    }
+
+    var algorithm =
+        new BiObjectiveNSGAIIBuilder(
+                problem,
+                population,
+                population,
+                new ScheduleCrossover(1, operators),
+                new ScheduleMutation(0.1, operators),
+                selectionRandom)
+            .setTermination(termination)
+            .setEvaluation(evaluation)
+            .build();
+    return new EvaluateRun(problem, algorithm, checkpointer);
+  }
+}
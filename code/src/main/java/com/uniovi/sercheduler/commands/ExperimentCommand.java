@@ -12,17 +12,14 @@ import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
 import com.uniovi.sercheduler.parser.HostLoader;
 import com.uniovi.sercheduler.parser.WorkflowLoader;
 import com.uniovi.sercheduler.parser.experiment.ExperimentConfigLoader;
+import com.uniovi.sercheduler.service.BenchmarkResultsWriter;
 import com.uniovi.sercheduler.service.Operators;
+import com.uniovi.sercheduler.util.RandomStreams;
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.shell.command.annotation.Command;
@@ -69,72 +66,37 @@ public class ExperimentCommand {
       @Option(shortNames = 'E', defaultValue = "100000") Integer executions,
       @Option(shortNames = 'S', defaultValue = "1") Long seed,
       @Option(shortNames = 'C') String experimentConfigFile) {
-    var benchmarksResult = new ArrayList<BenchmarkData>();
-
     var experimentConfig = experimentConfigLoader.readFromFile(new File(experimentConfigFile));
 
     var benchmarks = experimentConfig.workflows();
-    Random random = new Random(seed);
-    for (var benchmark : benchmarks) {
-
-      var fitness = experimentConfig.fitness();
-      for (int i = experimentConfig.minHosts();
-          i <= experimentConfig.maxHosts();
-          i = i * experimentConfig.hostIncrement()) {
-        for (var f : fitness) {
-          var benchmarkData =
-              doExperiment(
-                  executions,
-                  seed,
-                  benchmark,
-                  type,
-                  i,
-                  f,
-                  random,
-                  workflowsPath,
-                  hostsPath,
-                  experimentConfig);
-
-          benchmarksResult.add(benchmarkData);
-          LOG.info("Done benchmark {} with {} hosts and fitness {}", benchmark, i, f);
+    // Each result is written as soon as its benchmark is done.
+    try (var resultsWriter =
+        new BenchmarkResultsWriter(Path.of("results.csv"), Path.of("results.xlsx"))) {
+      for (var benchmark : benchmarks) {
+
+        var fitness = experimentConfig.fitness();
+        for (int i = experimentConfig.minHosts();
+            i <= experimentConfig.maxHosts();
+            i = i * experimentConfig.hostIncrement()) {
+          for (var f : fitness) {
+            var benchmarkData =
+                doExperiment(
+                    executions,
+                    seed,
+                    benchmark,
+                    type,
+                    i,
+                    f,
+                    workflowsPath,
+                    hostsPath,
+                    experimentConfig);
+
+            resultsWriter.write(benchmarkData);
+            LOG.info("Done benchmark {} with {} hosts and fitness {}", benchmark, i, f);
+          }
         }
       }
     }
-    // Writing the solution to excel
-    try (Workbook workbook = new XSSFWorkbook()) {
-      Sheet sheet = workbook.createSheet("Data");
-
-      // Create header row
-      Row headerRow = sheet.createRow(0);
-      headerRow.createCell(0).setCellValue("Benchmark");
-      headerRow.createCell(1).setCellValue("Hosts");
-      headerRow.createCell(2).setCellValue("Fitness");
-      headerRow.createCell(3).setCellValue("Makespan");
-      headerRow.createCell(4).setCellValue("Energy");
-      headerRow.createCell(5).setCellValue("Time");
-
-      // Populate data
-      int rowNum = 1;
-
-      for (var result : benchmarksResult) {
-
-        Row row = sheet.createRow(rowNum++);
-        row.createCell(0).setCellValue(result.workflow());
-        row.createCell(1).setCellValue(result.hosts());
-        row.createCell(2).setCellValue(result.fitness());
-        row.createCell(3).setCellValue(result.makespan());
-        row.createCell(4).setCellValue(result.energy());
-        row.createCell(5).setCellValue(result.time());
-
-        // Write the workbook to a file
-        try (FileOutputStream outputStream = new FileOutputStream("results.xlsx")) {
-          workbook.write(outputStream);
-        }
-      }
-
-    } catch (IOException e) {
-      throw new RuntimeException(e);
-    }
     return "All experiments done";
   }
 
@@ -145,7 +107,6 @@ public class ExperimentCommand {
       String type,
       int hosts,
       String fitness,
-      Random random,
       String workflowsPath,
       String hostsPath,
       ExperimentConfig experimentConfig) {
@@ -162,13 +123,7 @@ public class ExperimentCommand {
             objectives,
             Objective.MAKESPAN.objectiveName);
 
-    Operators operators = new Operators(problem.getInstanceData(), random);
-    CrossoverOperator<SchedulePermutationSolution> crossover = new ScheduleCrossover(1, operators);
-
     double mutationProbability = 0.1;
-    MutationOperator<SchedulePermutationSolution> mutation =
-        new ScheduleMutation(mutationProbability, operators);
-
     int populationSize = 100;
     int offspringPopulationSize = 100;
     Termination termination = new TerminationByEvaluations(executions);
@@ -177,11 +132,22 @@ public class ExperimentCommand {
     var energies = new ArrayList<Double>();
 
     for (int i = 0; i < experimentConfig.independentRuns(); i++) {
+      // Each run owns its random streams, derived from the seed and the identity of the run.
+      var runRandom = RandomStreams.forRun(seed, benchmark, hosts, fitness, i);
+      var runProblem = problem.withRandom(runRandom.split());
+      var random = runRandom.split();
+
+      Operators operators = new Operators(runProblem.getInstanceData(), runRandom.split());
+      CrossoverOperator<SchedulePermutationSolution> crossover =
+          new ScheduleCrossover(1, operators);
+      MutationOperator<SchedulePermutationSolution> mutation =
+          new ScheduleMutation(mutationProbability, operators);
+
       EvolutionaryAlgorithm<SchedulePermutationSolution> gaAlgo =
           new GeneticAlgorithmBuilder<>(
-                  "GGA", problem, populationSize, offspringPopulationSize, crossover, mutation)
+                  "GGA", runProblem, populationSize, offspringPopulationSize, crossover, mutation)
               .setTermination(termination)
-              .setEvaluation(new MultiThreadedEvaluation<>(0, problem))
+              .setEvaluation(new MultiThreadedEvaluation<>(0, runProblem))
               .setSelection(new ScheduleSelection(random))
               .setReplacement(new ScheduleReplacement(random, objectives.get(0)))
               .build();
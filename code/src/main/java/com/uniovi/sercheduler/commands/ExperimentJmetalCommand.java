@@ -1,31 +1,51 @@
 package com.uniovi.sercheduler.commands;
 
 import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.expception.CheckpointException;
+import com.uniovi.sercheduler.jmetal.algorithm.BiObjectiveNSGAIIBuilder;
+import com.uniovi.sercheduler.jmetal.algorithm.ConvergenceTermination;
+import com.uniovi.sercheduler.jmetal.algorithm.TerminationByHypervolumeDelta;
+import com.uniovi.sercheduler.jmetal.algorithm.TerminationByStagnation;
+import com.uniovi.sercheduler.jmetal.archive.ArchivingExperimentAlgorithm;
+import com.uniovi.sercheduler.jmetal.checkpoint.Checkpointer;
+import com.uniovi.sercheduler.jmetal.evaluation.MemeticEvaluation;
 import com.uniovi.sercheduler.jmetal.evaluation.MultiThreadEvaluationMulti;
 import com.uniovi.sercheduler.jmetal.evaluation.MultiThreadedEvaluation;
+import com.uniovi.sercheduler.jmetal.evaluation.PrescreeningEvaluation;
+import com.uniovi.sercheduler.jmetal.experiment.ExecuteAlgorithmsCustom;
+import com.uniovi.sercheduler.jmetal.experiment.MetricsServer;
+import com.uniovi.sercheduler.jmetal.experiment.ParallelQualityAnalysis;
+import com.uniovi.sercheduler.jmetal.experiment.SweepMetrics;
+import com.uniovi.sercheduler.jmetal.indicator.BiObjectiveHypervolume;
 import com.uniovi.sercheduler.jmetal.operator.ScheduleCrossover;
 import com.uniovi.sercheduler.jmetal.operator.ScheduleMutation;
 import com.uniovi.sercheduler.jmetal.operator.ScheduleReplacement;
 import com.uniovi.sercheduler.jmetal.operator.ScheduleSelection;
+import com.uniovi.sercheduler.jmetal.operator.ScheduleTournamentReplacement;
 import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
 import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
 import com.uniovi.sercheduler.parser.HostLoader;
 import com.uniovi.sercheduler.parser.WorkflowLoader;
 import com.uniovi.sercheduler.parser.experiment.ExperimentConfigLoader;
+import com.uniovi.sercheduler.service.FitnessCalculator;
+import com.uniovi.sercheduler.service.FitnessCalculatorSimple;
+import com.uniovi.sercheduler.service.LowerBounds;
 import com.uniovi.sercheduler.service.Operators;
+import com.uniovi.sercheduler.service.statistics.ExperimentStatisticsAggregator;
+import com.uniovi.sercheduler.util.Checkpointable;
+import com.uniovi.sercheduler.util.RandomStreams;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.DoubleSummaryStatistics;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
-import java.util.Scanner;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,29 +59,26 @@ import org.uma.jmetal.component.algorithm.singleobjective.GeneticAlgorithmBuilde
 import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
 import org.uma.jmetal.component.catalogue.common.evaluation.impl.SequentialEvaluation;
 import org.uma.jmetal.component.catalogue.common.termination.Termination;
-import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+import org.uma.jmetal.component.catalogue.ea.replacement.Replacement;
 import org.uma.jmetal.lab.experiment.Experiment;
 import org.uma.jmetal.lab.experiment.ExperimentBuilder;
-import org.uma.jmetal.lab.experiment.component.impl.ComputeQualityIndicators;
-import org.uma.jmetal.lab.experiment.component.impl.ExecuteAlgorithms;
 import org.uma.jmetal.lab.experiment.component.impl.GenerateBoxplotsWithR;
 import org.uma.jmetal.lab.experiment.component.impl.GenerateFriedmanHolmTestTables;
 import org.uma.jmetal.lab.experiment.component.impl.GenerateHtmlPages;
 import org.uma.jmetal.lab.experiment.component.impl.GenerateLatexTablesWithStatistics;
-import org.uma.jmetal.lab.experiment.component.impl.GenerateReferenceParetoFront;
 import org.uma.jmetal.lab.experiment.component.impl.GenerateWilcoxonTestTablesWithR;
 import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
 import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.qualityindicator.impl.Epsilon;
 import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
 import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
 import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
 import org.uma.jmetal.qualityindicator.impl.NormalizedHypervolume;
 import org.uma.jmetal.qualityindicator.impl.Spread;
-import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
 
 /** Class for running experiments using JMetal experiment tools. */
 @Command
@@ -69,6 +86,8 @@ public class ExperimentJmetalCommand {
 
   static final Logger LOG = LoggerFactory.getLogger(ExperimentJmetalCommand.class);
 
+  private static final double MIN_PROXY_CORRELATION = 0.5;
+
   final WorkflowLoader workflowLoader;
   final HostLoader hostLoader;
   final ExperimentConfigLoader experimentConfigLoader;
@@ -87,6 +106,21 @@ public class ExperimentJmetalCommand {
    *
    * @param executions Number of evaluations before stopping.
    * @param seed The random seed.
+   * @param archive Stores the solutions in compressed binary archives instead of VAR files.
+   * @param stop When the runs stop: evaluations, stagnation or hypervolume, the mono-objective
+   *     runs stop by stagnation instead of hypervolume.
+   * @param stagnationGenerations Generations without improvement before stopping.
+   * @param convergenceEpsilon Relative improvement below which a generation does not count.
+   * @param stopAtLowerBound Stops when the first objective reaches its lower bound.
+   * @param prescreening Fraction of the offspring evaluated after ranking them with the simple
+   *     fitness, 1 to evaluate all of them.
+   * @param metricsPort Local port of the Prometheus metrics of the sweep, 0 for none.
+   * @param checkpointInterval Generations between the checkpoints of each run, 0 for none.
+   * @param resume Continues each unfinished run from its checkpoint, if it has one.
+   * @param memeticElite Fraction of the offspring improved with a local search, 0 for none.
+   * @param memeticBudget Host reassignments tried at most for each improved solution.
+   * @param tournamentSize Solutions of each tournament of the mono-objective replacement, half of
+   *     them survive.
    * @return An exit string.
    */
   @Command(command = "jmetal")
@@ -98,26 +132,51 @@ public class ExperimentJmetalCommand {
       @Option(shortNames = 'S', defaultValue = "1") Long seed,
       @Option(shortNames = 'X', defaultValue = ".") String experimentPath,
       @Option(shortNames = 'C' ) String experimentConfigFile,
-      @Option(shortNames = 'P', defaultValue = "1") int maxParallel) {
+      @Option(shortNames = 'P', defaultValue = "1") int maxParallel,
+      @Option(shortNames = 'A', defaultValue = "false") boolean archive,
+      @Option(shortNames = 'K', defaultValue = "evaluations") String stop,
+      @Option(shortNames = 'G', defaultValue = "50") int stagnationGenerations,
+      @Option(shortNames = 'D', defaultValue = "0.0001") double convergenceEpsilon,
+      @Option(shortNames = 'L', defaultValue = "false") boolean stopAtLowerBound,
+      @Option(shortNames = 'Q', defaultValue = "1") double prescreening,
+      @Option(shortNames = 'M', defaultValue = "0") int metricsPort,
+      @Option(shortNames = 'I', defaultValue = "0") int checkpointInterval,
+      @Option(shortNames = 'R', defaultValue = "false") boolean resume,
+      @Option(shortNames = 'Z', defaultValue = "0") double memeticElite,
+      @Option(shortNames = 'B', defaultValue = "100") int memeticBudget,
+      @Option(shortNames = 'U', defaultValue = "4") int tournamentSize) {
 
     var experimentConfig = experimentConfigLoader.readFromFile(new File(experimentConfigFile));
 
     var benchmarks = experimentConfig.workflows();
 
-    Random random = new Random(seed);
-
     var fitness = experimentConfig.fitness();
 
     var experimentBaseDirectory = experimentPath + "/executions";
     double mutationProbability = 0.1;
     int populationSize = 100;
     int offspringPopulationSize = 100;
-    Termination termination = new TerminationByEvaluations(executions);
     List<ExperimentProblem<SchedulePermutationSolution>> problemList = new ArrayList<>();
     List<ExperimentAlgorithm<SchedulePermutationSolution, List<SchedulePermutationSolution>>>
         algorithmList = new ArrayList<>();
+    Map<ExperimentAlgorithm<?, ?>, ConvergenceTermination> terminations = new IdentityHashMap<>();
+    Map<ExperimentAlgorithm<?, ?>, PrescreeningEvaluation> prescreenings = new IdentityHashMap<>();
+    Map<String, LowerBounds> lowerBounds = new HashMap<>();
+    List<Checkpointer> checkpointers = new ArrayList<>();
 
     var objectives = experimentConfig.objectives().stream().map(Objective::of).toList();
+    if (tournamentSize < 2 || tournamentSize % 2 != 0) {
+      throw new IllegalArgumentException("The tournament size must be even: " + tournamentSize);
+    }
+    if (stop.equals("hypervolume")) {
+      if (objectives.size() != 2 && fitness.stream().anyMatch(f -> !f.contains("mono"))) {
+        throw new IllegalArgumentException(
+            "The hypervolume stop needs two objectives, the experiment has " + objectives.size());
+      }
+      if (fitness.stream().anyMatch(f -> f.contains("mono"))) {
+        LOG.warn("The hypervolume stop needs two objectives, the mono runs stop by stagnation");
+      }
+    }
 
     for (var benchmark : benchmarks) {
 
@@ -140,7 +199,7 @@ public class ExperimentJmetalCommand {
 
         for (var f : fitness) {
 
-          var problem =
+          var fitnessProblem =
               new SchedulingProblem(
                   benchmark + "-hosts-" + i,
                   new File(workflowsPath + benchmark + ".json"),
@@ -150,15 +209,99 @@ public class ExperimentJmetalCommand {
                   seed,
                   objectives,
                   objectives.get(0).objectiveName);
-
-          Operators operators = new Operators(problem.getInstanceData(), random);
-          CrossoverOperator<SchedulePermutationSolution> crossover =
-              new ScheduleCrossover(1, operators);
-
-          MutationOperator<SchedulePermutationSolution> mutation =
-              new ScheduleMutation(mutationProbability, operators);
+          var instanceData = fitnessProblem.getInstanceData();
+          var bounds =
+              lowerBounds.computeIfAbsent(
+                  experimentProblem.getTag(), tag -> new LowerBounds(instanceData));
+          double lowerBound =
+              stopAtLowerBound ? bounds.of(objectives.get(0)) : Double.NEGATIVE_INFINITY;
+          // The proxy of the pre-screening is shared by the runs, it only reads the instance.
+          var proxy = prescreening < 1 ? new FitnessCalculatorSimple(instanceData) : null;
+          var model = memeticElite > 0 ? new FitnessCalculatorSimple(instanceData) : null;
+          if (experimentConfig.seedingRatio() > 0) {
+            // The heuristic seeds are computed once here, the runs only change the random stream.
+            fitnessProblem =
+                fitnessProblem.withSeeding(
+                    new SplittableRandom(seed), experimentConfig.seedingRatio());
+          }
 
           for (int run = 0; run < experimentConfig.independentRuns(); run++) {
+            // Each run owns its random streams, so the results do not depend on maxParallel.
+            var runRandom = RandomStreams.forRun(seed, benchmark, i, f, run);
+            var problem = fitnessProblem.withRandom(runRandom.split());
+            var random = runRandom.split();
+
+            var operatorsRandom = runRandom.split();
+            Operators operators = new Operators(problem.getInstanceData(), operatorsRandom);
+            CrossoverOperator<SchedulePermutationSolution> crossover =
+                new ScheduleCrossover(1, operators);
+
+            MutationOperator<SchedulePermutationSolution> mutation =
+                new ScheduleMutation(mutationProbability, operators);
+
+            var runObjectives = f.contains("mono") ? List.of(objectives.get(0)) : objectives;
+            var termination =
+                termination(
+                    stop,
+                    runObjectives.size() == 2,
+                    executions,
+                    stagnationGenerations,
+                    convergenceEpsilon,
+                    lowerBound);
+            var screened =
+                prescreen(
+                    getEvaluator(f.equals("multi") ? "multi" : "simple", problem, objectives),
+                    proxy,
+                    runObjectives,
+                    prescreening);
+            var evaluation =
+                memetic(screened, problem, model, runObjectives, memeticElite, memeticBudget);
+
+            // Only the runs built with these components draw every number from the run streams.
+            Checkpointer checkpointer = null;
+            if (checkpointInterval > 0
+                && !f.contains("spea2")
+                && !f.contains("pesa2")
+                && (f.contains("mono") || objectives.size() == 2)) {
+              var components = new ArrayList<Checkpointable>(List.of(random, operatorsRandom));
+              components.add(termination);
+              if (screened instanceof PrescreeningEvaluation prescreeningEvaluation) {
+                components.add(prescreeningEvaluation);
+              }
+              if (evaluation instanceof MemeticEvaluation memeticEvaluation) {
+                components.add(memeticEvaluation);
+              }
+              checkpointer =
+                  new Checkpointer(
+                      checkpointFile(experimentBaseDirectory, f, experimentProblem.getTag(), run),
+                      Map.of(
+                          "population",
+                          Integer.toString(f.equals("multi") ? 50 : populationSize),
+                          "offspring",
+                          Integer.toString(offspringPopulationSize),
+                          "fitness",
+                          f,
+                          "objectives",
+                          runObjectives.toString(),
+                          "evaluations",
+                          Integer.toString(executions),
+                          "stop",
+                          stop + " " + stagnationGenerations + " " + convergenceEpsilon,
+                          "lowerBound",
+                          Double.toString(lowerBound),
+                          "tournament",
+                          Integer.toString(tournamentSize)),
+                      checkpointInterval,
+                      components,
+                      instanceData,
+                      resume);
+              checkpointers.add(checkpointer);
+            }
+            var runTermination =
+                checkpointer == null ? termination : checkpointer.termination(termination);
+            var runEvaluation =
+                checkpointer == null ? evaluation : checkpointer.evaluation(evaluation);
+
             Algorithm<List<SchedulePermutationSolution>> algorithm;
 
             if (f.contains("mono")) {
@@ -170,10 +313,10 @@ public class ExperimentJmetalCommand {
                           offspringPopulationSize,
                           crossover,
                           mutation)
-                      .setTermination(termination)
-                      .setEvaluation(getEvaluator("simple", problem, objectives))
+                      .setTermination(runTermination)
+                      .setEvaluation(runEvaluation)
                       .setSelection(new ScheduleSelection(random))
-                      .setReplacement(new ScheduleReplacement(random, objectives.get(0)))
+                      .setReplacement(replacement(random, objectives.get(0), tournamentSize))
                       .build();
 
             } else if (f.contains("spea2")) {
@@ -191,21 +334,38 @@ public class ExperimentJmetalCommand {
                       .build();
             } else if (f.equals("multi")) {
               algorithm =
-                  new NSGAIIBuilder<>(problem, 50, offspringPopulationSize, crossover, mutation)
-                      .setTermination(termination)
-                      .setEvaluation(getEvaluator("multi", problem, objectives))
-                      .build();
+                  buildNsgaII(
+                      problem,
+                      50,
+                      offspringPopulationSize,
+                      crossover,
+                      mutation,
+                      runTermination,
+                      runEvaluation,
+                      random);
             } else {
 
               algorithm =
-                  new NSGAIIBuilder<>(
-                          problem, populationSize, offspringPopulationSize, crossover, mutation)
-                      .setTermination(termination)
-                      .setEvaluation(getEvaluator("simple", problem, objectives))
-                      .build();
+                  buildNsgaII(
+                      problem,
+                      populationSize,
+                      offspringPopulationSize,
+                      crossover,
+                      mutation,
+                      runTermination,
+                      runEvaluation,
+                      random);
             }
 
-            algorithmList.add(new ExperimentAlgorithm<>(algorithm, f, experimentProblem, run));
+            var experimentAlgorithm =
+                archive
+                    ? new ArchivingExperimentAlgorithm(algorithm, f, experimentProblem, run, true)
+                    : new ExperimentAlgorithm<>(algorithm, f, experimentProblem, run);
+            algorithmList.add(experimentAlgorithm);
+            terminations.put(experimentAlgorithm, termination);
+            if (screened instanceof PrescreeningEvaluation prescreeningEvaluation) {
+              prescreenings.put(experimentAlgorithm, prescreeningEvaluation);
+            }
           }
 
           LOG.info("Done benchmark {} with {} hosts and fitness {}", benchmark, i, f);
@@ -213,6 +373,15 @@ public class ExperimentJmetalCommand {
       }
     }
 
+    List<Supplier<QualityIndicator>> indicators =
+        List.of(
+            Epsilon::new,
+            Spread::new,
+            GenerationalDistance::new,
+            BiObjectiveHypervolume::new,
+            InvertedGenerationalDistance::new,
+            InvertedGenerationalDistancePlus::new);
+
     Experiment<SchedulePermutationSolution, List<SchedulePermutationSolution>> experiment =
         new ExperimentBuilder<SchedulePermutationSolution, List<SchedulePermutationSolution>>(
                 "Scheduling")
@@ -222,24 +391,24 @@ public class ExperimentJmetalCommand {
             .setOutputParetoFrontFileName("FUN")
             .setOutputParetoSetFileName("VAR")
             .setReferenceFrontDirectory(experimentBaseDirectory + "/Scheduling/referenceFronts")
-            .setIndicatorList(
-                List.of(
-                    new Epsilon(),
-                    new Spread(),
-                    new GenerationalDistance(),
-                    new PISAHypervolume(),
-                    new InvertedGenerationalDistance(),
-                    new InvertedGenerationalDistancePlus()))
+            .setIndicatorList(indicators.stream().map(Supplier::get).toList())
             .setIndependentRuns(experimentConfig.independentRuns())
             .setNumberOfCores(maxParallel)
             .build();
-    new ExecuteAlgorithms<>(experiment).run();
+    if (metricsPort > 0) {
+      var metrics = new SweepMetrics(terminations);
+      try (var server = new MetricsServer(metricsPort, metrics)) {
+        new ExecuteAlgorithmsCustom(experiment, terminations, prescreenings, metrics).run();
+      }
+    } else {
+      new ExecuteAlgorithmsCustom(experiment, terminations, prescreenings, null).run();
+    }
+    checkpointers.forEach(Checkpointer::close);
 
     try {
 
       if (experimentConfig.jmetalAnalysis()) {
-        new GenerateReferenceParetoFront(experiment).run();
-        new ComputeQualityIndicators<>(experiment).run();
+        new ParallelQualityAnalysis<>(experiment, indicators).run();
         new GenerateLatexTablesWithStatistics(experiment).run();
         new GenerateFriedmanHolmTestTables<>(experiment).run();
         new GenerateWilcoxonTestTablesWithR<>(experiment).run();
@@ -247,7 +416,7 @@ public class ExperimentJmetalCommand {
         new GenerateHtmlPages<>(experiment).run();
       }
 
-      computeStatistics(experiment, objectives);
+      computeStatistics(experiment, objectives, lowerBounds);
 
     } catch (IOException e) {
       throw new RuntimeException(e);
@@ -256,158 +425,134 @@ public class ExperimentJmetalCommand {
     return "All experiments done";
   }
 
+  private static Path checkpointFile(
+      String experimentBaseDirectory, String algorithm, String problem, int run) {
+    var directory =
+        Path.of(experimentBaseDirectory, "Scheduling", "checkpoints", algorithm, problem);
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new CheckpointException(directory.toString(), e);
+    }
+    return directory.resolve("CHECKPOINT" + run + ".bin");
+  }
+
+  /** The hypervolume needs two objectives, the other runs stop by stagnation instead. */
+  private static ConvergenceTermination termination(
+      String stop,
+      boolean biObjective,
+      int executions,
+      int generations,
+      double epsilon,
+      double lowerBound) {
+    var criterion = stop.equals("hypervolume") && !biObjective ? "stagnation" : stop;
+    return switch (criterion) {
+      case "evaluations" -> new ConvergenceTermination(executions, lowerBound);
+      case "stagnation" ->
+          new TerminationByStagnation(executions, generations, epsilon, lowerBound);
+      case "hypervolume" ->
+          new TerminationByHypervolumeDelta(executions, generations, epsilon, lowerBound);
+      default -> throw new IllegalArgumentException("Unknown stop criterion: " + stop);
+    };
+  }
+
+  private Algorithm<List<SchedulePermutationSolution>> buildNsgaII(
+      SchedulingProblem problem,
+      int populationSize,
+      int offspringPopulationSize,
+      CrossoverOperator<SchedulePermutationSolution> crossover,
+      MutationOperator<SchedulePermutationSolution> mutation,
+      Termination termination,
+      Evaluation<SchedulePermutationSolution> evaluation,
+      RandomGenerator random) {
+    // The bi-objective ranking sorts in O(N log N), the generic one is only needed otherwise.
+    if (problem.numberOfObjectives() == 2) {
+      return new BiObjectiveNSGAIIBuilder(
+              problem, populationSize, offspringPopulationSize, crossover, mutation, random)
+          .setTermination(termination)
+          .setEvaluation(evaluation)
+          .build();
+    }
+    return new NSGAIIBuilder<>(
+            problem, populationSize, offspringPopulationSize, crossover, mutation)
+        .setTermination(termination)
+        .setEvaluation(evaluation)
+        .build();
+  }
+
+  /** The 4:2 tournament keeps its own replacement, the other sizes use the general one. */
+  private static Replacement<SchedulePermutationSolution> replacement(
+      RandomGenerator random, Objective objective, int tournamentSize) {
+    return tournamentSize == 4
+        ? new ScheduleReplacement(random, objective)
+        : new ScheduleTournamentReplacement(objective, tournamentSize);
+  }
+
   private Evaluation<SchedulePermutationSolution> getEvaluator(
       String evaluator, Problem<SchedulePermutationSolution> problem, List<Objective> objectives) {
     return switch (evaluator) {
       case "simple" -> new SequentialEvaluation<>(problem);
-      case "multi" -> new MultiThreadEvaluationMulti(0, problem, objectives.get(1).objectiveName);
+      case "multi" ->
+          new MultiThreadEvaluationMulti(0, problem, objectives.get(1).objectiveName, true);
       default -> new MultiThreadedEvaluation(0, problem);
     };
   }
 
+  private static Evaluation<SchedulePermutationSolution> prescreen(
+      Evaluation<SchedulePermutationSolution> evaluation,
+      FitnessCalculator proxy,
+      List<Objective> screenedObjectives,
+      double fraction) {
+    if (proxy == null) {
+      return evaluation;
+    }
+    return new PrescreeningEvaluation(
+        evaluation, proxy, screenedObjectives, fraction, MIN_PROXY_CORRELATION);
+  }
+
+  private static Evaluation<SchedulePermutationSolution> memetic(
+      Evaluation<SchedulePermutationSolution> evaluation,
+      SchedulingProblem problem,
+      FitnessCalculator model,
+      List<Objective> searchedObjectives,
+      double eliteFraction,
+      int budget) {
+    if (model == null) {
+      return evaluation;
+    }
+    return new MemeticEvaluation(
+        evaluation, problem, model, searchedObjectives, eliteFraction, budget);
+  }
+
   // Method to compute and save statistics
   private static void computeStatistics(
       Experiment<SchedulePermutationSolution, List<SchedulePermutationSolution>> experiment,
-      List<Objective> objectives)
-      throws IOException {
-    System.out.println("Computing statistics...");
+      List<Objective> objectives,
+      Map<String, LowerBounds> lowerBounds) {
+    LOG.info("Computing statistics...");
     String outputDirectory = experiment.getExperimentBaseDirectory() + "/statistics/";
     new File(outputDirectory).mkdirs();
 
-    // Iterate through all algorithms
     var algorithms =
         experiment.getAlgorithmList().stream()
             .map(ExperimentAlgorithm::getAlgorithmTag)
-            .collect(Collectors.toSet());
+            .distinct()
+            .sorted()
+            .toList();
     var workflows = experiment.getProblemList().stream().map(ExperimentProblem::getTag).toList();
-    Map<String, List<ExecutionStat>> executionStatistics = new HashMap<>();
-    for (var objective : objectives) {
-      executionStatistics.put(objective.name(), new ArrayList<>());
-    }
-
-    for (String algorithm : algorithms) {
 
-      for (var workflow : workflows) {
-
-        Map<String, List<Double>> fitnessValues = new HashMap<>();
-        for (var objective : objectives) {
-          fitnessValues.put(objective.name(), new ArrayList<>());
-        }
-        // Collect fitness values from independent runs
-        for (int run = 0; run < experiment.getIndependentRuns(); run++) {
-          Map<String, List<Double>> fitnessValuesRun = new HashMap<>();
-          for (var objective : objectives) {
-            fitnessValuesRun.put(objective.name(), new ArrayList<>());
-          }
-          String resultFile =
-              experiment.getExperimentBaseDirectory()
-                  + "/data/"
-                  + algorithm
-                  + "/"
-                  + workflow
-                  + "/FUN"
-                  + run
-                  + ".csv";
-
-          // Read the best fitness from the result file
-          try (Scanner scanner = new Scanner(new File(resultFile))) {
-            while (scanner.hasNextLine()) {
-
-              var values = scanner.nextLine().trim().split(",");
-
-              int i = 0;
-              for (var objective : objectives) {
-                fitnessValuesRun.get(objective.name()).add(Double.parseDouble(values[i]));
-                i++;
-              }
-            }
-          }
-
-          for (var objective : objectives) {
-            Double bestOfTheRun =
-                fitnessValuesRun.get(objective.name()).stream()
-                    .mapToDouble(Double::doubleValue)
-                    .min()
-                    .orElseThrow();
-            fitnessValues.get(objective.name()).add(bestOfTheRun);
-          }
-        }
-
-        // Compute statistics for each metric
-        for (var objective : objectives) {
-          DoubleSummaryStatistics stats =
-              fitnessValues.get(objective.name()).stream()
-                  .mapToDouble(Double::doubleValue)
-                  .summaryStatistics();
-          var executionName = workflow + "-" + algorithm;
-          executionStatistics
-              .get(objective.name())
-              .add(new ExecutionStat(executionName, workflow, algorithm, stats));
-
-          System.out.printf(
-              "Statistics for %s and objective %s: Mean = %.4f, Std. Dev. = %.4f, Min = %.4f, Max = %.4f%n",
-              executionName,
-              objective.name(),
-              stats.getAverage(),
-              Math.sqrt(
-                  fitnessValues.get(objective.name()).stream()
-                          .mapToDouble(val -> Math.pow(val - stats.getAverage(), 2))
-                          .sum()
-                      / stats.getCount()),
-              stats.getMin(),
-              stats.getMax());
-        }
-      }
-    }
-
-    // Write statistics to a CSV file for each algorithm
-    try (FileWriter writer = new FileWriter(outputDirectory + "stats.csv")) {
-
-      // TODO: Change to be compatible with more than two objectives
-      var tableObjectives = List.of(Objective.ENERGY, Objective.MAKESPAN);
-      String objective1 = tableObjectives.get(0).name();
-      String objective2 = tableObjectives.get(1).name();
-
-      writer.write(
-          String.format(
-              "Execution,Algorithm,Workflow,Hosts,Best %s,Mean %s,Min %s,Max %s,Best %s,Mean %s,Min %s,Max %s\n",
-              objective1,
-              objective1,
-              objective1,
-              objective1,
-              objective2,
-              objective2,
-              objective2,
-              objective2));
-      for (int i = 0; i < executionStatistics.get(tableObjectives.get(0).name()).size(); i++) {
-        // Find the hosts number with a regex
-        var workflowName = executionStatistics.get(objective1).get(i).workflow();
-        Pattern pattern = Pattern.compile(".*-hosts-(\\d+)$");
-        Matcher matcher = pattern.matcher(workflowName);
-        int hostsNumber = 0;
-        if (matcher.find()) {
-          hostsNumber = Integer.parseInt(matcher.group(1));
-        }
-
-        writer.write(
-            String.format(
-                "%s,%s,%s,%d,%f,%f,%f,%f,%f,%f,%f,%f\n",
-                executionStatistics.get(objective1).get(i).excutionName(),
-                executionStatistics.get(objective1).get(i).algorithm(),
-                executionStatistics.get(objective1).get(i).workflow(),
-                hostsNumber,
-                executionStatistics.get(objective1).get(i).statistics().getMin(),
-                executionStatistics.get(objective1).get(i).statistics().getAverage(),
-                executionStatistics.get(objective1).get(i).statistics().getMin(),
-                executionStatistics.get(objective1).get(i).statistics().getMax(),
-                executionStatistics.get(objective2).get(i).statistics().getMin(),
-                executionStatistics.get(objective2).get(i).statistics().getAverage(),
-                executionStatistics.get(objective2).get(i).statistics().getMin(),
-                executionStatistics.get(objective2).get(i).statistics().getMax()));
-      }
-    }
+    var aggregator =
+        new ExperimentStatisticsAggregator(
+            experiment.getExperimentBaseDirectory(),
+            experiment.getIndependentRuns(),
+            objectives,
+            lowerBounds);
+    var statistics = aggregator.aggregate(algorithms, workflows);
+    aggregator.log(statistics);
+    aggregator.writeCsv(Path.of(outputDirectory, "stats.csv"), statistics);
+    aggregator.writeTerminations(
+        Path.of(outputDirectory, "terminations.csv"), algorithms, workflows);
+    aggregator.writePrescreening(
+        Path.of(outputDirectory, "prescreening.csv"), algorithms, workflows);
   }
-
-  private record ExecutionStat(
-      String excutionName, String workflow, String algorithm, DoubleSummaryStatistics statistics) {}
 }
@@ -0,0 +1,126 @@
+package com.uniovi.sercheduler.commands;
+
+import com.uniovi.sercheduler.service.profiling.EvaluationEvent;
+import com.uniovi.sercheduler.service.profiling.OperatorEvent;
+import com.uniovi.sercheduler.service.profiling.Phase;
+import com.uniovi.sercheduler.service.profiling.PhaseEvent;
+import com.uniovi.sercheduler.service.profiling.PhaseProfiler;
+import com.uniovi.sercheduler.service.profiling.PhaseTime;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.shell.command.annotation.Command;
+import org.springframework.shell.command.annotation.Option;
+
+/**
+ * Command to find where the time of the evaluation goes. It runs the GA of the evaluate command
+ * with the {@link PhaseProfiler} enabled and prints the sampled time of each phase of each
+ * calculator and operator, optionally recording the JFR events of the run.
+ */
+@Command
+public class ProfileCommand {
+
+  static final Logger LOG = LoggerFactory.getLogger(ProfileCommand.class);
+
+  /**
+   * Command to profile the evaluation of an instance.
+   *
+   * @param hostsFile Relative or Absolute path to the hosts file.
+   * @param workflowFile Relative or Absolute path to the workflow file.
+   * @param executions Number of schedules to evaluate.
+   * @param seed Random seed to choose.
+   * @param fitness The fitness function to use.
+   * @param population Size of the population, also the number of children per generation.
+   * @param interval Samples one evaluation or operator in this many, per thread.
+   * @param recording The JFR file to write, empty for none.
+   * @param memeticElite Fraction of the offspring improved with a local search, 0 for none.
+   * @param memeticBudget Host reassignments tried at most for each improved solution.
+   * @return The breakdown of the time per phase.
+   */
+  @Command(command = "profile")
+  public String profile(
+      @Option(shortNames = 'H', required = true) String hostsFile,
+      @Option(shortNames = 'W', required = true) String workflowFile,
+      @Option(shortNames = 'E', defaultValue = "10000") Integer executions,
+      @Option(shortNames = 'S', defaultValue = "1") Long seed,
+      @Option(shortNames = 'F', defaultValue = "simple") String fitness,
+      @Option(shortNames = 'P', defaultValue = "100") Integer population,
+      @Option(shortNames = 'I', defaultValue = "10") Integer interval,
+      @Option(shortNames = 'J', defaultValue = "profile.jfr") String recording,
+      @Option(shortNames = 'Z', defaultValue = "0") double memeticElite,
+      @Option(shortNames = 'B', defaultValue = "100") int memeticBudget) {
+    var algorithm =
+        new EvaluateRunBuilder(hostsFile, workflowFile, fitness, seed)
+            .setExecutions(executions)
+            .setPopulation(population)
+            .setMemetic(memeticElite, memeticBudget)
+            .build()
+            .algorithm();
+
+    PhaseProfiler.reset();
+    PhaseProfiler.enable(interval);
+    try (var jfr = recording.isEmpty() ? null : new Recording()) {
+      if (jfr != null) {
+        jfr.setName("sercheduler-profile");
+        jfr.enable(EvaluationEvent.class);
+        jfr.enable(OperatorEvent.class);
+        jfr.enable(PhaseEvent.class);
+        jfr.start();
+      }
+
+      algorithm.run();
+
+      if (jfr != null) {
+        jfr.stop();
+        jfr.dump(Path.of(recording));
+        LOG.info("JFR events written to {}", recording);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    } finally {
+      PhaseProfiler.disable();
+    }
+
+    LOG.info("Total execution time : {} ms", algorithm.totalComputingTime());
+    return breakdown(PhaseProfiler.snapshot(), interval);
+  }
+
+  /**
+   * Formats the sampled times as a table. The share is the time of the phase over the time of
+   * all the sampled evaluations, so the phases of a calculator add up to less than its evaluation.
+   *
+   * @param times The sampled times.
+   * @param interval The sampling interval, to estimate the number of calls.
+   * @return The table, one line per phase.
+   */
+  static String breakdown(List<PhaseTime> times, int interval) {
+    long evaluationNanos =
+        times.stream().filter(t -> t.phase() == Phase.EVALUATION).mapToLong(PhaseTime::nanos).sum();
+
+    var table = new StringBuilder();
+    table.append(
+        String.format(
+            "%-48s %-16s %12s %12s %12s %8s%n",
+            "Owner", "Phase", "Est. calls", "Sampled ms", "Mean us", "Share"));
+    for (var time : times) {
+      boolean operator = time.phase() == Phase.CROSSOVER || time.phase() == Phase.MUTATION;
+      var share =
+          evaluationNanos == 0 || operator
+              ? "-"
+              : String.format("%.1f%%", 100.0 * time.nanos() / evaluationNanos);
+      table.append(
+          String.format(
+              "%-48s %-16s %12d %12.1f %12.2f %8s%n",
+              time.owner(),
+              time.phase().phaseName,
+              time.calls() * interval,
+              time.nanos() / 1e6,
+              time.meanMicros(),
+              share));
+    }
+    return table.toString();
+  }
+}
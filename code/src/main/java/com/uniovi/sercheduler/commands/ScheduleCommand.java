@@ -0,0 +1,88 @@
+package com.uniovi.sercheduler.commands;
+
+import com.uniovi.sercheduler.dto.InstanceData;
+import com.uniovi.sercheduler.parser.HostLoader;
+import com.uniovi.sercheduler.parser.WorkflowLoader;
+import com.uniovi.sercheduler.service.FitnessInfo;
+import com.uniovi.sercheduler.service.HeuristicScheduler;
+import com.uniovi.sercheduler.service.ScheduleExporter;
+import com.uniovi.sercheduler.util.UnitParser;
+import java.io.File;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.shell.command.annotation.Command;
+import org.springframework.shell.command.annotation.Option;
+
+/** Command to schedule a workflow with a single pass of a heuristic. */
+@Command
+public class ScheduleCommand {
+
+  static final Logger LOG = LoggerFactory.getLogger(ScheduleCommand.class);
+
+  final WorkflowLoader workflowLoader;
+  final HostLoader hostLoader;
+  final ScheduleExporter scheduleExporter;
+
+  /**
+   * Full constructor.
+   *
+   * @param workflowLoader Loads workflows.
+   * @param hostLoader Loads hosts.
+   * @param scheduleExporter Exports the schedules.
+   */
+  public ScheduleCommand(
+      WorkflowLoader workflowLoader, HostLoader hostLoader, ScheduleExporter scheduleExporter) {
+    this.workflowLoader = workflowLoader;
+    this.hostLoader = hostLoader;
+    this.scheduleExporter = scheduleExporter;
+  }
+
+  /**
+   * Schedules a workflow with a heuristic and exports the schedule.
+   *
+   * @param hostsFile Relative or Absolute path to the hosts file.
+   * @param workflowFile Relative or Absolute path to the workflow file.
+   * @param heuristic The heuristic, heft, heft-energy-active, min-energy-UM-active, etc.
+   * @param output The wrench JSON file for the schedule, nothing is written if empty.
+   * @param repetitions Times to schedule the same instance, to measure the latency.
+   * @return The text to print at the end.
+   */
+  @Command(command = "schedule")
+  public String schedule(
+      @Option(shortNames = 'H', required = true) String hostsFile,
+      @Option(shortNames = 'W', required = true) String workflowFile,
+      @Option(shortNames = 'R', defaultValue = "heft") String heuristic,
+      @Option(shortNames = 'O', defaultValue = "") String output,
+      @Option(shortNames = 'N', defaultValue = "1") Integer repetitions) {
+    if (repetitions < 1) {
+      throw new IllegalArgumentException("The repetitions must be at least 1");
+    }
+    var hostsDao = hostLoader.readFromFile(new File(hostsFile));
+    var instanceData =
+        new InstanceData(
+            workflowLoader.load(workflowLoader.readFromFile(new File(workflowFile))),
+            hostLoader.load(hostsDao),
+            UnitParser.parseUnits("441Gf"));
+
+    var scheduler = new HeuristicScheduler(instanceData, heuristic);
+
+    FitnessInfo fitnessInfo = null;
+    long start = System.nanoTime();
+    for (int i = 0; i < repetitions; i++) {
+      fitnessInfo = scheduler.schedule();
+    }
+    double microsPerCall = (System.nanoTime() - start) / 1000.0 / repetitions;
+    LOG.info("Scheduled {} times, {} µs per call", repetitions, microsPerCall);
+
+    if (!output.isEmpty()) {
+      scheduleExporter.generateJsonSchedule(fitnessInfo, hostsDao, new File(output), "441Gf");
+    }
+
+    return String.format(
+        "Schedule done with %s in %.1f µs, the makespan is %f and the energy is %f",
+        heuristic,
+        microsPerCall,
+        fitnessInfo.fitness().get("makespan"),
+        fitnessInfo.fitness().get("energy"));
+  }
+}
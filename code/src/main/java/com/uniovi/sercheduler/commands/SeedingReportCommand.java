@@ -0,0 +1,186 @@
+package com.uniovi.sercheduler.commands;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.jmetal.algorithm.AnytimeImprovement;
+import com.uniovi.sercheduler.jmetal.algorithm.AnytimeResult;
+import com.uniovi.sercheduler.jmetal.algorithm.AnytimeScheduler;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.shell.command.annotation.Command;
+import org.springframework.shell.command.annotation.Option;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+
+/**
+ * Command to measure how many evaluations the heuristic seeding saves on each workflow.
+ *
+ * <p>Each workflow is solved twice with the same budget and random seed, with a random initial
+ * population and with a seeded one. The target is the best value of the random run, and the
+ * saving is the fraction of evaluations the seeded run needs less to reach it. A seeded run that
+ * never reaches it leaves its evaluations and saving empty and is not part of the mean saving.
+ */
+@Command
+public class SeedingReportCommand {
+
+  static final Logger LOG = LoggerFactory.getLogger(SeedingReportCommand.class);
+
+  /**
+   * Compares the random and the seeded populations on every workflow of a folder.
+   *
+   * @param hostsFile Relative or Absolute path to the hosts file.
+   * @param workflowsPath Folder with the workflow files.
+   * @param executions Evaluations of each run.
+   * @param ratio Fraction of the initial population that are seeds.
+   * @param seed Random seed to choose.
+   * @param fitness The fitness function to use.
+   * @param output The CSV file of the report.
+   * @return The text to print at the end.
+   */
+  @Command(command = "seeding-report")
+  public String seedingReport(
+      @Option(shortNames = 'H', required = true) String hostsFile,
+      @Option(shortNames = 'W', required = true) String workflowsPath,
+      @Option(shortNames = 'E', defaultValue = "10000") Integer executions,
+      @Option(shortNames = 'R', defaultValue = "0.1") Double ratio,
+      @Option(shortNames = 'S', defaultValue = "1") Long seed,
+      @Option(shortNames = 'F', defaultValue = "simple") String fitness,
+      @Option(shortNames = 'O', defaultValue = "seeding-report.csv") String output) {
+    var workflows = new File(workflowsPath).listFiles((dir, name) -> name.endsWith(".json"));
+    if (workflows == null || workflows.length == 0) {
+      throw new IllegalArgumentException("No workflows found in " + workflowsPath);
+    }
+    Arrays.sort(workflows);
+
+    var rows = new ArrayList<String>();
+    double totalSaving = 0;
+    int reached = 0;
+    for (var workflow : workflows) {
+      var name = workflow.getName().replace(".json", "");
+      for (var objective : List.of(Objective.MAKESPAN, Objective.ENERGY)) {
+        var other = objective == Objective.MAKESPAN ? Objective.ENERGY : Objective.MAKESPAN;
+        var problem =
+            new SchedulingProblem(
+                name,
+                workflow,
+                new File(hostsFile),
+                "441Gf",
+                fitness,
+                seed,
+                List.of(objective, other),
+                objective.objectiveName);
+
+        var randomImprovements = new ArrayList<AnytimeImprovement>();
+        var randomResult = run(problem, executions, seed, randomImprovements);
+        var seededImprovements = new ArrayList<AnytimeImprovement>();
+        var seededResult =
+            run(
+                problem.withSeeding(new SplittableRandom(seed), ratio),
+                executions,
+                seed,
+                seededImprovements);
+
+        double target = randomResult.fitness();
+        int randomEvaluations = evaluationsToReach(randomImprovements, target);
+        int seededEvaluations = evaluationsToReach(seededImprovements, target);
+        // A seeded run that never reaches the target has no saving, its cells are left empty.
+        String seededCell = "";
+        String savingCell = "";
+        if (seededEvaluations < 0) {
+          LOG.warn(
+              "Workflow {} never reaches the {} {} seeded, the random run needs {} evaluations",
+              name,
+              objective.objectiveName,
+              target,
+              randomEvaluations);
+        } else {
+          double saving = 100.0 * (randomEvaluations - seededEvaluations) / randomEvaluations;
+          totalSaving += saving;
+          reached++;
+          seededCell = String.valueOf(seededEvaluations);
+          savingCell = String.format(Locale.ROOT, "%.2f", saving);
+          LOG.info(
+              "Workflow {} reaches the {} {} after {} evaluations seeded and {} random, {}% saved",
+              name,
+              objective.objectiveName,
+              target,
+              seededEvaluations,
+              randomEvaluations,
+              saving);
+        }
+        rows.add(
+            String.format(
+                Locale.ROOT,
+                "%s,%s,%f,%d,%s,%f,%f,%s",
+                name,
+                objective.objectiveName,
+                target,
+                randomEvaluations,
+                seededCell,
+                randomResult.fitness(),
+                seededResult.fitness(),
+                savingCell));
+      }
+    }
+
+    try (BufferedWriter writer =
+        Files.newBufferedWriter(Path.of(output), StandardCharsets.UTF_8)) {
+      writer.write(
+          "Workflow,Objective,Target,Random evaluations,Seeded evaluations,Random best,Seeded best,"
+              + "Saving %");
+      writer.newLine();
+      for (var row : rows) {
+        writer.write(row);
+        writer.newLine();
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    if (reached == 0) {
+      return String.format(
+          "Seeding report of %d workflows written to %s, no seeded run reached its target",
+          workflows.length, output);
+    }
+    return String.format(
+        "Seeding report of %d workflows written to %s, the mean saving is %.2f%% over the %d of %d"
+            + " runs that reached their target",
+        workflows.length, output, totalSaving / reached, reached, rows.size());
+  }
+
+  private static AnytimeResult run(
+      SchedulingProblem problem,
+      int executions,
+      long seed,
+      List<AnytimeImprovement> improvements) {
+    var termination = new TerminationByEvaluations(executions);
+    return new AnytimeScheduler(problem, "ga", 100, 0)
+        .schedule(termination, new SplittableRandom(seed), improvements::add);
+  }
+
+  /**
+   * Finds the evaluations a run needed to reach a value.
+   *
+   * @param improvements The improvements of the run, in order.
+   * @param target The value to reach.
+   * @return The evaluations of the first improvement at or below the target, -1 if none.
+   */
+  static int evaluationsToReach(List<AnytimeImprovement> improvements, double target) {
+    for (var improvement : improvements) {
+      if (improvement.fitness() <= target) {
+        return improvement.evaluations();
+      }
+    }
+    return -1;
+  }
+}
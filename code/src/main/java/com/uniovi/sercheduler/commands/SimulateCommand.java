@@ -0,0 +1,246 @@
+package com.uniovi.sercheduler.commands;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.dto.InstanceData;
+import com.uniovi.sercheduler.jmetal.archive.ResultArchiveReader;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.parser.HostLoader;
+import com.uniovi.sercheduler.parser.WorkflowLoader;
+import com.uniovi.sercheduler.service.FitnessCalculator;
+import com.uniovi.sercheduler.service.PlanPair;
+import com.uniovi.sercheduler.service.ScheduleSimulator;
+import com.uniovi.sercheduler.service.SimulationResult;
+import com.uniovi.sercheduler.util.UnitParser;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.shell.command.annotation.Command;
+import org.springframework.shell.command.annotation.Option;
+
+/**
+ * Command to check the fidelity of a fitness calculator, replaying the plans of a sweep in the
+ * {@link ScheduleSimulator} and comparing the result with the estimate.
+ */
+@Command
+public class SimulateCommand {
+
+  static final Logger LOG = LoggerFactory.getLogger(SimulateCommand.class);
+
+  /** The folders where the experiments write the results of a problem. */
+  private static final Pattern PROBLEM_FOLDER = Pattern.compile(".+-hosts-\\d+");
+
+  final WorkflowLoader workflowLoader;
+  final HostLoader hostLoader;
+
+  /**
+   * Full constructor.
+   *
+   * @param workflowLoader Loads workflows.
+   * @param hostLoader Loads hosts.
+   */
+  public SimulateCommand(WorkflowLoader workflowLoader, HostLoader hostLoader) {
+    this.workflowLoader = workflowLoader;
+    this.hostLoader = hostLoader;
+  }
+
+  /** A plan to simulate and where it comes from. */
+  private record SourcePlan(String source, int solution, List<PlanPair> plan) {}
+
+  /**
+   * Simulates the plans of VAR files or result archives.
+   *
+   * @param hostsFile Relative or Absolute path to the hosts file.
+   * @param workflowFile Relative or Absolute path to the workflow file.
+   * @param plansPath A VAR CSV file, a result archive or a folder searched for both, skipping the
+   *     folders of other problems.
+   * @param fitness The fitness function whose estimate is checked.
+   * @param output The CSV file with the deviations of each plan.
+   * @return The text to print at the end.
+   */
+  @Command(command = "simulate")
+  public String simulate(
+      @Option(shortNames = 'H', required = true) String hostsFile,
+      @Option(shortNames = 'W', required = true) String workflowFile,
+      @Option(shortNames = 'V', required = true) String plansPath,
+      @Option(shortNames = 'F', defaultValue = "simple") String fitness,
+      @Option(shortNames = 'O', defaultValue = "simulation.csv") String output) {
+    var instanceData =
+        new InstanceData(
+            workflowLoader.load(workflowLoader.readFromFile(new File(workflowFile))),
+            hostLoader.load(hostLoader.readFromFile(new File(hostsFile))),
+            UnitParser.parseUnits("441Gf"));
+    var plans = readPlans(Path.of(plansPath), problemName(workflowFile, hostsFile), instanceData);
+    if (plans.isEmpty()) {
+      throw new IllegalArgumentException("No plans found in " + plansPath);
+    }
+
+    var calculator = FitnessCalculator.getFitness(fitness, instanceData);
+    var simulator = new ScheduleSimulator(instanceData);
+    var results =
+        plans.parallelStream()
+            .map(
+                p ->
+                    simulator.simulate(
+                        calculator.calculateFitness(
+                            new SchedulePermutationSolution(
+                                p.plan().size(),
+                                2,
+                                null,
+                                p.plan(),
+                                Objective.MAKESPAN.objectiveName))))
+            .toList();
+
+    double maxDeviation = 0;
+    double totalDeviation = 0;
+    try (BufferedWriter writer =
+        Files.newBufferedWriter(Path.of(output), StandardCharsets.UTF_8)) {
+      writer.write(
+          "Source,Solution,Estimated makespan,Simulated makespan,Makespan deviation %,"
+              + "Estimated energy,Simulated energy,Energy deviation %,Max finish deviation");
+      writer.newLine();
+      for (int i = 0; i < plans.size(); i++) {
+        var plan = plans.get(i);
+        SimulationResult result = results.get(i);
+        maxDeviation = Math.max(maxDeviation, Math.abs(result.makespanDeviation()));
+        totalDeviation += Math.abs(result.makespanDeviation());
+        writer.write(
+            String.format(
+                Locale.ROOT,
+                "%s,%d,%f,%f,%.4f,%f,%f,%.4f,%f",
+                plan.source(),
+                plan.solution(),
+                result.estimatedMakespan(),
+                result.makespan(),
+                100 * result.makespanDeviation(),
+                result.estimatedEnergy(),
+                result.energy(),
+                100 * result.energyDeviation(),
+                result.maxFinishDeviation()));
+        writer.newLine();
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    return String.format(
+        "Simulated %d plans into %s, the makespan deviation is %.4f%% on average and %.4f%% at"
+            + " most",
+        plans.size(), output, 100 * totalDeviation / plans.size(), 100 * maxDeviation);
+  }
+
+  /**
+   * Names the problem of an instance as the experiments do, "montage-hosts-4" for the workflow
+   * "montage.json" and the hosts "hosts-4.json".
+   *
+   * @param workflowFile The path to the workflow file.
+   * @param hostsFile The path to the hosts file.
+   * @return The name of the folders with the results of the instance.
+   */
+  static String problemName(String workflowFile, String hostsFile) {
+    return baseName(workflowFile) + "-" + baseName(hostsFile);
+  }
+
+  private static String baseName(String file) {
+    var name = Path.of(file).getFileName().toString();
+    int dot = name.lastIndexOf('.');
+    return dot > 0 ? name.substring(0, dot) : name;
+  }
+
+  /**
+   * Tells if a file of a sweep may hold plans of the problem, the files in the folder of another
+   * problem name tasks or hosts the instance lacks, or has with other speeds.
+   */
+  private static boolean ofProblem(Path file, String problemName) {
+    var folder = file.getParent() == null ? "" : file.getParent().getFileName().toString();
+    if (PROBLEM_FOLDER.matcher(folder).matches() && !folder.equals(problemName)) {
+      LOG.warn("Skipping {}, it holds plans of {} instead of {}", file, folder, problemName);
+      return false;
+    }
+    return true;
+  }
+
+  private static List<SourcePlan> readPlans(
+      Path path, String problemName, InstanceData instanceData) {
+    List<Path> files;
+    if (Files.isDirectory(path)) {
+      try (Stream<Path> walk = Files.walk(path)) {
+        files =
+            walk.filter(
+                    p ->
+                        p.getFileName().toString().startsWith("VAR")
+                            && (p.toString().endsWith(".csv") || p.toString().endsWith(".sra")))
+                .filter(p -> ofProblem(p, problemName))
+                .sorted()
+                .toList();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    } else {
+      files = List.of(path);
+    }
+
+    var plans = new ArrayList<SourcePlan>();
+    for (var file : files) {
+      var source = file.toString();
+      if (source.endsWith(".sra")) {
+        var archive = ResultArchiveReader.read(file);
+        for (int i = 0; i < archive.numberOfSolutions(); i++) {
+          var plan =
+              archive.planOf(i).stream().map(pair -> planPair(pair, instanceData)).toList();
+          plans.add(new SourcePlan(source, i, plan));
+        }
+        continue;
+      }
+      try {
+        var lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+          if (!lines.get(i).isBlank()) {
+            plans.add(new SourcePlan(source, i, parsePlan(lines.get(i), instanceData)));
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    LOG.info("Read {} plans from {} files", plans.size(), files.size());
+    return plans;
+  }
+
+  /**
+   * Parses a line of a VAR file, "[task, host]" pairs separated by commas.
+   *
+   * @param line The line.
+   * @param instanceData The instance with the tasks and the hosts.
+   * @return The plan.
+   */
+  static List<PlanPair> parsePlan(String line, InstanceData instanceData) {
+    var trimmed = line.strip();
+    var pairs = trimmed.substring(1, trimmed.length() - 1).split("\\],\\s*\\[");
+    var plan = new ArrayList<PlanPair>(pairs.length);
+    for (var pair : pairs) {
+      plan.add(planPair(pair.split(",\\s*"), instanceData));
+    }
+    return plan;
+  }
+
+  private static PlanPair planPair(String[] names, InstanceData instanceData) {
+    var task = instanceData.workflow().get(names[0]);
+    var host = instanceData.hosts().get(names[1]);
+    if (task == null || host == null) {
+      throw new IllegalArgumentException(
+          "Unknown task or host in the plan: " + names[0] + ", " + names[1]);
+    }
+    return new PlanPair(task, host);
+  }
+}
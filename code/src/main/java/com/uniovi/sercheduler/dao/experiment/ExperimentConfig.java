@@ -11,4 +11,5 @@ public record ExperimentConfig(
     String referenceSpeed,
     int independentRuns,
     List<String> objectives,
-    boolean jmetalAnalysis) {}
+    boolean jmetalAnalysis,
+    double seedingRatio) {}
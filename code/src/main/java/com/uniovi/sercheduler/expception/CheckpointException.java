@@ -0,0 +1,13 @@
+package com.uniovi.sercheduler.expception;
+
+/** Exception to raise when a checkpoint can't be written or read. */
+public class CheckpointException extends RuntimeException {
+
+  public CheckpointException(String file, Throwable e) {
+    super("Can't access the checkpoint: " + file, e);
+  }
+
+  public CheckpointException(String file, String reason) {
+    super("Invalid checkpoint " + file + ": " + reason);
+  }
+}
@@ -0,0 +1,13 @@
+package com.uniovi.sercheduler.expception;
+
+/** Exception to raise when a result archive can't be written or read. */
+public class ResultArchiveException extends RuntimeException {
+
+  public ResultArchiveException(String file, Throwable e) {
+    super("Can't access the result archive: " + file, e);
+  }
+
+  public ResultArchiveException(String file, String reason) {
+    super("Invalid result archive " + file + ": " + reason);
+  }
+}
@@ -0,0 +1,9 @@
+package com.uniovi.sercheduler.expception;
+
+/** Exception to raise when the ledger of finished runs can't be read or written. */
+public class RunLedgerException extends RuntimeException {
+
+  public RunLedgerException(String file, Throwable e) {
+    super("Can't access the run ledger: " + file, e);
+  }
+}
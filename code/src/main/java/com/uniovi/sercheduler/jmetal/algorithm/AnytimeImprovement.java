@@ -0,0 +1,15 @@
+package com.uniovi.sercheduler.jmetal.algorithm;
+
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import java.time.Duration;
+
+/**
+ * A better schedule found while an anytime search is running.
+ *
+ * @param solution A copy of the new best solution.
+ * @param fitness The value of its first objective.
+ * @param evaluations The evaluations done when it was found.
+ * @param elapsed The time since the search started.
+ */
+public record AnytimeImprovement(
+    SchedulePermutationSolution solution, double fitness, int evaluations, Duration elapsed) {}
@@ -0,0 +1,20 @@
+package com.uniovi.sercheduler.jmetal.algorithm;
+
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import java.time.Duration;
+
+/**
+ * The outcome of an anytime search.
+ *
+ * @param best The best solution found before the deadline.
+ * @param fitness The value of its first objective.
+ * @param evaluations The total number of evaluations.
+ * @param improvements How many times the best solution improved.
+ * @param elapsed The time the search took, including the initial population.
+ */
+public record AnytimeResult(
+    SchedulePermutationSolution best,
+    double fitness,
+    int evaluations,
+    int improvements,
+    Duration elapsed) {}
@@ -0,0 +1,174 @@
+package com.uniovi.sercheduler.jmetal.algorithm;
+
+import com.uniovi.sercheduler.jmetal.evaluation.MultiThreadEvaluationMulti;
+import com.uniovi.sercheduler.jmetal.evaluation.MultiThreadedEvaluation;
+import com.uniovi.sercheduler.jmetal.operator.ScheduleCrossover;
+import com.uniovi.sercheduler.jmetal.operator.ScheduleMutation;
+import com.uniovi.sercheduler.jmetal.operator.ScheduleReplacement;
+import com.uniovi.sercheduler.jmetal.operator.ScheduleSelection;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import com.uniovi.sercheduler.service.Operators;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.component.algorithm.singleobjective.GeneticAlgorithmBuilder;
+import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
+import org.uma.jmetal.component.catalogue.common.termination.Termination;
+import org.uma.jmetal.util.observable.Observable;
+import org.uma.jmetal.util.observer.Observer;
+
+/**
+ * Runs a genetic algorithm until a wall-clock deadline and returns the best schedule found so far,
+ * for callers with a latency budget instead of a number of evaluations.
+ *
+ * <p>The best solution is the one with the lowest first objective. Every time it improves, a copy
+ * is handed to the callback of the search, so the caller can use intermediate schedules before
+ * the deadline.
+ */
+public class AnytimeScheduler {
+
+  private static final double CROSSOVER_PROBABILITY = 1;
+  private static final double MUTATION_PROBABILITY = 0.1;
+
+  private final SchedulingProblem problem;
+  private final String algorithm;
+  private final int populationSize;
+  private final int numberOfThreads;
+
+  /**
+   * Full constructor.
+   *
+   * @param problem The problem to solve, with the instance and the fitness.
+   * @param algorithm "ga" for the single objective GA, "nsga2" for NSGA-II.
+   * @param populationSize The size of the population, also the number of children.
+   * @param numberOfThreads The threads of the evaluation, 0 to use all the processors.
+   */
+  public AnytimeScheduler(
+      SchedulingProblem problem, String algorithm, int populationSize, int numberOfThreads) {
+    if (!algorithm.equals("ga") && !algorithm.equals("nsga2")) {
+      throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+    }
+    this.problem = problem;
+    this.algorithm = algorithm;
+    this.populationSize = populationSize;
+    this.numberOfThreads = numberOfThreads;
+  }
+
+  /**
+   * Searches until the deadline.
+   *
+   * @param budget The time available, counted from the call.
+   * @param random The random generator of the search.
+   * @param onImprovement Receives every new best solution, in the thread of the search.
+   * @return The best solution and the figures of the search.
+   */
+  public AnytimeResult schedule(
+      Duration budget, RandomGenerator random, Consumer<AnytimeImprovement> onImprovement) {
+    return schedule(TerminationByDeadline.after(budget), random, onImprovement);
+  }
+
+  /**
+   * Searches until the termination is met, for budgets that are not a deadline.
+   *
+   * @param termination The stopping condition of the search.
+   * @param random The random generator of the search.
+   * @param onImprovement Receives every new best solution, in the thread of the search.
+   * @return The best solution and the figures of the search.
+   */
+  public AnytimeResult schedule(
+      Termination termination, RandomGenerator random, Consumer<AnytimeImprovement> onImprovement) {
+    long start = System.nanoTime();
+
+    var runProblem = problem.withRandom(random);
+    var operators = new Operators(runProblem.getInstanceData(), random);
+    var crossover = new ScheduleCrossover(CROSSOVER_PROBABILITY, operators);
+    var mutation = new ScheduleMutation(MUTATION_PROBABILITY, operators);
+    var evaluation = evaluation(runProblem);
+
+    EvolutionaryAlgorithm<SchedulePermutationSolution> ga =
+        algorithm.equals("nsga2")
+            ? new BiObjectiveNSGAIIBuilder(
+                    runProblem, populationSize, populationSize, crossover, mutation, random)
+                .setTermination(termination)
+                .setEvaluation(evaluation)
+                .build()
+            : new GeneticAlgorithmBuilder<>(
+                    "GGA", runProblem, populationSize, populationSize, crossover, mutation)
+                .setTermination(termination)
+                .setEvaluation(evaluation)
+                .setSelection(new ScheduleSelection(random))
+                .setReplacement(
+                    new ScheduleReplacement(random, runProblem.getObjectives().get(0)))
+                .build();
+
+    var observer = new BestSolutionObserver(start, onImprovement);
+    ga.observable().register(observer);
+    ga.run();
+
+    return new AnytimeResult(
+        observer.best,
+        observer.best.objectives()[0],
+        ga.numberOfEvaluations(),
+        observer.improvements,
+        Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  /**
+   * Chooses the evaluation as the experiments do, the multi fitness also evaluates every plan with
+   * the arbiter of the second objective.
+   */
+  private Evaluation<SchedulePermutationSolution> evaluation(SchedulingProblem runProblem) {
+    var objectives = runProblem.getObjectives();
+    if (runProblem.getFitnessCalculator().fitnessName().equals("multi") && objectives.size() > 1) {
+      return new MultiThreadEvaluationMulti(
+          numberOfThreads, runProblem, objectives.get(1).objectiveName, true);
+    }
+    return new MultiThreadedEvaluation(numberOfThreads, runProblem);
+  }
+
+  /** Keeps the best solution of the populations notified after each generation. */
+  private static class BestSolutionObserver implements Observer<Map<String, Object>> {
+
+    private final long start;
+    private final Consumer<AnytimeImprovement> onImprovement;
+    private SchedulePermutationSolution best;
+    private int improvements;
+
+    BestSolutionObserver(long start, Consumer<AnytimeImprovement> onImprovement) {
+      this.start = start;
+      this.onImprovement = onImprovement;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void update(Observable<Map<String, Object>> observable, Map<String, Object> data) {
+      var population = (List<SchedulePermutationSolution>) data.get("POPULATION");
+      SchedulePermutationSolution generationBest = null;
+      for (var solution : population) {
+        if (generationBest == null || solution.objectives()[0] < generationBest.objectives()[0]) {
+          generationBest = solution;
+        }
+      }
+      if (generationBest == null
+          || (best != null && generationBest.objectives()[0] >= best.objectives()[0])) {
+        return;
+      }
+
+      // The copy does not keep the objectives, children are always evaluated again.
+      best = (SchedulePermutationSolution) generationBest.copy();
+      System.arraycopy(
+          generationBest.objectives(), 0, best.objectives(), 0, best.objectives().length);
+      improvements++;
+      onImprovement.accept(
+          new AnytimeImprovement(
+              best,
+              best.objectives()[0],
+              (int) data.get("EVALUATIONS"),
+              Duration.ofNanos(System.nanoTime() - start)));
+    }
+  }
+}
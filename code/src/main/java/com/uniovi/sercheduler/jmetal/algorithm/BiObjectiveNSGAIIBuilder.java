@@ -0,0 +1,61 @@
+package com.uniovi.sercheduler.jmetal.algorithm;
+
+import com.uniovi.sercheduler.jmetal.operator.RankingAndCrowdingReplacement;
+import com.uniovi.sercheduler.jmetal.operator.RankingAndCrowdingSelection;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import java.util.random.RandomGenerator;
+import org.uma.jmetal.component.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.component.algorithm.singleobjective.GeneticAlgorithmBuilder;
+import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
+import org.uma.jmetal.component.catalogue.common.termination.Termination;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+
+/**
+ * Builds NSGA-II for two objectives. The selection and replacement use the bi-objective ranking
+ * and crowding distance, sorting in O(N log N) instead of the generic O(M·N²) ranking, so large
+ * populations are practical.
+ */
+public class BiObjectiveNSGAIIBuilder {
+
+  private final GeneticAlgorithmBuilder<SchedulePermutationSolution> builder;
+
+  /**
+   * Full constructor.
+   *
+   * @param problem The problem to solve.
+   * @param populationSize The size of the population.
+   * @param offspringPopulationSize The number of children of each generation.
+   * @param crossover The crossover operator.
+   * @param mutation The mutation operator.
+   * @param random The random generator of the tournaments.
+   */
+  public BiObjectiveNSGAIIBuilder(
+      Problem<SchedulePermutationSolution> problem,
+      int populationSize,
+      int offspringPopulationSize,
+      CrossoverOperator<SchedulePermutationSolution> crossover,
+      MutationOperator<SchedulePermutationSolution> mutation,
+      RandomGenerator random) {
+    this.builder =
+        new GeneticAlgorithmBuilder<>(
+                "NSGAII", problem, populationSize, offspringPopulationSize, crossover, mutation)
+            .setSelection(new RankingAndCrowdingSelection(random, offspringPopulationSize))
+            .setReplacement(new RankingAndCrowdingReplacement());
+  }
+
+  public BiObjectiveNSGAIIBuilder setTermination(Termination termination) {
+    builder.setTermination(termination);
+    return this;
+  }
+
+  public BiObjectiveNSGAIIBuilder setEvaluation(Evaluation<SchedulePermutationSolution> evaluation) {
+    builder.setEvaluation(evaluation);
+    return this;
+  }
+
+  public EvolutionaryAlgorithm<SchedulePermutationSolution> build() {
+    return builder.build();
+  }
+}
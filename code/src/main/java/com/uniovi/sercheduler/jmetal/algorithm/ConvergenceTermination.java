@@ -0,0 +1,186 @@
+package com.uniovi.sercheduler.jmetal.algorithm;
+
+import com.uniovi.sercheduler.util.Checkpointable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.uma.jmetal.component.catalogue.common.termination.Termination;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * Stops an algorithm when the evaluations run out, when the first objective reaches its lower
+ * bound or when the search converges, and remembers why and after how many evaluations.
+ *
+ * <p>On its own it never converges and behaves as a termination by evaluations, the subclasses
+ * define the convergence. Its state, with the history of the subclasses, is saved in the
+ * checkpoints of the run.
+ */
+public class ConvergenceTermination implements Termination, Checkpointable {
+
+  /** The evaluations ran out. */
+  public static final String BUDGET = "budget";
+
+  /** The best value of the first objective reached its lower bound, it cannot improve. */
+  public static final String LOWER_BOUND = "lower-bound";
+
+  private static final double BOUND_TOLERANCE = 1e-9;
+
+  private final int maxEvaluations;
+  private final double lowerBound;
+  private volatile String reason;
+  private volatile int evaluations;
+  private volatile double[] bestObjectives = new double[0];
+
+  /**
+   * Full constructor.
+   *
+   * @param maxEvaluations The evaluations to stop at.
+   * @param lowerBound The lower bound of the first objective, negative infinity for none.
+   */
+  public ConvergenceTermination(int maxEvaluations, double lowerBound) {
+    this.maxEvaluations = maxEvaluations;
+    this.lowerBound = lowerBound;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean isMet(Map<String, Object> algorithmStatusData) {
+    int current = (int) algorithmStatusData.get("EVALUATIONS");
+    if (current < evaluations) {
+      // The algorithm runs again, as when a failed run is retried.
+      reason = null;
+      reset();
+    }
+    evaluations = current;
+    var population = (List<? extends Solution<?>>) algorithmStatusData.get("POPULATION");
+    if (!population.isEmpty()) {
+      var bests = new double[population.get(0).objectives().length];
+      for (int i = 0; i < bests.length; i++) {
+        bests[i] = best(population, i);
+      }
+      bestObjectives = bests;
+    }
+
+    // The convergence is checked every generation, it keeps the history of the subclasses.
+    boolean converged = converged(population);
+    if (best(population, 0) <= lowerBound + BOUND_TOLERANCE * Math.abs(lowerBound)) {
+      reason = LOWER_BOUND;
+    } else if (evaluations >= maxEvaluations) {
+      reason = BUDGET;
+    } else if (converged) {
+      reason = convergenceReason();
+    }
+    return reason != null;
+  }
+
+  /**
+   * Checks if the search converged, called once per generation.
+   *
+   * @param population The population of the generation.
+   * @return True to stop.
+   */
+  protected boolean converged(List<? extends Solution<?>> population) {
+    return false;
+  }
+
+  /** Forgets the history of the previous run. */
+  protected void reset() {}
+
+  /**
+   * Gets the history kept by {@link #converged(List)} for the checkpoints.
+   *
+   * @return The history, empty when there is none.
+   */
+  protected double[] history() {
+    return new double[0];
+  }
+
+  /**
+   * Goes back to a history returned by {@link #history()}.
+   *
+   * @param history The saved history, empty before the first generation.
+   */
+  protected void restoreHistory(double[] history) {}
+
+  @Override
+  public long[] checkpoint() {
+    var best = bestObjectives;
+    var history = history();
+    var state = new long[2 + best.length + history.length];
+    state[0] = evaluations;
+    state[1] = best.length;
+    for (int i = 0; i < best.length; i++) {
+      state[2 + i] = Double.doubleToRawLongBits(best[i]);
+    }
+    for (int i = 0; i < history.length; i++) {
+      state[2 + best.length + i] = Double.doubleToRawLongBits(history[i]);
+    }
+    return state;
+  }
+
+  @Override
+  public void restore(long[] state) {
+    reason = null;
+    evaluations = (int) state[0];
+    var best = new double[(int) state[1]];
+    for (int i = 0; i < best.length; i++) {
+      best[i] = Double.longBitsToDouble(state[2 + i]);
+    }
+    bestObjectives = best;
+    restoreHistory(
+        Arrays.stream(Arrays.copyOfRange(state, 2 + best.length, state.length))
+            .mapToDouble(Double::longBitsToDouble)
+            .toArray());
+  }
+
+  /**
+   * The reason recorded when {@link #converged(List)} stops the search.
+   *
+   * @return The name of the reason.
+   */
+  protected String convergenceReason() {
+    return BUDGET;
+  }
+
+  /**
+   * Finds the best value of an objective in a population.
+   *
+   * @param population The population.
+   * @param objective The index of the objective.
+   * @return The minimum of the objective.
+   */
+  protected static double best(List<? extends Solution<?>> population, int objective) {
+    double best = Double.POSITIVE_INFINITY;
+    for (var solution : population) {
+      best = Math.min(best, solution.objectives()[objective]);
+    }
+    return best;
+  }
+
+  /**
+   * Gets why the algorithm stopped.
+   *
+   * @return The reason, null while the algorithm runs.
+   */
+  public String reason() {
+    return reason;
+  }
+
+  /**
+   * Gets the evaluations at the last check, the ones used once the algorithm stops.
+   *
+   * @return The evaluations.
+   */
+  public int evaluations() {
+    return evaluations;
+  }
+
+  /**
+   * Gets the best value of each objective at the last check, read by the metrics while it runs.
+   *
+   * @return The minimum of each objective in the population, empty before the first check.
+   */
+  public double[] bestObjectives() {
+    return bestObjectives.clone();
+  }
+}
@@ -0,0 +1,201 @@
+package com.uniovi.sercheduler.jmetal.algorithm;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.dto.InstanceData;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import com.uniovi.sercheduler.service.PlanPair;
+import com.uniovi.sercheduler.service.ReducedWorkflow;
+import com.uniovi.sercheduler.service.WorkflowCoarsener;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uma.jmetal.component.catalogue.common.termination.Termination;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+
+/**
+ * Anytime search for large workflows in three phases: coarsen, solve and refine.
+ *
+ * <p>The workflow is coarsened level by level with the {@link WorkflowCoarsener} until it has
+ * few tasks. The GA runs first on the coarsest level, where the search space is much smaller,
+ * then the best plans of each level are expanded to the next finer level and seed a short GA
+ * there. The last run, on the original workflow, lasts until the termination of the caller. Only
+ * the improvements of that run are notified, the fitness of the coarse levels is not comparable.
+ */
+public class MultilevelScheduler {
+
+  static final Logger LOG = LoggerFactory.getLogger(MultilevelScheduler.class);
+
+  /** The best plans of each level that seed the next one. */
+  private static final int PROJECTED_PLANS = 5;
+
+  /** The fraction of the population of a refinement that starts from the projected plans. */
+  private static final double PROJECTION_RATIO = 0.5;
+
+  /** Coarsening stops when a level does not remove at least this fraction of the tasks. */
+  private static final double MIN_SHRINK = 0.1;
+
+  private final String name;
+  private final InstanceData instanceData;
+  private final String fitness;
+  private final List<Objective> objectives;
+  private final String algorithm;
+  private final int populationSize;
+  private final int numberOfThreads;
+  private final int coarsestSize;
+
+  /**
+   * Full constructor.
+   *
+   * @param name The name of the problem.
+   * @param instanceData The original workflow and its hosts.
+   * @param fitness The fitness function of every level.
+   * @param objectives The objectives, the first one picks the best plans.
+   * @param algorithm "ga" for the single objective GA, "nsga2" for NSGA-II.
+   * @param populationSize The size of the population of every level.
+   * @param numberOfThreads The threads of the evaluation, 0 to use all the processors.
+   * @param coarsestSize Coarsening stops once a level has at most this number of tasks.
+   */
+  public MultilevelScheduler(
+      String name,
+      InstanceData instanceData,
+      String fitness,
+      List<Objective> objectives,
+      String algorithm,
+      int populationSize,
+      int numberOfThreads,
+      int coarsestSize) {
+    this.name = name;
+    this.instanceData = instanceData;
+    this.fitness = fitness;
+    this.objectives = objectives;
+    this.algorithm = algorithm;
+    this.populationSize = populationSize;
+    this.numberOfThreads = numberOfThreads;
+    this.coarsestSize = coarsestSize;
+  }
+
+  /**
+   * Searches until the deadline, the coarse levels stop earlier if it comes first.
+   *
+   * @param budget The time available, counted from the call.
+   * @param levelEvaluations The evaluations of each coarse level.
+   * @param random The random generator of the coarsening and the searches.
+   * @param onImprovement Receives every new best solution of the original workflow.
+   * @return The best solution and the figures of the whole search.
+   */
+  public AnytimeResult schedule(
+      Duration budget,
+      int levelEvaluations,
+      RandomGenerator random,
+      Consumer<AnytimeImprovement> onImprovement) {
+    long deadline = System.nanoTime() + budget.toNanos();
+    return schedule(
+        () -> new TerminationByDeadline(deadline),
+        levelEvaluations,
+        random,
+        onImprovement);
+  }
+
+  /**
+   * Searches until the termination of the original workflow is met.
+   *
+   * @param termination Creates the stopping condition, it is also checked on the coarse levels.
+   * @param levelEvaluations The evaluations of each coarse level.
+   * @param random The random generator of the coarsening and the searches.
+   * @param onImprovement Receives every new best solution of the original workflow.
+   * @return The best solution and the figures of the whole search.
+   */
+  public AnytimeResult schedule(
+      Supplier<Termination> termination,
+      int levelEvaluations,
+      RandomGenerator random,
+      Consumer<AnytimeImprovement> onImprovement) {
+    long start = System.nanoTime();
+
+    var instances = new ArrayList<InstanceData>();
+    var reductions = new ArrayList<ReducedWorkflow>();
+    instances.add(instanceData);
+    var current = instanceData;
+    while (current.workflow().size() > coarsestSize) {
+      var coarse = WorkflowCoarsener.coarsen(current, random);
+      if (coarse.workflow().size() > current.workflow().size() * (1 - MIN_SHRINK)) {
+        break;
+      }
+      reductions.add(coarse);
+      current = coarse.instanceData(current);
+      instances.add(current);
+    }
+    LOG.info(
+        "Coarsened {} tasks into {} levels, the coarsest with {} tasks",
+        instanceData.workflow().size(),
+        reductions.size(),
+        current.workflow().size());
+
+    List<List<PlanPair>> seeds = List.of();
+    int evaluations = 0;
+    for (int level = instances.size() - 1; level > 0; level--) {
+      var levelTermination = termination.get();
+      var budget = new TerminationByEvaluations(levelEvaluations);
+      var best = new ArrayDeque<List<PlanPair>>(PROJECTED_PLANS);
+      var result =
+          scheduler(instances.get(level), seeds, random)
+              .schedule(
+                  data -> budget.isMet(data) | levelTermination.isMet(data),
+                  random,
+                  improvement -> {
+                    if (best.size() == PROJECTED_PLANS) {
+                      best.removeFirst();
+                    }
+                    best.addLast(improvement.solution().getPlan());
+                  });
+      evaluations += result.evaluations();
+
+      var reduction = reductions.get(level - 1);
+      seeds = best.stream().map(reduction::expand).toList();
+      LOG.debug(
+          "Level {} with {} tasks reached {} after {} evaluations",
+          level,
+          instances.get(level).workflow().size(),
+          result.fitness(),
+          result.evaluations());
+    }
+
+    int coarseEvaluations = evaluations;
+    var result =
+        scheduler(instanceData, seeds, random)
+            .schedule(
+                termination.get(),
+                random,
+                improvement ->
+                    onImprovement.accept(
+                        new AnytimeImprovement(
+                            improvement.solution(),
+                            improvement.fitness(),
+                            coarseEvaluations + improvement.evaluations(),
+                            Duration.ofNanos(System.nanoTime() - start))));
+
+    return new AnytimeResult(
+        result.best(),
+        result.fitness(),
+        coarseEvaluations + result.evaluations(),
+        result.improvements(),
+        Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  private AnytimeScheduler scheduler(
+      InstanceData instance, List<List<PlanPair>> seeds, RandomGenerator random) {
+    var problem =
+        new SchedulingProblem(
+            name, instance, fitness, random, objectives, objectives.get(0).objectiveName);
+    if (!seeds.isEmpty()) {
+      problem = problem.withSeeds(random, seeds, PROJECTION_RATIO);
+    }
+    return new AnytimeScheduler(problem, algorithm, populationSize, numberOfThreads);
+  }
+}
@@ -0,0 +1,70 @@
+package com.uniovi.sercheduler.jmetal.algorithm;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import org.uma.jmetal.component.catalogue.common.termination.Termination;
+
+/**
+ * Stops an algorithm at a wall-clock deadline.
+ *
+ * <p>The condition is checked once per generation, so waiting for the deadline itself would
+ * overshoot it by up to a generation. The duration of the last generation is used as the estimate
+ * of the next one, and the algorithm stops when it would not finish in time.
+ */
+public class TerminationByDeadline implements Termination {
+
+  private final long deadline;
+  private final LongSupplier clock;
+  private long lastCheck;
+  private long lastGeneration;
+
+  /**
+   * Full constructor.
+   *
+   * @param deadline The deadline, in the time base of {@link System#nanoTime()}.
+   */
+  public TerminationByDeadline(long deadline) {
+    this(deadline, System::nanoTime);
+  }
+
+  /**
+   * Constructor with the clock to read the time from, to test the termination without waiting.
+   *
+   * @param deadline The deadline, in the time base of the clock.
+   * @param clock Gives the current time in nanoseconds.
+   */
+  public TerminationByDeadline(long deadline, LongSupplier clock) {
+    this.deadline = deadline;
+    this.clock = clock;
+    this.lastCheck = clock.getAsLong();
+    this.lastGeneration = 0;
+  }
+
+  /**
+   * Creates a termination with a deadline relative to now.
+   *
+   * @param budget The time available.
+   * @return The termination.
+   */
+  public static TerminationByDeadline after(Duration budget) {
+    return new TerminationByDeadline(System.nanoTime() + budget.toNanos());
+  }
+
+  @Override
+  public boolean isMet(Map<String, Object> algorithmStatusData) {
+    long now = clock.getAsLong();
+    lastGeneration = now - lastCheck;
+    lastCheck = now;
+    return now + lastGeneration >= deadline;
+  }
+
+  /**
+   * Gets the time left until the deadline.
+   *
+   * @return The remaining time, negative once the deadline has passed.
+   */
+  public Duration remaining() {
+    return Duration.ofNanos(deadline - clock.getAsLong());
+  }
+}
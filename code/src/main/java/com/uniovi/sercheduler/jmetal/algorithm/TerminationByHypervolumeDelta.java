@@ -0,0 +1,103 @@
+package com.uniovi.sercheduler.jmetal.algorithm;
+
+import com.uniovi.sercheduler.jmetal.indicator.BiObjectiveHypervolume;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * Stops a bi-objective algorithm when the hypervolume of the population grows less than a
+ * relative threshold for a number of generations.
+ *
+ * <p>The objectives are normalized between 0 and the worst values of the first population plus a
+ * margin, so the later populations stay inside the reference box and keep adding volume as they
+ * improve. The objectives must not be negative.
+ */
+public class TerminationByHypervolumeDelta extends ConvergenceTermination {
+
+  /** The hypervolume did not grow for the configured generations. */
+  public static final String HYPERVOLUME = "hypervolume";
+
+  private static final double MARGIN = 1.1;
+
+  private final int generations;
+  private final double threshold;
+  private BiObjectiveHypervolume hypervolume;
+  private double[] worst;
+  private double previous;
+  private int stagnantGenerations;
+
+  /**
+   * Full constructor.
+   *
+   * @param maxEvaluations The evaluations to stop at anyway.
+   * @param generations The generations below the threshold to stop at.
+   * @param threshold The relative growth of the hypervolume below which a generation does not
+   *     count.
+   * @param lowerBound The lower bound of the first objective, negative infinity for none.
+   */
+  public TerminationByHypervolumeDelta(
+      int maxEvaluations, int generations, double threshold, double lowerBound) {
+    super(maxEvaluations, lowerBound);
+    this.generations = generations;
+    this.threshold = threshold;
+  }
+
+  @Override
+  protected boolean converged(List<? extends Solution<?>> population) {
+    var front = new double[population.size()][];
+    for (int i = 0; i < front.length; i++) {
+      front[i] = population.get(i).objectives().clone();
+    }
+
+    if (hypervolume == null) {
+      if (front[0].length != 2) {
+        throw new IllegalArgumentException("The hypervolume delta needs two objectives");
+      }
+      worst = new double[] {0, 0};
+      for (var point : front) {
+        worst[0] = Math.max(worst[0], point[0] * MARGIN);
+        worst[1] = Math.max(worst[1], point[1] * MARGIN);
+      }
+      hypervolume = new BiObjectiveHypervolume(new double[][] {{0, 0}, worst});
+      previous = hypervolume.compute(front);
+      return false;
+    }
+
+    double current = hypervolume.compute(front);
+    boolean improved = current - previous > threshold * previous;
+    previous = Math.max(previous, current);
+
+    stagnantGenerations = improved ? 0 : stagnantGenerations + 1;
+    return stagnantGenerations >= generations;
+  }
+
+  @Override
+  protected void reset() {
+    hypervolume = null;
+    stagnantGenerations = 0;
+  }
+
+  @Override
+  protected double[] history() {
+    if (hypervolume == null) {
+      return new double[0];
+    }
+    return new double[] {stagnantGenerations, previous, worst[0], worst[1]};
+  }
+
+  @Override
+  protected void restoreHistory(double[] history) {
+    reset();
+    if (history.length > 0) {
+      stagnantGenerations = (int) history[0];
+      previous = history[1];
+      worst = new double[] {history[2], history[3]};
+      hypervolume = new BiObjectiveHypervolume(new double[][] {{0, 0}, worst});
+    }
+  }
+
+  @Override
+  protected String convergenceReason() {
+    return HYPERVOLUME;
+  }
+}
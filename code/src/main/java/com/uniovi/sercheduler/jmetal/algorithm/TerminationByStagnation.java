@@ -0,0 +1,90 @@
+package com.uniovi.sercheduler.jmetal.algorithm;
+
+import java.util.Arrays;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * Stops when the best value of every objective has not improved by more than a relative epsilon
+ * for a number of generations.
+ */
+public class TerminationByStagnation extends ConvergenceTermination {
+
+  /** No objective improved for the configured generations. */
+  public static final String STAGNATION = "stagnation";
+
+  private final int generations;
+  private final double epsilon;
+  private double[] best;
+  private int stagnantGenerations;
+
+  /**
+   * Full constructor.
+   *
+   * @param maxEvaluations The evaluations to stop at anyway.
+   * @param generations The generations without improvement to stop at.
+   * @param epsilon The relative improvement below which a generation does not count.
+   * @param lowerBound The lower bound of the first objective, negative infinity for none.
+   */
+  public TerminationByStagnation(
+      int maxEvaluations, int generations, double epsilon, double lowerBound) {
+    super(maxEvaluations, lowerBound);
+    this.generations = generations;
+    this.epsilon = epsilon;
+  }
+
+  @Override
+  protected boolean converged(List<? extends Solution<?>> population) {
+    int objectives = population.get(0).objectives().length;
+    if (best == null) {
+      best = new double[objectives];
+      for (int i = 0; i < objectives; i++) {
+        best[i] = best(population, i);
+      }
+      return false;
+    }
+
+    boolean improved = false;
+    for (int i = 0; i < objectives; i++) {
+      double current = best(population, i);
+      if (best[i] - current > epsilon * Math.abs(best[i])) {
+        improved = true;
+      }
+      best[i] = Math.min(best[i], current);
+    }
+
+    stagnantGenerations = improved ? 0 : stagnantGenerations + 1;
+    return stagnantGenerations >= generations;
+  }
+
+  @Override
+  protected void reset() {
+    best = null;
+    stagnantGenerations = 0;
+  }
+
+  @Override
+  protected double[] history() {
+    if (best == null) {
+      return new double[0];
+    }
+    var history = new double[best.length + 1];
+    history[0] = stagnantGenerations;
+    System.arraycopy(best, 0, history, 1, best.length);
+    return history;
+  }
+
+  @Override
+  protected void restoreHistory(double[] history) {
+    reset();
+    if (history.length > 0) {
+      stagnantGenerations = (int) history[0];
+      best = Arrays.copyOfRange(history, 1, history.length);
+    }
+  }
+
+  @Override
+  protected String convergenceReason() {
+    return STAGNATION;
+  }
+}
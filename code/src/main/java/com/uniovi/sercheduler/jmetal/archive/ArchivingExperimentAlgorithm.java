@@ -0,0 +1,92 @@
+package com.uniovi.sercheduler.jmetal.archive;
+
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.lab.experiment.Experiment;
+import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
+
+/**
+ * Experiment run that keeps the FUN CSV, needed by the jMetal analysis, but stores the solutions
+ * in a binary archive instead of the VAR CSV. The archive can be converted back with {@link
+ * ResultArchiveCsvConverter}.
+ */
+public class ArchivingExperimentAlgorithm
+    extends ExperimentAlgorithm<SchedulePermutationSolution, List<SchedulePermutationSolution>> {
+
+  static final Logger LOG = LoggerFactory.getLogger(ArchivingExperimentAlgorithm.class);
+
+  public static final String ARCHIVE_EXTENSION = ".sra";
+
+  private final boolean compress;
+
+  /**
+   * Full constructor.
+   *
+   * @param algorithm The algorithm to run.
+   * @param algorithmTag The tag of the algorithm.
+   * @param problem The problem to solve.
+   * @param runId The number of the run.
+   * @param compress Deflates the archive.
+   */
+  public ArchivingExperimentAlgorithm(
+      Algorithm<List<SchedulePermutationSolution>> algorithm,
+      String algorithmTag,
+      ExperimentProblem<SchedulePermutationSolution> problem,
+      int runId,
+      boolean compress) {
+    super(algorithm, algorithmTag, problem, runId);
+    this.compress = compress;
+  }
+
+  @Override
+  public void runAlgorithm(Experiment<?, ?> experiment) {
+    var outputDirectory =
+        Path.of(
+            experiment.getExperimentBaseDirectory(), "data", getAlgorithmTag(), getProblemTag());
+    var funFile =
+        outputDirectory.resolve(experiment.getOutputParetoFrontFileName() + getRunId() + ".csv");
+    var archiveFile =
+        outputDirectory.resolve(
+            experiment.getOutputParetoSetFileName() + getRunId() + ARCHIVE_EXTENSION);
+
+    try {
+      Files.createDirectories(outputDirectory);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    LOG.info(
+        "Running algorithm: {}, problem: {}, run: {}",
+        getAlgorithmTag(),
+        getProblemTag(),
+        getRunId());
+    getAlgorithm().run();
+    var population = getAlgorithm().result();
+
+    try (BufferedWriter writer = Files.newBufferedWriter(funFile, StandardCharsets.UTF_8)) {
+      for (var solution : population) {
+        var objectives = solution.objectives();
+        for (int j = 0; j < objectives.length; j++) {
+          if (j > 0) {
+            writer.write(',');
+          }
+          writer.write(Double.toString(objectives[j]));
+        }
+        writer.newLine();
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResultArchiveWriter.write(archiveFile, population, compress);
+  }
+}
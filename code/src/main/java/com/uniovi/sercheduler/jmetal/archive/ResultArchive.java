@@ -0,0 +1,58 @@
+package com.uniovi.sercheduler.jmetal.archive;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The solutions of a run read from a binary archive.
+ *
+ * @param tasks The dictionary of task names, the position is the id.
+ * @param hosts The dictionary of host names, the position is the id.
+ * @param objectives The objectives by column, objectives[objective][solution].
+ * @param taskIds The task ids of each solution plan, taskIds[solution][position].
+ * @param hostIds The host ids of each solution plan, hostIds[solution][position].
+ */
+public record ResultArchive(
+    List<String> tasks,
+    List<String> hosts,
+    double[][] objectives,
+    int[][] taskIds,
+    int[][] hostIds) {
+
+  public int numberOfSolutions() {
+    return taskIds.length;
+  }
+
+  public int numberOfObjectives() {
+    return objectives.length;
+  }
+
+  /**
+   * The objectives of a solution.
+   *
+   * @param solution The position of the solution.
+   * @return The value of each objective.
+   */
+  public double[] objectivesOf(int solution) {
+    double[] values = new double[objectives.length];
+    for (int j = 0; j < objectives.length; j++) {
+      values[j] = objectives[j][solution];
+    }
+    return values;
+  }
+
+  /**
+   * The plan of a solution as task and host names.
+   *
+   * @param solution The position of the solution.
+   * @return The task and the host of each position of the plan.
+   */
+  public List<String[]> planOf(int solution) {
+    var plan = new ArrayList<String[]>(taskIds[solution].length);
+    for (int i = 0; i < taskIds[solution].length; i++) {
+      plan.add(
+          new String[] {tasks.get(taskIds[solution][i]), hosts.get(hostIds[solution][i])});
+    }
+    return plan;
+  }
+}
@@ -0,0 +1,60 @@
+package com.uniovi.sercheduler.jmetal.archive;
+
+import com.uniovi.sercheduler.expception.ResultArchiveException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Converts an archive to the FUN and VAR CSV files written by jMetal: one solution per line, the
+ * objectives separated by commas and the plan as "[task, host]" pairs separated by commas.
+ */
+public final class ResultArchiveCsvConverter {
+
+  private ResultArchiveCsvConverter() {}
+
+  /**
+   * Writes the objectives and the plans of an archive as CSV.
+   *
+   * @param archive The archive to convert.
+   * @param funFile The file for the objectives.
+   * @param varFile The file for the plans.
+   */
+  public static void toCsv(ResultArchive archive, Path funFile, Path varFile) {
+    try (BufferedWriter writer = Files.newBufferedWriter(funFile, StandardCharsets.UTF_8)) {
+      for (int i = 0; i < archive.numberOfSolutions(); i++) {
+        for (int j = 0; j < archive.numberOfObjectives(); j++) {
+          if (j > 0) {
+            writer.write(',');
+          }
+          writer.write(Double.toString(archive.objectives()[j][i]));
+        }
+        writer.newLine();
+      }
+    } catch (IOException e) {
+      throw new ResultArchiveException(funFile.toString(), e);
+    }
+
+    try (BufferedWriter writer = Files.newBufferedWriter(varFile, StandardCharsets.UTF_8)) {
+      for (int i = 0; i < archive.numberOfSolutions(); i++) {
+        var taskIds = archive.taskIds()[i];
+        var hostIds = archive.hostIds()[i];
+        for (int k = 0; k < taskIds.length; k++) {
+          if (k > 0) {
+            writer.write(',');
+          }
+          writer.write('[');
+          writer.write(archive.tasks().get(taskIds[k]));
+          writer.write(", ");
+          writer.write(archive.hosts().get(hostIds[k]));
+          writer.write(']');
+        }
+        writer.newLine();
+      }
+    } catch (IOException e) {
+      throw new ResultArchiveException(varFile.toString(), e);
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.uniovi.sercheduler.jmetal.archive;
+
+import com.uniovi.sercheduler.expception.ResultArchiveException;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.InflaterInputStream;
+
+/** Reads the binary archives written by {@link ResultArchiveWriter}. */
+public final class ResultArchiveReader {
+
+  private ResultArchiveReader() {}
+
+  /**
+   * Reads an archive file.
+   *
+   * @param file The archive.
+   * @return The solutions of the archive.
+   */
+  public static ResultArchive read(Path file) {
+    try (var input = new BufferedInputStream(Files.newInputStream(file), 1 << 16)) {
+      return read(input, file.toString());
+    } catch (IOException e) {
+      throw new ResultArchiveException(file.toString(), e);
+    }
+  }
+
+  /**
+   * Reads an archive from a stream.
+   *
+   * @param input The stream, not closed.
+   * @param name The name of the source, for the errors.
+   * @return The solutions of the archive.
+   * @throws IOException If the stream fails.
+   */
+  public static ResultArchive read(InputStream input, String name) throws IOException {
+    var header = input.readNBytes(ResultArchiveWriter.MAGIC.length + 2);
+    if (header.length < ResultArchiveWriter.MAGIC.length + 2
+        || !Arrays.equals(
+            Arrays.copyOf(header, ResultArchiveWriter.MAGIC.length), ResultArchiveWriter.MAGIC)) {
+      throw new ResultArchiveException(name, "not a result archive");
+    }
+    if (header[4] != ResultArchiveWriter.VERSION) {
+      throw new ResultArchiveException(name, "unsupported version " + header[4]);
+    }
+    boolean compressed = (header[5] & ResultArchiveWriter.FLAG_COMPRESSED) != 0;
+
+    var data = new DataInputStream(compressed ? new InflaterInputStream(input) : input);
+
+    var tasks = readDictionary(data);
+    var hosts = readDictionary(data);
+
+    int numberOfSolutions = readVarInt(data);
+    int numberOfObjectives = readVarInt(data);
+    int planLength = readVarInt(data);
+
+    double[][] objectives = new double[numberOfObjectives][numberOfSolutions];
+    for (int j = 0; j < numberOfObjectives; j++) {
+      for (int i = 0; i < numberOfSolutions; i++) {
+        objectives[j][i] = data.readDouble();
+      }
+    }
+
+    int[][] taskIds = new int[numberOfSolutions][planLength];
+    int[][] hostIds = new int[numberOfSolutions][planLength];
+    for (int i = 0; i < numberOfSolutions; i++) {
+      for (int k = 0; k < planLength; k++) {
+        taskIds[i][k] = checkId(readVarInt(data), tasks.size(), name);
+        hostIds[i][k] = checkId(readVarInt(data), hosts.size(), name);
+      }
+    }
+
+    return new ResultArchive(tasks, hosts, objectives, taskIds, hostIds);
+  }
+
+  private static List<String> readDictionary(DataInputStream data) throws IOException {
+    int size = readVarInt(data);
+    var names = new ArrayList<String>(size);
+    for (int i = 0; i < size; i++) {
+      var bytes = new byte[readVarInt(data)];
+      data.readFully(bytes);
+      names.add(new String(bytes, StandardCharsets.UTF_8));
+    }
+    return List.copyOf(names);
+  }
+
+  private static int checkId(int id, int dictionarySize, String name) {
+    if (id >= dictionarySize) {
+      throw new ResultArchiveException(name, "id " + id + " is not in the dictionary");
+    }
+    return id;
+  }
+
+  /**
+   * Reads an unsigned varint written by {@link ResultArchiveWriter#writeVarInt}.
+   *
+   * @param data The stream.
+   * @return The value.
+   * @throws IOException If the stream fails or the varint is malformed.
+   */
+  public static int readVarInt(DataInputStream data) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      int b = data.read();
+      if (b < 0) {
+        throw new EOFException();
+      }
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed varint");
+  }
+}
@@ -0,0 +1,139 @@
+package com.uniovi.sercheduler.jmetal.archive;
+
+import com.uniovi.sercheduler.expception.ResultArchiveException;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes the solutions of a run in the binary archive format.
+ *
+ * <p>Layout, all integers are unsigned varints unless stated otherwise:
+ *
+ * <ul>
+ *   <li>Magic "SRAR" (4 bytes), version (1 byte), flags (1 byte, bit 0 means the rest is deflated).
+ *   <li>Task dictionary: count and names, each one a length and its UTF-8 bytes. Same for hosts.
+ *   <li>Number of solutions, number of objectives and length of the plans.
+ *   <li>Objectives by column, one big-endian double per solution.
+ *   <li>Plans, the task id and the host id of each position of each solution.
+ * </ul>
+ */
+public final class ResultArchiveWriter {
+
+  static final byte[] MAGIC = {'S', 'R', 'A', 'R'};
+  static final byte VERSION = 1;
+  static final int FLAG_COMPRESSED = 1;
+
+  private ResultArchiveWriter() {}
+
+  /**
+   * Writes the solutions to a file.
+   *
+   * @param file The archive to create.
+   * @param solutions The solutions, all with plans of the same length.
+   * @param compress Deflates everything after the header.
+   */
+  public static void write(
+      Path file, List<SchedulePermutationSolution> solutions, boolean compress) {
+    try (var output = new BufferedOutputStream(Files.newOutputStream(file))) {
+      write(output, solutions, compress);
+    } catch (IOException e) {
+      throw new ResultArchiveException(file.toString(), e);
+    }
+  }
+
+  /**
+   * Writes the solutions to a stream.
+   *
+   * @param output The stream, not closed.
+   * @param solutions The solutions, all with plans of the same length.
+   * @param compress Deflates everything after the header.
+   * @throws IOException If the stream fails.
+   */
+  public static void write(
+      OutputStream output, List<SchedulePermutationSolution> solutions, boolean compress)
+      throws IOException {
+    output.write(MAGIC);
+    output.write(VERSION);
+    output.write(compress ? FLAG_COMPRESSED : 0);
+
+    var deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+    OutputStream body = compress ? new DeflaterOutputStream(output, deflater, 1 << 16) : output;
+    var data = new DataOutputStream(body);
+
+    Map<String, Integer> tasks = new LinkedHashMap<>();
+    Map<String, Integer> hosts = new LinkedHashMap<>();
+    int planLength = solutions.isEmpty() ? 0 : solutions.get(0).getPlan().size();
+    int numberOfObjectives = solutions.isEmpty() ? 0 : solutions.get(0).objectives().length;
+    for (var solution : solutions) {
+      if (solution.getPlan().size() != planLength) {
+        throw new IllegalArgumentException("All the plans must have the same length");
+      }
+      for (var pair : solution.getPlan()) {
+        tasks.putIfAbsent(pair.task().getName(), tasks.size());
+        hosts.putIfAbsent(pair.host().getName(), hosts.size());
+      }
+    }
+
+    writeDictionary(data, tasks);
+    writeDictionary(data, hosts);
+
+    writeVarInt(data, solutions.size());
+    writeVarInt(data, numberOfObjectives);
+    writeVarInt(data, planLength);
+
+    for (int j = 0; j < numberOfObjectives; j++) {
+      for (var solution : solutions) {
+        data.writeDouble(solution.objectives()[j]);
+      }
+    }
+
+    for (var solution : solutions) {
+      for (var pair : solution.getPlan()) {
+        writeVarInt(data, tasks.get(pair.task().getName()));
+        writeVarInt(data, hosts.get(pair.host().getName()));
+      }
+    }
+
+    data.flush();
+    if (body instanceof DeflaterOutputStream deflaterOutput) {
+      deflaterOutput.finish();
+      deflater.end();
+    }
+  }
+
+  private static void writeDictionary(DataOutputStream data, Map<String, Integer> dictionary)
+      throws IOException {
+    writeVarInt(data, dictionary.size());
+    for (var name : dictionary.keySet()) {
+      var bytes = name.getBytes(StandardCharsets.UTF_8);
+      writeVarInt(data, bytes.length);
+      data.write(bytes);
+    }
+  }
+
+  /**
+   * Writes an unsigned varint, 7 bits per byte with the high bit set in all but the last byte.
+   *
+   * @param data The stream.
+   * @param value The value, read as unsigned.
+   * @throws IOException If the stream fails.
+   */
+  public static void writeVarInt(DataOutputStream data, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      data.write((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    data.write(value);
+  }
+}
@@ -0,0 +1,23 @@
+package com.uniovi.sercheduler.jmetal.checkpoint;
+
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The state of a run after the replacement of a generation.
+ *
+ * @param parameters The parameters of the run, a run with other ones cannot resume it.
+ * @param evaluations The evaluations done so far.
+ * @param generations The times the termination was checked, the initial population included.
+ * @param elapsedMillis The computing time so far, of the original run and its resumptions.
+ * @param states The state of each checkpointable component, in the order of the run.
+ * @param population The population, with their plans, objectives and schedules.
+ */
+public record Checkpoint(
+    Map<String, String> parameters,
+    int evaluations,
+    int generations,
+    long elapsedMillis,
+    List<long[]> states,
+    List<SchedulePermutationSolution> population) {}
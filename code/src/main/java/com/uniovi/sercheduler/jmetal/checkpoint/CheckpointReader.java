@@ -0,0 +1,176 @@
+package com.uniovi.sercheduler.jmetal.checkpoint;
+
+import static com.uniovi.sercheduler.jmetal.archive.ResultArchiveReader.readVarInt;
+
+import com.uniovi.sercheduler.dto.Host;
+import com.uniovi.sercheduler.dto.InstanceData;
+import com.uniovi.sercheduler.dto.Task;
+import com.uniovi.sercheduler.expception.CheckpointException;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.service.FitnessInfo;
+import com.uniovi.sercheduler.service.PlanPair;
+import com.uniovi.sercheduler.service.TaskSchedule;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.InflaterInputStream;
+
+/** Reads the checkpoints written by {@link CheckpointWriter}. */
+public final class CheckpointReader {
+
+  private CheckpointReader() {}
+
+  /**
+   * Reads a checkpoint file.
+   *
+   * @param file The checkpoint.
+   * @param instanceData The instance of the run, to find the tasks and hosts of the plans.
+   * @return The checkpoint with the population rebuilt.
+   */
+  public static Checkpoint read(Path file, InstanceData instanceData) {
+    var name = file.toString();
+    try (var input = new BufferedInputStream(Files.newInputStream(file), 1 << 16)) {
+      var header = input.readNBytes(CheckpointWriter.MAGIC.length + 1);
+      if (header.length < CheckpointWriter.MAGIC.length + 1
+          || !Arrays.equals(
+              Arrays.copyOf(header, CheckpointWriter.MAGIC.length), CheckpointWriter.MAGIC)) {
+        throw new CheckpointException(name, "not a checkpoint");
+      }
+      if (header[4] != CheckpointWriter.VERSION) {
+        throw new CheckpointException(name, "unsupported version " + header[4]);
+      }
+      return read(new DataInputStream(new InflaterInputStream(input)), instanceData, name);
+    } catch (IOException e) {
+      throw new CheckpointException(name, e);
+    }
+  }
+
+  private static Checkpoint read(DataInputStream data, InstanceData instanceData, String name)
+      throws IOException {
+    int numberOfParameters = readVarInt(data);
+    Map<String, String> parameters = new LinkedHashMap<>(numberOfParameters * 2);
+    for (int i = 0; i < numberOfParameters; i++) {
+      parameters.put(readString(data), readString(data));
+    }
+
+    int evaluations = readVarInt(data);
+    int generations = readVarInt(data);
+    long elapsedMillis = data.readLong();
+
+    int numberOfStates = readVarInt(data);
+    var states = new ArrayList<long[]>(numberOfStates);
+    for (int i = 0; i < numberOfStates; i++) {
+      var state = new long[readVarInt(data)];
+      for (int j = 0; j < state.length; j++) {
+        state[j] = data.readLong();
+      }
+      states.add(state);
+    }
+
+    var tasks = readDictionary(data, instanceData.workflow()::get, "task", name);
+    var hosts = readDictionary(data, instanceData.hosts()::get, "host", name);
+    var labels = readDictionary(data, Function.identity(), "label", name);
+
+    int numberOfSolutions = readVarInt(data);
+    int numberOfObjectives = readVarInt(data);
+    var population = new ArrayList<SchedulePermutationSolution>(numberOfSolutions);
+    for (int i = 0; i < numberOfSolutions; i++) {
+      int arbiter = readVarInt(data);
+      var objectives = new double[numberOfObjectives];
+      for (int j = 0; j < numberOfObjectives; j++) {
+        objectives[j] = data.readDouble();
+      }
+      int planLength = readVarInt(data);
+      var plan = new ArrayList<PlanPair>(planLength);
+      for (int k = 0; k < planLength; k++) {
+        plan.add(new PlanPair(get(tasks, data, name), get(hosts, data, name)));
+      }
+
+      FitnessInfo fitnessInfo = null;
+      if (data.readBoolean()) {
+        fitnessInfo = readFitness(data, tasks, hosts, labels, name);
+      }
+
+      var solution =
+          new SchedulePermutationSolution(
+              planLength,
+              numberOfObjectives,
+              fitnessInfo,
+              List.copyOf(plan),
+              arbiter == 0 ? null : labels.get(arbiter - 1));
+      System.arraycopy(objectives, 0, solution.objectives(), 0, numberOfObjectives);
+      population.add(solution);
+    }
+
+    return new Checkpoint(parameters, evaluations, generations, elapsedMillis, states, population);
+  }
+
+  private static FitnessInfo readFitness(
+      DataInputStream data,
+      List<Task> tasks,
+      List<Host> hosts,
+      List<String> labels,
+      String name)
+      throws IOException {
+    var fitnessFunction = get(labels, data, name);
+    if (data.readBoolean()) {
+      return FitnessInfo.pruned(fitnessFunction);
+    }
+    int numberOfValues = readVarInt(data);
+    Map<String, Double> fitness = new HashMap<>(numberOfValues * 2);
+    for (int k = 0; k < numberOfValues; k++) {
+      fitness.put(get(labels, data, name), data.readDouble());
+    }
+    int scheduleLength = readVarInt(data);
+    var schedule = new ArrayList<TaskSchedule>(scheduleLength);
+    for (int k = 0; k < scheduleLength; k++) {
+      var task = get(tasks, data, name);
+      var host = get(hosts, data, name);
+      double ast = data.readDouble();
+      double eft = data.readDouble();
+      schedule.add(new TaskSchedule(task, ast, eft, host));
+    }
+    return new FitnessInfo(fitness, List.copyOf(schedule), fitnessFunction);
+  }
+
+  private static <T> List<T> readDictionary(
+      DataInputStream data, Function<String, T> lookup, String kind, String name)
+      throws IOException {
+    int size = readVarInt(data);
+    var values = new ArrayList<T>(size);
+    for (int i = 0; i < size; i++) {
+      var key = readString(data);
+      var value = lookup.apply(key);
+      if (value == null) {
+        throw new CheckpointException(name, "the " + kind + " " + key + " is not in the instance");
+      }
+      values.add(value);
+    }
+    return values;
+  }
+
+  private static String readString(DataInputStream data) throws IOException {
+    var bytes = new byte[readVarInt(data)];
+    data.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static <T> T get(List<T> dictionary, DataInputStream data, String name)
+      throws IOException {
+    int id = readVarInt(data);
+    if (id >= dictionary.size()) {
+      throw new CheckpointException(name, "id " + id + " is not in the dictionary");
+    }
+    return dictionary.get(id);
+  }
+}
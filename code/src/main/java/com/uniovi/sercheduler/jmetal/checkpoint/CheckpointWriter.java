@@ -0,0 +1,199 @@
+package com.uniovi.sercheduler.jmetal.checkpoint;
+
+import static com.uniovi.sercheduler.jmetal.archive.ResultArchiveWriter.writeVarInt;
+
+import com.uniovi.sercheduler.expception.CheckpointException;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes the checkpoints of a run in a compact binary format.
+ *
+ * <p>Layout, all integers are unsigned varints unless stated otherwise:
+ *
+ * <ul>
+ *   <li>Magic "SRCK" (4 bytes) and version (1 byte), the rest is deflated.
+ *   <li>Number of run parameters, each one its name and its value as a length and the UTF-8
+ *       bytes.
+ *   <li>Evaluations, generations and the elapsed milliseconds (big-endian long).
+ *   <li>Number of component states, each one its length and its big-endian longs.
+ *   <li>Dictionaries of task names, host names and labels (arbiters, fitness functions and
+ *       fitness names), each one its count and the names as a length and the UTF-8 bytes.
+ *   <li>Number of solutions and number of objectives, then each solution: its arbiter (label id
+ *       plus one, 0 for none), its objectives as big-endian doubles, the length of its plan and the
+ *       task id and host id of each position, and a boolean that tells if its fitness follows.
+ *   <li>A fitness is the label of its function and a boolean that tells if it was pruned. The
+ *       fitness of an evaluation that was not pruned follows with the count of values with their
+ *       label and their double, and the length of its schedule with the task id, host id, start
+ *       and finish of each task.
+ * </ul>
+ */
+public final class CheckpointWriter {
+
+  static final byte[] MAGIC = {'S', 'R', 'C', 'K'};
+  static final byte VERSION = 2;
+
+  private CheckpointWriter() {}
+
+  /**
+   * Encodes a checkpoint without compressing it, done in the thread of the algorithm so the
+   * population can change afterwards.
+   *
+   * @param checkpoint The checkpoint.
+   * @return The body of the file.
+   */
+  public static byte[] encode(Checkpoint checkpoint) {
+    var bytes = new ByteArrayOutputStream(1 << 16);
+    try {
+      var data = new DataOutputStream(bytes);
+      writeVarInt(data, checkpoint.parameters().size());
+      for (var entry : checkpoint.parameters().entrySet()) {
+        writeString(data, entry.getKey());
+        writeString(data, entry.getValue());
+      }
+      writeVarInt(data, checkpoint.evaluations());
+      writeVarInt(data, checkpoint.generations());
+      data.writeLong(checkpoint.elapsedMillis());
+
+      writeVarInt(data, checkpoint.states().size());
+      for (var state : checkpoint.states()) {
+        writeVarInt(data, state.length);
+        for (var value : state) {
+          data.writeLong(value);
+        }
+      }
+
+      Map<String, Integer> tasks = new LinkedHashMap<>();
+      Map<String, Integer> hosts = new LinkedHashMap<>();
+      Map<String, Integer> labels = new LinkedHashMap<>();
+      for (var solution : checkpoint.population()) {
+        for (var pair : solution.getPlan()) {
+          tasks.putIfAbsent(pair.task().getName(), tasks.size());
+          hosts.putIfAbsent(pair.host().getName(), hosts.size());
+        }
+        if (solution.getArbiter() != null) {
+          labels.putIfAbsent(solution.getArbiter(), labels.size());
+        }
+        var fitnessInfo = solution.getFitnessInfo();
+        if (fitnessInfo != null) {
+          labels.putIfAbsent(fitnessInfo.fitnessFunction(), labels.size());
+          fitnessInfo.fitness().keySet().forEach(k -> labels.putIfAbsent(k, labels.size()));
+          for (var schedule : fitnessInfo.schedule()) {
+            tasks.putIfAbsent(schedule.task().getName(), tasks.size());
+            hosts.putIfAbsent(schedule.host().getName(), hosts.size());
+          }
+        }
+      }
+      writeDictionary(data, tasks);
+      writeDictionary(data, hosts);
+      writeDictionary(data, labels);
+
+      int numberOfObjectives =
+          checkpoint.population().isEmpty()
+              ? 0
+              : checkpoint.population().get(0).objectives().length;
+      writeVarInt(data, checkpoint.population().size());
+      writeVarInt(data, numberOfObjectives);
+      for (var solution : checkpoint.population()) {
+        writeSolution(data, solution, tasks, hosts, labels);
+      }
+      data.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Writes an encoded checkpoint, replacing the previous one only once it is complete.
+   *
+   * @param file The checkpoint file.
+   * @param body The checkpoint returned by {@link #encode(Checkpoint)}.
+   */
+  public static void save(Path file, byte[] body) {
+    var temporary = file.resolveSibling(file.getFileName() + ".tmp");
+    try {
+      try (var output = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+        output.write(MAGIC);
+        output.write(VERSION);
+        var deflater = new Deflater(Deflater.BEST_SPEED);
+        var deflaterOutput = new DeflaterOutputStream(output, deflater, 1 << 16);
+        deflaterOutput.write(body);
+        deflaterOutput.finish();
+        deflater.end();
+      }
+      Files.move(
+          temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new CheckpointException(file.toString(), e);
+    }
+  }
+
+  private static void writeSolution(
+      DataOutputStream data,
+      SchedulePermutationSolution solution,
+      Map<String, Integer> tasks,
+      Map<String, Integer> hosts,
+      Map<String, Integer> labels)
+      throws IOException {
+    writeVarInt(data, solution.getArbiter() == null ? 0 : labels.get(solution.getArbiter()) + 1);
+    for (var objective : solution.objectives()) {
+      data.writeDouble(objective);
+    }
+    writeVarInt(data, solution.getPlan().size());
+    for (var pair : solution.getPlan()) {
+      writeVarInt(data, tasks.get(pair.task().getName()));
+      writeVarInt(data, hosts.get(pair.host().getName()));
+    }
+
+    var fitnessInfo = solution.getFitnessInfo();
+    if (fitnessInfo == null) {
+      data.writeBoolean(false);
+      return;
+    }
+    data.writeBoolean(true);
+    writeVarInt(data, labels.get(fitnessInfo.fitnessFunction()));
+    data.writeBoolean(fitnessInfo.isPruned());
+    if (fitnessInfo.isPruned()) {
+      return;
+    }
+    writeVarInt(data, fitnessInfo.fitness().size());
+    for (var entry : fitnessInfo.fitness().entrySet()) {
+      writeVarInt(data, labels.get(entry.getKey()));
+      data.writeDouble(entry.getValue());
+    }
+    writeVarInt(data, fitnessInfo.schedule().size());
+    for (var schedule : fitnessInfo.schedule()) {
+      writeVarInt(data, tasks.get(schedule.task().getName()));
+      writeVarInt(data, hosts.get(schedule.host().getName()));
+      data.writeDouble(schedule.ast());
+      data.writeDouble(schedule.eft());
+    }
+  }
+
+  private static void writeDictionary(DataOutputStream data, Map<String, Integer> dictionary)
+      throws IOException {
+    writeVarInt(data, dictionary.size());
+    for (var name : dictionary.keySet()) {
+      writeString(data, name);
+    }
+  }
+
+  private static void writeString(DataOutputStream data, String value) throws IOException {
+    var bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarInt(data, bytes.length);
+    data.write(bytes);
+  }
+}
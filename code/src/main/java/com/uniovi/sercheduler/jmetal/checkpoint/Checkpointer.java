@@ -0,0 +1,279 @@
+package com.uniovi.sercheduler.jmetal.checkpoint;
+
+import com.uniovi.sercheduler.dto.InstanceData;
+import com.uniovi.sercheduler.expception.CheckpointException;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.util.Checkpointable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
+import org.uma.jmetal.component.catalogue.common.termination.Termination;
+import org.uma.jmetal.problem.Problem;
+
+/**
+ * Saves the state of a run every few generations and resumes a run from its last checkpoint.
+ *
+ * <p>The state is the parameters of the run, the population, the evaluations and generations so
+ * far, the computing time and the state of the {@link Checkpointable} components of the run: its
+ * random generators, its termination and the counters of its evaluation. It is taken when the
+ * termination is checked, right after the replacement, and encoded in the thread of the
+ * algorithm. The compression and the file are left to a background thread, and a checkpoint is
+ * skipped while the previous one is still being written, so the loop never waits for the disk.
+ * The file is replaced atomically, a crash while writing keeps the previous checkpoint.
+ *
+ * <p>A run only resumes a checkpoint written with the same parameters, the population sizes, the
+ * fitness, the objectives and the budget, otherwise it would not end as the original one.
+ *
+ * <p>To resume, the evaluation of the initial population returns the saved population and
+ * restores the components instead, and the termination skips the check already done for that
+ * generation. The algorithm counts the evaluations again from the initial population, so the
+ * termination sees them shifted to the saved count. From then on the run draws the same numbers
+ * and evaluates the same solutions as the original one.
+ */
+public class Checkpointer implements AutoCloseable {
+
+  static final Logger LOG = LoggerFactory.getLogger(Checkpointer.class);
+
+  private static final String EVALUATIONS = "EVALUATIONS";
+  private static final String POPULATION = "POPULATION";
+
+  /** Shared by the runs of a sweep, the writes are short and the runs rarely collide. */
+  private static final ExecutorService WRITER =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            var thread = new Thread(runnable, "checkpoint-writer");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private final Path file;
+  private final Map<String, String> parameters;
+  private final int interval;
+  private final List<Checkpointable> components;
+  private final InstanceData instanceData;
+  private final boolean resume;
+
+  private boolean started;
+  private boolean restoring;
+  private int restoredSize;
+  private int offset;
+  private int lastReported;
+  private int evaluations;
+  private int generations;
+  private long startMillis;
+  private long previousMillis;
+  private Future<?> pendingWrite;
+
+  /**
+   * Full constructor.
+   *
+   * @param file The checkpoint of the run.
+   * @param parameters The parameters of the run that a resumed run must share, by name.
+   * @param interval Saves a checkpoint every this many generations.
+   * @param components The components with state, always in the same order for the same run.
+   * @param instanceData The instance of the run, to read the checkpoint.
+   * @param resume Resumes from the checkpoint if it exists.
+   */
+  public Checkpointer(
+      Path file,
+      Map<String, String> parameters,
+      int interval,
+      List<Checkpointable> components,
+      InstanceData instanceData,
+      boolean resume) {
+    if (interval < 1) {
+      throw new IllegalArgumentException("The interval must be at least 1: " + interval);
+    }
+    this.file = file;
+    this.parameters = Map.copyOf(parameters);
+    this.interval = interval;
+    this.components = List.copyOf(components);
+    this.instanceData = instanceData;
+    this.resume = resume;
+  }
+
+  /**
+   * Wraps the evaluation of the run, to restore the population.
+   *
+   * @param evaluation The evaluation of the run.
+   * @return The evaluation to give to the algorithm.
+   */
+  public Evaluation<SchedulePermutationSolution> evaluation(
+      Evaluation<SchedulePermutationSolution> evaluation) {
+    return new Evaluation<>() {
+      @Override
+      public List<SchedulePermutationSolution> evaluate(
+          List<SchedulePermutationSolution> solutionList) {
+        if (!started) {
+          started = true;
+          startMillis = System.currentTimeMillis();
+          var checkpoint = resume ? load() : null;
+          if (checkpoint != null) {
+            restore(checkpoint);
+            return new ArrayList<>(checkpoint.population());
+          }
+        }
+        restoredSize = 0;
+        return evaluation.evaluate(solutionList);
+      }
+
+      @Override
+      public int computedEvaluations() {
+        return restoring ? restoredSize : evaluation.computedEvaluations();
+      }
+
+      @Override
+      public Problem<SchedulePermutationSolution> problem() {
+        return evaluation.problem();
+      }
+    };
+  }
+
+  /**
+   * Wraps the termination of the run, to take the checkpoints.
+   *
+   * @param termination The termination of the run.
+   * @return The termination to give to the algorithm.
+   */
+  @SuppressWarnings("unchecked")
+  public Termination termination(Termination termination) {
+    return algorithmStatusData -> {
+      int reported = (int) algorithmStatusData.get(EVALUATIONS);
+      if (restoring) {
+        // The saved generation was already checked before the checkpoint.
+        restoring = false;
+        offset = evaluations - reported;
+        lastReported = reported;
+        return false;
+      }
+      if (reported < lastReported) {
+        // The algorithm runs again from scratch, as when a failed run is retried.
+        offset = 0;
+        generations = 0;
+      }
+      lastReported = reported;
+      evaluations = reported + offset;
+
+      var status = algorithmStatusData;
+      if (offset != 0) {
+        status = new HashMap<>(algorithmStatusData);
+        status.put(EVALUATIONS, evaluations);
+      }
+      boolean met = termination.isMet(status);
+      generations++;
+      if (!met && generations % interval == 0) {
+        save((List<SchedulePermutationSolution>) algorithmStatusData.get(POPULATION));
+      }
+      return met;
+    };
+  }
+
+  private Checkpoint load() {
+    if (!Files.exists(file)) {
+      LOG.info("There is no checkpoint {}, starting from scratch", file);
+      return null;
+    }
+    return CheckpointReader.read(file, instanceData);
+  }
+
+  private void restore(Checkpoint checkpoint) {
+    var names = new TreeSet<>(parameters.keySet());
+    names.addAll(checkpoint.parameters().keySet());
+    for (var name : names) {
+      var saved = checkpoint.parameters().get(name);
+      var current = parameters.get(name);
+      if (!Objects.equals(saved, current)) {
+        throw new CheckpointException(
+            file.toString(),
+            "it was written with " + name + " " + saved + " and the run has " + current);
+      }
+    }
+    if (checkpoint.states().size() != components.size()) {
+      throw new CheckpointException(
+          file.toString(),
+          "it has "
+              + checkpoint.states().size()
+              + " component states and the run has "
+              + components.size());
+    }
+    for (int i = 0; i < components.size(); i++) {
+      components.get(i).restore(checkpoint.states().get(i));
+    }
+    evaluations = checkpoint.evaluations();
+    generations = checkpoint.generations();
+    previousMillis = checkpoint.elapsedMillis();
+    restoredSize = checkpoint.population().size();
+    restoring = true;
+    LOG.info(
+        "Resuming from {} at generation {} with {} evaluations",
+        file,
+        generations,
+        evaluations);
+  }
+
+  private void save(List<SchedulePermutationSolution> population) {
+    if (pendingWrite != null && !pendingWrite.isDone()) {
+      LOG.debug("The previous checkpoint of {} is still being written, skipping", file);
+      return;
+    }
+    var states = components.stream().map(Checkpointable::checkpoint).toList();
+    var body =
+        CheckpointWriter.encode(
+            new Checkpoint(
+                parameters, evaluations, generations, elapsedMillis(), states, population));
+    pendingWrite =
+        WRITER.submit(
+            () -> {
+              try {
+                CheckpointWriter.save(file, body);
+              } catch (CheckpointException e) {
+                LOG.warn("The checkpoint could not be written, the run goes on", e);
+              }
+            });
+  }
+
+  /**
+   * Gets the evaluations at the last check, including the ones before resuming.
+   *
+   * @return The evaluations.
+   */
+  public int evaluations() {
+    return evaluations;
+  }
+
+  /**
+   * Gets the computing time of the run, including the time before resuming.
+   *
+   * @return The milliseconds since the run started.
+   */
+  public long elapsedMillis() {
+    return previousMillis + (started ? System.currentTimeMillis() - startMillis : 0);
+  }
+
+  /** Waits until the last checkpoint is on disk. */
+  @Override
+  public void close() {
+    if (pendingWrite == null) {
+      return;
+    }
+    try {
+      pendingWrite.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      LOG.warn("The checkpoint could not be written", e.getCause());
+    }
+  }
+}
@@ -0,0 +1,235 @@
+package com.uniovi.sercheduler.jmetal.evaluation;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import com.uniovi.sercheduler.service.FitnessCalculator;
+import com.uniovi.sercheduler.service.IncrementalSchedule;
+import com.uniovi.sercheduler.util.Checkpointable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
+import org.uma.jmetal.problem.Problem;
+
+/**
+ * Improves the best solutions of every evaluated list with a local search, turning the algorithm
+ * into a memetic one. The algorithms only evaluate the initial population and then the offspring,
+ * so the elite is the one of the offspring; the parents kept by the replacement are not searched
+ * again.
+ *
+ * <p>The elite fraction, by the first objective searched, tries to move the tasks of its critical
+ * path to every other host. A move is accepted when it improves at least one of the objectives
+ * searched without worsening the others, and the critical path is searched again from the new
+ * schedule until no move improves it or the budget of moves of the solution is spent. The moves are
+ * scored with an {@link IncrementalSchedule} of the simple model, so each one only recomputes the
+ * tasks it delays or advances. An improved solution is then evaluated once with the real fitness
+ * and replaces the original only if it is still better, so other fitness models just use the simple
+ * one as a guide. These evaluations are counted, the moves are not.
+ *
+ * <p>The counters are saved in the checkpoints of the run.
+ */
+public class MemeticEvaluation implements Evaluation<SchedulePermutationSolution>, Checkpointable {
+
+  static final Logger LOG = LoggerFactory.getLogger(MemeticEvaluation.class);
+
+  private final Evaluation<SchedulePermutationSolution> evaluation;
+  private final SchedulingProblem problem;
+  private final FitnessCalculator model;
+  private final List<Objective> objectives;
+  private final int[] indexes;
+  private final double eliteFraction;
+  private final int budget;
+  private int computedEvaluations;
+  private long movesTried;
+  private long improvements;
+
+  /**
+   * Full constructor.
+   *
+   * @param evaluation The evaluation of the offspring.
+   * @param problem The problem, to evaluate the improved solutions with the real fitness.
+   * @param model The simple calculator of the instance, to score the moves.
+   * @param objectives The objectives to improve, the first one ranks the elite.
+   * @param eliteFraction The fraction of each list of solutions evaluated that is improved.
+   * @param budget The moves tried at most for each solution.
+   */
+  public MemeticEvaluation(
+      Evaluation<SchedulePermutationSolution> evaluation,
+      SchedulingProblem problem,
+      FitnessCalculator model,
+      List<Objective> objectives,
+      double eliteFraction,
+      int budget) {
+    if (eliteFraction <= 0 || eliteFraction > 1) {
+      throw new IllegalArgumentException("The elite fraction must be in (0, 1]: " + eliteFraction);
+    }
+    if (budget < 1) {
+      throw new IllegalArgumentException("The budget must be at least 1: " + budget);
+    }
+    this.evaluation = evaluation;
+    this.problem = problem;
+    this.model = model;
+    this.objectives = objectives;
+    this.indexes = objectives.stream().mapToInt(problem.getObjectives()::indexOf).toArray();
+    this.eliteFraction = eliteFraction;
+    this.budget = budget;
+  }
+
+  @Override
+  public List<SchedulePermutationSolution> evaluate(
+      List<SchedulePermutationSolution> solutionList) {
+    // Some evaluations return another list, as the multi one that adds a copy for each arbiter,
+    // the elite is still a fraction of the solutions given.
+    int eliteSize = (int) Math.ceil(eliteFraction * solutionList.size());
+    var evaluated = new ArrayList<>(evaluation.evaluate(solutionList));
+
+    var candidates =
+        IntStream.range(0, evaluated.size())
+            .filter(i -> !evaluated.get(i).getFitnessInfo().isPruned())
+            .boxed()
+            .sorted(Comparator.comparingDouble(i -> evaluated.get(i).objectives()[indexes[0]]))
+            .toList();
+    var elite = candidates.subList(0, Math.min(candidates.size(), eliteSize));
+
+    var results = elite.parallelStream().map(i -> improve(evaluated.get(i))).toList();
+
+    int reevaluations = 0;
+    int replaced = 0;
+    for (int e = 0; e < elite.size(); e++) {
+      var result = results.get(e);
+      movesTried += result.moves();
+      if (result.solution() == null) {
+        continue;
+      }
+      reevaluations++;
+      var original = evaluated.get(elite.get(e));
+      if (dominates(objectives(result.solution()), objectives(original))) {
+        evaluated.set(elite.get(e), result.solution());
+        replaced++;
+      }
+    }
+    improvements += replaced;
+    computedEvaluations = evaluation.computedEvaluations() + reevaluations;
+    LOG.debug("The local search improved {} of {} elite solutions", replaced, elite.size());
+
+    return evaluated;
+  }
+
+  /** Searches the critical path of a solution, the improved copy is null when no move helps. */
+  private SearchResult improve(SchedulePermutationSolution solution) {
+    IncrementalSchedule schedule;
+    try {
+      schedule = new IncrementalSchedule(model, solution.getPlan());
+    } catch (IllegalArgumentException e) {
+      // Ties in the start times can leave a child before its parent in the evaluated plan.
+      LOG.debug("The plan cannot be searched: {}", e.getMessage());
+      return new SearchResult(null, 0);
+    }
+
+    var current = values(schedule);
+    int moves = 0;
+    boolean improved = false;
+    boolean moved = true;
+    while (moved && moves < budget) {
+      moved = false;
+      for (int position : schedule.criticalPath()) {
+        var host = schedule.hostOf(position);
+        for (var candidate : schedule.hosts()) {
+          if (candidate.getName().equals(host.getName()) || moves == budget) {
+            continue;
+          }
+          moves++;
+          var tried = schedule.tryHost(position, candidate);
+          var values = new double[objectives.size()];
+          for (int i = 0; i < values.length; i++) {
+            values[i] = objectives.get(i) == Objective.ENERGY ? tried[1] : tried[0];
+          }
+          if (dominates(values, current)) {
+            schedule.setHost(position, candidate);
+            current = values;
+            improved = true;
+            moved = true;
+            break;
+          }
+        }
+        if (moved) {
+          break;
+        }
+      }
+    }
+    if (!improved) {
+      return new SearchResult(null, moves);
+    }
+
+    var copy = (SchedulePermutationSolution) solution.copy();
+    copy.setPlan(schedule.plan());
+    problem.evaluate(copy);
+    return new SearchResult(copy, moves);
+  }
+
+  private double[] objectives(SchedulePermutationSolution solution) {
+    return IntStream.of(indexes).mapToDouble(i -> solution.objectives()[i]).toArray();
+  }
+
+  private double[] values(IncrementalSchedule schedule) {
+    return objectives.stream().mapToDouble(schedule::objective).toArray();
+  }
+
+  /** Tells if some objective is lower and none is higher. */
+  private static boolean dominates(double[] values, double[] reference) {
+    boolean better = false;
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] > reference[i]) {
+        return false;
+      }
+      better |= values[i] < reference[i];
+    }
+    return better;
+  }
+
+  private record SearchResult(SchedulePermutationSolution solution, int moves) {}
+
+  @Override
+  public int computedEvaluations() {
+    return computedEvaluations;
+  }
+
+  @Override
+  public Problem<SchedulePermutationSolution> problem() {
+    return evaluation.problem();
+  }
+
+  @Override
+  public long[] checkpoint() {
+    return new long[] {computedEvaluations, movesTried, improvements};
+  }
+
+  @Override
+  public void restore(long[] state) {
+    computedEvaluations = (int) state[0];
+    movesTried = state[1];
+    improvements = state[2];
+  }
+
+  /**
+   * Gets the moves scored so far.
+   *
+   * @return The number of host reassignments tried.
+   */
+  public long movesTried() {
+    return movesTried;
+  }
+
+  /**
+   * Gets the elite solutions replaced by an improved one so far.
+   *
+   * @return The number of replacements.
+   */
+  public long improvements() {
+    return improvements;
+  }
+}
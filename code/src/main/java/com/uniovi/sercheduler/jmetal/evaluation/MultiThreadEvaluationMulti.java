@@ -1,6 +1,7 @@
 package com.uniovi.sercheduler.jmetal.evaluation;
 
 import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
 import java.util.List;
 import java.util.stream.Stream;
 import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
@@ -14,9 +15,27 @@ public class MultiThreadEvaluationMulti implements Evaluation<SchedulePermutatio
   private final int numberOfThreads;
   private int computedEvaluations;
   private String alternativeArbiter;
+  private final PopulationDeduplicator deduplicator;
+  private final boolean singlePass;
 
   public MultiThreadEvaluationMulti(
       int numberOfThreads, Problem<SchedulePermutationSolution> problem, String alternativeArbiter) {
+    this(numberOfThreads, problem, alternativeArbiter, false);
+  }
+
+  /**
+   * Full constructor.
+   *
+   * @param numberOfThreads The number of threads, 0 to use all the processors.
+   * @param problem The problem to evaluate.
+   * @param alternativeArbiter The arbiter of the added solutions.
+   * @param singlePass Evaluates each plan once for both arbiters instead of evaluating a copy.
+   */
+  public MultiThreadEvaluationMulti(
+      int numberOfThreads,
+      Problem<SchedulePermutationSolution> problem,
+      String alternativeArbiter,
+      boolean singlePass) {
     Check.that(
         numberOfThreads >= 0, "The number of threads is a negative value: " + numberOfThreads);
     Check.notNull(problem);
@@ -30,6 +49,8 @@ public class MultiThreadEvaluationMulti implements Evaluation<SchedulePermutatio
     this.numberOfThreads = numberOfThreads;
     this.problem = problem;
     this.alternativeArbiter = alternativeArbiter;
+    this.deduplicator = new PopulationDeduplicator(problem);
+    this.singlePass = singlePass;
     computedEvaluations = 0;
   }
 
@@ -38,17 +59,36 @@ public class MultiThreadEvaluationMulti implements Evaluation<SchedulePermutatio
       List<SchedulePermutationSolution> solutionList) {
     Check.notNull(solutionList);
 
-    solutionList =
-        solutionList.stream()
-            .flatMap(
-                s -> {
-                  var copy = (SchedulePermutationSolution) s.copy();
-                  copy.setArbiter(alternativeArbiter);
+    if (singlePass && problem instanceof SchedulingProblem schedulingProblem) {
+      // The alternative solution shares the plan, it is filled from the same evaluation.
+      solutionList =
+          solutionList.stream()
+              .flatMap(
+                  s ->
+                      Stream.of(
+                          s,
+                          new SchedulePermutationSolution(
+                              s.variables().size(),
+                              s.objectives().length,
+                              null,
+                              s.getPlan(),
+                              alternativeArbiter)))
+              .toList();
+      deduplicator.evaluateByPlan(solutionList, schedulingProblem);
+    } else {
+      solutionList =
+          solutionList.stream()
+              .flatMap(
+                  s -> {
+                    var copy = (SchedulePermutationSolution) s.copy();
+                    copy.setArbiter(alternativeArbiter);
 
-                  return Stream.of(s, copy);
-                })
-            .toList();
-    solutionList.parallelStream().forEach(problem::evaluate);
+                    return Stream.of(s, copy);
+                  })
+              .toList();
+      deduplicator.evaluate(
+          solutionList, distinct -> distinct.parallelStream().forEach(problem::evaluate));
+    }
     computedEvaluations = solutionList.size();
 
     return solutionList;
@@ -59,6 +99,10 @@ public class MultiThreadEvaluationMulti implements Evaluation<SchedulePermutatio
     return computedEvaluations;
   }
 
+  public PopulationDeduplicator deduplicator() {
+    return deduplicator;
+  }
+
   public int numberOfThreads() {
     return numberOfThreads;
   }
@@ -14,6 +14,7 @@ public class MultiThreadedEvaluation implements Evaluation<SchedulePermutationSo
   private final Problem<SchedulePermutationSolution> problem;
   private final int numberOfThreads;
   private int computedEvaluations;
+  private final PopulationDeduplicator deduplicator;
 
   public MultiThreadedEvaluation(
       int numberOfThreads, Problem<SchedulePermutationSolution> problem) {
@@ -29,6 +30,7 @@ public class MultiThreadedEvaluation implements Evaluation<SchedulePermutationSo
 
     this.numberOfThreads = numberOfThreads;
     this.problem = problem;
+    this.deduplicator = new PopulationDeduplicator(problem);
     computedEvaluations = 0;
   }
 
@@ -41,7 +43,8 @@ public class MultiThreadedEvaluation implements Evaluation<SchedulePermutationSo
     ForkJoinPool customThreadPool = new ForkJoinPool(numberOfThreads);
       try {
           customThreadPool.submit(()->{
-            solutionList.parallelStream().forEach(problem::evaluate);
+            deduplicator.evaluate(
+                solutionList, distinct -> distinct.parallelStream().forEach(problem::evaluate));
           }).get();
       } catch (InterruptedException | ExecutionException e) {
           throw new RuntimeException(e);
@@ -59,6 +62,10 @@ public class MultiThreadedEvaluation implements Evaluation<SchedulePermutationSo
     return computedEvaluations;
   }
 
+  public PopulationDeduplicator deduplicator() {
+    return deduplicator;
+  }
+
   public int numberOfThreads() {
     return numberOfThreads;
   }
@@ -0,0 +1,158 @@
+package com.uniovi.sercheduler.jmetal.evaluation;
+
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import com.uniovi.sercheduler.service.PlanPair;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uma.jmetal.problem.Problem;
+
+/**
+ * Groups the identical genotypes of a population so each distinct one is evaluated only once.
+ *
+ * <p>Two solutions are identical when they have the same plan and their arbiters share the same
+ * calculators. The result of the evaluated solution is copied to the rest of its group.
+ */
+public class PopulationDeduplicator {
+
+  static final Logger LOG = LoggerFactory.getLogger(PopulationDeduplicator.class);
+
+  private final Problem<SchedulePermutationSolution> problem;
+  private final List<Double> duplicateRatios;
+  private int distinctEvaluations;
+
+  /**
+   * Full constructor.
+   *
+   * @param problem The problem used to evaluate, needed to know how the arbiters are grouped.
+   */
+  public PopulationDeduplicator(Problem<SchedulePermutationSolution> problem) {
+    this.problem = problem;
+    this.duplicateRatios = new ArrayList<>();
+    this.distinctEvaluations = 0;
+  }
+
+  /**
+   * Evaluates the population, computing only one solution of each group of identical genotypes.
+   *
+   * @param solutionList The population to evaluate.
+   * @param evaluator Evaluates the list of distinct solutions.
+   * @return The same population, fully evaluated.
+   */
+  public List<SchedulePermutationSolution> evaluate(
+      List<SchedulePermutationSolution> solutionList,
+      Consumer<List<SchedulePermutationSolution>> evaluator) {
+
+    var groups = new LinkedHashMap<Genotype, List<SchedulePermutationSolution>>();
+    for (var solution : solutionList) {
+      groups
+          .computeIfAbsent(
+              new Genotype(solution.getPlan(), arbiterGroup(solution.getArbiter())),
+              k -> new ArrayList<>(2))
+          .add(solution);
+    }
+
+    var distinct = groups.values().stream().map(g -> g.get(0)).toList();
+    evaluator.accept(distinct);
+
+    // Fan out the result of the evaluated solution to the rest of the group.
+    for (var group : groups.values()) {
+      var evaluated = group.get(0);
+      for (int i = 1; i < group.size(); i++) {
+        var duplicate = group.get(i);
+        duplicate.setPlan(evaluated.getPlan());
+        duplicate.setFitnessInfo(evaluated.getFitnessInfo());
+        System.arraycopy(
+            evaluated.objectives(), 0, duplicate.objectives(), 0, evaluated.objectives().length);
+      }
+    }
+
+    recordGeneration(distinct.size(), solutionList.size());
+
+    return solutionList;
+  }
+
+  /**
+   * Evaluates the population grouping the solutions only by plan. Each distinct plan is evaluated
+   * once for all the arbiters found in its group, in parallel.
+   *
+   * @param solutionList The population to evaluate.
+   * @param schedulingProblem The problem that evaluates the plans.
+   * @return The same population, fully evaluated.
+   */
+  public List<SchedulePermutationSolution> evaluateByPlan(
+      List<SchedulePermutationSolution> solutionList, SchedulingProblem schedulingProblem) {
+
+    var groups = new LinkedHashMap<List<PlanPair>, List<SchedulePermutationSolution>>();
+    for (var solution : solutionList) {
+      groups.computeIfAbsent(solution.getPlan(), k -> new ArrayList<>(2)).add(solution);
+    }
+
+    groups.values().parallelStream()
+        .forEach(
+            group -> {
+              var arbiters = new LinkedHashSet<String>();
+              group.forEach(s -> arbiters.add(s.getArbiter()));
+
+              var fitnessByArbiter = schedulingProblem.evaluateByArbiter(group.get(0), arbiters);
+              for (var solution : group) {
+                schedulingProblem.applyFitness(
+                    solution, fitnessByArbiter.get(solution.getArbiter()));
+              }
+            });
+
+    recordGeneration(groups.size(), solutionList.size());
+
+    return solutionList;
+  }
+
+  private void recordGeneration(int distinct, int total) {
+    distinctEvaluations += distinct;
+    double duplicateRatio = total == 0 ? 0D : 1D - (double) distinct / total;
+    duplicateRatios.add(duplicateRatio);
+    LOG.debug(
+        "Generation {}: {} distinct of {} solutions, duplicate ratio {}",
+        duplicateRatios.size(),
+        distinct,
+        total,
+        duplicateRatio);
+  }
+
+  private String arbiterGroup(String arbiter) {
+    if (problem instanceof SchedulingProblem schedulingProblem) {
+      return schedulingProblem.getFitnessCalculator().arbiterGroup(arbiter);
+    }
+    return arbiter;
+  }
+
+  /**
+   * The ratio of duplicated solutions found in each evaluated generation.
+   *
+   * @return The ratios in generation order.
+   */
+  public List<Double> duplicateRatios() {
+    return List.copyOf(duplicateRatios);
+  }
+
+  /**
+   * The number of solutions that were really evaluated.
+   *
+   * @return The number of distinct evaluations.
+   */
+  public int distinctEvaluations() {
+    return distinctEvaluations;
+  }
+
+  /**
+   * Key of a solution, the task and host of each position and the group of the arbiter.
+   *
+   * @param plan The plan of the solution.
+   * @param arbiterGroup The group of the arbiter.
+   */
+  private record Genotype(List<PlanPair> plan, String arbiterGroup) {}
+}
@@ -0,0 +1,223 @@
+package com.uniovi.sercheduler.jmetal.evaluation;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.service.FitnessCalculator;
+import com.uniovi.sercheduler.service.FitnessInfo;
+import com.uniovi.sercheduler.util.Checkpointable;
+import com.uniovi.sercheduler.util.RankCorrelation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
+import org.uma.jmetal.problem.Problem;
+
+/**
+ * Scores the offspring with a cheap proxy fitness and only evaluates the most promising fraction
+ * with the real one. The rest get every objective at infinity, so they never survive the
+ * replacement, and they do not count as evaluations.
+ *
+ * <p>The proxy is trusted only while its ranking agrees with the real one. The first population
+ * and one generation in ten are evaluated in full to measure the Spearman correlation of both
+ * rankings. When it drops below the minimum every generation is evaluated in full, measuring the
+ * correlation each time, until it recovers. The calibration schedule and the counters are saved in
+ * the checkpoints of the run, and the experiments write the correlations next to the front.
+ */
+public class PrescreeningEvaluation
+    implements Evaluation<SchedulePermutationSolution>, Checkpointable {
+
+  static final Logger LOG = LoggerFactory.getLogger(PrescreeningEvaluation.class);
+
+  private static final int CALIBRATION_INTERVAL = 10;
+
+  private final Evaluation<SchedulePermutationSolution> fullEvaluation;
+  private final FitnessCalculator proxy;
+  private final List<Objective> objectives;
+  private final double fraction;
+  private final double minCorrelation;
+  private final List<Double> correlations;
+  private int generation;
+  private boolean fallback;
+  private int computedEvaluations;
+  private int screenedOut;
+
+  /**
+   * Full constructor.
+   *
+   * @param fullEvaluation The evaluation with the real fitness.
+   * @param proxy The cheap calculator, for example the simple one.
+   * @param objectives The objectives to rank by, the sum of the ranks of each one is the score.
+   * @param fraction The fraction of the offspring evaluated with the real fitness.
+   * @param minCorrelation The correlation below which the proxy is not used.
+   */
+  public PrescreeningEvaluation(
+      Evaluation<SchedulePermutationSolution> fullEvaluation,
+      FitnessCalculator proxy,
+      List<Objective> objectives,
+      double fraction,
+      double minCorrelation) {
+    if (fraction <= 0 || fraction > 1) {
+      throw new IllegalArgumentException("The fraction must be in (0, 1]: " + fraction);
+    }
+    this.fullEvaluation = fullEvaluation;
+    this.proxy = proxy;
+    this.objectives = objectives;
+    this.fraction = fraction;
+    this.minCorrelation = minCorrelation;
+    this.correlations = new ArrayList<>();
+  }
+
+  @Override
+  public List<SchedulePermutationSolution> evaluate(
+      List<SchedulePermutationSolution> solutionList) {
+    var proxyFitness =
+        solutionList.parallelStream().map(s -> proxy.calculateFitness(s).fitness()).toList();
+    var proxyScores = scores(proxyFitness);
+
+    boolean calibration = fallback || generation % CALIBRATION_INTERVAL == 0;
+    generation++;
+    if (calibration) {
+      var evaluated = fullEvaluation.evaluate(solutionList);
+      computedEvaluations = fullEvaluation.computedEvaluations();
+      calibrate(proxyScores, solutionList);
+      return evaluated;
+    }
+
+    int promising = (int) Math.ceil(fraction * solutionList.size());
+    var order =
+        IntStream.range(0, solutionList.size())
+            .boxed()
+            .sorted(Comparator.comparingDouble(i -> proxyScores[i]))
+            .toList();
+
+    var selected = new ArrayList<SchedulePermutationSolution>(promising);
+    var discarded = new ArrayList<SchedulePermutationSolution>(solutionList.size() - promising);
+    for (int i = 0; i < order.size(); i++) {
+      var solution = solutionList.get(order.get(i));
+      if (i < promising) {
+        selected.add(solution);
+      } else {
+        solution.setFitnessInfo(FitnessInfo.pruned(proxy.fitnessName()));
+        Arrays.fill(solution.objectives(), Double.POSITIVE_INFINITY);
+        discarded.add(solution);
+      }
+    }
+    var evaluated = fullEvaluation.evaluate(selected);
+    computedEvaluations = fullEvaluation.computedEvaluations();
+    screenedOut += discarded.size();
+
+    if (evaluated == selected) {
+      // Evaluated in place, the offspring keep their order for the replacement.
+      return solutionList;
+    }
+    // The evaluation added solutions, as the multi one does for its alternative arbiter.
+    var merged = new ArrayList<SchedulePermutationSolution>(evaluated);
+    merged.addAll(discarded);
+    return merged;
+  }
+
+  private void calibrate(double[] proxyScores, List<SchedulePermutationSolution> solutionList) {
+    var realScores =
+        scores(solutionList.stream().map(s -> s.getFitnessInfo().fitness()).toList());
+    double correlation = RankCorrelation.spearman(proxyScores, realScores);
+    correlations.add(correlation);
+    LOG.debug("Proxy correlation {} in generation {}", correlation, generation);
+
+    boolean wasFallback = fallback;
+    fallback = correlation < minCorrelation;
+    if (fallback && !wasFallback) {
+      LOG.info(
+          "The proxy correlation dropped to {} in generation {}, evaluating in full",
+          correlation,
+          generation);
+    } else if (!fallback && wasFallback) {
+      LOG.info(
+          "The proxy correlation recovered to {} in generation {}, pre-screening again",
+          correlation,
+          generation);
+    }
+  }
+
+  /** Sums the rank of each solution in every objective, lower is better. */
+  private double[] scores(List<Map<String, Double>> fitness) {
+    var scores = new double[fitness.size()];
+    var values = new double[fitness.size()];
+    for (var objective : objectives) {
+      for (int i = 0; i < values.length; i++) {
+        values[i] = fitness.get(i).get(objective.objectiveName);
+      }
+      var ranks = RankCorrelation.ranks(values);
+      for (int i = 0; i < scores.length; i++) {
+        scores[i] += ranks[i];
+      }
+    }
+    return scores;
+  }
+
+  @Override
+  public int computedEvaluations() {
+    return computedEvaluations;
+  }
+
+  @Override
+  public Problem<SchedulePermutationSolution> problem() {
+    return fullEvaluation.problem();
+  }
+
+  @Override
+  public long[] checkpoint() {
+    var state = new long[4 + correlations.size()];
+    state[0] = generation;
+    state[1] = fallback ? 1 : 0;
+    state[2] = computedEvaluations;
+    state[3] = screenedOut;
+    for (int i = 0; i < correlations.size(); i++) {
+      state[4 + i] = Double.doubleToRawLongBits(correlations.get(i));
+    }
+    return state;
+  }
+
+  @Override
+  public void restore(long[] state) {
+    generation = (int) state[0];
+    fallback = state[1] != 0;
+    computedEvaluations = (int) state[2];
+    screenedOut = (int) state[3];
+    correlations.clear();
+    for (int i = 4; i < state.length; i++) {
+      correlations.add(Double.longBitsToDouble(state[i]));
+    }
+  }
+
+  /**
+   * Gets the correlations measured so far, one per calibration.
+   *
+   * @return The Spearman correlations between the proxy and the real ranking.
+   */
+  public List<Double> correlations() {
+    return List.copyOf(correlations);
+  }
+
+  /**
+   * Gets the solutions discarded by the proxy without a real evaluation.
+   *
+   * @return The number of solutions.
+   */
+  public int screenedOut() {
+    return screenedOut;
+  }
+
+  /**
+   * Tells if the proxy is not being used because its correlation is too low.
+   *
+   * @return True while every solution is evaluated in full.
+   */
+  public boolean isFallback() {
+    return fallback;
+  }
+}
@@ -1,68 +1,277 @@
 package com.uniovi.sercheduler.jmetal.experiment;
 
+import com.uniovi.sercheduler.jmetal.algorithm.ConvergenceTermination;
+import com.uniovi.sercheduler.jmetal.archive.ArchivingExperimentAlgorithm;
+import com.uniovi.sercheduler.jmetal.evaluation.PrescreeningEvaluation;
 import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.service.statistics.RunPrescreening;
+import com.uniovi.sercheduler.service.statistics.RunTermination;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.uma.jmetal.lab.experiment.Experiment;
 import org.uma.jmetal.lab.experiment.component.impl.ExecuteAlgorithms;
 import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
-import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
-import java.io.File;
-import java.util.List;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ForkJoinPool;
-
+/**
+ * Executes the runs of an experiment longest first on a pool that lives for the whole experiment.
+ *
+ * <p>Each finished run is recorded in a ledger inside the experiment directory, a killed sweep
+ * started again only executes the runs missing from the ledger. jMetal only logs the exceptions of
+ * a run, so a run is finished when it wrote its front and its solutions, the others are retried.
+ * The runs with a {@link ConvergenceTermination} record why they stopped next to their front, the
+ * runs with a {@link PrescreeningEvaluation} the correlations of its proxy, and their progress can
+ * be published with {@link SweepMetrics}.
+ */
 public class ExecuteAlgorithmsCustom
     extends ExecuteAlgorithms<SchedulePermutationSolution, List<SchedulePermutationSolution>> {
 
+  static final Logger LOG = LoggerFactory.getLogger(ExecuteAlgorithmsCustom.class);
+
+  static final String LEDGER_FILE = "runs.ledger";
+
+  static final int MAX_RETRIES = 5;
+
   private Experiment<SchedulePermutationSolution, List<SchedulePermutationSolution>> experiment;
+  private final Map<ExperimentAlgorithm<?, ?>, ConvergenceTermination> terminations;
+  private final Map<ExperimentAlgorithm<?, ?>, PrescreeningEvaluation> prescreenings;
+  private final SweepMetrics metrics;
 
   public ExecuteAlgorithmsCustom(
       Experiment<SchedulePermutationSolution, List<SchedulePermutationSolution>> configuration) {
+    this(configuration, Map.of());
+  }
+
+  /**
+   * Constructor for runs whose termination is recorded.
+   *
+   * @param configuration The experiment.
+   * @param terminations The termination of each run, the runs missing are not recorded.
+   */
+  public ExecuteAlgorithmsCustom(
+      Experiment<SchedulePermutationSolution, List<SchedulePermutationSolution>> configuration,
+      Map<ExperimentAlgorithm<?, ?>, ConvergenceTermination> terminations) {
+    this(configuration, terminations, null);
+  }
+
+  /**
+   * Constructor for runs whose termination is recorded and whose progress is published.
+   *
+   * @param configuration The experiment.
+   * @param terminations The termination of each run, the runs missing are not recorded.
+   * @param metrics The metrics to update, null for none.
+   */
+  public ExecuteAlgorithmsCustom(
+      Experiment<SchedulePermutationSolution, List<SchedulePermutationSolution>> configuration,
+      Map<ExperimentAlgorithm<?, ?>, ConvergenceTermination> terminations,
+      SweepMetrics metrics) {
+    this(configuration, terminations, Map.of(), metrics);
+  }
+
+  /**
+   * Full constructor.
+   *
+   * @param configuration The experiment.
+   * @param terminations The termination of each run, the runs missing are not recorded.
+   * @param prescreenings The pre-screening of each run, the runs missing do not use it.
+   * @param metrics The metrics to update, null for none.
+   */
+  public ExecuteAlgorithmsCustom(
+      Experiment<SchedulePermutationSolution, List<SchedulePermutationSolution>> configuration,
+      Map<ExperimentAlgorithm<?, ?>, ConvergenceTermination> terminations,
+      Map<ExperimentAlgorithm<?, ?>, PrescreeningEvaluation> prescreenings,
+      SweepMetrics metrics) {
     super(configuration);
     this.experiment = configuration;
+    this.terminations = terminations;
+    this.prescreenings = prescreenings;
+    this.metrics = metrics;
   }
 
   @Override
   public void run() {
-    JMetalLogger.logger.info("ExecuteAlgorithms: Preparing output directory");
+    LOG.info("ExecuteAlgorithms: Preparing output directory");
     this.prepareOutputDirectory();
-    // Create a custom ForkJoinPool with the desired parallelism level
-    ForkJoinPool customThreadPool = new ForkJoinPool(this.experiment.getNumberOfCores());
 
-    int retryCounter = 0;
-    int maxRetries = 5;
-    boolean computationNotFinished = true;
+    Map<String, Problem<?>> problemsByTag = new HashMap<>();
+    for (var problem : experiment.getProblemList()) {
+      problemsByTag.put(problem.getTag(), problem.getProblem());
+    }
+    var costEstimator = new RunCostEstimator(problemsByTag);
 
-    while (computationNotFinished && retryCounter < maxRetries) {
-      List<ExperimentAlgorithm<?, ?>> unfinishedAlgorithmList = this.checkTaskStatus();
-      if (unfinishedAlgorithmList.isEmpty()) {
-        computationNotFinished = false;
-      } else {
-        JMetalLogger.logger.info(
-            "ExecuteAlgorithms: there are " + unfinishedAlgorithmList.size() + " runs pending");
+    ExecutorService pool = Executors.newFixedThreadPool(experiment.getNumberOfCores());
+    try (var ledger =
+        new RunLedger(Path.of(experiment.getExperimentBaseDirectory(), LEDGER_FILE))) {
+
+      if (metrics != null) {
+        metrics.sweepStarted(
+            ledger,
+            pool instanceof ThreadPoolExecutor threadPool ? threadPool : null,
+            experiment.getAlgorithmList().size());
+      }
+
+      int retryCounter = 0;
+      var pending = pendingRuns(ledger, costEstimator);
+      LOG.info(
+          "ExecuteAlgorithms: {} runs already finished",
+          experiment.getAlgorithmList().size() - pending.size());
+
+      while (!pending.isEmpty() && retryCounter < MAX_RETRIES) {
+        LOG.info("ExecuteAlgorithms: there are {} runs pending", pending.size());
+
+        // The pool takes the tasks in submission order, so the longest runs start first.
+        var futures = new ArrayList<Future<?>>(pending.size());
+        for (var algorithm : pending) {
+          futures.add(
+              pool.submit(
+                  () -> {
+                    if (metrics != null) {
+                      metrics.runStarted(algorithm);
+                    }
+                    try {
+                      deleteOutput(algorithm);
+                      algorithm.runAlgorithm(experiment);
+                      checkOutput(algorithm);
+                      recordTermination(algorithm);
+                      recordPrescreening(algorithm);
+                      ledger.markFinished(algorithm);
+                    } finally {
+                      if (metrics != null) {
+                        metrics.runEnded(algorithm);
+                      }
+                    }
+                  }));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
           try {
-              customThreadPool.submit(() -> {
-                unfinishedAlgorithmList.parallelStream().forEach((algorithm) -> algorithm.runAlgorithm(this.experiment));
-              }).get();
-          } catch (InterruptedException | ExecutionException e) {
-              throw new RuntimeException(e);
-          } finally {
-            customThreadPool.shutdown(); // Shut down the custom thread pool
+            futures.get(i).get();
+          } catch (ExecutionException e) {
+            var algorithm = pending.get(i);
+            LOG.error(
+                "Run {} of {} on {} failed",
+                algorithm.getRunId(),
+                algorithm.getAlgorithmTag(),
+                algorithm.getProblemTag(),
+                e.getCause());
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
           }
-          ++retryCounter;
+        }
+
+        pending = pendingRuns(ledger, costEstimator);
+        ++retryCounter;
       }
+
+      if (!pending.isEmpty()) {
+        LOG.error("There are {} unfinished runs after {} tries", pending.size(), MAX_RETRIES);
+      } else {
+        LOG.info("Algorithm runs finished. Number of tries: {}", retryCounter);
+      }
+    } finally {
+      pool.shutdown();
     }
+  }
 
-    if (computationNotFinished) {
-      JMetalLogger.logger.severe("There are unfinished tasks after " + maxRetries + " tries");
-    } else {
-      JMetalLogger.logger.info("Algorithm runs finished. Number of tries: " + retryCounter);
+  /** Deletes what a failed try of the run left, so it is not taken as its output. */
+  private void deleteOutput(ExperimentAlgorithm<?, ?> algorithm) {
+    try {
+      for (var file : outputFiles(algorithm)) {
+        Files.deleteIfExists(file);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
     }
   }
 
+  /** Fails the run when it wrote no front or no solutions, the sign of a swallowed exception. */
+  private void checkOutput(ExperimentAlgorithm<?, ?> algorithm) {
+    var files = outputFiles(algorithm);
+    try {
+      if (isEmpty(files.get(0)) || (isEmpty(files.get(1)) && isEmpty(files.get(2)))) {
+        throw new IllegalStateException("The run wrote no front in " + runDirectory(algorithm));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 
+  private static boolean isEmpty(Path file) throws IOException {
+    return !Files.exists(file) || Files.size(file) == 0;
+  }
 
+  /** The FUN file, the VAR file and the archive that replaces it. */
+  private List<Path> outputFiles(ExperimentAlgorithm<?, ?> algorithm) {
+    var directory = runDirectory(algorithm);
+    var runId = algorithm.getRunId();
+    return List.of(
+        directory.resolve(experiment.getOutputParetoFrontFileName() + runId + ".csv"),
+        directory.resolve(experiment.getOutputParetoSetFileName() + runId + ".csv"),
+        directory.resolve(
+            experiment.getOutputParetoSetFileName()
+                + runId
+                + ArchivingExperimentAlgorithm.ARCHIVE_EXTENSION));
+  }
+
+  private void recordTermination(ExperimentAlgorithm<?, ?> algorithm) {
+    var termination = terminations.get(algorithm);
+    if (termination == null || termination.reason() == null) {
+      return;
+    }
+    new RunTermination(termination.reason(), termination.evaluations())
+        .write(RunTermination.file(runDirectory(algorithm), algorithm.getRunId()));
+  }
+
+  private void recordPrescreening(ExperimentAlgorithm<?, ?> algorithm) {
+    var prescreening = prescreenings.get(algorithm);
+    if (prescreening == null) {
+      return;
+    }
+    new RunPrescreening(prescreening.screenedOut(), prescreening.correlations())
+        .write(RunPrescreening.file(runDirectory(algorithm), algorithm.getRunId()));
+  }
+
+  private Path runDirectory(ExperimentAlgorithm<?, ?> algorithm) {
+    return Path.of(
+        experiment.getExperimentBaseDirectory(),
+        "data",
+        algorithm.getAlgorithmTag(),
+        algorithm.getProblemTag());
+  }
+
+  private List<ExperimentAlgorithm<SchedulePermutationSolution, List<SchedulePermutationSolution>>>
+      pendingRuns(RunLedger ledger, RunCostEstimator costEstimator) {
+    var pending =
+        new ArrayList<
+            ExperimentAlgorithm<SchedulePermutationSolution, List<SchedulePermutationSolution>>>();
+    for (var algorithm : experiment.getAlgorithmList()) {
+      if (!ledger.isFinished(algorithm)) {
+        pending.add(algorithm);
+      }
+    }
+    pending.sort(
+        (a, b) ->
+            Double.compare(
+                costEstimator.estimate(b.getProblemTag(), b.getAlgorithmTag()),
+                costEstimator.estimate(a.getProblemTag(), a.getAlgorithmTag())));
+    return pending;
+  }
 
   private void prepareOutputDirectory() {
     if (this.experimentDirectoryDoesNotExist()) {
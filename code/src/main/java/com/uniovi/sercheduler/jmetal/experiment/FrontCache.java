@@ -0,0 +1,142 @@
+package com.uniovi.sercheduler.jmetal.experiment;
+
+import com.uniovi.sercheduler.util.FastDoubleParser;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.uma.jmetal.util.NormalizeUtils;
+
+/**
+ * Fronts written by the runs of an experiment. Every FUN file is read once, and normalized once
+ * with the bounds of the reference front of its problem.
+ */
+class FrontCache {
+
+  private final String experimentBaseDirectory;
+  private final String outputParetoFrontFileName;
+  private final Map<String, double[][]> fronts = new ConcurrentHashMap<>();
+  private final Map<String, double[][]> normalizedFronts = new ConcurrentHashMap<>();
+
+  /**
+   * Full constructor.
+   *
+   * @param experimentBaseDirectory The directory of the experiment.
+   * @param outputParetoFrontFileName The prefix of the front files, usually FUN.
+   */
+  FrontCache(String experimentBaseDirectory, String outputParetoFrontFileName) {
+    this.experimentBaseDirectory = experimentBaseDirectory;
+    this.outputParetoFrontFileName = outputParetoFrontFileName;
+  }
+
+  /**
+   * Gets the front of a run, reading it the first time.
+   *
+   * @param algorithm The tag of the algorithm.
+   * @param problem The tag of the problem.
+   * @param run The id of the run.
+   * @return The objectives of each solution.
+   */
+  double[][] front(String algorithm, String problem, int run) {
+    return fronts.computeIfAbsent(
+        key(algorithm, problem, run), k -> read(file(algorithm, problem, run)));
+  }
+
+  /**
+   * Gets the front of a run normalized with the given bounds, normalizing it the first time. The
+   * bounds of a problem must be the same in every call.
+   *
+   * @param algorithm The tag of the algorithm.
+   * @param problem The tag of the problem.
+   * @param run The id of the run.
+   * @param minimumValues The minimum of each objective in the reference front.
+   * @param maximumValues The maximum of each objective in the reference front.
+   * @return The normalized objectives of each solution.
+   */
+  double[][] normalizedFront(
+      String algorithm, String problem, int run, double[] minimumValues, double[] maximumValues) {
+    return normalizedFronts.computeIfAbsent(
+        key(algorithm, problem, run),
+        k ->
+            NormalizeUtils.normalize(
+                front(algorithm, problem, run), minimumValues, maximumValues));
+  }
+
+  Path file(String algorithm, String problem, int run) {
+    var fileName = outputParetoFrontFileName + run + ".csv";
+    return Path.of(experimentBaseDirectory, "data", algorithm, problem, fileName);
+  }
+
+  private static String key(String algorithm, String problem, int run) {
+    return algorithm + '/' + problem + '/' + run;
+  }
+
+  /**
+   * Reads a front, one solution per line with the objectives separated by commas.
+   *
+   * @param file The file of the front.
+   * @return The objectives of each solution.
+   */
+  static double[][] read(Path file) {
+    byte[] bytes;
+    try {
+      bytes = Files.readAllBytes(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    var rows = new ArrayList<double[]>();
+    var row = new double[4];
+    int position = 0;
+    while (position < bytes.length) {
+      int lineEnd = position;
+      while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+        lineEnd++;
+      }
+
+      int columns = 0;
+      int fieldStart = position;
+      while (fieldStart < lineEnd) {
+        int fieldEnd = fieldStart;
+        while (fieldEnd < lineEnd && bytes[fieldEnd] != ',') {
+          fieldEnd++;
+        }
+        int from = fieldStart;
+        int to = fieldEnd;
+        while (from < to && bytes[from] <= ' ') {
+          from++;
+        }
+        while (to > from && bytes[to - 1] <= ' ') {
+          to--;
+        }
+        if (from < to) {
+          if (columns == row.length) {
+            row = Arrays.copyOf(row, columns * 2);
+          }
+          row[columns++] = FastDoubleParser.parse(bytes, from, to);
+        }
+        fieldStart = fieldEnd + 1;
+      }
+      if (columns > 0) {
+        rows.add(Arrays.copyOf(row, columns));
+      }
+
+      position = lineEnd + 1;
+    }
+
+    return rows.toArray(new double[0][]);
+  }
+
+  /**
+   * Gets the number of fronts read so far.
+   *
+   * @return The number of FUN files read.
+   */
+  int size() {
+    return fronts.size();
+  }
+}
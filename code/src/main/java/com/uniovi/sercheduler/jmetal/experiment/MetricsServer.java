@@ -0,0 +1,81 @@
+package com.uniovi.sercheduler.jmetal.experiment;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves the {@link SweepMetrics} of a sweep on /metrics, only on the loopback interface, from a
+ * single daemon thread so it never competes with the runs.
+ */
+public class MetricsServer implements AutoCloseable {
+
+  static final Logger LOG = LoggerFactory.getLogger(MetricsServer.class);
+
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  /**
+   * Starts the server.
+   *
+   * @param port The local port, 0 to choose a free one.
+   * @param metrics The metrics to serve.
+   */
+  public MetricsServer(int port, SweepMetrics metrics) {
+    try {
+      server =
+          HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    executor =
+        Executors.newSingleThreadExecutor(
+            r -> {
+              var thread = new Thread(r, "metrics-server");
+              thread.setDaemon(true);
+              return thread;
+            });
+    server.createContext("/metrics", exchange -> respond(exchange, metrics));
+    server.setExecutor(executor);
+    server.start();
+    LOG.info("Serving the metrics on http://localhost:{}/metrics", port());
+  }
+
+  private static void respond(HttpExchange exchange, SweepMetrics metrics) throws IOException {
+    try (exchange) {
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(405, -1);
+        return;
+      }
+      var body = metrics.render().getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+    }
+  }
+
+  /**
+   * Gets the port the server listens on.
+   *
+   * @return The port.
+   */
+  public int port() {
+    return server.getAddress().getPort();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,348 @@
+package com.uniovi.sercheduler.jmetal.experiment;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uma.jmetal.lab.experiment.Experiment;
+import org.uma.jmetal.lab.experiment.component.ExperimentComponent;
+import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.NormalizeUtils;
+
+/**
+ * Replaces the reference front generation and the quality indicator computation of jMetal with a
+ * parallel pipeline that writes the same files.
+ *
+ * <p>The reference front of each problem is computed in parallel, then every combination of
+ * indicator, algorithm and problem. Each FUN file is read and normalized only once for all the
+ * indicators, and each task gets its own instance of the indicator because they are not thread
+ * safe.
+ *
+ * @param <S> The type of the solutions.
+ * @param <R> The type of the result of the algorithms.
+ */
+public class ParallelQualityAnalysis<S extends Solution<?>, R extends List<S>>
+    implements ExperimentComponent {
+
+  static final Logger LOG = LoggerFactory.getLogger(ParallelQualityAnalysis.class);
+
+  private final Experiment<S, R> experiment;
+  private final List<Supplier<QualityIndicator>> indicators;
+
+  /**
+   * Full constructor.
+   *
+   * @param experiment The experiment, with its runs already done.
+   * @param indicators Creates the indicators, in the same order as the ones of the experiment.
+   */
+  public ParallelQualityAnalysis(
+      Experiment<S, R> experiment, List<Supplier<QualityIndicator>> indicators) {
+    this.experiment = experiment;
+    this.indicators = indicators;
+  }
+
+  @Override
+  public void run() throws IOException {
+    experiment.removeDuplicatedAlgorithms();
+    List<String> algorithms =
+        experiment.getAlgorithmList().stream()
+            .map(ExperimentAlgorithm::getAlgorithmTag)
+            .distinct()
+            .toList();
+    var problems = experiment.getProblemList();
+    var cache =
+        new FrontCache(
+            experiment.getExperimentBaseDirectory(), experiment.getOutputParetoFrontFileName());
+
+    try {
+      Files.createDirectories(Path.of(experiment.getReferenceFrontDirectory()));
+
+      Map<String, double[][]> referenceFronts = new ConcurrentHashMap<>();
+      problems.parallelStream()
+          .forEach(p -> referenceFronts.put(p.getTag(), referenceFront(p, algorithms, cache)));
+
+      var names = indicators.stream().map(i -> i.get().name()).toList();
+      var tasks = new ArrayList<int[]>();
+      for (int i = 0; i < indicators.size(); i++) {
+        for (int a = 0; a < algorithms.size(); a++) {
+          for (int p = 0; p < problems.size(); p++) {
+            tasks.add(new int[] {i, a, p});
+          }
+        }
+      }
+
+      var values =
+          tasks.parallelStream()
+              .map(
+                  t ->
+                      indicatorValues(
+                          indicators.get(t[0]).get(),
+                          algorithms.get(t[1]),
+                          problems.get(t[2]).getTag(),
+                          referenceFronts.get(problems.get(t[2]).getTag()),
+                          cache))
+              .toList();
+
+      for (int k = 0; k < tasks.size(); k++) {
+        var task = tasks.get(k);
+        var indicator = indicators.get(task[0]).get();
+        var algorithm = algorithms.get(task[1]);
+        var problem = problems.get(task[2]).getTag();
+        writeIndicatorFile(algorithm, problem, names.get(task[0]), values.get(k));
+        copyBestAndMedianFronts(algorithm, problem, indicator, values.get(k));
+      }
+      writeSummaryFile(tasks, values, names, algorithms);
+
+      LOG.info(
+          "Computed {} indicators over {} fronts for {} problems",
+          indicators.size(),
+          cache.size(),
+          problems.size());
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Computes the reference front of a problem with the non dominated solutions of every run, writes
+   * it along the solutions contributed by each algorithm and sets it in the problem.
+   */
+  private double[][] referenceFront(
+      ExperimentProblem<S> problem, List<String> algorithms, FrontCache cache) {
+    var points = new ArrayList<double[]>();
+    var owners = new ArrayList<Integer>();
+    for (int a = 0; a < algorithms.size(); a++) {
+      for (int run = 0; run < experiment.getIndependentRuns(); run++) {
+        for (var point : cache.front(algorithms.get(a), problem.getTag(), run)) {
+          points.add(point);
+          owners.add(a);
+        }
+      }
+    }
+
+    var kept = nonDominated(points.toArray(new double[0][]));
+    var front = new double[kept.length][];
+    for (int i = 0; i < kept.length; i++) {
+      front[i] = points.get(kept[i]);
+    }
+
+    var directory = experiment.getReferenceFrontDirectory();
+    writeFront(Path.of(directory, problem.getTag() + ".csv"), front);
+    for (int a = 0; a < algorithms.size(); a++) {
+      var contributed = new ArrayList<double[]>();
+      for (int k : kept) {
+        if (owners.get(k) == a) {
+          contributed.add(points.get(k));
+        }
+      }
+      writeFront(
+          Path.of(directory, problem.getTag() + "." + algorithms.get(a) + ".csv"),
+          contributed.toArray(new double[0][]));
+    }
+
+    problem.setReferenceFront(problem.getTag() + ".csv");
+    return front;
+  }
+
+  /**
+   * Finds the distinct non dominated points, keeping the first of the equal ones. The result is the
+   * one of the jMetal non dominated archive when the points are added in order.
+   *
+   * @param points The objectives of each point, all minimized.
+   * @return The indexes of the points kept, in ascending order.
+   */
+  static int[] nonDominated(double[][] points) {
+    if (points.length == 0) {
+      return new int[0];
+    }
+    if (points[0].length == 2) {
+      var order =
+          IntStream.range(0, points.length)
+              .boxed()
+              .sorted(
+                  Comparator.<Integer>comparingDouble(i -> points[i][0])
+                      .thenComparingDouble(i -> points[i][1]))
+              .mapToInt(Integer::intValue)
+              .toArray();
+      var kept = new ArrayList<Integer>();
+      double best = Double.POSITIVE_INFINITY;
+      for (int i : order) {
+        if (points[i][1] < best) {
+          best = points[i][1];
+          kept.add(i);
+        }
+      }
+      return kept.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    var kept = new ArrayList<Integer>();
+    for (int i = 0; i < points.length; i++) {
+      boolean rejected = false;
+      for (var iterator = kept.iterator(); iterator.hasNext(); ) {
+        int j = iterator.next();
+        int comparison = compare(points[i], points[j]);
+        if (comparison == 1 || comparison == 2) {
+          rejected = true;
+          break;
+        }
+        if (comparison == -1) {
+          iterator.remove();
+        }
+      }
+      if (!rejected) {
+        kept.add(i);
+      }
+    }
+    return kept.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /** Returns -1 if a dominates b, 1 if b dominates a, 2 if they are equal and 0 otherwise. */
+  private static int compare(double[] a, double[] b) {
+    boolean aBetter = false;
+    boolean bBetter = false;
+    for (int j = 0; j < a.length; j++) {
+      aBetter |= a[j] < b[j];
+      bBetter |= b[j] < a[j];
+    }
+    if (aBetter == bBetter) {
+      return aBetter ? 0 : 2;
+    }
+    return aBetter ? -1 : 1;
+  }
+
+  private double[] indicatorValues(
+      QualityIndicator indicator,
+      String algorithm,
+      String problem,
+      double[][] referenceFront,
+      FrontCache cache) {
+    var minimumValues = NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront);
+    var maximumValues = NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront);
+    indicator.referenceFront(NormalizeUtils.normalize(referenceFront));
+
+    var values = new double[experiment.getIndependentRuns()];
+    for (int run = 0; run < values.length; run++) {
+      var front = cache.normalizedFront(algorithm, problem, run, minimumValues, maximumValues);
+      // Some indicators, like Spread, sort the front in place.
+      var copy = new double[front.length][];
+      for (int i = 0; i < front.length; i++) {
+        copy[i] = front[i].clone();
+      }
+      values[run] = indicator.compute(copy);
+    }
+    return values;
+  }
+
+  private void writeIndicatorFile(
+      String algorithm, String problem, String indicatorName, double[] values) throws IOException {
+    var file = executionDirectory(algorithm, problem).resolve(indicatorName);
+    try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      for (double value : values) {
+        writer.write(value + "\n");
+      }
+    }
+  }
+
+  /**
+   * Copies the fronts and the sets of the best and the median runs of an indicator, as
+   * BEST_HV_FUN.csv or MEDIAN_HV_VAR.csv. The sets stored as archives keep their extension.
+   */
+  private void copyBestAndMedianFronts(
+      String algorithm, String problem, QualityIndicator indicator, double[] values)
+      throws IOException {
+    var runs =
+        IntStream.range(0, values.length)
+            .boxed()
+            .sorted(Comparator.comparingDouble(run -> values[run]))
+            .toList();
+    if (runs.isEmpty()) {
+      return;
+    }
+    int best =
+        indicator.isTheLowerTheIndicatorValueTheBetter() ? runs.get(0) : runs.get(runs.size() - 1);
+    int median = runs.get(runs.size() / 2);
+
+    copyRun(algorithm, problem, best, "BEST_" + indicator.name());
+    copyRun(algorithm, problem, median, "MEDIAN_" + indicator.name());
+  }
+
+  private void copyRun(String algorithm, String problem, int run, String prefix)
+      throws IOException {
+    var directory = executionDirectory(algorithm, problem);
+    var fun = experiment.getOutputParetoFrontFileName();
+    Files.copy(
+        directory.resolve(fun + run + ".csv"),
+        directory.resolve(prefix + "_" + fun + ".csv"),
+        StandardCopyOption.REPLACE_EXISTING);
+
+    var set = experiment.getOutputParetoSetFileName();
+    for (var extension : List.of(".csv", ".sra")) {
+      var source = directory.resolve(set + run + extension);
+      if (Files.exists(source)) {
+        Files.copy(
+            source,
+            directory.resolve(prefix + "_" + set + extension),
+            StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+  }
+
+  private Path executionDirectory(String algorithm, String problem) {
+    return Path.of(experiment.getExperimentBaseDirectory(), "data", algorithm, problem);
+  }
+
+  private void writeSummaryFile(
+      List<int[]> tasks, List<double[]> values, List<String> names, List<String> algorithms)
+      throws IOException {
+    var file = Path.of(experiment.getExperimentBaseDirectory(), "QualityIndicatorSummary.csv");
+    try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      writer.write("Algorithm,Problem,IndicatorName,ExecutionId,IndicatorValue");
+      writer.newLine();
+      for (int k = 0; k < tasks.size(); k++) {
+        var task = tasks.get(k);
+        var prefix =
+            algorithms.get(task[1])
+                + ","
+                + experiment.getProblemList().get(task[2]).getTag()
+                + ","
+                + names.get(task[0]);
+        var runValues = values.get(k);
+        for (int run = 0; run < runValues.length; run++) {
+          writer.write(prefix + "," + run + "," + runValues[run]);
+          writer.newLine();
+        }
+      }
+    }
+  }
+
+  private static void writeFront(Path file, double[][] front) {
+    try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      for (var point : front) {
+        for (int j = 0; j < point.length; j++) {
+          if (j > 0) {
+            writer.write(',');
+          }
+          writer.write(Double.toString(point[j]));
+        }
+        writer.newLine();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
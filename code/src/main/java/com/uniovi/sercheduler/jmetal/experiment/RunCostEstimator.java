@@ -0,0 +1,62 @@
+package com.uniovi.sercheduler.jmetal.experiment;
+
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import java.util.Map;
+import org.uma.jmetal.problem.Problem;
+
+/**
+ * Estimates the relative cost of a run, used to start the longest runs first.
+ *
+ * <p>The cost is the number of tasks times the number of hosts times the weight of the fitness
+ * calculator. Only the order of the estimations matters, not their value.
+ */
+public class RunCostEstimator {
+
+  private final Map<String, Problem<?>> problemsByTag;
+
+  /**
+   * Full constructor.
+   *
+   * @param problemsByTag The problems of the experiment by their tag.
+   */
+  public RunCostEstimator(Map<String, Problem<?>> problemsByTag) {
+    this.problemsByTag = problemsByTag;
+  }
+
+  /**
+   * Estimates the cost of a run.
+   *
+   * @param problemTag The tag of the problem of the run.
+   * @param fitness The fitness used by the run, the tag of the algorithm.
+   * @return The estimated cost.
+   */
+  public double estimate(String problemTag, String fitness) {
+    double size = 1;
+    if (problemsByTag.get(problemTag) instanceof SchedulingProblem schedulingProblem) {
+      var instanceData = schedulingProblem.getInstanceData();
+      size = (double) instanceData.workflow().size() * instanceData.hosts().size();
+    }
+    return size * calculatorWeight(fitness);
+  }
+
+  /**
+   * Relative cost of evaluating a plan with a fitness. The schedulers that search for gaps cost
+   * more than the simple one, and the multi calculators run several of them.
+   *
+   * @param fitness The name of the fitness.
+   * @return The weight of the calculator.
+   */
+  static double calculatorWeight(String fitness) {
+    if (fitness.startsWith("multi")) {
+      // Both lists when there is no override, one list otherwise.
+      return fitness.equals("multi") ? 5 : 3;
+    }
+    if (fitness.startsWith("heft")
+        || fitness.contains("energy")
+        || fitness.startsWith("fvlt")
+        || fitness.startsWith("rank")) {
+      return 2;
+    }
+    return 1;
+  }
+}
@@ -0,0 +1,135 @@
+package com.uniovi.sercheduler.jmetal.experiment;
+
+import com.uniovi.sercheduler.expception.RunLedgerException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+
+/**
+ * Append-only record of the finished runs of an experiment. Each finished run is one line, written
+ * and flushed as soon as the run ends, so a killed sweep can resume from the last finished run.
+ *
+ * <p>Lines have the problem tag, the algorithm tag, the run id and the finish time separated by
+ * tabs. A truncated last line is ignored, and ended before the next record is appended.
+ */
+public class RunLedger implements AutoCloseable {
+
+  private static final String SEPARATOR = "\t";
+
+  private final Path file;
+  private final Set<String> finished;
+  private final BufferedWriter writer;
+
+  /**
+   * Opens the ledger, loading the runs already finished.
+   *
+   * @param file The ledger file, created when it does not exist.
+   */
+  public RunLedger(Path file) {
+    this.file = file;
+    this.finished = new HashSet<>();
+    try {
+      if (Files.exists(file)) {
+        for (var line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+          var fields = line.split(SEPARATOR);
+          if (fields.length == 4) {
+            finished.add(key(fields[0], fields[1], fields[2]));
+          }
+        }
+      }
+      this.writer =
+          Files.newBufferedWriter(
+              file,
+              StandardCharsets.UTF_8,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.APPEND);
+      if (endsWithTruncatedLine(file)) {
+        // Ends the line of a crashed write, the next record must not be glued to it.
+        writer.newLine();
+        writer.flush();
+      }
+    } catch (IOException e) {
+      throw new RunLedgerException(file.toString(), e);
+    }
+  }
+
+  /**
+   * Checks if a run already finished.
+   *
+   * @param algorithm The run.
+   * @return True if the ledger has the run.
+   */
+  public synchronized boolean isFinished(ExperimentAlgorithm<?, ?> algorithm) {
+    return finished.contains(key(algorithm));
+  }
+
+  /**
+   * Records a finished run.
+   *
+   * @param algorithm The run.
+   */
+  public synchronized void markFinished(ExperimentAlgorithm<?, ?> algorithm) {
+    try {
+      writer.write(
+          String.join(
+              SEPARATOR,
+              algorithm.getProblemTag(),
+              algorithm.getAlgorithmTag(),
+              String.valueOf(algorithm.getRunId()),
+              Instant.now().toString()));
+      writer.newLine();
+      writer.flush();
+      finished.add(key(algorithm));
+    } catch (IOException e) {
+      throw new RunLedgerException(file.toString(), e);
+    }
+  }
+
+  /**
+   * Counts the finished runs, the ones of previous sweeps included.
+   *
+   * @return The runs in the ledger.
+   */
+  public synchronized int finishedCount() {
+    return finished.size();
+  }
+
+  @Override
+  public synchronized void close() {
+    try {
+      writer.close();
+    } catch (IOException e) {
+      throw new RunLedgerException(file.toString(), e);
+    }
+  }
+
+  private static boolean endsWithTruncatedLine(Path file) throws IOException {
+    try (var channel = Files.newByteChannel(file)) {
+      if (channel.size() == 0) {
+        return false;
+      }
+      var last = ByteBuffer.allocate(1);
+      channel.position(channel.size() - 1).read(last);
+      return last.get(0) != '\n';
+    }
+  }
+
+  private static String key(ExperimentAlgorithm<?, ?> algorithm) {
+    return key(
+        algorithm.getProblemTag(),
+        algorithm.getAlgorithmTag(),
+        String.valueOf(algorithm.getRunId()));
+  }
+
+  private static String key(String problemTag, String algorithmTag, String runId) {
+    return problemTag + SEPARATOR + algorithmTag + SEPARATOR + runId;
+  }
+}
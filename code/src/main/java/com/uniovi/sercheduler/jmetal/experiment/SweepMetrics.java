@@ -0,0 +1,247 @@
+package com.uniovi.sercheduler.jmetal.experiment;
+
+import com.uniovi.sercheduler.jmetal.algorithm.ConvergenceTermination;
+import com.uniovi.sercheduler.service.FitnessCalculatorMulti;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+
+/**
+ * Progress of a sweep in the Prometheus text format, served by the {@link MetricsServer}.
+ *
+ * <p>The executor reports when the sweep and each run start and finish; everything else is read
+ * when the metrics are requested, so a sweep without a server pays nothing. The evaluations and
+ * the best objectives of a run come from its {@link ConvergenceTermination}, which sees the
+ * population every generation.
+ */
+public class SweepMetrics {
+
+  /** A run being executed. */
+  private record RunningRun(long startNanos, ConvergenceTermination termination) {}
+
+  private final Map<ExperimentAlgorithm<?, ?>, RunningRun> running = new ConcurrentHashMap<>();
+  private final Map<ExperimentAlgorithm<?, ?>, ConvergenceTermination> terminations;
+
+  private volatile RunLedger ledger;
+  private volatile ThreadPoolExecutor runPool;
+  private volatile int totalRuns;
+  private volatile int finishedAtStart;
+  private volatile long startNanos;
+
+  /**
+   * Full constructor.
+   *
+   * @param terminations The termination of each run, the runs missing have no progress.
+   */
+  public SweepMetrics(Map<ExperimentAlgorithm<?, ?>, ConvergenceTermination> terminations) {
+    this.terminations = terminations;
+  }
+
+  /**
+   * Marks the start of the sweep.
+   *
+   * @param ledger The ledger of the finished runs.
+   * @param runPool The pool that executes the runs.
+   * @param totalRuns The runs of the experiment, finished or not.
+   */
+  public void sweepStarted(RunLedger ledger, ThreadPoolExecutor runPool, int totalRuns) {
+    this.ledger = ledger;
+    this.runPool = runPool;
+    this.totalRuns = totalRuns;
+    this.finishedAtStart = ledger.finishedCount();
+    this.startNanos = System.nanoTime();
+  }
+
+  /**
+   * Marks the start of a run.
+   *
+   * @param algorithm The run.
+   */
+  public void runStarted(ExperimentAlgorithm<?, ?> algorithm) {
+    running.put(algorithm, new RunningRun(System.nanoTime(), terminations.get(algorithm)));
+  }
+
+  /**
+   * Marks the end of a run, finished or failed.
+   *
+   * @param algorithm The run.
+   */
+  public void runEnded(ExperimentAlgorithm<?, ?> algorithm) {
+    running.remove(algorithm);
+  }
+
+  /**
+   * Writes the current metrics.
+   *
+   * @return The metrics in the Prometheus text format.
+   */
+  public String render() {
+    var out = new StringBuilder();
+    long now = System.nanoTime();
+
+    header(out, "sercheduler_run_evaluations_total", "counter", "Evaluations of each running run.");
+    for (var entry : running.entrySet()) {
+      if (entry.getValue().termination() != null) {
+        sample(
+            out,
+            "sercheduler_run_evaluations_total",
+            runLabels(entry.getKey()),
+            entry.getValue().termination().evaluations());
+      }
+    }
+
+    header(
+        out,
+        "sercheduler_run_evaluations_per_second",
+        "gauge",
+        "Evaluations per second of each running run since it started.");
+    for (var entry : running.entrySet()) {
+      var termination = entry.getValue().termination();
+      if (termination != null) {
+        double seconds = (now - entry.getValue().startNanos()) / 1e9;
+        sample(
+            out,
+            "sercheduler_run_evaluations_per_second",
+            runLabels(entry.getKey()),
+            seconds > 0 ? termination.evaluations() / seconds : 0);
+      }
+    }
+
+    header(
+        out,
+        "sercheduler_run_best_objective",
+        "gauge",
+        "Best value of each objective in the population of each running run.");
+    for (var entry : running.entrySet()) {
+      var termination = entry.getValue().termination();
+      if (termination != null) {
+        var best = termination.bestObjectives();
+        for (int i = 0; i < best.length; i++) {
+          sample(
+              out,
+              "sercheduler_run_best_objective",
+              runLabels(entry.getKey()) + ",objective=\"" + i + "\"",
+              best[i]);
+        }
+      }
+    }
+
+    header(
+        out,
+        "sercheduler_multi_calculator_wins",
+        "counter",
+        "Times each calculator gave the chosen schedule in the multi fitness.");
+    for (var entry : FitnessCalculatorMulti.wins().entrySet()) {
+      sample(
+          out,
+          "sercheduler_multi_calculator_wins",
+          "calculator=\"" + escape(entry.getKey()) + "\"",
+          entry.getValue());
+    }
+
+    var pool = runPool;
+    header(out, "sercheduler_run_pool_queued", "gauge", "Runs waiting for a thread of the pool.");
+    sample(out, "sercheduler_run_pool_queued", "", pool == null ? 0 : pool.getQueue().size());
+    header(out, "sercheduler_run_pool_active", "gauge", "Runs being executed.");
+    sample(out, "sercheduler_run_pool_active", "", pool == null ? 0 : pool.getActiveCount());
+
+    var collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    header(
+        out,
+        "sercheduler_gc_pause_seconds_total",
+        "counter",
+        "Accumulated collection time of each garbage collector.");
+    for (GarbageCollectorMXBean collector : collectors) {
+      sample(
+          out,
+          "sercheduler_gc_pause_seconds_total",
+          "collector=\"" + escape(collector.getName()) + "\"",
+          Math.max(0, collector.getCollectionTime()) / 1000.0);
+    }
+    header(out, "sercheduler_gc_collections_total", "counter", "Collections of each collector.");
+    for (GarbageCollectorMXBean collector : collectors) {
+      sample(
+          out,
+          "sercheduler_gc_collections_total",
+          "collector=\"" + escape(collector.getName()) + "\"",
+          Math.max(0, collector.getCollectionCount()));
+    }
+
+    var currentLedger = ledger;
+    int finished = currentLedger == null ? 0 : Math.min(totalRuns, currentLedger.finishedCount());
+    header(out, "sercheduler_sweep_runs", "gauge", "Runs of the sweep.");
+    sample(out, "sercheduler_sweep_runs", "", totalRuns);
+    header(out, "sercheduler_sweep_runs_finished", "gauge", "Runs recorded in the ledger.");
+    sample(out, "sercheduler_sweep_runs_finished", "", finished);
+    header(
+        out,
+        "sercheduler_sweep_eta_seconds",
+        "gauge",
+        "Estimated time to finish the sweep, from the runs finished since it started.");
+    sample(out, "sercheduler_sweep_eta_seconds", "", eta(finished, now));
+
+    return out.toString();
+  }
+
+  /**
+   * Estimates the time left with the pace of the runs finished in this sweep, which already
+   * accounts for the runs executed in parallel.
+   */
+  private double eta(int finished, long now) {
+    int finishedNow = finished - finishedAtStart;
+    int remaining = totalRuns - finished;
+    if (remaining <= 0) {
+      return 0;
+    }
+    if (finishedNow <= 0) {
+      return Double.NaN;
+    }
+    double seconds = (now - startNanos) / 1e9;
+    return seconds / finishedNow * remaining;
+  }
+
+  private static String runLabels(ExperimentAlgorithm<?, ?> algorithm) {
+    return "problem=\""
+        + escape(algorithm.getProblemTag())
+        + "\",algorithm=\""
+        + escape(algorithm.getAlgorithmTag())
+        + "\",run=\""
+        + algorithm.getRunId()
+        + "\"";
+  }
+
+  private static void header(StringBuilder out, String name, String type, String help) {
+    out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+    out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+  }
+
+  private static void sample(StringBuilder out, String name, String labels, double value) {
+    out.append(name);
+    if (!labels.isEmpty()) {
+      out.append('{').append(labels).append('}');
+    }
+    out.append(' ').append(format(value)).append('\n');
+  }
+
+  private static String format(double value) {
+    if (Double.isNaN(value)) {
+      return "NaN";
+    }
+    if (Double.isInfinite(value)) {
+      return value > 0 ? "+Inf" : "-Inf";
+    }
+    if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+      return Long.toString((long) value);
+    }
+    return String.format(Locale.ROOT, "%.6g", value);
+  }
+
+  /** Escapes a label value as the text format requires. */
+  static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+}
@@ -0,0 +1,82 @@
+package com.uniovi.sercheduler.jmetal.indicator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.util.NormalizeUtils;
+
+/**
+ * Hypervolume of bi-objective fronts in O(N log N), with the same value as {@link PISAHypervolume}.
+ *
+ * <p>The front is normalized with the bounds of the reference front and clamped to [0, 1], the
+ * reference point is (1, 1). After sorting by the first objective a single sweep adds the strip
+ * contributed by each point that improves the second objective. Fronts with more objectives are
+ * delegated to {@link PISAHypervolume}.
+ */
+public class BiObjectiveHypervolume extends Hypervolume {
+
+  /** Default constructor, the reference front must be set before computing. */
+  public BiObjectiveHypervolume() {
+    super();
+  }
+
+  /**
+   * Full constructor.
+   *
+   * @param referenceFront The reference front.
+   */
+  public BiObjectiveHypervolume(double[][] referenceFront) {
+    super(referenceFront);
+  }
+
+  @Override
+  public double compute(double[][] front) {
+    if (referenceFront[0].length != 2) {
+      return new PISAHypervolume(referenceFront).compute(front);
+    }
+
+    var normalizedFront =
+        NormalizeUtils.normalize(
+            front,
+            NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
+            NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront));
+
+    return hypervolume(normalizedFront);
+  }
+
+  /**
+   * Computes the area dominated by a normalized front up to the point (1, 1).
+   *
+   * @param normalizedFront The points, values outside [0, 1] are clamped.
+   * @return The hypervolume, between 0 and 1.
+   */
+  static double hypervolume(double[][] normalizedFront) {
+    var points = new double[normalizedFront.length][];
+    for (int i = 0; i < points.length; i++) {
+      points[i] = new double[] {clamp(normalizedFront[i][0]), clamp(normalizedFront[i][1])};
+    }
+    Arrays.sort(
+        points,
+        Comparator.<double[]>comparingDouble(p -> p[0]).thenComparingDouble(p -> p[1]));
+
+    double volume = 0;
+    double previous = 1;
+    for (var point : points) {
+      if (point[1] < previous) {
+        volume += (1 - point[0]) * (previous - point[1]);
+        previous = point[1];
+      }
+    }
+    return volume;
+  }
+
+  private static double clamp(double value) {
+    return Math.min(1, Math.max(0, value));
+  }
+
+  @Override
+  public String description() {
+    return "Bi-objective hypervolume quality indicator";
+  }
+}
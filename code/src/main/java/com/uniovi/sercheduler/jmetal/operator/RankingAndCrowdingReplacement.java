@@ -0,0 +1,47 @@
+package com.uniovi.sercheduler.jmetal.operator;
+
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.jmetal.ranking.RankedPopulation;
+import java.util.ArrayList;
+import java.util.List;
+import org.uma.jmetal.component.catalogue.ea.replacement.Replacement;
+
+/**
+ * Replacement of NSGA-II. Parents and children are ranked together and the best fronts survive,
+ * the last front that fits partially is truncated by crowding distance.
+ */
+public class RankingAndCrowdingReplacement implements Replacement<SchedulePermutationSolution> {
+
+  /**
+   * Executes the replacement, keeping the size of the parents.
+   *
+   * @param parents The list of parents.
+   * @param children The list of children.
+   * @return The new pool of solution.
+   */
+  @Override
+  public List<SchedulePermutationSolution> replace(
+      List<SchedulePermutationSolution> parents, List<SchedulePermutationSolution> children) {
+    var joint = new ArrayList<SchedulePermutationSolution>(parents.size() + children.size());
+    joint.addAll(parents);
+    joint.addAll(children);
+
+    var ranked = RankedPopulation.of(joint);
+
+    var replacement = new ArrayList<SchedulePermutationSolution>(parents.size());
+    for (int[] front : ranked.fronts()) {
+      int remaining = parents.size() - replacement.size();
+      if (remaining == 0) {
+        break;
+      }
+      if (front.length > remaining) {
+        ranked.sortByCrowding(front);
+      }
+      for (int i = 0; i < Math.min(remaining, front.length); i++) {
+        replacement.add(joint.get(front[i]));
+      }
+    }
+
+    return replacement;
+  }
+}
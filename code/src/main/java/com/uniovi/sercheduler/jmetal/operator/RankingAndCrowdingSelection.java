@@ -0,0 +1,51 @@
+package com.uniovi.sercheduler.jmetal.operator;
+
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.jmetal.ranking.RankedPopulation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+import org.uma.jmetal.component.catalogue.ea.selection.Selection;
+
+/**
+ * Binary tournament of NSGA-II, the winner has the lower rank and then the higher crowding
+ * distance. Uses the bi-objective ranking, so the population is ranked in O(N log N).
+ */
+public class RankingAndCrowdingSelection implements Selection<SchedulePermutationSolution> {
+  RandomGenerator random;
+  int matingPoolSize;
+
+  public RankingAndCrowdingSelection(int matingPoolSize) {
+    this(new Random(), matingPoolSize);
+  }
+
+  public RankingAndCrowdingSelection(RandomGenerator random, int matingPoolSize) {
+    this.random = random;
+    this.matingPoolSize = matingPoolSize;
+  }
+
+  /**
+   * Selects the parents with binary tournaments.
+   *
+   * @param list The population.
+   * @return The mating pool.
+   */
+  @Override
+  public List<SchedulePermutationSolution> select(List<SchedulePermutationSolution> list) {
+    var ranked = RankedPopulation.of(list);
+
+    var matingPool = new ArrayList<SchedulePermutationSolution>(matingPoolSize);
+    for (int i = 0; i < matingPoolSize; i++) {
+      int a = random.nextInt(list.size());
+      int b = random.nextInt(list.size());
+      int result = ranked.compare(a, b);
+      if (result == 0) {
+        result = random.nextBoolean() ? -1 : 1;
+      }
+      matingPool.add(list.get(result < 0 ? a : b));
+    }
+
+    return matingPool;
+  }
+}
@@ -2,6 +2,10 @@ package com.uniovi.sercheduler.jmetal.operator;
 
 import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
 import com.uniovi.sercheduler.service.Operators;
+import com.uniovi.sercheduler.service.PlanPair;
+import com.uniovi.sercheduler.service.profiling.OperatorEvent;
+import com.uniovi.sercheduler.service.profiling.Phase;
+import com.uniovi.sercheduler.service.profiling.PhaseProfiler;
 import java.util.List;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 
@@ -56,19 +60,34 @@ public class ScheduleCrossover implements CrossoverOperator<SchedulePermutationS
   public List<SchedulePermutationSolution> execute(
       List<SchedulePermutationSolution> schedulePermutationSolutions) {
     var schedule1 = schedulePermutationSolutions.get(0);
+    var event = new OperatorEvent();
+    event.begin();
+    long start = PhaseProfiler.beginSample();
 
     // I need to create two children to have in the selection
     // an equal number of parents and children.
 
-    var newPlan =
-        operators.doCrossover(
-            schedulePermutationSolutions.get(0).getPlan(),
-            schedulePermutationSolutions.get(1).getPlan());
+    List<PlanPair> newPlan;
+    List<PlanPair> newPlan2;
+    try {
+      newPlan =
+          operators.doCrossover(
+              schedulePermutationSolutions.get(0).getPlan(),
+              schedulePermutationSolutions.get(1).getPlan());
 
-    var newPlan2 =
-        operators.doCrossover(
-            schedulePermutationSolutions.get(1).getPlan(),
-            schedulePermutationSolutions.get(0).getPlan());
+      newPlan2 =
+          operators.doCrossover(
+              schedulePermutationSolutions.get(1).getPlan(),
+              schedulePermutationSolutions.get(0).getPlan());
+    } finally {
+      PhaseProfiler.endSample("ScheduleCrossover", Phase.CROSSOVER, start);
+    }
+    event.end();
+    if (event.shouldCommit()) {
+      event.operator = "crossover";
+      event.tasks = newPlan.size();
+      event.commit();
+    }
     return List.of(
         new SchedulePermutationSolution(
             schedule1.variables().size(),
@@ -2,6 +2,11 @@ package com.uniovi.sercheduler.jmetal.operator;
 
 import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
 import com.uniovi.sercheduler.service.Operators;
+import com.uniovi.sercheduler.service.PlanPair;
+import com.uniovi.sercheduler.service.profiling.OperatorEvent;
+import com.uniovi.sercheduler.service.profiling.Phase;
+import com.uniovi.sercheduler.service.profiling.PhaseProfiler;
+import java.util.List;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 
 /** Mutation operator. */
@@ -23,12 +28,27 @@ public class ScheduleMutation implements MutationOperator<SchedulePermutationSol
   @Override
   public SchedulePermutationSolution execute(
       SchedulePermutationSolution schedulePermutationSolution) {
+    var event = new OperatorEvent();
+    event.begin();
+    long start = PhaseProfiler.beginSample();
 
+    List<PlanPair> plan;
+    try {
+      plan = operators.mutate(schedulePermutationSolution.getPlan());
+    } finally {
+      PhaseProfiler.endSample("ScheduleMutation", Phase.MUTATION, start);
+    }
+    event.end();
+    if (event.shouldCommit()) {
+      event.operator = "mutation";
+      event.tasks = plan.size();
+      event.commit();
+    }
     return new SchedulePermutationSolution(
         schedulePermutationSolution.variables().size(),
         schedulePermutationSolution.objectives().length,
         null,
-        operators.mutate(schedulePermutationSolution.getPlan()),
+        plan,
         schedulePermutationSolution.getArbiter());
   }
 
@@ -3,24 +3,22 @@ package com.uniovi.sercheduler.jmetal.operator;
 import com.uniovi.sercheduler.dao.Objective;
 import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Random;
-import java.util.TreeSet;
-import java.util.stream.Collectors;
+import java.util.random.RandomGenerator;
 import org.uma.jmetal.component.catalogue.ea.replacement.Replacement;
 
 /** Defines the replacement operator. */
 public class ScheduleReplacement implements Replacement<SchedulePermutationSolution> {
 
-  Random random;
+  RandomGenerator random;
   Objective objective;
 
   public ScheduleReplacement(Objective objective) {
     this(new Random(), objective);
   }
 
-  public ScheduleReplacement(Random random, Objective objective) {
+  public ScheduleReplacement(RandomGenerator random, Objective objective) {
     this.random = random;
     this.objective = objective;
   }
@@ -28,6 +26,11 @@ public class ScheduleReplacement implements Replacement<SchedulePermutationSolut
   /**
    * Executes the replacement. Uses a tournament 4:2.
    *
+   * <p>The best solution of each group survives together with the best one with a different
+   * value. When the four have the same value, or the other values are the infinity of offspring
+   * pruned without an evaluation, the best one survives twice. Ties keep the order parent1, parent2,
+   * child1, child2.
+   *
    * @param parents The list of parents.
    * @param children The list of children.
    * @return The new pool of solution.
@@ -35,36 +38,65 @@ public class ScheduleReplacement implements Replacement<SchedulePermutationSolut
   @Override
   public List<SchedulePermutationSolution> replace(
       List<SchedulePermutationSolution> parents, List<SchedulePermutationSolution> children) {
-    var replacement = new ArrayList<SchedulePermutationSolution>();
+    var replacement = new ArrayList<SchedulePermutationSolution>(parents.size());
+    double[] values = new double[4];
+    int[] order = new int[4];
     for (int i = 0; i < parents.size(); i = i + 2) {
-      var parent1 = parents.get(i);
-      var parent2 = parents.get(i + 1);
-      var child1 = children.get(i);
-      var child2 = children.get(i + 1);
-      var tournament = List.of(parent1, parent2, child1, child2);
-      var result =
-          tournament.stream()
-              .sorted(
-                  Comparator.comparing(
-                      s -> s.getFitnessInfo().fitness().get(objective.objectiveName)))
-              .collect(
-                  Collectors.collectingAndThen(
-                      Collectors.toCollection(
-                          () ->
-                              new TreeSet<>(
-                                  Comparator.comparing(
-                                      s ->
-                                          s.getFitnessInfo()
-                                              .fitness()
-                                              .get(objective.objectiveName)))),
-                      ArrayList::new));
+      values[0] = value(parents.get(i));
+      values[1] = value(parents.get(i + 1));
+      values[2] = value(children.get(i));
+      values[3] = value(children.get(i + 1));
+      order[0] = 0;
+      order[1] = 1;
+      order[2] = 2;
+      order[3] = 3;
+
+      // Sorting network for four elements.
+      compareAndSwap(values, order, 0, 1);
+      compareAndSwap(values, order, 2, 3);
+      compareAndSwap(values, order, 0, 2);
+      compareAndSwap(values, order, 1, 3);
+      compareAndSwap(values, order, 1, 2);
+
+      int second = 1;
+      while (second < 4 && Double.compare(values[second], values[0]) == 0) {
+        second++;
+      }
 
-      if (result.size() == 1) {
-        result.add(result.get(0));
+      // An offspring pruned without an evaluation is at infinity, the best one survives twice.
+      if (second < 4 && values[second] == Double.POSITIVE_INFINITY) {
+        second = 4;
       }
-      replacement.addAll(result.subList(0, 2));
+
+      replacement.add(pick(parents, children, i, order[0]));
+      replacement.add(pick(parents, children, i, second < 4 ? order[second] : order[0]));
     }
 
     return replacement;
   }
+
+  private double value(SchedulePermutationSolution solution) {
+    return solution.getFitnessInfo().fitness().get(objective.objectiveName);
+  }
+
+  /** Orders two positions by value, the original order breaks the ties so the sort is stable. */
+  private static void compareAndSwap(double[] values, int[] order, int a, int b) {
+    int result = Double.compare(values[a], values[b]);
+    if (result > 0 || (result == 0 && order[a] > order[b])) {
+      double value = values[a];
+      values[a] = values[b];
+      values[b] = value;
+      int index = order[a];
+      order[a] = order[b];
+      order[b] = index;
+    }
+  }
+
+  private static SchedulePermutationSolution pick(
+      List<SchedulePermutationSolution> parents,
+      List<SchedulePermutationSolution> children,
+      int group,
+      int position) {
+    return position < 2 ? parents.get(group + position) : children.get(group + position - 2);
+  }
 }
@@ -2,20 +2,20 @@ package com.uniovi.sercheduler.jmetal.operator;
 
 import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 import org.uma.jmetal.component.catalogue.ea.selection.Selection;
 
 /** Selection of parents to mutate / crossover. The selection is completely random. */
 public class ScheduleSelection implements Selection<SchedulePermutationSolution> {
-  Random random;
+  RandomGenerator random;
 
   public ScheduleSelection() {
     this(new Random());
   }
 
-  public ScheduleSelection(Random random) {
+  public ScheduleSelection(RandomGenerator random) {
     this.random = random;
   }
 
@@ -28,7 +28,10 @@ public class ScheduleSelection implements Selection<SchedulePermutationSolution>
   @Override
   public List<SchedulePermutationSolution> select(List<SchedulePermutationSolution> list) {
     var listToShuffle = new ArrayList<>(list);
-    Collections.shuffle(listToShuffle, random);
+    // Same swaps as Collections.shuffle, which only accepts a Random.
+    for (int i = listToShuffle.size(); i > 1; i--) {
+      listToShuffle.set(i - 1, listToShuffle.set(random.nextInt(i), listToShuffle.get(i - 1)));
+    }
     return listToShuffle;
   }
 }
@@ -0,0 +1,101 @@
+package com.uniovi.sercheduler.jmetal.operator;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import java.util.ArrayList;
+import java.util.List;
+import org.uma.jmetal.component.catalogue.ea.replacement.Replacement;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Replacement with tournaments of any even size, half parents and half children. Generalizes the
+ * 4:2 tournament of {@link ScheduleReplacement}, the scratch arrays are reused between groups and
+ * generations.
+ */
+public class ScheduleTournamentReplacement implements Replacement<SchedulePermutationSolution> {
+
+  Objective objective;
+  int tournamentSize;
+
+  private final double[] values;
+  private final int[] order;
+  private final int[] distinct;
+
+  /**
+   * Full constructor.
+   *
+   * @param objective The objective to minimize.
+   * @param tournamentSize Solutions of each tournament, half of them survive.
+   */
+  public ScheduleTournamentReplacement(Objective objective, int tournamentSize) {
+    Check.that(
+        tournamentSize >= 2 && tournamentSize % 2 == 0,
+        "The tournament size must be even: " + tournamentSize);
+    this.objective = objective;
+    this.tournamentSize = tournamentSize;
+    this.values = new double[tournamentSize];
+    this.order = new int[tournamentSize];
+    this.distinct = new int[tournamentSize];
+  }
+
+  /**
+   * Executes the replacement. Each group keeps its best solutions with different values, when
+   * there are not enough different values they are repeated from the best one. Ties keep the
+   * order of the parents and then the children.
+   *
+   * @param parents The list of parents.
+   * @param children The list of children.
+   * @return The new pool of solution.
+   */
+  @Override
+  public List<SchedulePermutationSolution> replace(
+      List<SchedulePermutationSolution> parents, List<SchedulePermutationSolution> children) {
+    var replacement = new ArrayList<SchedulePermutationSolution>(parents.size());
+    int half = tournamentSize / 2;
+
+    for (int i = 0; i < parents.size(); i = i + half) {
+      int groupHalf = Math.min(half, parents.size() - i);
+      int size = groupHalf * 2;
+
+      for (int j = 0; j < groupHalf; j++) {
+        values[j] = value(parents.get(i + j));
+        values[groupHalf + j] = value(children.get(i + j));
+      }
+
+      // Stable insertion sort, the groups are small.
+      for (int j = 0; j < size; j++) {
+        double value = values[j];
+        int k = j;
+        while (k > 0 && Double.compare(values[order[k - 1]], value) > 0) {
+          order[k] = order[k - 1];
+          k--;
+        }
+        order[k] = j;
+      }
+
+      // The offspring pruned without an evaluation are at infinity, they never fill the group.
+      int numberOfDistinct = 0;
+      for (int j = 0; j < size; j++) {
+        if (numberOfDistinct == 0
+            || (Double.compare(values[order[j]], values[distinct[numberOfDistinct - 1]]) != 0
+                && values[order[j]] != Double.POSITIVE_INFINITY)) {
+          distinct[numberOfDistinct++] = order[j];
+        }
+      }
+
+      for (int j = 0; j < groupHalf; j++) {
+        int position = distinct[j < numberOfDistinct ? j : 0];
+        replacement.add(
+            position < groupHalf
+                ? parents.get(i + position)
+                : children.get(i + position - groupHalf));
+      }
+    }
+
+    return replacement;
+  }
+
+  private double value(SchedulePermutationSolution solution) {
+    return solution.getFitnessInfo().fitness().get(objective.objectiveName);
+  }
+}
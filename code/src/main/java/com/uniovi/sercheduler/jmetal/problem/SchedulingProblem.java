@@ -7,12 +7,21 @@ import com.uniovi.sercheduler.parser.HostLoader;
 import com.uniovi.sercheduler.parser.WorkflowFileLoader;
 import com.uniovi.sercheduler.parser.WorkflowLoader;
 import com.uniovi.sercheduler.service.FitnessCalculator;
+import com.uniovi.sercheduler.service.FitnessInfo;
 import com.uniovi.sercheduler.service.PlanGenerator;
 import com.uniovi.sercheduler.service.PlanPair;
+import com.uniovi.sercheduler.service.SeededPlanGenerator;
+import com.uniovi.sercheduler.service.profiling.EvaluationEvent;
+import com.uniovi.sercheduler.service.profiling.Phase;
+import com.uniovi.sercheduler.service.profiling.PhaseProfiler;
+import com.uniovi.sercheduler.util.StartupTimer;
 import com.uniovi.sercheduler.util.UnitParser;
 import java.io.File;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 import org.uma.jmetal.problem.permutationproblem.PermutationProblem;
 
 /** Defines the scheduling problem. */
@@ -27,6 +36,8 @@ public class SchedulingProblem implements PermutationProblem<SchedulePermutation
   private String name;
   private List<Objective> objectives;
   private String defaultArbiter;
+  private double seedingRatio;
+  private List<List<PlanPair>> seeds = List.of();
 
   /**
    * Full constructor.
@@ -84,6 +95,93 @@ public class SchedulingProblem implements PermutationProblem<SchedulePermutation
     this.defaultArbiter = defaultArbiter;
   }
 
+  /**
+   * Constructor for an instance already in memory, for callers that do not read files.
+   *
+   * @param name The name of the problem.
+   * @param instanceData The workflow and the hosts.
+   * @param fitness The fitness function to use.
+   * @param random The random generator of the initial solutions.
+   * @param objectives The objectives, in the order of the objectives of the solutions.
+   * @param defaultArbiter The arbiter of the new solutions.
+   */
+  public SchedulingProblem(
+      String name,
+      InstanceData instanceData,
+      String fitness,
+      RandomGenerator random,
+      List<Objective> objectives,
+      String defaultArbiter) {
+    this.name = name;
+    this.workflowLoader = new WorkflowFileLoader();
+    this.hostLoader = new HostFileLoader();
+    this.instanceData = instanceData;
+    this.fitnessCalculator = FitnessCalculator.getFitness(fitness, instanceData);
+    this.planGenerator = new PlanGenerator(random, instanceData);
+    this.objectives = objectives;
+    this.defaultArbiter = defaultArbiter;
+  }
+
+  private SchedulingProblem(
+      SchedulingProblem problem,
+      RandomGenerator random,
+      double seedingRatio,
+      List<List<PlanPair>> seeds) {
+    this.name = problem.name;
+    this.workflowLoader = problem.workflowLoader;
+    this.hostLoader = problem.hostLoader;
+    this.instanceData = problem.instanceData;
+    this.fitnessCalculator = problem.fitnessCalculator;
+    this.objectives = problem.objectives;
+    this.defaultArbiter = problem.defaultArbiter;
+    this.seedingRatio = seedingRatio;
+    this.seeds = seeds;
+    this.planGenerator =
+        seedingRatio > 0
+            ? new SeededPlanGenerator(random, instanceData, seeds, seedingRatio)
+            : new PlanGenerator(random, instanceData);
+  }
+
+  /**
+   * Creates a view of the problem with its own random generator for the initial solutions. The
+   * instance and the fitness calculator are shared, so it is cheap to create one per run.
+   *
+   * @param random The random generator of the run.
+   * @return A problem that only differs in the generation of solutions.
+   */
+  public SchedulingProblem withRandom(RandomGenerator random) {
+    return new SchedulingProblem(this, random, seedingRatio, seeds);
+  }
+
+  /**
+   * Creates a view of the problem whose initial solutions are partly heuristic plans, see {@link
+   * SeededPlanGenerator}. The heuristics run only once, the views created later with {@link
+   * #withRandom(RandomGenerator)} keep the same seeds.
+   *
+   * @param random The random generator of the run.
+   * @param ratio The fraction of the initial solutions that are seeds, 0 for none.
+   * @return A problem that only differs in the generation of solutions.
+   */
+  public SchedulingProblem withSeeding(RandomGenerator random, double ratio) {
+    var heuristicSeeds =
+        ratio > 0 && seeds.isEmpty() ? SeededPlanGenerator.heuristicSeeds(instanceData) : seeds;
+    return new SchedulingProblem(this, random, ratio, heuristicSeeds);
+  }
+
+  /**
+   * Creates a view of the problem whose initial solutions are partly the given plans, for example
+   * the best plans of a previous search, see {@link SeededPlanGenerator}.
+   *
+   * @param random The random generator of the run.
+   * @param seeds The plans to start from, valid plans of this workflow.
+   * @param ratio The fraction of the initial solutions that are seeds.
+   * @return A problem that only differs in the generation of solutions.
+   */
+  public SchedulingProblem withSeeds(
+      RandomGenerator random, List<List<PlanPair>> seeds, double ratio) {
+    return new SchedulingProblem(this, random, ratio, seeds);
+  }
+
   /**
    * Gets the size of the workflow.
    *
@@ -143,8 +241,69 @@ public class SchedulingProblem implements PermutationProblem<SchedulePermutation
   @Override
   public SchedulePermutationSolution evaluate(
       SchedulePermutationSolution schedulePermutationSolution) {
+    var event = new EvaluationEvent();
+    event.begin();
+    long start = PhaseProfiler.beginSample();
+
+    FitnessInfo fitnessInfo;
+    try {
+      fitnessInfo = fitnessCalculator.calculateFitness(schedulePermutationSolution);
+    } finally {
+      PhaseProfiler.endSample(fitnessCalculator.profilingName(), Phase.EVALUATION, start);
+    }
+    commit(event, schedulePermutationSolution, 1);
+    applyFitness(schedulePermutationSolution, fitnessInfo);
+
+    return schedulePermutationSolution;
+  }
+
+  /**
+   * Evaluates a plan once for several arbiters.
+   *
+   * @param schedulePermutationSolution Solution holding the plan to evaluate.
+   * @param arbiters The arbiters that need a result.
+   * @return The fitness for each arbiter.
+   */
+  public Map<String, FitnessInfo> evaluateByArbiter(
+      SchedulePermutationSolution schedulePermutationSolution, Collection<String> arbiters) {
+    StartupTimer.evaluation();
+    var event = new EvaluationEvent();
+    event.begin();
+    long start = PhaseProfiler.beginSample();
+
+    Map<String, FitnessInfo> fitness;
+    try {
+      fitness = fitnessCalculator.calculateFitnessByArbiter(schedulePermutationSolution, arbiters);
+    } finally {
+      PhaseProfiler.endSample(fitnessCalculator.profilingName(), Phase.EVALUATION, start);
+    }
+    commit(event, schedulePermutationSolution, arbiters.size());
+    return fitness;
+  }
+
+  /** Commits the JFR event of an evaluation, only when it is being recorded. */
+  private void commit(
+      EvaluationEvent event,
+      SchedulePermutationSolution schedulePermutationSolution,
+      int arbiters) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.calculator = fitnessCalculator.profilingName();
+      event.tasks = schedulePermutationSolution.getPlan().size();
+      event.arbiters = arbiters;
+      event.commit();
+    }
+  }
 
-    var fitnessInfo = fitnessCalculator.calculateFitness(schedulePermutationSolution);
+  /**
+   * Stores an already calculated fitness in a solution, updating its plan and objectives.
+   *
+   * @param schedulePermutationSolution Solution to update.
+   * @param fitnessInfo The fitness of the solution.
+   */
+  public void applyFitness(
+      SchedulePermutationSolution schedulePermutationSolution, FitnessInfo fitnessInfo) {
+    StartupTimer.evaluation();
     var plan = fitnessInfo.schedule().stream().map(s -> new PlanPair(s.task(), s.host())).toList();
 
     schedulePermutationSolution.setPlan(plan);
@@ -154,8 +313,6 @@ public class SchedulingProblem implements PermutationProblem<SchedulePermutation
       schedulePermutationSolution.objectives()[i] =
           fitnessInfo.fitness().get(objectives.get(i).objectiveName);
     }
-
-    return schedulePermutationSolution;
   }
 
   /**
@@ -182,4 +339,16 @@ public class SchedulingProblem implements PermutationProblem<SchedulePermutation
   public InstanceData getInstanceData() {
     return instanceData;
   }
+
+  public FitnessCalculator getFitnessCalculator() {
+    return fitnessCalculator;
+  }
+
+  public List<Objective> getObjectives() {
+    return objectives;
+  }
+
+  public double getSeedingRatio() {
+    return seedingRatio;
+  }
 }
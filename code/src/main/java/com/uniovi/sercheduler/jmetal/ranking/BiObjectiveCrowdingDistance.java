@@ -0,0 +1,94 @@
+package com.uniovi.sercheduler.jmetal.ranking;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Crowding distance for two objectives, calculated over primitive arrays.
+ *
+ * @param <S> The type of the solutions.
+ */
+public class BiObjectiveCrowdingDistance<S extends Solution<?>> implements DensityEstimator<S> {
+
+  private final String attributeId = getClass().getName();
+
+  /**
+   * Calculates the crowding distance of the solutions of a front.
+   *
+   * @param front The solutions of the same front.
+   */
+  @Override
+  public void compute(List<S> front) {
+    Check.notNull(front);
+
+    int n = front.size();
+    double[] first = new double[n];
+    double[] second = new double[n];
+    for (int i = 0; i < n; i++) {
+      var objectives = front.get(i).objectives();
+      Check.that(objectives.length == 2, "The crowding distance only supports two objectives");
+      first[i] = objectives[0];
+      second[i] = objectives[1];
+    }
+
+    double[] distances = computeDistances(first, second);
+    for (int i = 0; i < n; i++) {
+      front.get(i).attributes().put(attributeId, distances[i]);
+    }
+  }
+
+  /**
+   * Calculates the crowding distance of the points of a front. The extremes have an infinite
+   * distance.
+   *
+   * @param first The first objective of each point.
+   * @param second The second objective of each point.
+   * @return The distance of each point.
+   */
+  public static double[] computeDistances(double[] first, double[] second) {
+    int n = first.length;
+    double[] distances = new double[n];
+    if (n <= 2) {
+      Arrays.fill(distances, Double.POSITIVE_INFINITY);
+      return distances;
+    }
+
+    addDistances(distances, first, IndexSort.ascending(first, second));
+    addDistances(distances, second, IndexSort.ascending(second, first));
+
+    return distances;
+  }
+
+  private static void addDistances(double[] distances, double[] values, int[] order) {
+    int n = order.length;
+    double min = values[order[0]];
+    double max = values[order[n - 1]];
+
+    distances[order[0]] = Double.POSITIVE_INFINITY;
+    distances[order[n - 1]] = Double.POSITIVE_INFINITY;
+
+    double range = max - min;
+    if (range == 0) {
+      return;
+    }
+    for (int i = 1; i < n - 1; i++) {
+      distances[order[i]] += (values[order[i + 1]] - values[order[i - 1]]) / range;
+    }
+  }
+
+  @Override
+  public Double value(S solution) {
+    Check.notNull(solution);
+    var distance = solution.attributes().get(attributeId);
+    return distance == null ? 0.0 : (Double) distance;
+  }
+
+  @Override
+  public Comparator<S> comparator() {
+    return Comparator.comparing(this::value).reversed();
+  }
+}
@@ -0,0 +1,124 @@
+package com.uniovi.sercheduler.jmetal.ranking;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.ranking.Ranking;
+
+/**
+ * Non-dominated sorting for two minimized objectives in O(N log N).
+ *
+ * <p>The solutions are sorted by the first objective, so a solution can only be dominated by the
+ * ones before it. The last solution added to a front has the lowest second objective of that
+ * front, a binary search over those values finds the first front that does not dominate it.
+ *
+ * @param <S> The type of the solutions.
+ */
+public class BiObjectiveRanking<S extends Solution<?>> implements Ranking<S> {
+
+  private final String attributeId = getClass().getName();
+  private List<List<S>> subFronts = new ArrayList<>();
+
+  /**
+   * Ranks the solutions, the first front has rank 0.
+   *
+   * @param solutionList The solutions to rank.
+   * @return This ranking.
+   */
+  @Override
+  public Ranking<S> compute(List<S> solutionList) {
+    Check.notNull(solutionList);
+
+    int n = solutionList.size();
+    double[] first = new double[n];
+    double[] second = new double[n];
+    for (int i = 0; i < n; i++) {
+      var objectives = solutionList.get(i).objectives();
+      Check.that(objectives.length == 2, "The ranking only supports two objectives");
+      first[i] = objectives[0];
+      second[i] = objectives[1];
+    }
+
+    int[] ranks = computeRanks(first, second);
+
+    subFronts = new ArrayList<>();
+    for (int i = 0; i < n; i++) {
+      while (subFronts.size() <= ranks[i]) {
+        subFronts.add(new ArrayList<>());
+      }
+      var solution = solutionList.get(i);
+      solution.attributes().put(attributeId, ranks[i]);
+      subFronts.get(ranks[i]).add(solution);
+    }
+
+    return this;
+  }
+
+  /**
+   * Calculates the front of each point.
+   *
+   * @param first The first objective of each point.
+   * @param second The second objective of each point.
+   * @return The rank of each point, 0 for the non-dominated ones.
+   */
+  public static int[] computeRanks(double[] first, double[] second) {
+    int n = first.length;
+    int[] ranks = new int[n];
+    double[] lastFirst = new double[n];
+    double[] lastSecond = new double[n];
+    int fronts = 0;
+
+    for (int index : IndexSort.ascending(first, second)) {
+      // Being dominated by a front implies being dominated by all the previous ones.
+      int low = 0;
+      int high = fronts;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (dominates(lastFirst[middle], lastSecond[middle], first[index], second[index])) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+
+      ranks[index] = low;
+      lastFirst[low] = first[index];
+      lastSecond[low] = second[index];
+      if (low == fronts) {
+        fronts++;
+      }
+    }
+
+    return ranks;
+  }
+
+  private static boolean dominates(double first1, double second1, double first2, double second2) {
+    return first1 <= first2 && second1 <= second2 && (first1 < first2 || second1 < second2);
+  }
+
+  @Override
+  public List<S> getSubFront(int rank) {
+    Check.that(
+        rank < subFronts.size(),
+        "Invalid rank: " + rank + ". Max rank = " + (subFronts.size() - 1));
+    return subFronts.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubFronts() {
+    return subFronts.size();
+  }
+
+  @Override
+  public Integer getRank(S solution) {
+    Check.notNull(solution);
+    var rank = solution.attributes().get(attributeId);
+    return rank == null ? Integer.MAX_VALUE : (Integer) rank;
+  }
+
+  @Override
+  public Object getAttributedId() {
+    return attributeId;
+  }
+}
@@ -0,0 +1,68 @@
+package com.uniovi.sercheduler.jmetal.ranking;
+
+import java.util.function.IntBinaryOperator;
+
+/** Sorts the positions of primitive arrays without boxing, a stable merge sort. */
+final class IndexSort {
+
+  private IndexSort() {}
+
+  /**
+   * Sorts the positions by the primary values and breaks the ties with the secondary values.
+   *
+   * @param primary The values compared first.
+   * @param secondary The values compared when the primary ones are equal.
+   * @return The positions in ascending order.
+   */
+  static int[] ascending(double[] primary, double[] secondary) {
+    int n = primary.length;
+    int[] order = new int[n];
+    for (int i = 0; i < n; i++) {
+      order[i] = i;
+    }
+    mergeSort(order, new int[n], 0, n, (a, b) -> compare(a, b, primary, secondary));
+    return order;
+  }
+
+  /**
+   * Sorts some positions in place by descending values, the ties keep their order.
+   *
+   * @param positions The positions to sort.
+   * @param values The values of every position.
+   */
+  static void descending(int[] positions, double[] values) {
+    int n = positions.length;
+    mergeSort(positions, new int[n], 0, n, (a, b) -> Double.compare(values[b], values[a]));
+  }
+
+  private static void mergeSort(
+      int[] order, int[] buffer, int from, int to, IntBinaryOperator comparator) {
+    if (to - from < 2) {
+      return;
+    }
+    int middle = (from + to) >>> 1;
+    mergeSort(order, buffer, from, middle, comparator);
+    mergeSort(order, buffer, middle, to, comparator);
+
+    if (comparator.applyAsInt(order[middle - 1], order[middle]) <= 0) {
+      return;
+    }
+
+    System.arraycopy(order, from, buffer, from, to - from);
+    int left = from;
+    int right = middle;
+    for (int i = from; i < to; i++) {
+      if (right >= to
+          || (left < middle && comparator.applyAsInt(buffer[left], buffer[right]) <= 0)) {
+        order[i] = buffer[left++];
+      } else {
+        order[i] = buffer[right++];
+      }
+    }
+  }
+
+  private static int compare(int a, int b, double[] primary, double[] secondary) {
+    int result = Double.compare(primary[a], primary[b]);
+    return result != 0 ? result : Double.compare(secondary[a], secondary[b]);
+  }
+}
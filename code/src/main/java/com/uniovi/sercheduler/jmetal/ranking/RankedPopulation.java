@@ -0,0 +1,92 @@
+package com.uniovi.sercheduler.jmetal.ranking;
+
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Rank and crowding distance of each position of a bi-objective population.
+ *
+ * @param ranks The front of each solution, 0 for the non-dominated ones.
+ * @param crowding The crowding distance of each solution inside its front.
+ * @param fronts The positions of the solutions of each front.
+ */
+public record RankedPopulation(int[] ranks, double[] crowding, int[][] fronts) {
+
+  /**
+   * Ranks a population and calculates the crowding distance of every front.
+   *
+   * @param solutionList The population.
+   * @return The rank and crowding distance of each position.
+   */
+  public static RankedPopulation of(List<? extends Solution<?>> solutionList) {
+    int n = solutionList.size();
+    double[] first = new double[n];
+    double[] second = new double[n];
+    for (int i = 0; i < n; i++) {
+      var objectives = solutionList.get(i).objectives();
+      Check.that(objectives.length == 2, "Only two objectives are supported");
+      first[i] = objectives[0];
+      second[i] = objectives[1];
+    }
+
+    int[] ranks = BiObjectiveRanking.computeRanks(first, second);
+
+    // Counting sort of the positions by front.
+    int numberOfFronts = 0;
+    for (int rank : ranks) {
+      numberOfFronts = Math.max(numberOfFronts, rank + 1);
+    }
+    int[] sizes = new int[numberOfFronts];
+    for (int rank : ranks) {
+      sizes[rank]++;
+    }
+    int[][] fronts = new int[numberOfFronts][];
+    for (int f = 0; f < numberOfFronts; f++) {
+      fronts[f] = new int[sizes[f]];
+      sizes[f] = 0;
+    }
+    for (int i = 0; i < n; i++) {
+      fronts[ranks[i]][sizes[ranks[i]]++] = i;
+    }
+
+    double[] crowding = new double[n];
+    for (int[] front : fronts) {
+      double[] frontFirst = new double[front.length];
+      double[] frontSecond = new double[front.length];
+      for (int i = 0; i < front.length; i++) {
+        frontFirst[i] = first[front[i]];
+        frontSecond[i] = second[front[i]];
+      }
+      double[] distances = BiObjectiveCrowdingDistance.computeDistances(frontFirst, frontSecond);
+      for (int i = 0; i < front.length; i++) {
+        crowding[front[i]] = distances[i];
+      }
+    }
+
+    return new RankedPopulation(ranks, crowding, fronts);
+  }
+
+  /**
+   * Crowded comparison of two positions, lower rank first and then higher distance.
+   *
+   * @param a The first position.
+   * @param b The second position.
+   * @return Negative when a is better, positive when b is better, 0 when they are tied.
+   */
+  public int compare(int a, int b) {
+    if (ranks[a] != ranks[b]) {
+      return Integer.compare(ranks[a], ranks[b]);
+    }
+    return Double.compare(crowding[b], crowding[a]);
+  }
+
+  /**
+   * Sorts the positions of a front by descending crowding distance, the ties keep their order.
+   *
+   * @param front The positions to sort, in place.
+   */
+  public void sortByCrowding(int[] front) {
+    IndexSort.descending(front, crowding);
+  }
+}
@@ -0,0 +1,36 @@
+package com.uniovi.sercheduler.parser;
+
+import com.uniovi.sercheduler.dao.HostDao;
+import com.uniovi.sercheduler.dto.Host;
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Host loader that parses each file once with another loader, for the jobs of a batch. The hosts
+ * are kept as an unmodifiable list of records, so the jobs cannot change them for the others.
+ */
+public class CachingHostLoader implements HostLoader {
+
+  private final HostLoader hostLoader;
+  private final FileCache<List<HostDao>> cache = new FileCache<>();
+
+  /**
+   * Full constructor.
+   *
+   * @param hostLoader The loader that parses the files.
+   */
+  public CachingHostLoader(HostLoader hostLoader) {
+    this.hostLoader = hostLoader;
+  }
+
+  @Override
+  public Map<String, Host> load(List<HostDao> hostsDao) {
+    return hostLoader.load(hostsDao);
+  }
+
+  @Override
+  public List<HostDao> readFromFile(File hostsJson) {
+    return cache.get(hostsJson, file -> List.copyOf(hostLoader.readFromFile(file)));
+  }
+}
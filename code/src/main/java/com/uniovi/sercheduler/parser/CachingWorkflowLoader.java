@@ -0,0 +1,58 @@
+package com.uniovi.sercheduler.parser;
+
+import com.uniovi.sercheduler.dao.TaskDao;
+import com.uniovi.sercheduler.dao.WorkflowDao;
+import com.uniovi.sercheduler.dto.Task;
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Workflow loader that parses each file once with another loader, for the jobs of a batch. The
+ * workflow is kept with unmodifiable lists, so the jobs cannot change it for the others; each
+ * {@link #load(WorkflowDao)} still builds new tasks.
+ */
+public class CachingWorkflowLoader implements WorkflowLoader {
+
+  private final WorkflowLoader workflowLoader;
+  private final FileCache<WorkflowDao> cache = new FileCache<>();
+
+  /**
+   * Full constructor.
+   *
+   * @param workflowLoader The loader that parses the files.
+   */
+  public CachingWorkflowLoader(WorkflowLoader workflowLoader) {
+    this.workflowLoader = workflowLoader;
+  }
+
+  @Override
+  public Map<String, Task> load(WorkflowDao workflowDao) {
+    return workflowLoader.load(workflowDao);
+  }
+
+  @Override
+  public WorkflowDao readFromFile(File workflowJson) {
+    return cache.get(workflowJson, file -> unmodifiable(workflowLoader.readFromFile(file)));
+  }
+
+  private static WorkflowDao unmodifiable(WorkflowDao workflow) {
+    return new WorkflowDao(
+        workflow.makespan(),
+        workflow.tasks().stream()
+            .map(
+                t ->
+                    new TaskDao(
+                        unmodifiable(t.files()),
+                        t.name(),
+                        unmodifiable(t.parents()),
+                        unmodifiable(t.children()),
+                        t.runtime()))
+            .toList());
+  }
+
+  /** Some formats leave the lists out, they stay null. */
+  private static <T> List<T> unmodifiable(List<T> list) {
+    return list == null ? null : List.copyOf(list);
+  }
+}
@@ -0,0 +1,39 @@
+package com.uniovi.sercheduler.parser;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Keeps the parsed content of files, so the runs of a batch that share an instance only parse it
+ * once. A file is parsed again when its size or modification time change. The content lives as
+ * long as the cache, which belongs to the loaders of a single batch.
+ *
+ * @param <T> The type of the parsed content, given to every user so it should be unmodifiable.
+ */
+public class FileCache<T> {
+
+  private record Entry<T>(long lastModified, long length, T content) {}
+
+  private final Map<String, Entry<T>> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Gets the content of a file, parsing it if it is not cached or it changed.
+   *
+   * @param file The file.
+   * @param reader Parses the file.
+   * @return The parsed content.
+   */
+  public T get(File file, Function<File, T> reader) {
+    var key = file.getAbsolutePath();
+    long lastModified = file.lastModified();
+    long length = file.length();
+    var entry = entries.get(key);
+    if (entry == null || entry.lastModified() != lastModified || entry.length() != length) {
+      entry = new Entry<>(lastModified, length, reader.apply(file));
+      entries.put(key, entry);
+    }
+    return entry.content();
+  }
+}
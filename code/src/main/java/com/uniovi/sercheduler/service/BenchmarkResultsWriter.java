@@ -0,0 +1,122 @@
+package com.uniovi.sercheduler.service;
+
+import com.uniovi.sercheduler.dto.BenchmarkData;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Writes the results of the benchmarks while the experiment runs.
+ *
+ * <p>Every row is appended and flushed to a CSV file as soon as it is written, so the finished
+ * benchmarks survive a crash. The same rows go to a streaming workbook that keeps only a small
+ * window of rows in memory, the Excel file is written when the writer is closed.
+ */
+public class BenchmarkResultsWriter implements AutoCloseable {
+
+  static final List<String> HEADER =
+      List.of("Benchmark", "Hosts", "Fitness", "Makespan", "Energy", "Time");
+
+  private static final int ROWS_IN_MEMORY = 100;
+
+  private final Path excelFile;
+  private final BufferedWriter csvWriter;
+  private final SXSSFWorkbook workbook;
+  private final Sheet sheet;
+  private int rowNum;
+
+  /**
+   * Full constructor, creates both files from scratch.
+   *
+   * @param csvFile The CSV file, written row by row.
+   * @param excelFile The Excel file, written when closing.
+   */
+  public BenchmarkResultsWriter(Path csvFile, Path excelFile) {
+    this.excelFile = excelFile;
+    try {
+      this.csvWriter = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8);
+      csvWriter.write(String.join(",", HEADER));
+      csvWriter.newLine();
+      csvWriter.flush();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    this.workbook = new SXSSFWorkbook(ROWS_IN_MEMORY);
+    this.sheet = workbook.createSheet("Data");
+    Row headerRow = sheet.createRow(0);
+    for (int i = 0; i < HEADER.size(); i++) {
+      headerRow.createCell(i).setCellValue(HEADER.get(i));
+    }
+    this.rowNum = 1;
+  }
+
+  /**
+   * Writes the result of a benchmark.
+   *
+   * @param result The result to write.
+   */
+  public synchronized void write(BenchmarkData result) {
+    try {
+      csvWriter.write(
+          String.join(
+              ",",
+              result.workflow(),
+              String.valueOf(result.hosts()),
+              result.fitness(),
+              String.valueOf(result.makespan()),
+              String.valueOf(result.energy()),
+              String.valueOf(result.time())));
+      csvWriter.newLine();
+      csvWriter.flush();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    Row row = sheet.createRow(rowNum++);
+    row.createCell(0).setCellValue(result.workflow());
+    row.createCell(1).setCellValue(result.hosts());
+    row.createCell(2).setCellValue(result.fitness());
+    row.createCell(3).setCellValue(result.makespan());
+    row.createCell(4).setCellValue(result.energy());
+    row.createCell(5).setCellValue(result.time());
+  }
+
+  /**
+   * Closes the CSV file, writes the Excel file and releases the workbook. The Excel file is written
+   * even when the CSV file fails to close.
+   */
+  @Override
+  public synchronized void close() {
+    try {
+      csvWriter.close();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    } finally {
+      writeExcel();
+    }
+  }
+
+  private void writeExcel() {
+    try (OutputStream outputStream = new FileOutputStream(excelFile.toFile())) {
+      workbook.write(outputStream);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    } finally {
+      workbook.dispose();
+      try {
+        workbook.close();
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+}
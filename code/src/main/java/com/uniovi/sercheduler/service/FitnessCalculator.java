@@ -1,12 +1,16 @@
 package com.uniovi.sercheduler.service;
 
+import com.uniovi.sercheduler.dao.Objective;
 import com.uniovi.sercheduler.dto.Host;
 import com.uniovi.sercheduler.dto.InstanceData;
 import com.uniovi.sercheduler.dto.Task;
 import com.uniovi.sercheduler.dto.TaskFile;
 import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.service.profiling.Phase;
+import com.uniovi.sercheduler.service.profiling.PhaseProfiler;
 import com.uniovi.sercheduler.service.support.ScheduleGap;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -26,6 +30,9 @@ public abstract class FitnessCalculator {
   Double referenceSpeedRead;
   Double referenceSpeedWrite;
 
+  /** Names the counters of the {@link PhaseProfiler}, the class tells the variants apart. */
+  final String profilingName = getClass().getSimpleName();
+
   /**
    * Full constructor.
    *
@@ -109,18 +116,21 @@ public abstract class FitnessCalculator {
           new FitnessCalculatorFastVirtualMachineForLargeTasks(instanceData, "semi-active");
 
       case "rank", "rank-makespan", "rank-makespan-mono" -> new FitnessCalculatorRank(instanceData);
-      case "multi" ->
-          new FitnessCalculatorMulti(
-              instanceData,
-              List.of(
-                  new FitnessCalculatorSimple(instanceData),
-                  new FitnessCalculatorHeft(instanceData),
-                  new FitnessCalculatorRank(instanceData)),
-              List.of(
-                  new FitnessCalculatorSimple(instanceData),
-                  new FitnessCalculatorMinEnergyUM(instanceData, "active"),
-                  new FitnessCalculatorFastVirtualMachineForLargeTasks(instanceData, "active")),
-              "none");
+      case "multi" -> {
+        // The simple calculator is shared, so a single pass only evaluates it once.
+        var simple = new FitnessCalculatorSimple(instanceData);
+        yield new FitnessCalculatorMulti(
+            instanceData,
+            List.of(
+                simple,
+                new FitnessCalculatorHeft(instanceData),
+                new FitnessCalculatorRank(instanceData)),
+            List.of(
+                simple,
+                new FitnessCalculatorMinEnergyUM(instanceData, "active"),
+                new FitnessCalculatorFastVirtualMachineForLargeTasks(instanceData, "active")),
+            "none");
+      }
 
       case "multi-makespan", "multi-makespan-mono" ->
           new FitnessCalculatorMulti(
@@ -300,6 +310,55 @@ public abstract class FitnessCalculator {
 
   public abstract FitnessInfo calculateFitness(SchedulePermutationSolution solution);
 
+  /**
+   * Calculates the fitness of a plan that is only useful if an objective is below a cutoff.
+   *
+   * <p>The calculators that support it abort as soon as the partial schedule plus the {@link
+   * LowerBounds} of the remaining tasks reach the cutoff, and return {@link
+   * FitnessInfo#pruned(String)}. By default the plan is always evaluated in full.
+   *
+   * @param solution The solution to evaluate.
+   * @param objective The objective of the cutoff.
+   * @param cutoff The value the objective must be below.
+   * @return The fitness, or a pruned result when it cannot be below the cutoff.
+   */
+  public FitnessInfo calculateFitness(
+      SchedulePermutationSolution solution, Objective objective, double cutoff) {
+    return calculateFitness(solution);
+  }
+
+  /**
+   * Tells which solutions share the same result for the same plan. Two solutions with an equal plan
+   * and an equal group are evaluated to the same fitness, so only one of them needs to be computed.
+   *
+   * <p>By default the arbiter is ignored by the calculators, so every arbiter shares the group.
+   *
+   * @param arbiter The arbiter of the solution.
+   * @return The group of the arbiter.
+   */
+  public String arbiterGroup(String arbiter) {
+    return "";
+  }
+
+  /**
+   * Calculates the fitness of a plan for several arbiters in a single pass.
+   *
+   * <p>By default the arbiter is ignored, so the plan is evaluated once and shared.
+   *
+   * @param solution The solution to evaluate.
+   * @param arbiters The arbiters that need a result.
+   * @return The fitness for each arbiter.
+   */
+  public Map<String, FitnessInfo> calculateFitnessByArbiter(
+      SchedulePermutationSolution solution, Collection<String> arbiters) {
+    var fitness = calculateFitness(solution);
+    var result = new HashMap<String, FitnessInfo>(arbiters.size());
+    for (var arbiter : arbiters) {
+      result.put(arbiter, fitness);
+    }
+    return result;
+  }
+
   /**
    * Calculates the eft of a given task. Without insertion
    *
@@ -357,6 +416,7 @@ public abstract class FitnessCalculator {
             + computationMatrix.get(task.getName()).get(host.getName())
             + taskCommunications;
 
+    long timer = PhaseProfiler.start();
     var availableHostGaps =
         available.getOrDefault(host.getName(), List.of(new ScheduleGap(0D, Double.MAX_VALUE)));
 
@@ -375,6 +435,7 @@ public abstract class FitnessCalculator {
     if (ast == null) {
       ast = parentsInfo.maxEst();
     }
+    PhaseProfiler.stop(profilingName, Phase.GAP_SEARCH, timer);
 
     Double eft = ast + taskTime;
 
@@ -391,6 +452,7 @@ public abstract class FitnessCalculator {
    */
   public ParentsInfo findTaskCommunications(
       Task task, Host host, Map<String, TaskSchedule> schedule) {
+    long timer = PhaseProfiler.start();
 
     double taskCommunications = 0D;
     double maxEst = 0D;
@@ -403,6 +465,7 @@ public abstract class FitnessCalculator {
           networkMatrix.get(task.getName()).get(parent.getName()) / slowestSpeed.doubleValue();
       maxEst = Math.max(maxEst, schedule.get(parent.getName()).eft());
     }
+    PhaseProfiler.stop(profilingName, Phase.COMMUNICATIONS, timer);
 
     return new ParentsInfo(maxEst, taskCommunications);
   }
@@ -430,6 +493,15 @@ public abstract class FitnessCalculator {
     return Math.min(bandwidth, parentHost.getDiskSpeed());
   }
 
+  /**
+   * Provides the name of the counters of this calculator in the {@link PhaseProfiler}.
+   *
+   * @return The name of the class, unlike the fitness name it tells apart every calculator.
+   */
+  public String profilingName() {
+    return profilingName;
+  }
+
   /**
    * Provides the name of the fitness used.
    *
@@ -3,6 +3,8 @@ package com.uniovi.sercheduler.service;
 import com.uniovi.sercheduler.dto.InstanceData;
 import com.uniovi.sercheduler.dto.Task;
 import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.service.profiling.Phase;
+import com.uniovi.sercheduler.service.profiling.PhaseProfiler;
 import com.uniovi.sercheduler.service.support.EftAndAst;
 import com.uniovi.sercheduler.service.support.EftAndEnergy;
 import com.uniovi.sercheduler.service.support.ScheduleGap;
@@ -76,14 +78,18 @@ public class FitnessCalculatorFastVirtualMachineForLargeTasks extends FitnessCal
       energyActive += (eftAndAst.eft() - eftAndAst.ast()) * schedulePair.host().getEnergyCost();
     }
 
+    long sorting = PhaseProfiler.start();
     var orderedSchedule =
         schedule.values().stream().sorted(Comparator.comparing(TaskSchedule::ast)).toList();
+    PhaseProfiler.stop(profilingName, Phase.SORTING, sorting);
 
     // We need to calculate the standby energy of each host
+    long energyTimer = PhaseProfiler.start();
     double energyStandBy = 0;
     for (var host : instanceData.hosts().values()) {
       energyStandBy += host.getEnergyCostStandBy() * makespan;
     }
+    PhaseProfiler.stop(profilingName, Phase.ENERGY, energyTimer);
 
     double energy = energyActive + energyStandBy;
     return new FitnessInfo(
@@ -97,6 +103,7 @@ public class FitnessCalculatorFastVirtualMachineForLargeTasks extends FitnessCal
 
   private EftAndAst calculateHeftTaskCostSemiActive(
       Task task, HashMap<String, TaskSchedule> schedule, HashMap<String, Double> available) {
+    long selection = PhaseProfiler.start();
     HashMap<String, EftAndEnergy> tempEftAndEnergy = new HashMap<>();
     HashMap<String, TaskCosts> possibleTaskCosts = new HashMap<>();
     for (var host : instanceData.hosts().values()) {
@@ -137,6 +144,7 @@ public class FitnessCalculatorFastVirtualMachineForLargeTasks extends FitnessCal
     String selectedHostName =
         tempEftAndEnergy.entrySet().stream().min(comparator).orElseThrow().getKey();
 
+    PhaseProfiler.stop(profilingName, Phase.HOST_SELECTION, selection);
     var taskCosts = possibleTaskCosts.get(selectedHostName);
     var host = instanceData.hosts().get(selectedHostName);
     available.put(host.getName(), taskCosts.eft());
@@ -153,6 +161,7 @@ public class FitnessCalculatorFastVirtualMachineForLargeTasks extends FitnessCal
 
   private EftAndAst calculateHeftTaskCostActive(
       Task task, HashMap<String, TaskSchedule> schedule, Map<String, List<ScheduleGap>> available) {
+    long selection = PhaseProfiler.start();
     HashMap<String, EftAndEnergy> tempEftAndEnergy = new HashMap<>();
     HashMap<String, TaskCosts> possibleTaskCosts = new HashMap<>();
     for (var host : instanceData.hosts().values()) {
@@ -219,10 +228,12 @@ public class FitnessCalculatorFastVirtualMachineForLargeTasks extends FitnessCal
 
     selectedHostName = minEntry.getKey();
 
+    PhaseProfiler.stop(profilingName, Phase.HOST_SELECTION, selection);
     var taskCosts = possibleTaskCosts.get(selectedHostName);
     var host = instanceData.hosts().get(selectedHostName);
 
     // Retrieve the list of gaps or use a default value
+    long gaps = PhaseProfiler.start();
     var availableHostGaps =
         available.getOrDefault(host.getName(), List.of(new ScheduleGap(0D, Double.MAX_VALUE)));
 
@@ -259,6 +270,7 @@ public class FitnessCalculatorFastVirtualMachineForLargeTasks extends FitnessCal
 
     // We need to put the available gaps
     available.put(host.getName(), newHostGaps);
+    PhaseProfiler.stop(profilingName, Phase.GAP_SEARCH, gaps);
 
     schedule.put(task.getName(), new TaskSchedule(task, taskCosts.ast(), taskCosts.eft(), host));
     return new EftAndAst(taskCosts.eft(), taskCosts.ast());
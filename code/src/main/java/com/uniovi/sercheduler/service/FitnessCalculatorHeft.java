@@ -4,6 +4,8 @@ import com.uniovi.sercheduler.dto.Host;
 import com.uniovi.sercheduler.dto.InstanceData;
 import com.uniovi.sercheduler.dto.Task;
 import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.service.profiling.Phase;
+import com.uniovi.sercheduler.service.profiling.PhaseProfiler;
 import com.uniovi.sercheduler.service.support.EftAndAst;
 import com.uniovi.sercheduler.service.support.ScheduleGap;
 
@@ -40,14 +42,18 @@ public class FitnessCalculatorHeft extends FitnessCalculator {
       energyActive += (eftAndAst.eft() - eftAndAst.ast()) * schedulePair.host().getEnergyCost();
     }
 
+    long sorting = PhaseProfiler.start();
     var orderedSchedule =
         schedule.values().stream().sorted(Comparator.comparing(TaskSchedule::ast)).toList();
+    PhaseProfiler.stop(profilingName, Phase.SORTING, sorting);
 
     // We need to calculate the standby energy of each host
+    long energyTimer = PhaseProfiler.start();
     double energyStandBy = 0;
     for (var host : instanceData.hosts().values()) {
       energyStandBy += host.getEnergyCostStandBy() * makespan;
     }
+    PhaseProfiler.stop(profilingName, Phase.ENERGY, energyTimer);
 
     double energy = energyActive + energyStandBy;
     return new FitnessInfo(
@@ -61,6 +67,7 @@ public class FitnessCalculatorHeft extends FitnessCalculator {
 
   private EftAndAst calculateHeftTaskCost(
       Task task, HashMap<String, TaskSchedule> schedule, Map<String, List<ScheduleGap>> available) {
+    long selection = PhaseProfiler.start();
     double minEft = Double.MAX_VALUE;
     Optional<Host> selectedHost = Optional.empty();
     Optional<TaskCosts> selectedTaskCosts = Optional.empty();
@@ -77,8 +84,10 @@ public class FitnessCalculatorHeft extends FitnessCalculator {
     }
     var taskCosts = selectedTaskCosts.orElseThrow();
     var host = selectedHost.orElseThrow();
+    PhaseProfiler.stop(profilingName, Phase.HOST_SELECTION, selection);
 
     // we need to find the closest gap
+    long gaps = PhaseProfiler.start();
 
     var availableHostGaps =
         available.getOrDefault(host.getName(), List.of(new ScheduleGap(0D, Double.MAX_VALUE)));
@@ -105,6 +114,7 @@ public class FitnessCalculatorHeft extends FitnessCalculator {
 
     // We need to put the available gaps
     available.put(host.getName(), newHostGaps);
+    PhaseProfiler.stop(profilingName, Phase.GAP_SEARCH, gaps);
 
 
     schedule.put(task.getName(), new TaskSchedule(task, taskCosts.ast(), taskCosts.eft(), host));
@@ -4,6 +4,8 @@ import com.uniovi.sercheduler.dto.Host;
 import com.uniovi.sercheduler.dto.InstanceData;
 import com.uniovi.sercheduler.dto.Task;
 import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.service.profiling.Phase;
+import com.uniovi.sercheduler.service.profiling.PhaseProfiler;
 import com.uniovi.sercheduler.service.support.EftAndAst;
 import com.uniovi.sercheduler.service.support.EftAndEnergy;
 import com.uniovi.sercheduler.service.support.ScheduleGap;
@@ -58,14 +60,18 @@ public class FitnessCalculatorMinEnergyUM extends FitnessCalculator {
       energyActive += (eftAndAst.eft() - eftAndAst.ast()) * schedulePair.host().getEnergyCost();
     }
 
+    long sorting = PhaseProfiler.start();
     var orderedSchedule =
         schedule.values().stream().sorted(Comparator.comparing(TaskSchedule::ast)).toList();
+    PhaseProfiler.stop(profilingName, Phase.SORTING, sorting);
 
     // We need to calculate the standby energy of each host
+    long energyTimer = PhaseProfiler.start();
     double energyStandBy = 0;
     for (var host : instanceData.hosts().values()) {
       energyStandBy += host.getEnergyCostStandBy() * makespan;
     }
+    PhaseProfiler.stop(profilingName, Phase.ENERGY, energyTimer);
 
     double energy = energyActive + energyStandBy;
 
@@ -83,6 +89,7 @@ public class FitnessCalculatorMinEnergyUM extends FitnessCalculator {
       HashMap<String, TaskSchedule> schedule,
       HashMap<String, Double> available,
       Double currentMakespan) {
+    long selection = PhaseProfiler.start();
     HashMap<String, EftAndEnergy> tempEftAndEnergy = new HashMap<>();
     HashMap<String, TaskCosts> possibleTaskCosts = new HashMap<>();
 
@@ -130,6 +137,7 @@ public class FitnessCalculatorMinEnergyUM extends FitnessCalculator {
             .orElse(sortedEftAndEnergy.entrySet().iterator().next())
             .getKey();
 
+    PhaseProfiler.stop(profilingName, Phase.HOST_SELECTION, selection);
     var taskCosts = possibleTaskCosts.get(selectedHostName);
     var host = instanceData.hosts().get(selectedHostName);
     available.put(host.getName(), taskCosts.eft());
@@ -149,6 +157,7 @@ public class FitnessCalculatorMinEnergyUM extends FitnessCalculator {
       HashMap<String, TaskSchedule> schedule,
       Map<String, List<ScheduleGap>> available,
       Double currentMakespan) {
+    long selection = PhaseProfiler.start();
     HashMap<String, EftAndEnergy> tempEftAndEnergy = new HashMap<>();
     HashMap<String, TaskCosts> possibleTaskCosts = new HashMap<>();
 
@@ -214,11 +223,13 @@ public class FitnessCalculatorMinEnergyUM extends FitnessCalculator {
       throw new RuntimeException("No suitable host found");
     }
 
+    PhaseProfiler.stop(profilingName, Phase.HOST_SELECTION, selection);
     var taskCosts = possibleTaskCosts.get(selectedHostName);
     var host = instanceData.hosts().get(selectedHostName);
     // we need to find the closest gap
 
     // Retrieve the list of gaps or use a default value
+    long gaps = PhaseProfiler.start();
     var availableHostGaps =
             available.getOrDefault(host.getName(), List.of(new ScheduleGap(0D, Double.MAX_VALUE)));
 
@@ -255,6 +266,7 @@ public class FitnessCalculatorMinEnergyUM extends FitnessCalculator {
 
     // We need to put the available gaps
     available.put(host.getName(), newHostGaps);
+    PhaseProfiler.stop(profilingName, Phase.GAP_SEARCH, gaps);
 
     schedule.put(task.getName(), new TaskSchedule(task, taskCosts.ast(), taskCosts.eft(), host));
     return new EftAndAst(taskCosts.eft(), taskCosts.ast());
@@ -3,8 +3,15 @@ package com.uniovi.sercheduler.service;
 import com.uniovi.sercheduler.dto.InstanceData;
 import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
 import com.uniovi.sercheduler.util.ThreadSafeStringArray;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,6 +20,9 @@ public class FitnessCalculatorMulti extends FitnessCalculator {
 
   static final Logger LOG = LoggerFactory.getLogger(FitnessCalculatorMulti.class);
 
+  /** Times each calculator gave the chosen schedule, in every multi calculator of the JVM. */
+  private static final Map<String, LongAdder> WINS = new ConcurrentHashMap<>();
+
   ThreadSafeStringArray fitnessUsage = ThreadSafeStringArray.getInstance();
 
   List<FitnessCalculator> fitnessCalculatorsMakespan;
@@ -53,29 +63,103 @@ public class FitnessCalculatorMulti extends FitnessCalculator {
    */
   @Override
   public FitnessInfo calculateFitness(SchedulePermutationSolution solution) {
-    List<FitnessCalculator> fitnessCalculators;
-
-    if ((solution.getArbiter().equals("energy") || overrideObjective.equals("energy"))  && !overrideObjective.equals("makespan")) {
-      fitnessCalculators = fitnessCalculatorsEnergy;
-    } else if (solution.getArbiter().equals("makespan") || overrideObjective.equals("makespan")) {
-      fitnessCalculators = fitnessCalculatorsMakespan;
-    } else {
-      throw new RuntimeException("No fitness calculator found");
-    }
-
-    var objective = overrideObjective.equals("none") ? solution.getArbiter() : overrideObjective;
+    var objective = objectiveFor(solution.getArbiter());
 
     var fitness =
-        fitnessCalculators.stream()
+        calculatorsFor(solution.getArbiter()).stream()
             .map(c -> c.calculateFitness(solution))
             .min(Comparator.comparing(f -> f.fitness().get(objective)))
             .orElseThrow();
 
-    fitnessUsage.setValue(fitness.fitnessFunction(), fitness.fitness().get("makespan"));
+    recordWin(fitness);
 
     return fitness;
   }
 
+  /**
+   * Evaluates the union of the calculators needed by the arbiters only once and picks the best
+   * schedule of each arbiter from the same results.
+   *
+   * @param solution The solution to evaluate.
+   * @param arbiters The arbiters that need a result.
+   * @return The fitness for each arbiter.
+   */
+  @Override
+  public Map<String, FitnessInfo> calculateFitnessByArbiter(
+      SchedulePermutationSolution solution, Collection<String> arbiters) {
+    // Calculators are compared by identity, a calculator shared by both lists runs once.
+    var results = new IdentityHashMap<FitnessCalculator, FitnessInfo>();
+    var originalPlan = solution.getPlan();
+    for (var arbiter : arbiters) {
+      for (var calculator : calculatorsFor(arbiter)) {
+        if (!results.containsKey(calculator)) {
+          // Some calculators rewrite the plan, every one must start from the original.
+          solution.setPlan(originalPlan);
+          results.put(calculator, calculator.calculateFitness(solution));
+        }
+      }
+    }
+    solution.setPlan(originalPlan);
+
+    var fitnessByArbiter = new HashMap<String, FitnessInfo>(arbiters.size());
+    for (var arbiter : arbiters) {
+      var objective = objectiveFor(arbiter);
+      var fitness =
+          calculatorsFor(arbiter).stream()
+              .map(results::get)
+              .min(Comparator.comparing(f -> f.fitness().get(objective)))
+              .orElseThrow();
+
+      recordWin(fitness);
+      fitnessByArbiter.put(arbiter, fitness);
+    }
+
+    return fitnessByArbiter;
+  }
+
+  private void recordWin(FitnessInfo fitness) {
+    fitnessUsage.setValue(fitness.fitnessFunction(), fitness.fitness().get("makespan"));
+    WINS.computeIfAbsent(fitness.fitnessFunction(), f -> new LongAdder()).increment();
+  }
+
+  /**
+   * Gets how many times each calculator gave the chosen schedule since the JVM started.
+   *
+   * @return The wins by fitness name.
+   */
+  public static Map<String, Long> wins() {
+    var wins = new TreeMap<String, Long>();
+    WINS.forEach((fitness, count) -> wins.put(fitness, count.sum()));
+    return wins;
+  }
+
+  private List<FitnessCalculator> calculatorsFor(String arbiter) {
+    if ((arbiter.equals("energy") || overrideObjective.equals("energy"))
+        && !overrideObjective.equals("makespan")) {
+      return fitnessCalculatorsEnergy;
+    } else if (arbiter.equals("makespan") || overrideObjective.equals("makespan")) {
+      return fitnessCalculatorsMakespan;
+    } else {
+      throw new RuntimeException("No fitness calculator found");
+    }
+  }
+
+  private String objectiveFor(String arbiter) {
+    return overrideObjective.equals("none") ? arbiter : overrideObjective;
+  }
+
+  /**
+   * The arbiter only matters when there is no override, otherwise both arbiters use the same
+   * calculators and the same objective.
+   *
+   * @param arbiter The arbiter of the solution.
+   * @return The objective used to choose the best calculator.
+   */
+  @Override
+  public String arbiterGroup(String arbiter) {
+    return overrideObjective.equals("none") ? arbiter : overrideObjective;
+  }
+
   @Override
   public String fitnessName() {
     return "multi";
@@ -1,5 +1,6 @@
 package com.uniovi.sercheduler.service;
 
+import com.uniovi.sercheduler.dao.Objective;
 import com.uniovi.sercheduler.dto.InstanceData;
 import com.uniovi.sercheduler.dto.Task;
 import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
@@ -29,6 +30,28 @@ public class FitnessCalculatorRank extends FitnessCalculatorSimple {
    */
   @Override
   public FitnessInfo calculateFitness(SchedulePermutationSolution solution) {
+    rank(solution);
+    return super.calculateFitness(solution);
+  }
+
+  /**
+   * Calculates the makespan of a given schedule in the order of the ranking, aborting when it
+   * cannot be below the cutoff.
+   *
+   * @param solution The solution to evaluate.
+   * @param objective The objective of the cutoff.
+   * @param cutoff The value the objective must be below.
+   * @return The fitness, or a pruned result when it cannot be below the cutoff.
+   */
+  @Override
+  public FitnessInfo calculateFitness(
+      SchedulePermutationSolution solution, Objective objective, double cutoff) {
+    rank(solution);
+    return super.calculateFitness(solution, objective, cutoff);
+  }
+
+  /** Keeps the host of each position and places the tasks in the order of the ranking. */
+  private void rank(SchedulePermutationSolution solution) {
     var plan = solution.getPlan();
     var newPlan = new ArrayList<PlanPair>();
 
@@ -36,7 +59,6 @@ public class FitnessCalculatorRank extends FitnessCalculatorSimple {
       newPlan.add(new PlanPair(heftRanking.get(i), plan.get(i).host()));
     }
     solution.setPlan(newPlan);
-    return super.calculateFitness(solution);
   }
 
   @Override
@@ -1,13 +1,19 @@
 package com.uniovi.sercheduler.service;
 
+import com.uniovi.sercheduler.dao.Objective;
 import com.uniovi.sercheduler.dto.InstanceData;
 import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.service.profiling.Phase;
+import com.uniovi.sercheduler.service.profiling.PhaseProfiler;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 
 /** Implementation for calculating the makespan using DNC model. */
 public class FitnessCalculatorSimple extends FitnessCalculator {
+
+  private volatile LowerBounds lowerBounds;
+
   public FitnessCalculatorSimple(InstanceData instanceData) {
     super(instanceData);
   }
@@ -20,7 +26,29 @@ public class FitnessCalculatorSimple extends FitnessCalculator {
    */
   @Override
   public FitnessInfo calculateFitness(SchedulePermutationSolution solution) {
+    return calculateFitness(solution, Objective.MAKESPAN, Double.POSITIVE_INFINITY);
+  }
+
+  /**
+   * Calculates the makespan of a given schedule, aborting when it cannot be below the cutoff.
+   *
+   * <p>A scheduled task cannot end the workflow before its finish plus the tail of its
+   * descendants, and the energy cannot be lower than the active energy so far, the cheapest
+   * active energy of the tasks left and the standby energy until that makespan bound.
+   *
+   * @param solution The solution to evaluate.
+   * @param objective The objective of the cutoff.
+   * @param cutoff The value the objective must be below.
+   * @return The fitness, or a pruned result when it cannot be below the cutoff.
+   */
+  @Override
+  public FitnessInfo calculateFitness(
+      SchedulePermutationSolution solution, Objective objective, double cutoff) {
     var plan = solution.getPlan();
+    boolean pruning = cutoff < Double.POSITIVE_INFINITY;
+    var bounds = pruning ? lowerBounds() : null;
+    double makespanBound = pruning ? bounds.makespan() : 0;
+    double remainingActiveEnergy = pruning ? bounds.totalMinActiveEnergy() : 0;
 
     double makespan = 0D;
     double energyActive = 0D;
@@ -45,22 +73,50 @@ public class FitnessCalculatorSimple extends FitnessCalculator {
       makespan = Math.max(taskCosts.eft(), makespan);
 
       energyActive += (taskCosts.eft() - taskCosts.ast()) * schedulePair.host().getEnergyCost();
+
+      if (pruning) {
+        makespanBound = Math.max(makespanBound, taskCosts.eft() + bounds.tail(taskName));
+        remainingActiveEnergy -= bounds.minActiveEnergy(taskName);
+        double bound =
+            objective == Objective.MAKESPAN
+                ? makespanBound
+                : energyActive
+                    + remainingActiveEnergy
+                    + bounds.energyCostStandBy() * makespanBound;
+        if (bound >= cutoff) {
+          return FitnessInfo.pruned(fitnessName());
+        }
+      }
     }
 
+    long sorting = PhaseProfiler.start();
     var orderedSchedule =
         schedule.values().stream().sorted(Comparator.comparing(TaskSchedule::ast)).toList();
+    PhaseProfiler.stop(profilingName, Phase.SORTING, sorting);
 
     // We need to calculate the standby energy of each host
+    long energyTimer = PhaseProfiler.start();
     double energyStandBy = 0;
     for (var host : instanceData.hosts().values()) {
       energyStandBy += host.getEnergyCostStandBy() * makespan;
     }
+    PhaseProfiler.stop(profilingName, Phase.ENERGY, energyTimer);
 
     double energy = energyActive + energyStandBy;
     return new FitnessInfo(
         Map.of("makespan", makespan, "energy", energy), orderedSchedule, fitnessName());
   }
 
+  private LowerBounds lowerBounds() {
+    var bounds = lowerBounds;
+    if (bounds == null) {
+      // Computing them twice from two threads is harmless, they are the same.
+      bounds = new LowerBounds(this);
+      lowerBounds = bounds;
+    }
+    return bounds;
+  }
+
   @Override
   public String fitnessName() {
     return "simple";
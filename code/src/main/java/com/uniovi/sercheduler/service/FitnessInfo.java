@@ -9,4 +9,27 @@ import java.util.Map;
  * @param fitness Map containing all possible fitness.
  * @param schedule The final schedule of the plan.
  */
-public record FitnessInfo(Map<String, Double> fitness, List<TaskSchedule> schedule, String fitnessFunction) {}
+public record FitnessInfo(Map<String, Double> fitness, List<TaskSchedule> schedule, String fitnessFunction) {
+
+  /**
+   * Creates the result of an evaluation aborted because it could not beat its cutoff.
+   *
+   * @param fitnessFunction The name of the fitness.
+   * @return A result without schedule and with every objective at infinity.
+   */
+  public static FitnessInfo pruned(String fitnessFunction) {
+    return new FitnessInfo(
+        Map.of("makespan", Double.POSITIVE_INFINITY, "energy", Double.POSITIVE_INFINITY),
+        List.of(),
+        fitnessFunction);
+  }
+
+  /**
+   * Tells if the evaluation was aborted, see {@link #pruned(String)}.
+   *
+   * @return True when there is no schedule.
+   */
+  public boolean isPruned() {
+    return schedule.isEmpty();
+  }
+}
@@ -0,0 +1,92 @@
+package com.uniovi.sercheduler.service;
+
+import com.uniovi.sercheduler.dto.InstanceData;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Schedules a workflow with a single deterministic pass of a list heuristic, without any
+ * evolution.
+ *
+ * <p>Everything that only depends on the instance, the matrices of the fitness calculator and the
+ * HEFT ranking, is computed once in the constructor, so each call only places the tasks. The
+ * heuristics choose the host of each task by themselves, the plan only gives the order of the
+ * tasks.
+ */
+public class HeuristicScheduler {
+
+  /** The fitness calculators that choose the hosts, so they work as standalone heuristics. */
+  public static final Set<String> HEURISTICS =
+      Set.of(
+          "heft",
+          "heft-energy-active",
+          "heft-energy-semi-active",
+          "min-energy-UM-active",
+          "min-energy-UM-semi-active",
+          "fvlt-me-active",
+          "fvlt-me-semi-active");
+
+  private final InstanceData instanceData;
+  private final FitnessCalculator fitnessCalculator;
+  private final SchedulePermutationSolution rankedPlan;
+  private final double energyCostStandBy;
+
+  /**
+   * Full constructor.
+   *
+   * @param instanceData The workflow and the hosts.
+   * @param heuristic The name of the heuristic, one of {@link #HEURISTICS}.
+   */
+  public HeuristicScheduler(InstanceData instanceData, String heuristic) {
+    if (!HEURISTICS.contains(heuristic)) {
+      throw new IllegalArgumentException("Unknown heuristic: " + heuristic);
+    }
+    this.instanceData = instanceData;
+    this.fitnessCalculator = FitnessCalculator.getFitness(heuristic, instanceData);
+
+    // Any host works, the heuristics ignore the hosts of the plan.
+    var anyHost = instanceData.hosts().values().iterator().next();
+    var plan = new ArrayList<PlanPair>(instanceData.workflow().size());
+    for (var task : fitnessCalculator.calculateHeftRanking().keySet()) {
+      plan.add(new PlanPair(task, anyHost));
+    }
+    this.rankedPlan =
+        new SchedulePermutationSolution(plan.size(), 2, null, List.copyOf(plan), "makespan");
+
+    double standBy = 0;
+    for (var host : instanceData.hosts().values()) {
+      standBy += host.getEnergyCostStandBy();
+    }
+    this.energyCostStandBy = standBy;
+  }
+
+  /**
+   * Schedules the workflow. Safe to call from several threads.
+   *
+   * @return The schedule, with its makespan and energy.
+   */
+  public FitnessInfo schedule() {
+    var fitnessInfo = fitnessCalculator.calculateFitness(rankedPlan);
+    var schedule = fitnessInfo.schedule();
+
+    // The calculators charge the active energy to the hosts of the plan, which here are not the
+    // chosen ones, so it is computed again from the schedule.
+    double makespan = fitnessInfo.fitness().get("makespan");
+    double energyActive = 0;
+    for (var taskSchedule : schedule) {
+      energyActive +=
+          (taskSchedule.eft() - taskSchedule.ast()) * taskSchedule.host().getEnergyCost();
+    }
+    double energy = energyActive + energyCostStandBy * makespan;
+
+    return new FitnessInfo(
+        Map.of("makespan", makespan, "energy", energy), schedule, fitnessInfo.fitnessFunction());
+  }
+
+  public InstanceData getInstanceData() {
+    return instanceData;
+  }
+}
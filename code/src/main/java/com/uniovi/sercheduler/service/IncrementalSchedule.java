@@ -0,0 +1,397 @@
+package com.uniovi.sercheduler.service;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.dto.Host;
+import com.uniovi.sercheduler.dto.Task;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The semi-active schedule of a plan, as the simple fitness computes it, that evaluates moving a
+ * task to another host without replaying the whole plan.
+ *
+ * <p>A task only changes when its host becomes free at another time or when one of its parents
+ * changes its finish or its host. A move walks the plan from the moved task, recomputes only the
+ * tasks in that situation and keeps the others, and stops as soon as no host and no pending child
+ * differs from the current schedule, as the rest of the plan cannot change. The makespan is the
+ * latest finish of the exit tasks and the active energy is corrected with the tasks that changed.
+ *
+ * <p>It is not thread safe, each local search owns its schedule.
+ */
+public class IncrementalSchedule {
+
+  private final FitnessCalculator calculator;
+  private final List<Host> hosts;
+  private final Task[] tasks;
+  private final int[] hostOf;
+  private final int[][] parents;
+  private final int[][] children;
+  private final int[] exits;
+
+  private final double[] ast;
+  private final double[] eft;
+  private final double[] availableBefore;
+  private final int[][] positionsOnHost;
+  private double energyActive;
+  private double makespan;
+
+  // State of the last move tried, cleared lazily before the next one.
+  private final double[] movedAst;
+  private final double[] movedEft;
+  private final boolean[] changed;
+  private final int[] dirtyParents;
+  private final boolean[] hostDiffers;
+  private final double[] movedAvailable;
+  private final List<Integer> touchedPositions = new ArrayList<>();
+  private final List<Integer> touchedHosts = new ArrayList<>();
+  private double nextAst;
+  private long recomputedTasks;
+
+  /**
+   * Full constructor.
+   *
+   * @param calculator The calculator with the costs of the instance.
+   * @param plan The plan, every task after its parents.
+   */
+  public IncrementalSchedule(FitnessCalculator calculator, List<PlanPair> plan) {
+    this.calculator = calculator;
+    this.hosts = List.copyOf(calculator.instanceData.hosts().values());
+    Map<String, Integer> hostIndex = new HashMap<>(hosts.size() * 2);
+    for (int h = 0; h < hosts.size(); h++) {
+      hostIndex.put(hosts.get(h).getName(), h);
+    }
+
+    int n = plan.size();
+    tasks = new Task[n];
+    hostOf = new int[n];
+    Map<String, Integer> positionOf = new HashMap<>(n * 2);
+    for (int k = 0; k < n; k++) {
+      tasks[k] = plan.get(k).task();
+      hostOf[k] = hostIndex.get(plan.get(k).host().getName());
+      positionOf.put(tasks[k].getName(), k);
+    }
+
+    parents = new int[n][];
+    children = new int[n][];
+    var exitList = new ArrayList<Integer>();
+    for (int k = 0; k < n; k++) {
+      parents[k] = positions(tasks[k].getParents(), positionOf);
+      children[k] = positions(tasks[k].getChildren(), positionOf);
+      for (int parent : parents[k]) {
+        if (parent >= k) {
+          throw new IllegalArgumentException(
+              "The task " + tasks[k].getName() + " is planned before one of its parents");
+        }
+      }
+      if (children[k].length == 0) {
+        exitList.add(k);
+      }
+    }
+    exits = exitList.stream().mapToInt(Integer::intValue).toArray();
+
+    ast = new double[n];
+    eft = new double[n];
+    availableBefore = new double[n];
+    positionsOnHost = new int[hosts.size()][];
+    movedAst = new double[n];
+    movedEft = new double[n];
+    changed = new boolean[n];
+    dirtyParents = new int[n];
+    hostDiffers = new boolean[hosts.size()];
+    movedAvailable = new double[hosts.size()];
+    build();
+  }
+
+  private static int[] positions(List<Task> related, Map<String, Integer> positionOf) {
+    var result = new int[related.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = positionOf.get(related.get(i).getName());
+    }
+    return result;
+  }
+
+  /** Schedules the whole plan in order, as {@link FitnessCalculatorSimple}. */
+  private void build() {
+    var available = new double[hosts.size()];
+    var counts = new int[hosts.size()];
+    energyActive = 0;
+    makespan = 0;
+    for (int k = 0; k < tasks.length; k++) {
+      int h = hostOf[k];
+      availableBefore[k] = available[h];
+      eft[k] = taskEft(k, h, available[h], -1, -1);
+      ast[k] = nextAst;
+      available[h] = eft[k];
+      counts[h]++;
+      makespan = Math.max(makespan, eft[k]);
+      energyActive += (eft[k] - ast[k]) * hosts.get(h).getEnergyCost();
+    }
+
+    for (int h = 0; h < hosts.size(); h++) {
+      positionsOnHost[h] = new int[counts[h]];
+      counts[h] = 0;
+    }
+    for (int k = 0; k < tasks.length; k++) {
+      positionsOnHost[hostOf[k]][counts[hostOf[k]]++] = k;
+    }
+  }
+
+  /**
+   * Computes the finish of a task with the formula of {@link
+   * FitnessCalculator#calculateEftSemiActive}, leaving its start in {@link #nextAst}. The parents
+   * read the schedule of the move being tried.
+   */
+  private double taskEft(int k, int h, double available, int moved, int movedHost) {
+    var task = tasks[k];
+    var host = hosts.get(h);
+    var communications = calculator.networkMatrix.get(task.getName());
+    double taskCommunications = 0D;
+    double maxEst = 0D;
+    for (int parent : parents[k]) {
+      var parentHost = hosts.get(parent == moved ? movedHost : hostOf[parent]);
+      var slowestSpeed = calculator.findHostSpeed(host, parentHost);
+      taskCommunications +=
+          communications.get(tasks[parent].getName()) / slowestSpeed.doubleValue();
+      maxEst = Math.max(maxEst, changed[parent] ? movedEft[parent] : eft[parent]);
+    }
+    double diskReadStaging = communications.get(task.getName()) / host.getDiskSpeed().doubleValue();
+    double diskWrite = task.getOutput().getSizeInBits() / host.getDiskSpeed().doubleValue();
+    nextAst = Math.max(available, maxEst);
+    return diskReadStaging
+        + diskWrite
+        + calculator.computationMatrix.get(task.getName()).get(host.getName())
+        + taskCommunications
+        + nextAst;
+  }
+
+  /**
+   * Evaluates moving a task to another host, the schedule does not change.
+   *
+   * @param position The position of the task in the plan.
+   * @param host The new host.
+   * @return The makespan and the energy of the plan with the move.
+   */
+  public double[] tryHost(int position, Host host) {
+    clearMove();
+    int newHost = hosts.indexOf(host);
+    int oldHost = hostOf[position];
+    if (newHost == oldHost) {
+      return new double[] {makespan, energy(makespan)};
+    }
+
+    int differingHosts = 0;
+    int pendingChildren = 0;
+    double energyDelta = 0;
+    for (int k = position; k < tasks.length; k++) {
+      if (k > position && differingHosts == 0 && pendingChildren == 0) {
+        break;
+      }
+      int h = k == position ? newHost : hostOf[k];
+      double available;
+      if (k == position) {
+        available = availableAt(newHost, position);
+      } else {
+        available = hostDiffers[h] ? movedAvailable[h] : availableBefore[k];
+      }
+
+      pendingChildren -= dirtyParents[k];
+      double taskEft = eft[k];
+      if (k == position || dirtyParents[k] > 0 || available != availableBefore[k]) {
+        taskEft = taskEft(k, h, available, position, newHost);
+        recomputedTasks++;
+        if (k == position || taskEft != eft[k] || nextAst != ast[k]) {
+          changed[k] = true;
+          movedAst[k] = nextAst;
+          movedEft[k] = taskEft;
+          touchedPositions.add(k);
+          energyDelta +=
+              (taskEft - nextAst) * hosts.get(h).getEnergyCost()
+                  - (eft[k] - ast[k]) * hosts.get(hostOf[k]).getEnergyCost();
+          for (int child : children[k]) {
+            dirtyParents[child]++;
+            touchedPositions.add(child);
+            pendingChildren++;
+          }
+        }
+      }
+
+      if (k == position) {
+        // The old host stays free from its previous task, the new one until the moved task ends.
+        differingHosts +=
+            markHost(
+                oldHost,
+                availableBefore[k] != eft[k] && hasTaskAfter(oldHost, k),
+                availableBefore[k]);
+        differingHosts +=
+            markHost(
+                newHost,
+                taskEft != availableAt(newHost, k) && hasTaskAfter(newHost, k),
+                taskEft);
+      } else {
+        differingHosts += markHost(h, taskEft != eft[k] && hasTaskAfter(h, k), taskEft);
+      }
+    }
+
+    double movedMakespan = 0;
+    for (int exit : exits) {
+      movedMakespan = Math.max(movedMakespan, changed[exit] ? movedEft[exit] : eft[exit]);
+    }
+    double movedEnergyActive = energyActive + energyDelta;
+    return new double[] {movedMakespan, movedEnergyActive + standBy(movedMakespan)};
+  }
+
+  /** Records if a host is free at another time than in the current schedule. */
+  private int markHost(int h, boolean differs, double available) {
+    int delta = 0;
+    if (differs != hostDiffers[h]) {
+      delta = differs ? 1 : -1;
+      hostDiffers[h] = differs;
+      touchedHosts.add(h);
+    }
+    movedAvailable[h] = available;
+    return delta;
+  }
+
+  private void clearMove() {
+    for (int k : touchedPositions) {
+      changed[k] = false;
+      dirtyParents[k] = 0;
+    }
+    for (int h : touchedHosts) {
+      hostDiffers[h] = false;
+    }
+    touchedPositions.clear();
+    touchedHosts.clear();
+  }
+
+  /** Finds when a host is free before a position, from the last of its tasks before it. */
+  private double availableAt(int h, int position) {
+    int index = Arrays.binarySearch(positionsOnHost[h], position);
+    int previous = (index >= 0 ? index : -index - 1) - 1;
+    return previous < 0 ? 0D : eft[positionsOnHost[h][previous]];
+  }
+
+  /** Tells if a host runs any task after a position, otherwise its availability does not matter. */
+  private boolean hasTaskAfter(int h, int position) {
+    var positions = positionsOnHost[h];
+    return positions.length > 0 && positions[positions.length - 1] > position;
+  }
+
+  /**
+   * Moves a task to another host.
+   *
+   * @param position The position of the task in the plan.
+   * @param host The new host.
+   */
+  public void setHost(int position, Host host) {
+    clearMove();
+    hostOf[position] = hosts.indexOf(host);
+    build();
+  }
+
+  /**
+   * Finds the critical path: from the task that ends last, the parent or the previous task of the
+   * host that delays each task.
+   *
+   * @return The positions of the tasks of the path, in plan order.
+   */
+  public List<Integer> criticalPath() {
+    int last = exits[0];
+    for (int exit : exits) {
+      if (eft[exit] > eft[last]) {
+        last = exit;
+      }
+    }
+
+    var path = new ArrayList<Integer>();
+    int k = last;
+    while (k >= 0) {
+      path.add(k);
+      int delaying = -1;
+      for (int parent : parents[k]) {
+        if (delaying < 0 || eft[parent] > eft[delaying]) {
+          delaying = parent;
+        }
+      }
+      if (delaying < 0 || eft[delaying] < availableBefore[k]) {
+        delaying = availableBefore[k] > 0 ? previousOnHost(k) : -1;
+      }
+      k = delaying;
+    }
+    Collections.reverse(path);
+    return path;
+  }
+
+  private int previousOnHost(int position) {
+    var positions = positionsOnHost[hostOf[position]];
+    int index = Arrays.binarySearch(positions, position);
+    return index > 0 ? positions[index - 1] : -1;
+  }
+
+  private double standBy(double makespan) {
+    double energyStandBy = 0;
+    for (var host : hosts) {
+      energyStandBy += host.getEnergyCostStandBy() * makespan;
+    }
+    return energyStandBy;
+  }
+
+  private double energy(double makespan) {
+    return energyActive + standBy(makespan);
+  }
+
+  /**
+   * Gets an objective of the current schedule.
+   *
+   * @param objective The objective.
+   * @return The makespan or the energy.
+   */
+  public double objective(Objective objective) {
+    return objective == Objective.ENERGY ? energy(makespan) : makespan;
+  }
+
+  /**
+   * Gets the current plan, with the moves applied.
+   *
+   * @return The plan, in the original order.
+   */
+  public List<PlanPair> plan() {
+    var plan = new ArrayList<PlanPair>(tasks.length);
+    for (int k = 0; k < tasks.length; k++) {
+      plan.add(new PlanPair(tasks[k], hosts.get(hostOf[k])));
+    }
+    return List.copyOf(plan);
+  }
+
+  /**
+   * Gets the host of a position.
+   *
+   * @param position The position in the plan.
+   * @return The current host of the task.
+   */
+  public Host hostOf(int position) {
+    return hosts.get(hostOf[position]);
+  }
+
+  /**
+   * Gets the hosts of the instance.
+   *
+   * @return The hosts, in the order of the instance.
+   */
+  public List<Host> hosts() {
+    return hosts;
+  }
+
+  /**
+   * Gets the tasks recomputed by all the moves tried, to compare with a full replay of the plan.
+   *
+   * @return The number of tasks.
+   */
+  public long recomputedTasks() {
+    return recomputedTasks;
+  }
+}
@@ -0,0 +1,217 @@
+package com.uniovi.sercheduler.service;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.dto.Host;
+import com.uniovi.sercheduler.dto.InstanceData;
+import com.uniovi.sercheduler.dto.Task;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lower bounds of the objectives of an instance, no schedule can be better than them.
+ *
+ * <p>Each task takes at least its time on the host where it is the fastest, counting the disk
+ * staging and the transfers from its parents at the fastest speed any parent could send to that
+ * host. The makespan bound is the critical path with those times. The energy bound adds the
+ * cheapest active energy of each task and the standby energy of every host during the makespan
+ * bound.
+ *
+ * <p>The bounds of the remaining tasks are also kept, so a partial schedule can be discarded as
+ * soon as it cannot beat a cutoff.
+ */
+public class LowerBounds {
+
+  private final Map<String, Double> tail;
+  private final Map<String, Double> minActiveEnergy;
+  private final double totalMinActiveEnergy;
+  private final double energyCostStandBy;
+  private final double makespan;
+  private final double energy;
+
+  /**
+   * Computes the bounds of an instance.
+   *
+   * @param instanceData The workflow and the hosts.
+   */
+  public LowerBounds(InstanceData instanceData) {
+    this(new FitnessCalculatorSimple(instanceData));
+  }
+
+  /**
+   * Computes the bounds reusing the matrices of a calculator.
+   *
+   * @param calculator Any calculator of the instance.
+   */
+  public LowerBounds(FitnessCalculator calculator) {
+    var instanceData = calculator.instanceData;
+    var hosts = List.copyOf(instanceData.hosts().values());
+
+    var fastestTransfer = new HashMap<String, Double>(hosts.size());
+    for (var host : hosts) {
+      double speed = 0;
+      for (var parentHost : hosts) {
+        speed = Math.max(speed, calculator.findHostSpeed(host, parentHost).doubleValue());
+      }
+      fastestTransfer.put(host.getName(), speed);
+    }
+
+    var minDuration = new HashMap<String, Double>(instanceData.workflow().size());
+    this.minActiveEnergy = new HashMap<>(instanceData.workflow().size());
+    double activeEnergy = 0;
+    for (var task : instanceData.workflow().values()) {
+      double duration = Double.POSITIVE_INFINITY;
+      double taskEnergy = Double.POSITIVE_INFINITY;
+      for (var host : hosts) {
+        double time = duration(calculator, task, host, fastestTransfer.get(host.getName()));
+        duration = Math.min(duration, time);
+        taskEnergy = Math.min(taskEnergy, time * host.getEnergyCost());
+      }
+      minDuration.put(task.getName(), duration);
+      minActiveEnergy.put(task.getName(), taskEnergy);
+      activeEnergy += taskEnergy;
+    }
+    this.totalMinActiveEnergy = activeEnergy;
+
+    this.tail = tails(instanceData, minDuration);
+    double longest = 0;
+    for (var task : instanceData.workflow().values()) {
+      longest = Math.max(longest, minDuration.get(task.getName()) + tail.get(task.getName()));
+    }
+    this.makespan = longest;
+
+    double standBy = 0;
+    for (var host : hosts) {
+      standBy += host.getEnergyCostStandBy();
+    }
+    this.energyCostStandBy = standBy;
+    this.energy = totalMinActiveEnergy + energyCostStandBy * makespan;
+  }
+
+  /** The time of a task in a host as the calculators count it, with the fastest transfers. */
+  private static double duration(
+      FitnessCalculator calculator, Task task, Host host, double fastestTransfer) {
+    var communications = calculator.networkMatrix.get(task.getName());
+    double disk = host.getDiskSpeed().doubleValue();
+    double time =
+        communications.get(task.getName()) / disk
+            + task.getOutput().getSizeInBits() / disk
+            + calculator.computationMatrix.get(task.getName()).get(host.getName());
+    for (var parent : task.getParents()) {
+      time += communications.get(parent.getName()) / fastestTransfer;
+    }
+    return time;
+  }
+
+  /** The longest path after each task ends, visiting the tasks from the exits up. */
+  private static Map<String, Double> tails(
+      InstanceData instanceData, Map<String, Double> minDuration) {
+    var tails = new HashMap<String, Double>(instanceData.workflow().size());
+    var pendingChildren = new HashMap<String, Integer>(instanceData.workflow().size());
+    var ready = new ArrayDeque<Task>();
+    for (var task : instanceData.workflow().values()) {
+      pendingChildren.put(task.getName(), task.getChildren().size());
+      if (task.getChildren().isEmpty()) {
+        ready.add(task);
+      }
+    }
+
+    while (!ready.isEmpty()) {
+      var task = ready.poll();
+      double longest = 0;
+      for (var child : task.getChildren()) {
+        longest = Math.max(longest, minDuration.get(child.getName()) + tails.get(child.getName()));
+      }
+      tails.put(task.getName(), longest);
+
+      for (var parent : task.getParents()) {
+        if (pendingChildren.merge(parent.getName(), -1, Integer::sum) == 0) {
+          ready.add(parent);
+        }
+      }
+    }
+    return tails;
+  }
+
+  /**
+   * Gets the lower bound of the makespan.
+   *
+   * @return The critical path with the fastest hosts and transfers, in seconds.
+   */
+  public double makespan() {
+    return makespan;
+  }
+
+  /**
+   * Gets the lower bound of the energy.
+   *
+   * @return The cheapest active energy plus the standby energy during the makespan bound.
+   */
+  public double energy() {
+    return energy;
+  }
+
+  /**
+   * Gets the lower bound of an objective.
+   *
+   * @param objective The objective.
+   * @return The bound.
+   */
+  public double of(Objective objective) {
+    return switch (objective) {
+      case MAKESPAN -> makespan;
+      case ENERGY -> energy;
+    };
+  }
+
+  /**
+   * Gets how far a value is from the bound of its objective.
+   *
+   * @param objective The objective.
+   * @param value The value reached.
+   * @return The gap, in percentage of the bound.
+   */
+  public double gap(Objective objective, double value) {
+    double bound = of(objective);
+    return 100 * (value - bound) / bound;
+  }
+
+  /**
+   * Gets the least time that must pass after a task ends until the workflow ends.
+   *
+   * @param taskName The task.
+   * @return The longest path of minimum durations among its descendants.
+   */
+  public double tail(String taskName) {
+    return tail.get(taskName);
+  }
+
+  /**
+   * Gets the least active energy of a task.
+   *
+   * @param taskName The task.
+   * @return The active energy in its cheapest host.
+   */
+  public double minActiveEnergy(String taskName) {
+    return minActiveEnergy.get(taskName);
+  }
+
+  /**
+   * Gets the sum of the least active energy of every task.
+   *
+   * @return The active energy bound.
+   */
+  public double totalMinActiveEnergy() {
+    return totalMinActiveEnergy;
+  }
+
+  /**
+   * Gets the standby power of all the hosts together.
+   *
+   * @return The energy per second of standby.
+   */
+  public double energyCostStandBy() {
+    return energyCostStandBy;
+  }
+}
@@ -7,19 +7,20 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 /** Contains operations that can be done to an existing plan. */
 public class Operators implements Serializable {
 
   InstanceData instanceData;
-  Random random;
+  RandomGenerator random;
 
   public Operators(InstanceData instanceData) {
     this(instanceData, new Random());
   }
 
-  public Operators(InstanceData instanceData, Random random) {
+  public Operators(InstanceData instanceData, RandomGenerator random) {
     this.instanceData = instanceData;
     this.random = random;
   }
@@ -6,12 +6,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 /** Generator of possible schedules for workflows. */
 public class PlanGenerator {
 
-  Random random;
+  RandomGenerator random;
   InstanceData instanceData;
 
   /**
@@ -20,7 +21,7 @@ public class PlanGenerator {
    * @param random Random generator to use.
    * @param instanceData Infrastructure to use,
    */
-  public PlanGenerator(Random random, InstanceData instanceData) {
+  public PlanGenerator(RandomGenerator random, InstanceData instanceData) {
     this.random = random;
     this.instanceData = instanceData;
   }
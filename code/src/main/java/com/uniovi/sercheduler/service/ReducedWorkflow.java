@@ -0,0 +1,66 @@
+package com.uniovi.sercheduler.service;
+
+import com.uniovi.sercheduler.dto.InstanceData;
+import com.uniovi.sercheduler.dto.Task;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A workflow whose chains were contracted by the {@link WorkflowReducer}.
+ *
+ * @param workflow The reduced workflow, with a composite task for each chain.
+ * @param members The original tasks of each task of the reduced workflow, in execution order.
+ */
+public record ReducedWorkflow(Map<String, Task> workflow, Map<String, List<Task>> members) {
+
+  /**
+   * Creates the instance of the reduced workflow.
+   *
+   * @param original The instance of the original workflow.
+   * @return The reduced workflow with the same hosts.
+   */
+  public InstanceData instanceData(InstanceData original) {
+    return new InstanceData(workflow, original.hosts(), original.referenceFlops());
+  }
+
+  /**
+   * Replaces every composite task of a plan by its original tasks, all on the same host.
+   *
+   * @param plan A plan of the reduced workflow.
+   * @return The plan of the original workflow.
+   */
+  public List<PlanPair> expand(List<PlanPair> plan) {
+    var expanded = new ArrayList<PlanPair>();
+    for (var pair : plan) {
+      for (var task : members.get(pair.task().getName())) {
+        expanded.add(new PlanPair(task, pair.host()));
+      }
+    }
+    return expanded;
+  }
+
+  /**
+   * Evaluates a solution of the reduced workflow on the original one, for example to export it.
+   *
+   * @param solution An evaluated solution of the reduced workflow.
+   * @param calculator The calculator of the original instance.
+   * @return The fitness and the schedule of the original tasks.
+   */
+  public FitnessInfo expand(SchedulePermutationSolution solution, FitnessCalculator calculator) {
+    var plan = expand(solution.getPlan());
+    return calculator.calculateFitness(
+        new SchedulePermutationSolution(
+            plan.size(), solution.objectives().length, null, plan, solution.getArbiter()));
+  }
+
+  /**
+   * Gets the number of tasks removed by the reduction.
+   *
+   * @return The original tasks minus the reduced ones.
+   */
+  public int removedTasks() {
+    return members.values().stream().mapToInt(List::size).sum() - workflow.size();
+  }
+}
@@ -0,0 +1,223 @@
+package com.uniovi.sercheduler.service;
+
+import com.uniovi.sercheduler.dto.Host;
+import com.uniovi.sercheduler.dto.InstanceData;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Discrete-event simulator that replays a schedule to validate the estimate of a fitness
+ * calculator without an external simulator.
+ *
+ * <p>Each host runs its tasks one at a time in the order of their estimated start, and a task
+ * starts once the host is free and its parents have finished. A task reads its staging files from
+ * the local disk, receives the output of each parent, computes and writes its output to the local
+ * disk, with the same costs as the fitness calculators. Unlike them, the disks and the network
+ * interfaces are resources held by one transfer at a time: a transfer from another host holds the
+ * disk and the interface of the sender and the interface of the receiver, and waits until all of
+ * them are free. The deviations from the estimate come from that contention and from the order in
+ * which the hosts actually become free.
+ *
+ * <p>The simulator keeps no state between calls, so several schedules can be simulated in
+ * parallel.
+ */
+public class ScheduleSimulator {
+
+  private final InstanceData instanceData;
+  private final Map<String, Map<String, Long>> networkMatrix;
+
+  /**
+   * Full constructor.
+   *
+   * @param instanceData The workflow and the hosts of the schedules.
+   */
+  public ScheduleSimulator(InstanceData instanceData) {
+    this.instanceData = instanceData;
+    this.networkMatrix =
+        FitnessCalculator.getFitness("simple", instanceData).calculateNetworkMatrix();
+  }
+
+  /**
+   * Simulates the schedules of several solutions in parallel.
+   *
+   * @param estimates The results of a fitness calculator.
+   * @return The result of each schedule, in the same order.
+   */
+  public List<SimulationResult> simulateAll(List<FitnessInfo> estimates) {
+    return estimates.parallelStream().map(this::simulate).toList();
+  }
+
+  /**
+   * Simulates a schedule.
+   *
+   * @param estimate The result of a fitness calculator, with its schedule.
+   * @return The simulated makespan, energy and schedule.
+   */
+  public SimulationResult simulate(FitnessInfo estimate) {
+    var simulation = new Simulation(estimate.schedule());
+    simulation.run();
+
+    double makespan = 0;
+    double energyActive = 0;
+    double maxFinishDeviation = 0;
+    for (var estimated : estimate.schedule()) {
+      var simulated = simulation.schedule.get(estimated.task().getName());
+      makespan = Math.max(makespan, simulated.eft());
+      energyActive += (simulated.eft() - simulated.ast()) * simulated.host().getEnergyCost();
+      maxFinishDeviation =
+          Math.max(maxFinishDeviation, Math.abs(simulated.eft() - estimated.eft()));
+    }
+    double energyStandBy = 0;
+    for (var host : instanceData.hosts().values()) {
+      energyStandBy += host.getEnergyCostStandBy() * makespan;
+    }
+
+    return new SimulationResult(
+        makespan,
+        energyActive + energyStandBy,
+        simulation.schedule.values().stream()
+            .sorted(Comparator.comparing(TaskSchedule::ast))
+            .toList(),
+        estimate.fitness().get("makespan"),
+        estimate.fitness().get("energy"),
+        maxFinishDeviation);
+  }
+
+  /** A part of a task that holds some resources for a time. */
+  private record Step(List<String> resources, double duration) {}
+
+  /** The end of a step of a running task, the start of the next one. */
+  private record Event(double time, long sequence, TaskSchedule task, List<Step> steps, int step) {}
+
+  /** The state of one simulation. */
+  private class Simulation {
+
+    private final Map<String, ArrayDeque<TaskSchedule>> hostQueues = new HashMap<>();
+    private final Map<String, Host> hosts = new HashMap<>();
+    private final Map<String, Integer> pendingParents = new HashMap<>();
+    private final Map<String, Double> starts = new HashMap<>();
+    private final Map<String, Double> resourceFree = new HashMap<>();
+    private final HashSet<String> busyHosts = new HashSet<>();
+    private final Map<String, TaskSchedule> schedule = new HashMap<>();
+    private final PriorityQueue<Event> events =
+        new PriorityQueue<>(
+            Comparator.comparingDouble(Event::time).thenComparingLong(Event::sequence));
+    private long sequence;
+
+    Simulation(List<TaskSchedule> estimated) {
+      var order =
+          estimated.stream()
+              .sorted(Comparator.comparing(TaskSchedule::ast).thenComparing(TaskSchedule::eft))
+              .toList();
+      for (var taskSchedule : order) {
+        var task = taskSchedule.task();
+        hostQueues
+            .computeIfAbsent(taskSchedule.host().getName(), h -> new ArrayDeque<>())
+            .add(taskSchedule);
+        hosts.put(task.getName(), taskSchedule.host());
+        pendingParents.put(task.getName(), task.getParents().size());
+      }
+    }
+
+    void run() {
+      for (var host : hostQueues.keySet()) {
+        tryStart(host, 0);
+      }
+
+      while (!events.isEmpty()) {
+        var event = events.poll();
+        var task = event.task().task();
+        var hostName = event.task().host().getName();
+
+        if (event.step() == event.steps().size()) {
+          var start = starts.get(task.getName());
+          schedule.put(
+              task.getName(), new TaskSchedule(task, start, event.time(), event.task().host()));
+          busyHosts.remove(hostName);
+          for (var child : task.getChildren()) {
+            if (pendingParents.merge(child.getName(), -1, Integer::sum) == 0) {
+              tryStart(hosts.get(child.getName()).getName(), event.time());
+            }
+          }
+          tryStart(hostName, event.time());
+          continue;
+        }
+
+        var step = event.steps().get(event.step());
+        double start = event.time();
+        for (var resource : step.resources()) {
+          start = Math.max(start, resourceFree.getOrDefault(resource, 0D));
+        }
+        double end = start + step.duration();
+        for (var resource : step.resources()) {
+          resourceFree.put(resource, end);
+        }
+        events.add(new Event(end, sequence++, event.task(), event.steps(), event.step() + 1));
+      }
+
+      if (schedule.size() != pendingParents.size()) {
+        throw new IllegalArgumentException(
+            "The schedule runs a task on a host before one of its ancestors");
+      }
+    }
+
+    private void tryStart(String hostName, double time) {
+      var queue = hostQueues.get(hostName);
+      if (busyHosts.contains(hostName)
+          || queue.isEmpty()
+          || pendingParents.get(queue.peek().task().getName()) > 0) {
+        return;
+      }
+      var taskSchedule = queue.poll();
+      busyHosts.add(hostName);
+      starts.put(taskSchedule.task().getName(), time);
+      events.add(new Event(time, sequence++, taskSchedule, steps(taskSchedule), 0));
+    }
+
+    private List<Step> steps(TaskSchedule taskSchedule) {
+      var task = taskSchedule.task();
+      var host = taskSchedule.host();
+      var disk = disk(host);
+      double diskSpeed = host.getDiskSpeed().doubleValue();
+      var transfers = networkMatrix.get(task.getName());
+
+      var steps = new ArrayList<Step>(task.getParents().size() + 3);
+      steps.add(new Step(List.of(disk), transfers.get(task.getName()) / diskSpeed));
+      for (var parent : task.getParents()) {
+        var parentHost = hosts.get(parent.getName());
+        long bits = transfers.get(parent.getName());
+        if (parentHost.getName().equals(host.getName())) {
+          steps.add(new Step(List.of(disk), bits / diskSpeed));
+        } else {
+          double speed =
+              Math.min(
+                  Math.min(host.getNetworkSpeed(), parentHost.getNetworkSpeed()),
+                  parentHost.getDiskSpeed());
+          steps.add(
+              new Step(
+                  List.of(disk(parentHost), network(parentHost), network(host)), bits / speed));
+        }
+      }
+      steps.add(
+          new Step(
+              List.of(),
+              task.getRuntime() * (instanceData.referenceFlops() / host.getFlops().doubleValue())));
+      steps.add(new Step(List.of(disk), task.getOutput().getSizeInBits() / diskSpeed));
+      return steps;
+    }
+  }
+
+  private static String disk(Host host) {
+    return host.getName() + "/disk";
+  }
+
+  private static String network(Host host) {
+    return host.getName() + "/network";
+  }
+}
@@ -0,0 +1,137 @@
+package com.uniovi.sercheduler.service;
+
+import com.uniovi.sercheduler.dto.InstanceData;
+import com.uniovi.sercheduler.dto.Task;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generator that mixes heuristic plans with the random ones, so the initial population does not
+ * start only from poor regions.
+ *
+ * <p>A fixed ratio of the plans are seeds: first the heuristic plans themselves, then
+ * perturbations of them with more mutations each round. The rest are random topological orders.
+ * The ratio holds for any number of plans, so it does not depend on the size of the population.
+ */
+public class SeededPlanGenerator extends PlanGenerator {
+
+  /** Heuristics whose schedules are used as seeds, one for each objective. */
+  public static final List<String> SEED_HEURISTICS = List.of("heft", "min-energy-UM-active");
+
+  private static final int MAX_MUTATIONS = 5;
+
+  private final List<List<PlanPair>> seeds;
+  private final double ratio;
+  private final Operators operators;
+  private int generated;
+  private int seeded;
+
+  /**
+   * Full constructor.
+   *
+   * @param random Random generator to use.
+   * @param instanceData Infrastructure to use.
+   * @param seeds The heuristic plans, see {@link #heuristicSeeds(InstanceData)}.
+   * @param ratio The fraction of the plans that are seeds, between 0 and 1.
+   */
+  public SeededPlanGenerator(
+      RandomGenerator random, InstanceData instanceData, List<List<PlanPair>> seeds, double ratio) {
+    super(random, instanceData);
+    if (ratio < 0 || ratio > 1) {
+      throw new IllegalArgumentException("The seeding ratio must be between 0 and 1: " + ratio);
+    }
+    this.seeds = seeds;
+    this.ratio = seeds.isEmpty() ? 0 : ratio;
+    this.operators = new Operators(instanceData, random);
+  }
+
+  /**
+   * Builds the seeds of an instance: the tasks in upward rank order, as {@link
+   * FitnessCalculatorRank} does, with the hosts chosen by each of the {@link #SEED_HEURISTICS}.
+   *
+   * @param instanceData The instance.
+   * @return One plan for each heuristic.
+   */
+  public static List<List<PlanPair>> heuristicSeeds(InstanceData instanceData) {
+    var ranking =
+        FitnessCalculator.getFitness("heft", instanceData).calculateHeftRanking().keySet();
+    var order = topologicalOrder(List.copyOf(ranking));
+
+    var seeds = new ArrayList<List<PlanPair>>();
+    for (var heuristic : SEED_HEURISTICS) {
+      var schedule = new HeuristicScheduler(instanceData, heuristic).schedule().schedule();
+      var hosts = new HashMap<String, PlanPair>(schedule.size());
+      for (var taskSchedule : schedule) {
+        hosts.put(
+            taskSchedule.task().getName(), new PlanPair(taskSchedule.task(), taskSchedule.host()));
+      }
+
+      var plan = new ArrayList<PlanPair>(order.size());
+      for (var task : order) {
+        plan.add(hosts.get(task.getName()));
+      }
+      seeds.add(List.copyOf(plan));
+    }
+    return List.copyOf(seeds);
+  }
+
+  /**
+   * Orders the tasks by their priority without breaking the dependencies. The upward rank is
+   * already topological when every cost is positive, this only matters for the ties.
+   *
+   * @param priority The tasks, the first ones with the highest priority.
+   * @return The tasks in topological order.
+   */
+  static List<Task> topologicalOrder(List<Task> priority) {
+    var index = new HashMap<String, Integer>(priority.size());
+    var pendingParents = new HashMap<String, Integer>(priority.size());
+    for (int i = 0; i < priority.size(); i++) {
+      var task = priority.get(i);
+      index.put(task.getName(), i);
+      pendingParents.put(task.getName(), task.getParents().size());
+    }
+
+    var ready = new PriorityQueue<Task>((a, b) -> index.get(a.getName()) - index.get(b.getName()));
+    for (var task : priority) {
+      if (task.getParents().isEmpty()) {
+        ready.add(task);
+      }
+    }
+
+    var order = new ArrayList<Task>(priority.size());
+    while (!ready.isEmpty()) {
+      var task = ready.poll();
+      order.add(task);
+      for (var child : task.getChildren()) {
+        if (pendingParents.merge(child.getName(), -1, Integer::sum) == 0) {
+          ready.add(child);
+        }
+      }
+    }
+    return order;
+  }
+
+  /**
+   * Generates a seed or a random plan, keeping the ratio of seeds.
+   *
+   * @return A list of plan pairs.
+   */
+  @Override
+  public List<PlanPair> generatePlan() {
+    int position = generated++;
+    if (Math.floor((position + 1) * ratio) == Math.floor(position * ratio)) {
+      return super.generatePlan();
+    }
+
+    var plan = seeds.get(seeded % seeds.size());
+    int mutations = Math.min(seeded / seeds.size(), MAX_MUTATIONS);
+    seeded++;
+    for (int i = 0; i < mutations; i++) {
+      plan = operators.mutate(plan);
+    }
+    return plan;
+  }
+}
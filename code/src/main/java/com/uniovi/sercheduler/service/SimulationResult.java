@@ -0,0 +1,40 @@
+package com.uniovi.sercheduler.service;
+
+import java.util.List;
+
+/**
+ * The outcome of replaying a schedule in the {@link ScheduleSimulator}.
+ *
+ * @param makespan The simulated makespan.
+ * @param energy The simulated energy, active and standby.
+ * @param schedule The simulated start and finish of each task, ordered by start.
+ * @param estimatedMakespan The makespan estimated by the fitness calculator.
+ * @param estimatedEnergy The energy estimated by the fitness calculator.
+ * @param maxFinishDeviation The largest difference between a simulated and an estimated finish.
+ */
+public record SimulationResult(
+    double makespan,
+    double energy,
+    List<TaskSchedule> schedule,
+    double estimatedMakespan,
+    double estimatedEnergy,
+    double maxFinishDeviation) {
+
+  /**
+   * Gets the relative deviation of the makespan.
+   *
+   * @return The simulated makespan minus the estimated one, divided by the estimated one.
+   */
+  public double makespanDeviation() {
+    return (makespan - estimatedMakespan) / estimatedMakespan;
+  }
+
+  /**
+   * Gets the relative deviation of the energy.
+   *
+   * @return The simulated energy minus the estimated one, divided by the estimated one.
+   */
+  public double energyDeviation() {
+    return (energy - estimatedEnergy) / estimatedEnergy;
+  }
+}
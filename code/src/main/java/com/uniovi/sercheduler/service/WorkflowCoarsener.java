@@ -0,0 +1,125 @@
+package com.uniovi.sercheduler.service;
+
+import com.uniovi.sercheduler.dto.InstanceData;
+import com.uniovi.sercheduler.dto.Task;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Coarsens a workflow for the multilevel search, merging pairs of tasks joined by the edges that
+ * transfer the most bits, as in heavy-edge matching.
+ *
+ * <p>Unlike the {@link WorkflowReducer} this is not lossless: a merged pair runs on the same host
+ * one task after the other, even when the parent has other children that could run in between.
+ * Only edges where the child has a single parent or the parent has a single child are merged,
+ * any other edge could be part of a longer path between both tasks and merging it would create a
+ * cycle.
+ */
+public class WorkflowCoarsener {
+
+  private WorkflowCoarsener() {}
+
+  /**
+   * Coarsens a workflow one level, each task is merged at most once.
+   *
+   * @param instanceData The instance with the workflow to coarsen.
+   * @param random Decides the order in which the tasks choose their pair.
+   * @return The coarse workflow, with at least half the tasks of the original one.
+   */
+  public static ReducedWorkflow coarsen(InstanceData instanceData, RandomGenerator random) {
+    var networkMatrix =
+        FitnessCalculator.getFitness("simple", instanceData).calculateNetworkMatrix();
+
+    var tasks = new ArrayList<>(instanceData.workflow().values());
+    for (int i = tasks.size() - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      var task = tasks.get(i);
+      tasks.set(i, tasks.get(j));
+      tasks.set(j, task);
+    }
+
+    // The groups are the merged pairs, parent first, and the tasks left alone.
+    var groups = new ArrayList<List<Task>>();
+    var matched = new HashSet<String>(tasks.size());
+    for (var task : tasks) {
+      if (matched.contains(task.getName())) {
+        continue;
+      }
+      Task pair = null;
+      boolean pairIsParent = false;
+      long heaviest = -1;
+      for (var parent : task.getParents()) {
+        long bits = networkMatrix.get(task.getName()).get(parent.getName());
+        if (!matched.contains(parent.getName())
+            && isContractible(parent, task)
+            && bits > heaviest) {
+          pair = parent;
+          pairIsParent = true;
+          heaviest = bits;
+        }
+      }
+      for (var child : task.getChildren()) {
+        long bits = networkMatrix.get(child.getName()).get(task.getName());
+        if (!matched.contains(child.getName())
+            && isContractible(task, child)
+            && bits > heaviest) {
+          pair = child;
+          pairIsParent = false;
+          heaviest = bits;
+        }
+      }
+
+      matched.add(task.getName());
+      if (pair == null) {
+        groups.add(List.of(task));
+      } else {
+        matched.add(pair.getName());
+        groups.add(pairIsParent ? List.of(pair, task) : List.of(task, pair));
+      }
+    }
+
+    return merge(groups);
+  }
+
+  /** Tells if merging an edge cannot create a cycle, there is no other path between the tasks. */
+  private static boolean isContractible(Task parent, Task child) {
+    return child.getParents().size() == 1 || parent.getChildren().size() == 1;
+  }
+
+  private static ReducedWorkflow merge(List<List<Task>> groups) {
+    var members = new HashMap<String, List<Task>>(groups.size());
+    var coarseName = new HashMap<String, String>();
+    var coarse = new HashMap<String, Task>(groups.size());
+    for (var group : groups) {
+      var name =
+          group.size() == 1
+              ? group.get(0).getName()
+              : group.get(0).getName() + "+" + group.get(1).getName();
+      for (var member : group) {
+        coarseName.put(member.getName(), name);
+      }
+      members.put(name, group);
+      coarse.put(name, WorkflowReducer.composite(name, group));
+    }
+
+    for (var entry : members.entrySet()) {
+      var parents = new LinkedHashSet<Task>();
+      var children = new LinkedHashSet<Task>();
+      for (var member : entry.getValue()) {
+        member.getParents().forEach(p -> parents.add(coarse.get(coarseName.get(p.getName()))));
+        member.getChildren().forEach(c -> children.add(coarse.get(coarseName.get(c.getName()))));
+      }
+      var task = coarse.get(entry.getKey());
+      parents.remove(task);
+      children.remove(task);
+      task.setParents(List.copyOf(parents));
+      task.setChildren(List.copyOf(children));
+    }
+
+    return new ReducedWorkflow(coarse, members);
+  }
+}
@@ -0,0 +1,105 @@
+package com.uniovi.sercheduler.service;
+
+import com.uniovi.sercheduler.dto.FileList;
+import com.uniovi.sercheduler.dto.Task;
+import com.uniovi.sercheduler.dto.TaskFile;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contracts the chains of a workflow, tasks with a single child whose child has a single parent,
+ * into composite tasks before the optimization.
+ *
+ * <p>A composite task runs the runtime of all its members and reads and writes all their files, so
+ * on a host it costs exactly the same as its members one after the other on that host, where the
+ * transfers inside the chain go through the disk. The only solutions lost are the ones that split
+ * a chain between hosts. Fan-in and fan-out tasks are kept, merging them would serialize
+ * branches that can run in parallel.
+ */
+public class WorkflowReducer {
+
+  private WorkflowReducer() {}
+
+  /**
+   * Reduces a workflow.
+   *
+   * @param workflow The workflow, as loaded by the workflow loader.
+   * @return The reduced workflow and the members of each of its tasks.
+   */
+  public static ReducedWorkflow reduce(Map<String, Task> workflow) {
+    var members = new HashMap<String, List<Task>>();
+    var reducedName = new HashMap<String, String>(workflow.size());
+    var reduced = new HashMap<String, Task>();
+
+    for (var task : workflow.values()) {
+      if (isChained(task)) {
+        continue;
+      }
+      var chain = new ArrayList<Task>();
+      chain.add(task);
+      var last = task;
+      while (last.getChildren().size() == 1 && isChained(last.getChildren().get(0))) {
+        last = last.getChildren().get(0);
+        chain.add(last);
+      }
+
+      var name = chain.size() == 1 ? task.getName() : task.getName() + "+" + last.getName();
+      for (var member : chain) {
+        reducedName.put(member.getName(), name);
+      }
+      members.put(name, List.copyOf(chain));
+      reduced.put(name, composite(name, chain));
+    }
+
+    for (var entry : members.entrySet()) {
+      var chain = entry.getValue();
+      var task = reduced.get(entry.getKey());
+      task.setParents(
+          chain.get(0).getParents().stream()
+              .map(p -> reduced.get(reducedName.get(p.getName())))
+              .toList());
+      task.setChildren(
+          chain.get(chain.size() - 1).getChildren().stream()
+              .map(c -> reduced.get(reducedName.get(c.getName())))
+              .toList());
+    }
+
+    return new ReducedWorkflow(reduced, members);
+  }
+
+  /** Tells if a task is merged into its parent, the only child of its only parent. */
+  private static boolean isChained(Task task) {
+    return task.getParents().size() == 1 && task.getParents().get(0).getChildren().size() == 1;
+  }
+
+  /**
+   * Creates a task that runs all the tasks of a group one after the other, without dependencies.
+   *
+   * @param name The name of the new task.
+   * @param chain The tasks, in execution order.
+   * @return The task with their total runtime and all their files.
+   */
+  static Task composite(String name, List<Task> chain) {
+    double runtime = 0;
+    var inputs = new ArrayList<TaskFile>();
+    var outputs = new ArrayList<TaskFile>();
+    long inputBits = 0;
+    long outputBits = 0;
+    for (var member : chain) {
+      runtime += member.getRuntime();
+      inputs.addAll(member.getInput().getFiles());
+      outputs.addAll(member.getOutput().getFiles());
+      inputBits += member.getInput().getSizeInBits();
+      outputBits += member.getOutput().getSizeInBits();
+    }
+    return new Task(
+        name,
+        runtime,
+        List.of(),
+        List.of(),
+        new FileList(List.copyOf(inputs), inputBits),
+        new FileList(List.copyOf(outputs), outputBits));
+  }
+}
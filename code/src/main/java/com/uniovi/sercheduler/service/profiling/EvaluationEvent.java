@@ -0,0 +1,23 @@
+package com.uniovi.sercheduler.service.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** JFR event with the duration of an evaluation of the problem. */
+@Name("com.uniovi.sercheduler.Evaluation")
+@Label("Evaluation")
+@Category({"SERCheduler", "Evaluation"})
+@Description("Evaluation of a plan by a fitness calculator")
+public class EvaluationEvent extends jdk.jfr.Event {
+
+  @Label("Calculator")
+  public String calculator;
+
+  @Label("Tasks")
+  public int tasks;
+
+  @Label("Arbiters")
+  public int arbiters;
+}
@@ -0,0 +1,20 @@
+package com.uniovi.sercheduler.service.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** JFR event with the duration of a genetic operator. */
+@Name("com.uniovi.sercheduler.Operator")
+@Label("Operator")
+@Category({"SERCheduler", "Operators"})
+@Description("Crossover or mutation of plans")
+public class OperatorEvent extends jdk.jfr.Event {
+
+  @Label("Operator")
+  public String operator;
+
+  @Label("Tasks")
+  public int tasks;
+}
@@ -0,0 +1,30 @@
+package com.uniovi.sercheduler.service.profiling;
+
+/**
+ * The parts of the evaluation and of the operators timed by the {@link PhaseProfiler}. The times
+ * are inclusive, the host selection also contains the communications and the gap search it needs.
+ */
+public enum Phase {
+  /** A whole evaluation, as requested by the problem. */
+  EVALUATION("evaluation"),
+  /** The transfers from the parents of a task to its host. */
+  COMMUNICATIONS("communications"),
+  /** Finding a gap in a host that fits a task and splitting it. */
+  GAP_SEARCH("gap-search"),
+  /** Trying every host for a task and choosing one. */
+  HOST_SELECTION("host-selection"),
+  /** The energy of the schedule once the makespan is known. */
+  ENERGY("energy"),
+  /** Sorting the schedule by start time. */
+  SORTING("sorting"),
+  /** The crossover of two plans. */
+  CROSSOVER("crossover"),
+  /** The mutation of a plan. */
+  MUTATION("mutation");
+
+  public final String phaseName;
+
+  Phase(String phaseName) {
+    this.phaseName = phaseName;
+  }
+}
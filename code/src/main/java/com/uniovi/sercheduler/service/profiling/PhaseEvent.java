@@ -0,0 +1,28 @@
+package com.uniovi.sercheduler.service.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event with a sampled phase. It is committed when the phase ends, so its own duration is
+ * empty and the time is in the nanos field.
+ */
+@Name("com.uniovi.sercheduler.Phase")
+@Label("Evaluation Phase")
+@Category({"SERCheduler", "Evaluation"})
+@Description("Sampled phase of an evaluation or an operator")
+public class PhaseEvent extends jdk.jfr.Event {
+
+  @Label("Owner")
+  public String owner;
+
+  @Label("Phase")
+  public String phase;
+
+  @Label("Time")
+  @Timespan(Timespan.NANOSECONDS)
+  public long nanos;
+}
@@ -0,0 +1,171 @@
+package com.uniovi.sercheduler.service.profiling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sampled nanosecond counters of the phases of the evaluations and the operators.
+ *
+ * <p>While disabled every call is a read of a flag and the timed code runs as before. When
+ * enabled, one evaluation or operator in each interval of every thread is sampled: its phases are
+ * timed with {@link System#nanoTime()} and added to the counters of their owner. The other calls
+ * only count towards the interval, which keeps the cost of the clock out of most of the run.
+ *
+ * <p>A sample starts with {@link #beginSample()} and ends with {@link #endSample}, the phases
+ * inside use {@link #start()} and {@link #stop}. Starts that are not sampled return 0.
+ */
+public final class PhaseProfiler {
+
+  private static final ThreadLocal<Sampler> SAMPLER = ThreadLocal.withInitial(Sampler::new);
+  private static final Map<String, Counters> COUNTERS = new ConcurrentHashMap<>();
+
+  private static volatile boolean enabled;
+  private static volatile int interval = 1;
+
+  private PhaseProfiler() {}
+
+  /** The sampling state of a thread. */
+  private static final class Sampler {
+    long calls;
+    boolean sampling;
+  }
+
+  /** The counters of an owner, one per phase. */
+  private static final class Counters {
+    final LongAdder[] calls = new LongAdder[Phase.values().length];
+    final LongAdder[] nanos = new LongAdder[Phase.values().length];
+
+    Counters() {
+      for (int i = 0; i < calls.length; i++) {
+        calls[i] = new LongAdder();
+        nanos[i] = new LongAdder();
+      }
+    }
+  }
+
+  /**
+   * Starts sampling.
+   *
+   * @param sampleInterval Samples one call in this many, 1 samples all of them.
+   */
+  public static void enable(int sampleInterval) {
+    if (sampleInterval < 1) {
+      throw new IllegalArgumentException("The interval must be at least 1: " + sampleInterval);
+    }
+    interval = sampleInterval;
+    enabled = true;
+  }
+
+  /** Stops sampling, the counters are kept. */
+  public static void disable() {
+    enabled = false;
+  }
+
+  /** Clears the counters. */
+  public static void reset() {
+    COUNTERS.clear();
+  }
+
+  /**
+   * Tells if the phases are being sampled.
+   *
+   * @return True when enabled.
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Starts an evaluation or an operator, which is sampled once every interval.
+   *
+   * @return The start time, or 0 when not sampled.
+   */
+  public static long beginSample() {
+    if (!enabled) {
+      return 0L;
+    }
+    var sampler = SAMPLER.get();
+    if (sampler.sampling || ++sampler.calls % interval != 0) {
+      return 0L;
+    }
+    sampler.sampling = true;
+    return System.nanoTime();
+  }
+
+  /**
+   * Ends a sample started with {@link #beginSample()}.
+   *
+   * @param owner The class that did the work.
+   * @param phase The phase of the whole sample.
+   * @param start The value returned by {@link #beginSample()}.
+   */
+  public static void endSample(String owner, Phase phase, long start) {
+    if (start == 0L) {
+      return;
+    }
+    stop(owner, phase, start);
+    SAMPLER.get().sampling = false;
+  }
+
+  /**
+   * Starts a phase inside a sample.
+   *
+   * @return The start time, or 0 when the current evaluation is not sampled.
+   */
+  public static long start() {
+    if (!enabled) {
+      return 0L;
+    }
+    return SAMPLER.get().sampling ? System.nanoTime() : 0L;
+  }
+
+  /**
+   * Ends a phase started with {@link #start()}.
+   *
+   * @param owner The class that did the work.
+   * @param phase The phase.
+   * @param start The value returned by {@link #start()}.
+   */
+  public static void stop(String owner, Phase phase, long start) {
+    if (start == 0L) {
+      return;
+    }
+    long nanos = System.nanoTime() - start;
+    var counters = COUNTERS.computeIfAbsent(owner, o -> new Counters());
+    counters.calls[phase.ordinal()].increment();
+    counters.nanos[phase.ordinal()].add(nanos);
+
+    var event = new PhaseEvent();
+    if (event.isEnabled()) {
+      event.owner = owner;
+      event.phase = phase.phaseName;
+      event.nanos = nanos;
+      event.commit();
+    }
+  }
+
+  /**
+   * Gets the counters with at least one sampled call.
+   *
+   * @return The time of each phase of each owner, sorted by owner and phase.
+   */
+  public static List<PhaseTime> snapshot() {
+    var times = new ArrayList<PhaseTime>();
+    for (var entry : COUNTERS.entrySet()) {
+      var counters = entry.getValue();
+      for (var phase : Phase.values()) {
+        long calls = counters.calls[phase.ordinal()].sum();
+        if (calls > 0) {
+          times.add(
+              new PhaseTime(entry.getKey(), phase, calls, counters.nanos[phase.ordinal()].sum()));
+        }
+      }
+    }
+    times.sort(Comparator.comparing(PhaseTime::owner).thenComparing(PhaseTime::phase));
+    return times;
+  }
+}
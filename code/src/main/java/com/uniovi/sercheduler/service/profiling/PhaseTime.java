@@ -0,0 +1,21 @@
+package com.uniovi.sercheduler.service.profiling;
+
+/**
+ * The sampled time of a phase.
+ *
+ * @param owner The class that did the work, for example the calculator.
+ * @param phase The phase.
+ * @param calls The number of sampled calls.
+ * @param nanos The total time of the sampled calls, in nanoseconds.
+ */
+public record PhaseTime(String owner, Phase phase, long calls, long nanos) {
+
+  /**
+   * Gets the mean time of a call.
+   *
+   * @return The time in microseconds, 0 without calls.
+   */
+  public double meanMicros() {
+    return calls == 0 ? 0 : nanos / 1000.0 / calls;
+  }
+}
@@ -0,0 +1,33 @@
+package com.uniovi.sercheduler.service.statistics;
+
+import java.util.List;
+
+/**
+ * Statistics of the runs of an algorithm over a workflow.
+ *
+ * @param executionName The name of the execution, workflow and algorithm.
+ * @param algorithm The tag of the algorithm.
+ * @param workflow The tag of the problem.
+ * @param hosts The number of hosts, taken from the tag of the problem.
+ * @param objectives The statistics of the best value of each run, one per objective.
+ * @param lowerBounds The lower bound of each objective for the workflow, NaN when unknown.
+ */
+public record ExecutionStatistics(
+    String executionName,
+    String algorithm,
+    String workflow,
+    int hosts,
+    List<RunningStatistics> objectives,
+    List<Double> lowerBounds) {
+
+  /**
+   * Gets how far the best run is from the lower bound of an objective.
+   *
+   * @param objective The index of the objective.
+   * @return The gap, in percentage of the bound, NaN when the bound is unknown.
+   */
+  public double gap(int objective) {
+    double bound = lowerBounds.get(objective);
+    return 100 * (objectives.get(objective).min() - bound) / bound;
+  }
+}
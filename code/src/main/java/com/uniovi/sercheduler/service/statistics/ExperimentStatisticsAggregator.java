@@ -0,0 +1,333 @@
+package com.uniovi.sercheduler.service.statistics;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.service.LowerBounds;
+import com.uniovi.sercheduler.util.FastDoubleParser;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Aggregates the fronts written by the jMetal experiments. Each execution, an algorithm over a
+ * workflow, is aggregated in parallel; the best value of each objective in every run feeds the
+ * statistics in a single pass.
+ */
+public class ExperimentStatisticsAggregator {
+
+  static final Logger LOG = LoggerFactory.getLogger(ExperimentStatisticsAggregator.class);
+
+  private static final Pattern HOSTS_PATTERN = Pattern.compile(".*-hosts-(\\d+)$");
+
+  private final String experimentBaseDirectory;
+  private final int independentRuns;
+  private final List<Objective> objectives;
+  private final Map<String, LowerBounds> lowerBounds;
+
+  /**
+   * Constructor without lower bounds, the gaps are unknown.
+   *
+   * @param experimentBaseDirectory The directory of the experiment.
+   * @param independentRuns The number of runs of each execution.
+   * @param objectives The objectives, in the order of the columns of the fronts.
+   */
+  public ExperimentStatisticsAggregator(
+      String experimentBaseDirectory, int independentRuns, List<Objective> objectives) {
+    this(experimentBaseDirectory, independentRuns, objectives, Map.of());
+  }
+
+  /**
+   * Full constructor.
+   *
+   * @param experimentBaseDirectory The directory of the experiment.
+   * @param independentRuns The number of runs of each execution.
+   * @param objectives The objectives, in the order of the columns of the fronts.
+   * @param lowerBounds The lower bounds of each problem tag, to report the optimality gaps.
+   */
+  public ExperimentStatisticsAggregator(
+      String experimentBaseDirectory,
+      int independentRuns,
+      List<Objective> objectives,
+      Map<String, LowerBounds> lowerBounds) {
+    this.experimentBaseDirectory = experimentBaseDirectory;
+    this.independentRuns = independentRuns;
+    this.objectives = objectives;
+    this.lowerBounds = lowerBounds;
+  }
+
+  /**
+   * Aggregates every combination of algorithm and workflow.
+   *
+   * @param algorithms The tags of the algorithms.
+   * @param workflows The tags of the problems.
+   * @return The statistics of each execution, algorithms first and then workflows.
+   */
+  public List<ExecutionStatistics> aggregate(List<String> algorithms, List<String> workflows) {
+    var executions = new ArrayList<String[]>();
+    for (var algorithm : algorithms) {
+      for (var workflow : workflows) {
+        executions.add(new String[] {algorithm, workflow});
+      }
+    }
+
+    return executions.parallelStream().map(e -> aggregate(e[0], e[1])).toList();
+  }
+
+  /**
+   * Aggregates the runs of an algorithm over a workflow.
+   *
+   * @param algorithm The tag of the algorithm.
+   * @param workflow The tag of the problem.
+   * @return The statistics of the execution.
+   */
+  public ExecutionStatistics aggregate(String algorithm, String workflow) {
+    var statistics = new ArrayList<RunningStatistics>(objectives.size());
+    for (int i = 0; i < objectives.size(); i++) {
+      statistics.add(new RunningStatistics());
+    }
+
+    for (int run = 0; run < independentRuns; run++) {
+      var resultFile =
+          Path.of(experimentBaseDirectory, "data", algorithm, workflow, "FUN" + run + ".csv");
+      double[] best = bestOfFront(resultFile, objectives.size());
+      for (int i = 0; i < best.length; i++) {
+        statistics.get(i).add(best[i]);
+      }
+    }
+
+    var matcher = HOSTS_PATTERN.matcher(workflow);
+    int hosts = matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+
+    var bounds = lowerBounds.get(workflow);
+    var objectiveBounds =
+        objectives.stream().map(o -> bounds == null ? Double.NaN : bounds.of(o)).toList();
+
+    return new ExecutionStatistics(
+        workflow + "-" + algorithm,
+        algorithm,
+        workflow,
+        hosts,
+        List.copyOf(statistics),
+        objectiveBounds);
+  }
+
+  /**
+   * Reads a front and finds the minimum of each column.
+   *
+   * @param resultFile The file of the front, one solution per line separated by commas.
+   * @param columns The number of objectives to read.
+   * @return The minimum of each objective.
+   */
+  static double[] bestOfFront(Path resultFile, int columns) {
+    byte[] bytes;
+    try {
+      bytes = Files.readAllBytes(resultFile);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    double[] best = new double[columns];
+    Arrays.fill(best, Double.POSITIVE_INFINITY);
+
+    int position = 0;
+    while (position < bytes.length) {
+      int lineEnd = position;
+      while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+        lineEnd++;
+      }
+
+      int column = 0;
+      int fieldStart = position;
+      while (column < columns && fieldStart < lineEnd) {
+        int fieldEnd = fieldStart;
+        while (fieldEnd < lineEnd && bytes[fieldEnd] != ',') {
+          fieldEnd++;
+        }
+        int from = fieldStart;
+        int to = fieldEnd;
+        while (from < to && bytes[from] <= ' ') {
+          from++;
+        }
+        while (to > from && bytes[to - 1] <= ' ') {
+          to--;
+        }
+        if (from < to) {
+          best[column] = Math.min(best[column], FastDoubleParser.parse(bytes, from, to));
+          column++;
+        }
+        fieldStart = fieldEnd + 1;
+      }
+
+      position = lineEnd + 1;
+    }
+
+    return best;
+  }
+
+  /**
+   * Writes the statistics with the best, mean, min, max and standard deviation of each objective.
+   *
+   * @param file The CSV file.
+   * @param executions The statistics to write.
+   */
+  public void writeCsv(Path file, List<ExecutionStatistics> executions) {
+    try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      var header = new StringBuilder("Execution,Algorithm,Workflow,Hosts");
+      for (var objective : objectives) {
+        var name = objective.name();
+        header.append(
+            String.format(
+                ",Best %s,Mean %s,Min %s,Max %s,Std. Dev. %s", name, name, name, name, name));
+      }
+      for (var objective : objectives) {
+        header.append(
+            String.format(",Lower bound %s,Gap %s %%", objective.name(), objective.name()));
+      }
+      writer.write(header.toString());
+      writer.newLine();
+
+      for (var execution : executions) {
+        var row =
+            new StringBuilder(
+                String.format(
+                    "%s,%s,%s,%d",
+                    execution.executionName(),
+                    execution.algorithm(),
+                    execution.workflow(),
+                    execution.hosts()));
+        for (var statistics : execution.objectives()) {
+          row.append(
+              String.format(
+                  ",%f,%f,%f,%f,%f",
+                  statistics.min(),
+                  statistics.mean(),
+                  statistics.min(),
+                  statistics.max(),
+                  statistics.standardDeviation()));
+        }
+        for (int i = 0; i < objectives.size(); i++) {
+          row.append(String.format(",%f,%f", execution.lowerBounds().get(i), execution.gap(i)));
+        }
+        writer.write(row.toString());
+        writer.newLine();
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Writes why each run stopped and the evaluations it used, for the runs that recorded it.
+   *
+   * @param file The CSV file.
+   * @param algorithms The tags of the algorithms.
+   * @param workflows The tags of the problems.
+   */
+  public void writeTerminations(Path file, List<String> algorithms, List<String> workflows) {
+    try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      writer.write("Algorithm,Workflow,Run,Reason,Evaluations");
+      writer.newLine();
+      for (var algorithm : algorithms) {
+        for (var workflow : workflows) {
+          var runDirectory = Path.of(experimentBaseDirectory, "data", algorithm, workflow);
+          for (int run = 0; run < independentRuns; run++) {
+            var termination = RunTermination.read(RunTermination.file(runDirectory, run));
+            if (termination.isPresent()) {
+              writer.write(
+                  String.format(
+                      "%s,%s,%d,%s,%d",
+                      algorithm,
+                      workflow,
+                      run,
+                      termination.get().reason(),
+                      termination.get().evaluations()));
+              writer.newLine();
+            }
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Writes how each execution trusted its pre-screening proxy: the runs that recorded it, the
+   * offspring they screened out and the statistics of the Spearman correlations of all their
+   * calibrations. Executions without pre-screening are left out.
+   *
+   * @param file The CSV file.
+   * @param algorithms The tags of the algorithms.
+   * @param workflows The tags of the problems.
+   */
+  public void writePrescreening(Path file, List<String> algorithms, List<String> workflows) {
+    try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      writer.write(
+          "Algorithm,Workflow,Runs,Mean screened out,Calibrations,Mean correlation,"
+              + "Min correlation,Max correlation,Std. Dev. correlation");
+      writer.newLine();
+      for (var algorithm : algorithms) {
+        for (var workflow : workflows) {
+          var runDirectory = Path.of(experimentBaseDirectory, "data", algorithm, workflow);
+          var screenedOut = new RunningStatistics();
+          var correlations = new RunningStatistics();
+          for (int run = 0; run < independentRuns; run++) {
+            var prescreening = RunPrescreening.read(RunPrescreening.file(runDirectory, run));
+            if (prescreening.isPresent()) {
+              screenedOut.add(prescreening.get().screenedOut());
+              prescreening.get().correlations().forEach(correlations::add);
+            }
+          }
+          if (screenedOut.count() > 0) {
+            writer.write(
+                String.format(
+                    "%s,%s,%d,%f,%d,%f,%f,%f,%f",
+                    algorithm,
+                    workflow,
+                    screenedOut.count(),
+                    screenedOut.mean(),
+                    correlations.count(),
+                    correlations.count() > 0 ? correlations.mean() : Double.NaN,
+                    correlations.count() > 0 ? correlations.min() : Double.NaN,
+                    correlations.count() > 0 ? correlations.max() : Double.NaN,
+                    correlations.count() > 0 ? correlations.standardDeviation() : Double.NaN));
+            writer.newLine();
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Logs the statistics of each execution and objective.
+   *
+   * @param executions The statistics to log.
+   */
+  public void log(List<ExecutionStatistics> executions) {
+    for (var execution : executions) {
+      for (int i = 0; i < objectives.size(); i++) {
+        var statistics = execution.objectives().get(i);
+        LOG.info(
+            "Statistics for {} and objective {}: Mean = {}, Std. Dev. = {}, Min = {}, Max = {},"
+                + " Gap = {}%",
+            execution.executionName(),
+            objectives.get(i).name(),
+            statistics.mean(),
+            statistics.standardDeviation(),
+            statistics.min(),
+            statistics.max(),
+            execution.gap(i));
+      }
+    }
+  }
+}
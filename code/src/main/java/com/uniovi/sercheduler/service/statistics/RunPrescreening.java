@@ -0,0 +1,66 @@
+package com.uniovi.sercheduler.service.statistics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * How a run with pre-screening trusted its proxy, stored next to the front of the run.
+ *
+ * @param screenedOut The offspring discarded by the proxy without a real evaluation.
+ * @param correlations The Spearman correlation between the proxy and the real ranking, one per
+ *     calibration.
+ */
+public record RunPrescreening(int screenedOut, List<Double> correlations) {
+
+  /**
+   * Gets the file of a run.
+   *
+   * @param runDirectory The directory with the fronts of the runs.
+   * @param run The run id.
+   * @return The file.
+   */
+  public static Path file(Path runDirectory, int run) {
+    return runDirectory.resolve("PRESCREENING" + run + ".csv");
+  }
+
+  /**
+   * Writes the screened out offspring followed by the correlations in a single line.
+   *
+   * @param file The file.
+   */
+  public void write(Path file) {
+    var line = new StringBuilder().append(screenedOut);
+    for (var correlation : correlations) {
+      line.append(',').append(correlation);
+    }
+    try {
+      Files.writeString(file, line.append('\n'), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Reads a pre-screening record.
+   *
+   * @param file The file.
+   * @return The record, empty if the run did not use pre-screening.
+   */
+  public static Optional<RunPrescreening> read(Path file) {
+    if (!Files.exists(file)) {
+      return Optional.empty();
+    }
+    try {
+      var fields = Files.readString(file, StandardCharsets.UTF_8).trim().split(",");
+      var correlations = Arrays.stream(fields, 1, fields.length).map(Double::valueOf).toList();
+      return Optional.of(new RunPrescreening(Integer.parseInt(fields[0]), correlations));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.uniovi.sercheduler.service.statistics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Why a run stopped and the evaluations it used, stored next to the front of the run.
+ *
+ * @param reason The reason, for example budget, stagnation or lower-bound.
+ * @param evaluations The evaluations used.
+ */
+public record RunTermination(String reason, int evaluations) {
+
+  /**
+   * Gets the file of a run.
+   *
+   * @param runDirectory The directory with the fronts of the runs.
+   * @param run The run id.
+   * @return The file.
+   */
+  public static Path file(Path runDirectory, int run) {
+    return runDirectory.resolve("TERMINATION" + run + ".csv");
+  }
+
+  /**
+   * Writes the termination in a single line.
+   *
+   * @param file The file.
+   */
+  public void write(Path file) {
+    try {
+      Files.writeString(file, reason + "," + evaluations + "\n", StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Reads a termination.
+   *
+   * @param file The file.
+   * @return The termination, empty if the run did not record it.
+   */
+  public static Optional<RunTermination> read(Path file) {
+    if (!Files.exists(file)) {
+      return Optional.empty();
+    }
+    try {
+      var fields = Files.readString(file, StandardCharsets.UTF_8).trim().split(",");
+      return Optional.of(new RunTermination(fields[0], Integer.parseInt(fields[1])));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.uniovi.sercheduler.service.statistics;
+
+/**
+ * Count, mean, minimum, maximum and standard deviation of a stream of values, updated in one pass
+ * with Welford's algorithm.
+ */
+public class RunningStatistics {
+
+  private long count;
+  private double mean;
+  private double squaredDistances;
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+
+  /**
+   * Adds a value.
+   *
+   * @param value The value to add.
+   */
+  public void add(double value) {
+    count++;
+    double delta = value - mean;
+    mean += delta / count;
+    squaredDistances += delta * (value - mean);
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+  }
+
+  public long count() {
+    return count;
+  }
+
+  public double mean() {
+    return mean;
+  }
+
+  public double min() {
+    return min;
+  }
+
+  public double max() {
+    return max;
+  }
+
+  /**
+   * The population standard deviation, the values are all the runs and not a sample.
+   *
+   * @return The standard deviation, 0 when there are no values.
+   */
+  public double standardDeviation() {
+    return count == 0 ? 0 : Math.sqrt(squaredDistances / count);
+  }
+}
@@ -0,0 +1,22 @@
+package com.uniovi.sercheduler.util;
+
+/**
+ * A component of a run whose state is saved in the checkpoints, so a resumed run continues
+ * exactly as the original one.
+ */
+public interface Checkpointable {
+
+  /**
+   * Gets the current state.
+   *
+   * @return The state, doubles are stored with their raw bits.
+   */
+  long[] checkpoint();
+
+  /**
+   * Goes back to a saved state.
+   *
+   * @param state A value returned by {@link #checkpoint()} of an equivalent component.
+   */
+  void restore(long[] state);
+}
@@ -0,0 +1,51 @@
+package com.uniovi.sercheduler.util;
+
+/**
+ * A {@link java.util.Random} whose state can be saved and restored, it generates exactly the same
+ * numbers as the original with the same seed.
+ *
+ * <p>The linear congruential generator of the original is reimplemented in {@link #next(int)},
+ * which every other method uses, because its seed is private. It is not thread safe, as the
+ * generators of a run are only used by the thread of the algorithm. {@link #nextGaussian()} keeps
+ * a second value that is not saved, nothing in the runs uses it.
+ */
+public class CheckpointableRandom extends java.util.Random implements Checkpointable {
+
+  private static final long MULTIPLIER = 0x5DEECE66DL;
+  private static final long ADDEND = 0xBL;
+  private static final long MASK = (1L << 48) - 1;
+
+  // Without initializer, it is set by setSeed from the constructor of the superclass.
+  private long state;
+
+  /**
+   * Full constructor.
+   *
+   * @param seed The seed, as in {@link java.util.Random#Random(long)}.
+   */
+  public CheckpointableRandom(long seed) {
+    super(seed);
+  }
+
+  @Override
+  public void setSeed(long seed) {
+    super.setSeed(seed);
+    state = (seed ^ MULTIPLIER) & MASK;
+  }
+
+  @Override
+  protected int next(int bits) {
+    state = (state * MULTIPLIER + ADDEND) & MASK;
+    return (int) (state >>> (48 - bits));
+  }
+
+  @Override
+  public long[] checkpoint() {
+    return new long[] {state};
+  }
+
+  @Override
+  public void restore(long[] state) {
+    this.state = state[0];
+  }
+}
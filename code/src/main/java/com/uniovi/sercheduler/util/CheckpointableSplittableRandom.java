@@ -0,0 +1,87 @@
+package com.uniovi.sercheduler.util;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A {@link java.util.SplittableRandom} whose state can be saved and restored, it generates and
+ * splits exactly as the original with the same seed.
+ *
+ * <p>The original does not expose its state, so the SplitMix64 algorithm is reimplemented here:
+ * {@link #nextInt()} and {@link #nextLong()} are the ones of the original and the bounded and
+ * floating point methods are the defaults of {@link RandomGenerator}, also used by the original.
+ */
+public class CheckpointableSplittableRandom implements RandomGenerator, Checkpointable {
+
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+  private long seed;
+  private long gamma;
+
+  /**
+   * Full constructor.
+   *
+   * @param seed The seed, as in {@link java.util.SplittableRandom#SplittableRandom(long)}.
+   */
+  public CheckpointableSplittableRandom(long seed) {
+    this(seed, GOLDEN_GAMMA);
+  }
+
+  private CheckpointableSplittableRandom(long seed, long gamma) {
+    this.seed = seed;
+    this.gamma = gamma;
+  }
+
+  /**
+   * Creates a new generator that shares no state with this one, as {@link
+   * java.util.SplittableRandom#split()}.
+   *
+   * @return The new generator.
+   */
+  public CheckpointableSplittableRandom split() {
+    return new CheckpointableSplittableRandom(nextLong(), mixGamma(nextSeed()));
+  }
+
+  @Override
+  public int nextInt() {
+    return mix32(nextSeed());
+  }
+
+  @Override
+  public long nextLong() {
+    return mix64(nextSeed());
+  }
+
+  @Override
+  public long[] checkpoint() {
+    return new long[] {seed, gamma};
+  }
+
+  @Override
+  public void restore(long[] state) {
+    seed = state[0];
+    gamma = state[1];
+  }
+
+  private long nextSeed() {
+    return seed += gamma;
+  }
+
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  private static int mix32(long z) {
+    z = (z ^ (z >>> 33)) * 0x62A9D9ED799705F5L;
+    return (int) (((z ^ (z >>> 28)) * 0xCB24D0A5C88C35B3L) >>> 32);
+  }
+
+  private static long mixGamma(long z) {
+    z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+    z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    z = (z ^ (z >>> 33)) | 1L;
+    int n = Long.bitCount(z ^ (z >>> 1));
+    return (n < 24) ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+  }
+}
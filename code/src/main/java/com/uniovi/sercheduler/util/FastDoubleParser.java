@@ -0,0 +1,119 @@
+package com.uniovi.sercheduler.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses decimal numbers straight from bytes, without creating strings.
+ *
+ * <p>When the digits fit in 15 significant digits and the decimal exponent is small, the number
+ * is exactly one multiplication or division of two exact doubles, so the result is the correctly
+ * rounded value (Clinger's fast path). Any other number falls back to {@link Double#parseDouble}.
+ */
+public final class FastDoubleParser {
+
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  private static final int MAX_EXACT_DIGITS = 15;
+
+  private FastDoubleParser() {}
+
+  /**
+   * Parses the number between two positions.
+   *
+   * @param bytes The text in ASCII.
+   * @param from The first position of the number.
+   * @param to The position after the number.
+   * @return The parsed number.
+   */
+  public static double parse(byte[] bytes, int from, int to) {
+    int i = from;
+    boolean negative = false;
+    if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+      negative = bytes[i] == '-';
+      i++;
+    }
+
+    long mantissa = 0;
+    int digits = 0;
+    int exponent = 0;
+    boolean anyDigit = false;
+
+    // Leading zeros are not significant.
+    while (i < to && bytes[i] == '0') {
+      anyDigit = true;
+      i++;
+    }
+    while (i < to && isDigit(bytes[i])) {
+      anyDigit = true;
+      if (digits < 19) {
+        mantissa = mantissa * 10 + (bytes[i] - '0');
+      } else {
+        exponent++;
+      }
+      digits++;
+      i++;
+    }
+    if (i < to && bytes[i] == '.') {
+      i++;
+      if (digits == 0) {
+        while (i < to && bytes[i] == '0') {
+          anyDigit = true;
+          exponent--;
+          i++;
+        }
+      }
+      while (i < to && isDigit(bytes[i])) {
+        anyDigit = true;
+        if (digits < 19) {
+          mantissa = mantissa * 10 + (bytes[i] - '0');
+          exponent--;
+        }
+        digits++;
+        i++;
+      }
+    }
+    if (anyDigit && i < to && (bytes[i] == 'e' || bytes[i] == 'E')) {
+      i++;
+      boolean negativeExponent = false;
+      if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+        negativeExponent = bytes[i] == '-';
+        i++;
+      }
+      int explicitExponent = 0;
+      int exponentStart = i;
+      while (i < to && isDigit(bytes[i])) {
+        if (explicitExponent < 100_000) {
+          explicitExponent = explicitExponent * 10 + (bytes[i] - '0');
+        }
+        i++;
+      }
+      if (i == exponentStart) {
+        return fallback(bytes, from, to);
+      }
+      exponent += negativeExponent ? -explicitExponent : explicitExponent;
+    }
+
+    if (!anyDigit || i != to) {
+      return fallback(bytes, from, to);
+    }
+
+    if (digits <= MAX_EXACT_DIGITS && exponent >= -22 && exponent <= 22) {
+      double value = mantissa;
+      value = exponent < 0 ? value / POWERS_OF_TEN[-exponent] : value * POWERS_OF_TEN[exponent];
+      return negative ? -value : value;
+    }
+
+    return fallback(bytes, from, to);
+  }
+
+  private static boolean isDigit(byte b) {
+    return b >= '0' && b <= '9';
+  }
+
+  private static double fallback(byte[] bytes, int from, int to) {
+    return Double.parseDouble(new String(bytes, from, to - from, StandardCharsets.US_ASCII));
+  }
+}
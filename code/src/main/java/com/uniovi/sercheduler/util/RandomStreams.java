@@ -0,0 +1,41 @@
+package com.uniovi.sercheduler.util;
+
+/**
+ * Derives an independent random stream for each run of an experiment from the master seed.
+ *
+ * <p>The stream only depends on the seed and the identity of the run, so the results are the same
+ * no matter how many runs are executed in parallel or in which order.
+ */
+public final class RandomStreams {
+
+  private RandomStreams() {}
+
+  /**
+   * Creates the random stream of a run.
+   *
+   * @param masterSeed The seed of the experiment.
+   * @param workflow The name of the workflow.
+   * @param hosts The number of hosts.
+   * @param fitness The fitness function.
+   * @param run The number of the independent run.
+   * @return A generator that belongs only to the run, its state can be checkpointed.
+   */
+  public static CheckpointableSplittableRandom forRun(
+      long masterSeed, String workflow, int hosts, String fitness, int run) {
+    long seed = mix(masterSeed);
+    // String hash codes are defined by the specification, so they are stable between executions.
+    seed = mix(seed ^ workflow.hashCode());
+    seed = mix(seed ^ hosts);
+    seed = mix(seed ^ fitness.hashCode());
+    seed = mix(seed ^ run);
+    return new CheckpointableSplittableRandom(seed);
+  }
+
+  /** Finalizer of SplitMix64, spreads every bit of the input over the output. */
+  private static long mix(long value) {
+    long z = value + 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
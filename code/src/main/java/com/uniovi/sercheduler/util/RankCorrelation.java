@@ -0,0 +1,74 @@
+package com.uniovi.sercheduler.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/** Ranks and the Spearman rank correlation of samples of values. */
+public final class RankCorrelation {
+
+  private RankCorrelation() {}
+
+  /**
+   * Ranks values from the lowest, ties share the average of their ranks.
+   *
+   * @param values The values.
+   * @return The rank of each value, starting at 1.
+   */
+  public static double[] ranks(double[] values) {
+    var order =
+        IntStream.range(0, values.length)
+            .boxed()
+            .sorted(Comparator.comparingDouble(i -> values[i]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+
+    var ranks = new double[values.length];
+    int start = 0;
+    while (start < order.length) {
+      int end = start;
+      while (end + 1 < order.length
+          && Double.compare(values[order[end + 1]], values[order[start]]) == 0) {
+        end++;
+      }
+      double rank = (start + end) / 2.0 + 1;
+      for (int i = start; i <= end; i++) {
+        ranks[order[i]] = rank;
+      }
+      start = end + 1;
+    }
+    return ranks;
+  }
+
+  /**
+   * Computes the Spearman correlation, the Pearson correlation of the ranks.
+   *
+   * @param first The first sample.
+   * @param second The second sample, of the same size.
+   * @return The correlation between -1 and 1, 0 when a sample has no variance.
+   */
+  public static double spearman(double[] first, double[] second) {
+    if (first.length != second.length) {
+      throw new IllegalArgumentException("The samples have different sizes");
+    }
+    var firstRanks = ranks(first);
+    var secondRanks = ranks(second);
+    double firstMean = Arrays.stream(firstRanks).average().orElse(0);
+    double secondMean = Arrays.stream(secondRanks).average().orElse(0);
+
+    double covariance = 0;
+    double firstVariance = 0;
+    double secondVariance = 0;
+    for (int i = 0; i < first.length; i++) {
+      double a = firstRanks[i] - firstMean;
+      double b = secondRanks[i] - secondMean;
+      covariance += a * b;
+      firstVariance += a * a;
+      secondVariance += b * b;
+    }
+    if (firstVariance == 0 || secondVariance == 0) {
+      return 0;
+    }
+    return covariance / Math.sqrt(firstVariance * secondVariance);
+  }
+}
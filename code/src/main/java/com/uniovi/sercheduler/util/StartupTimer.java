@@ -0,0 +1,28 @@
+package com.uniovi.sercheduler.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs the time from the start of the JVM to the first evaluation, to compare the startup cost of
+ * the launchers.
+ */
+public final class StartupTimer {
+
+  static final Logger LOG = LoggerFactory.getLogger(StartupTimer.class);
+
+  private static final AtomicBoolean EVALUATED = new AtomicBoolean();
+
+  private StartupTimer() {}
+
+  /** Marks an evaluation, only the first one of the JVM is logged. */
+  public static void evaluation() {
+    if (!EVALUATED.get() && EVALUATED.compareAndSet(false, true)) {
+      LOG.info(
+          "First evaluation {} ms after the JVM started",
+          ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+  }
+}
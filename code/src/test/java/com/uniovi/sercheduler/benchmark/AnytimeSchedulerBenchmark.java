@@ -0,0 +1,73 @@
+package com.uniovi.sercheduler.benchmark;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.jmetal.algorithm.AnytimeResult;
+import com.uniovi.sercheduler.jmetal.algorithm.AnytimeScheduler;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import com.uniovi.sercheduler.util.LoadTestInstanceData;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Latency of the anytime scheduler against its budget. The sample time mode reports the
+ * percentiles, p50 and p99 should stay close to the budget.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class AnytimeSchedulerBenchmark {
+
+  @Param({"100", "500"})
+  long budgetMillis;
+
+  @Param({"ga", "nsga2"})
+  String algorithm;
+
+  private AnytimeScheduler scheduler;
+  private SplittableRandom random;
+
+  @Setup
+  public void setUp() {
+    var objectives = List.of(Objective.MAKESPAN, Objective.ENERGY);
+    var problem =
+        new SchedulingProblem(
+            "montage",
+            LoadTestInstanceData.loadMontageTest(),
+            "simple",
+            new SplittableRandom(1L),
+            objectives,
+            Objective.MAKESPAN.objectiveName);
+    scheduler = new AnytimeScheduler(problem, algorithm, 100, 0);
+    random = new SplittableRandom(1L);
+  }
+
+  @Benchmark
+  public AnytimeResult schedule() {
+    return scheduler.schedule(Duration.ofMillis(budgetMillis), random.split(), i -> {});
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(AnytimeSchedulerBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
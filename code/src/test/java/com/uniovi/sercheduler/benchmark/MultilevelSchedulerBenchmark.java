@@ -0,0 +1,109 @@
+package com.uniovi.sercheduler.benchmark;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.dto.InstanceData;
+import com.uniovi.sercheduler.jmetal.algorithm.AnytimeResult;
+import com.uniovi.sercheduler.jmetal.algorithm.AnytimeScheduler;
+import com.uniovi.sercheduler.jmetal.algorithm.MultilevelScheduler;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import com.uniovi.sercheduler.service.HeuristicScheduler;
+import com.uniovi.sercheduler.util.LoadTestInstanceData;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.uma.jmetal.component.catalogue.common.termination.Termination;
+
+/**
+ * Time to target of the multilevel search against the flat GA, on workflows of growing size. The
+ * target is 5% above the makespan of HEFT, a run also stops after a maximum number of evaluations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MultilevelSchedulerBenchmark {
+
+  private static final int MAX_EVALUATIONS = 100000;
+  private static final double TARGET_FACTOR = 1.05;
+
+  @Param({"epigenomics.json", "montage.json", "soykb.json"})
+  String workflow;
+
+  @Param({"flat", "multilevel"})
+  String mode;
+
+  private InstanceData instanceData;
+  private double target;
+  private SplittableRandom random;
+
+  @Setup
+  public void setUp() {
+    instanceData = LoadTestInstanceData.loadWorkflowTest(workflow);
+    target =
+        TARGET_FACTOR
+            * new HeuristicScheduler(instanceData, "heft")
+                .schedule()
+                .fitness()
+                .get(Objective.MAKESPAN.objectiveName);
+    random = new SplittableRandom(1L);
+  }
+
+  @Benchmark
+  public AnytimeResult timeToTarget() {
+    var objectives = List.of(Objective.MAKESPAN, Objective.ENERGY);
+    var runRandom = random.split();
+    if (mode.equals("multilevel")) {
+      return new MultilevelScheduler(
+              "multilevel", instanceData, "simple", objectives, "ga", 100, 0, 10)
+          .schedule(() -> new TerminationByTarget(target), 2000, runRandom, i -> {});
+    }
+    var problem =
+        new SchedulingProblem(
+            "flat",
+            instanceData,
+            "simple",
+            runRandom,
+            objectives,
+            Objective.MAKESPAN.objectiveName);
+    return new AnytimeScheduler(problem, "ga", 100, 0)
+        .schedule(new TerminationByTarget(target), runRandom, i -> {});
+  }
+
+  /** Stops when the population reaches the target makespan or after the maximum evaluations. */
+  private record TerminationByTarget(double target) implements Termination {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean isMet(Map<String, Object> algorithmStatusData) {
+      var population = (List<SchedulePermutationSolution>) algorithmStatusData.get("POPULATION");
+      return (int) algorithmStatusData.get("EVALUATIONS") >= MAX_EVALUATIONS
+          || population.stream().anyMatch(s -> s.objectives()[0] <= target);
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(MultilevelSchedulerBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+}
@@ -0,0 +1,98 @@
+package com.uniovi.sercheduler.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.uniovi.sercheduler.parser.HostFileLoader;
+import com.uniovi.sercheduler.parser.WorkflowFileLoader;
+import com.uniovi.sercheduler.parser.experiment.ExperimentConfigLoader;
+import com.uniovi.sercheduler.service.ScheduleExporter;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class CommandRegistryTest {
+
+  private static CommandRegistry registry() {
+    return new CommandRegistry(
+        CommandRegistry.commands(
+            new WorkflowFileLoader(),
+            new HostFileLoader(),
+            new ExperimentConfigLoader(),
+            new ScheduleExporter()));
+  }
+
+  @Test
+  void parseTheOptionsOfTheShell() {
+    var registry = registry();
+    assertTrue(registry.names().containsAll(List.of("evaluate", "jmetal", "anytime")));
+    assertFalse(registry.names().contains("batch"));
+
+    var method = registry.method("anytime");
+    var arguments =
+        CommandRegistry.arguments(
+            method,
+            List.of("-H", "hosts.json", "-W", "workflow.json", "-R", "-B", "100"),
+            Map.of());
+
+    assertEquals("hosts.json", arguments[0]);
+    assertEquals("workflow.json", arguments[1]);
+    assertEquals(100L, arguments[2]);
+    assertEquals(1L, arguments[3]);
+    assertEquals("simple", arguments[4]);
+    assertEquals("", arguments[7]);
+    assertEquals(true, arguments[8]);
+    assertEquals(0, arguments[9]);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> CommandRegistry.arguments(method, List.of("-W", "workflow.json"), Map.of()));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            CommandRegistry.arguments(
+                method, List.of("-H", "hosts.json", "-X", "1"), Map.of()));
+  }
+
+  @Test
+  void replaceTheOverriddenOptions() {
+    var registry = registry();
+    assertTrue(registry.hasParameter("evaluate", "executions"));
+    assertFalse(registry.hasParameter("archive", "executions"));
+
+    var arguments =
+        CommandRegistry.arguments(
+            registry.method("anytime"),
+            List.of("-H", "hosts.json", "-W", "workflow.json", "-B", "100"),
+            Map.of("budget", "5", "workflowFile", "other.json"));
+    assertEquals("other.json", arguments[1]);
+    assertEquals(5L, arguments[2]);
+  }
+
+  @Test
+  void readTheManifest() throws Exception {
+    var manifest = Files.createTempFile("manifest", ".txt");
+    Files.writeString(
+        manifest,
+        """
+        # Montage with both fitness
+        evaluate -H hosts.json -W "my workflow.json" -F heft
+
+        jmetal -C config.json
+        """);
+
+    var jobs = BatchCommand.readManifest(new File(manifest.toString()));
+    assertEquals(2, jobs.size());
+    assertEquals(2, jobs.get(0).line());
+    assertEquals("evaluate", jobs.get(0).command());
+    assertEquals(
+        List.of("-H", "hosts.json", "-W", "my workflow.json", "-F", "heft"),
+        jobs.get(0).options());
+    assertEquals(4, jobs.get(1).line());
+    assertEquals(List.of("-C", "config.json"), jobs.get(1).options());
+  }
+}
@@ -0,0 +1,54 @@
+package com.uniovi.sercheduler.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.uniovi.sercheduler.parser.HostFileLoader;
+import com.uniovi.sercheduler.parser.WorkflowFileLoader;
+import com.uniovi.sercheduler.service.PlanGenerator;
+import com.uniovi.sercheduler.util.LoadTestInstanceData;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+class SimulateCommandTest {
+
+  @Test
+  void nameTheProblemAsTheExperiments() {
+    assertEquals(
+        "montage-hosts-8",
+        SimulateCommand.problemName("workflows/montage.json", "hosts/extreme/hosts-8.json"));
+  }
+
+  @Test
+  void skipThePlansOfOtherProblems(@TempDir Path sweep) throws IOException {
+    var instanceData = LoadTestInstanceData.loadMontageTest();
+    var plan = new PlanGenerator(new Random(1L), instanceData).generatePlan();
+    var line = plan.stream().map(Object::toString).collect(Collectors.joining(","));
+
+    var output = sweep.resolve("simulation.csv");
+    var matching = Files.createDirectories(sweep.resolve("data/NSGAII/montage-hosts-8"));
+    Files.writeString(matching.resolve("VAR0.csv"), line + "\n" + line + "\n");
+    var other = Files.createDirectories(sweep.resolve("data/NSGAII/cycles-hosts-8"));
+    Files.writeString(other.resolve("VAR0.csv"), "[cycles_task, host-1]\n");
+
+    var command = new SimulateCommand(new WorkflowFileLoader(), new HostFileLoader());
+    var result =
+        command.simulate(
+            new ClassPathResource("extreme/hosts-8.json").getFile().getPath(),
+            new ClassPathResource("montage.json").getFile().getPath(),
+            sweep.toString(),
+            "simple",
+            output.toString());
+
+    assertTrue(result.startsWith("Simulated 2 plans"), result);
+    var lines = Files.readAllLines(output);
+    assertEquals(3, lines.size());
+    assertTrue(lines.stream().skip(1).allMatch(l -> l.contains("montage-hosts-8")));
+  }
+}
@@ -0,0 +1,77 @@
+package com.uniovi.sercheduler.jmetal.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import com.uniovi.sercheduler.util.LoadTestInstanceData;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.component.catalogue.common.termination.impl.TerminationByEvaluations;
+
+class AnytimeSchedulerTest {
+
+  private static SchedulingProblem problem() {
+    return problem("simple");
+  }
+
+  private static SchedulingProblem problem(String fitness) {
+    return new SchedulingProblem(
+        "montage",
+        LoadTestInstanceData.loadMontageTest(),
+        fitness,
+        new SplittableRandom(1),
+        List.of(Objective.MAKESPAN, Objective.ENERGY),
+        "makespan");
+  }
+
+  @Test
+  void deadlineStopsTheSearch() {
+    var budget = Duration.ofMillis(500);
+    var result =
+        new AnytimeScheduler(problem(), "ga", 20, 1)
+            .schedule(budget, new SplittableRandom(1), improvement -> {});
+
+    assertTrue(result.evaluations() > 20);
+    // The initial population and one generation may run past the deadline, not the search.
+    assertTrue(result.elapsed().compareTo(budget.plusSeconds(2)) < 0, result.elapsed().toString());
+  }
+
+  @Test
+  void improvementsAreReportedInOrder() {
+    var improvements = new ArrayList<AnytimeImprovement>();
+    var result =
+        new AnytimeScheduler(problem(), "ga", 20, 1)
+            .schedule(
+                new TerminationByEvaluations(2000), new SplittableRandom(1), improvements::add);
+
+    assertFalse(improvements.isEmpty());
+    assertEquals(improvements.size(), result.improvements());
+    for (int i = 1; i < improvements.size(); i++) {
+      var previous = improvements.get(i - 1);
+      var current = improvements.get(i);
+      assertTrue(current.fitness() < previous.fitness());
+      assertTrue(current.evaluations() >= previous.evaluations());
+      assertTrue(current.elapsed().compareTo(previous.elapsed()) >= 0);
+    }
+    var last = improvements.get(improvements.size() - 1);
+    assertEquals(last.fitness(), result.fitness());
+    assertSame(last.solution(), result.best());
+  }
+
+  @Test
+  void multiFitnessEvaluatesEveryPlanWithBothArbiters() {
+    var improvements = new ArrayList<AnytimeImprovement>();
+    new AnytimeScheduler(problem("multi"), "nsga2", 20, 1)
+        .schedule(new TerminationByEvaluations(400), new SplittableRandom(1), improvements::add);
+
+    // The initial population is evaluated once with each arbiter.
+    assertEquals(40, improvements.get(0).evaluations());
+  }
+}
@@ -0,0 +1,51 @@
+package com.uniovi.sercheduler.jmetal.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TerminationByDeadlineTest {
+
+  private static final long MILLI = Duration.ofMillis(1).toNanos();
+
+  @Test
+  void metOnlyOnceTheDeadlineIsNear() {
+    var clock = new AtomicLong();
+    var termination = new TerminationByDeadline(200 * MILLI, clock::get);
+    assertFalse(termination.isMet(Map.of()));
+    assertFalse(termination.remaining().isNegative());
+
+    clock.addAndGet(250 * MILLI);
+    assertTrue(termination.isMet(Map.of()));
+    assertTrue(termination.remaining().isNegative());
+  }
+
+  @Test
+  void stopWhenTheNextGenerationWouldNotFinishInTime() {
+    var clock = new AtomicLong();
+    var termination = new TerminationByDeadline(500 * MILLI, clock::get);
+    assertFalse(termination.isMet(Map.of()));
+
+    // A generation of 300 ms leaves 200 ms, the next one would end after the deadline.
+    clock.addAndGet(300 * MILLI);
+    assertTrue(termination.isMet(Map.of()));
+    assertFalse(termination.remaining().isNegative());
+  }
+
+  @Test
+  void goOnWhileTheNextGenerationFitsInTime() {
+    var clock = new AtomicLong();
+    var termination = new TerminationByDeadline(500 * MILLI, clock::get);
+
+    for (int generation = 0; generation < 3; generation++) {
+      clock.addAndGet(100 * MILLI);
+      assertFalse(termination.isMet(Map.of()));
+    }
+    clock.addAndGet(100 * MILLI);
+    assertTrue(termination.isMet(Map.of()));
+  }
+}
@@ -0,0 +1,51 @@
+package com.uniovi.sercheduler.jmetal.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TerminationByStagnationTest {
+
+  private static Map<String, Object> status(int evaluations, double makespan, double energy) {
+    var solution = new SchedulePermutationSolution(1, 2, null, List.of(), "makespan");
+    solution.objectives()[0] = makespan;
+    solution.objectives()[1] = energy;
+    return Map.of("EVALUATIONS", evaluations, "POPULATION", List.of(solution));
+  }
+
+  @Test
+  void isMetAfterTheGenerationsWithoutImprovement() {
+    var termination =
+        new TerminationByStagnation(10000, 2, 0.01, Double.NEGATIVE_INFINITY);
+
+    assertFalse(termination.isMet(status(100, 100, 100)));
+    assertFalse(termination.isMet(status(200, 90, 100)));
+    // Improvements below the epsilon do not count.
+    assertFalse(termination.isMet(status(300, 89.99, 100)));
+    assertTrue(termination.isMet(status(400, 89.98, 100)));
+
+    assertEquals(TerminationByStagnation.STAGNATION, termination.reason());
+    assertEquals(400, termination.evaluations());
+  }
+
+  @Test
+  void isMetAtTheBudgetOrTheLowerBound() {
+    var budget = new TerminationByStagnation(200, 5, 0.01, 50);
+    assertFalse(budget.isMet(status(100, 100, 100)));
+    assertTrue(budget.isMet(status(200, 90, 100)));
+    assertEquals(ConvergenceTermination.BUDGET, budget.reason());
+
+    var bound = new TerminationByStagnation(10000, 5, 0.01, 50);
+    assertFalse(bound.isMet(status(100, 100, 100)));
+    assertTrue(bound.isMet(status(200, 50, 100)));
+    assertEquals(ConvergenceTermination.LOWER_BOUND, bound.reason());
+
+    // A new run of the same algorithm starts from scratch.
+    assertFalse(bound.isMet(status(100, 100, 100)));
+  }
+}
@@ -0,0 +1,79 @@
+package com.uniovi.sercheduler.jmetal.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.service.PlanGenerator;
+import com.uniovi.sercheduler.util.LoadTestInstanceData;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResultArchiveTest {
+
+  private static ArrayList<SchedulePermutationSolution> solutions() {
+    var instanceData = LoadTestInstanceData.loadFitnessTest();
+    var planGenerator = new PlanGenerator(new Random(1L), instanceData);
+    var solutions = new ArrayList<SchedulePermutationSolution>();
+    for (int i = 0; i < 20; i++) {
+      var solution =
+          new SchedulePermutationSolution(10, 2, null, planGenerator.generatePlan(), "makespan");
+      solution.objectives()[0] = 100 + i / 3.0;
+      solution.objectives()[1] = 1000 - i * 0.1;
+      solutions.add(solution);
+    }
+    return solutions;
+  }
+
+  @Test
+  void writeAndReadBack() throws IOException {
+    var solutions = solutions();
+    for (boolean compress : new boolean[] {false, true}) {
+      var output = new ByteArrayOutputStream();
+      ResultArchiveWriter.write(output, solutions, compress);
+
+      var archive =
+          ResultArchiveReader.read(new ByteArrayInputStream(output.toByteArray()), "memory");
+
+      assertEquals(solutions.size(), archive.numberOfSolutions());
+      for (int i = 0; i < solutions.size(); i++) {
+        assertEquals(solutions.get(i).objectives()[0], archive.objectivesOf(i)[0]);
+        assertEquals(solutions.get(i).objectives()[1], archive.objectivesOf(i)[1]);
+        var plan = archive.planOf(i);
+        for (int k = 0; k < plan.size(); k++) {
+          var pair = solutions.get(i).getPlan().get(k);
+          assertEquals(pair.task().getName(), plan.get(k)[0]);
+          assertEquals(pair.host().getName(), plan.get(k)[1]);
+        }
+      }
+    }
+  }
+
+  @Test
+  void convertToTheCsvLayout(@TempDir Path directory) throws IOException {
+    var solutions = solutions();
+    var archiveFile = directory.resolve("VAR0.sra");
+    ResultArchiveWriter.write(archiveFile, solutions, true);
+
+    var funFile = directory.resolve("FUN0.csv");
+    var varFile = directory.resolve("VAR0.csv");
+    ResultArchiveCsvConverter.toCsv(ResultArchiveReader.read(archiveFile), funFile, varFile);
+
+    var funLines = Files.readAllLines(funFile);
+    var varLines = Files.readAllLines(varFile);
+    for (int i = 0; i < solutions.size(); i++) {
+      var solution = solutions.get(i);
+      assertEquals(solution.objectives()[0] + "," + solution.objectives()[1], funLines.get(i));
+      assertEquals(
+          solution.getPlan().stream().map(Object::toString).collect(Collectors.joining(",")),
+          varLines.get(i));
+    }
+  }
+}
@@ -0,0 +1,187 @@
+package com.uniovi.sercheduler.jmetal.checkpoint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.dto.InstanceData;
+import com.uniovi.sercheduler.expception.CheckpointException;
+import com.uniovi.sercheduler.jmetal.algorithm.BiObjectiveNSGAIIBuilder;
+import com.uniovi.sercheduler.jmetal.algorithm.TerminationByStagnation;
+import com.uniovi.sercheduler.jmetal.evaluation.MultiThreadEvaluationMulti;
+import com.uniovi.sercheduler.jmetal.operator.ScheduleCrossover;
+import com.uniovi.sercheduler.jmetal.operator.ScheduleMutation;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import com.uniovi.sercheduler.service.FitnessInfo;
+import com.uniovi.sercheduler.service.Operators;
+import com.uniovi.sercheduler.util.CheckpointableRandom;
+import com.uniovi.sercheduler.util.LoadTestInstanceData;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uma.jmetal.component.catalogue.common.evaluation.Evaluation;
+import org.uma.jmetal.component.catalogue.common.termination.Termination;
+
+class CheckpointerTest {
+
+  private static final int EVALUATIONS = 3000;
+
+  private static final Map<String, String> PARAMETERS = Map.of("population", "20");
+
+  @Test
+  void resumedRunEndsAsTheOriginal() throws Exception {
+    var expected = run(null, false, 1);
+
+    var file = Files.createTempFile("run", ".ckpt");
+    try {
+      Files.delete(file);
+      var checkpointed = run(file, false, 1);
+      assertTrue(Files.exists(file));
+      var checkpoint = CheckpointReader.read(file, LoadTestInstanceData.loadMontageTest());
+      assertTrue(checkpoint.evaluations() < EVALUATIONS);
+
+      // Other seeds, only the restored state can give the same result.
+      var resumed = run(file, true, 2);
+
+      assertEquals(render(expected), render(checkpointed));
+      assertEquals(render(expected), render(resumed));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  void rejectACheckpointOfOtherParameters(@TempDir Path directory) {
+    var file = directory.resolve("run.ckpt");
+    run(file, false, 1);
+    assertEquals(PARAMETERS, CheckpointReader.read(file, instanceData()).parameters());
+
+    var exception =
+        assertThrows(
+            CheckpointException.class, () -> run(file, true, 1, Map.of("population", "40")));
+    assertTrue(exception.getMessage().contains("population 20"), exception.getMessage());
+  }
+
+  @Test
+  void checkpointKeepsThePopulation() throws Exception {
+    var instanceData = LoadTestInstanceData.loadMontageTest();
+    var problem = problem(instanceData, 1);
+    var pruned = problem.createSolution();
+    pruned.setFitnessInfo(FitnessInfo.pruned("simple"));
+    var population =
+        List.of(
+            problem.evaluate(problem.createSolution()),
+            problem.createSolution(),
+            problem.evaluate(problem.createSolution()),
+            pruned);
+    var file = Files.createTempFile("population", ".ckpt");
+    try {
+      CheckpointWriter.save(
+          file,
+          CheckpointWriter.encode(
+              new Checkpoint(
+                  PARAMETERS, 300, 4, 1234L, List.of(new long[] {1, -2}), population)));
+
+      var checkpoint = CheckpointReader.read(file, instanceData);
+
+      assertEquals(300, checkpoint.evaluations());
+      assertEquals(4, checkpoint.generations());
+      assertEquals(1234L, checkpoint.elapsedMillis());
+      assertEquals(-2, checkpoint.states().get(0)[1]);
+      assertEquals(render(population), render(checkpoint.population()));
+      assertEquals(
+          population.get(0).getFitnessInfo().schedule(),
+          checkpoint.population().get(0).getFitnessInfo().schedule());
+      assertFalse(checkpoint.population().get(0).getFitnessInfo().isPruned());
+      assertEquals(pruned.getFitnessInfo(), checkpoint.population().get(3).getFitnessInfo());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static SchedulingProblem problem(InstanceData instanceData, long seed) {
+    return new SchedulingProblem(
+        "montage",
+        instanceData,
+        "simple",
+        new SplittableRandom(seed),
+        List.of(Objective.MAKESPAN, Objective.ENERGY),
+        "makespan");
+  }
+
+  private static InstanceData instanceData() {
+    return LoadTestInstanceData.loadMontageTest();
+  }
+
+  private static List<SchedulePermutationSolution> run(Path file, boolean resume, long seed) {
+    return run(file, resume, seed, PARAMETERS);
+  }
+
+  private static List<SchedulePermutationSolution> run(
+      Path file, boolean resume, long seed, Map<String, String> parameters) {
+    var problem = problem(instanceData(), seed);
+    var operatorsRandom = new CheckpointableRandom(seed);
+    var selectionRandom = new CheckpointableRandom(seed);
+    var operators = new Operators(problem.getInstanceData(), operatorsRandom);
+    var stagnation =
+        new TerminationByStagnation(EVALUATIONS, 1000, 1e-4, Double.NEGATIVE_INFINITY);
+
+    Termination termination = stagnation;
+    Evaluation<SchedulePermutationSolution> evaluation =
+        new MultiThreadEvaluationMulti(0, problem, "energy", true);
+    Checkpointer checkpointer = null;
+    if (file != null) {
+      checkpointer =
+          new Checkpointer(
+              file,
+              parameters,
+              7,
+              List.of(operatorsRandom, selectionRandom, stagnation),
+              problem.getInstanceData(),
+              resume);
+      termination = checkpointer.termination(termination);
+      evaluation = checkpointer.evaluation(evaluation);
+    }
+
+    var algorithm =
+        new BiObjectiveNSGAIIBuilder(
+                problem,
+                20,
+                20,
+                new ScheduleCrossover(1, operators),
+                new ScheduleMutation(0.1, operators),
+                selectionRandom)
+            .setTermination(termination)
+            .setEvaluation(evaluation)
+            .build();
+    algorithm.run();
+    if (checkpointer != null) {
+      checkpointer.close();
+      assertEquals(stagnation.evaluations(), checkpointer.evaluations());
+    }
+    assertTrue(stagnation.evaluations() >= EVALUATIONS);
+    return algorithm.result();
+  }
+
+  private static String render(List<SchedulePermutationSolution> population) {
+    var text = new StringBuilder();
+    for (var solution : population) {
+      text.append(solution.getArbiter()).append(' ');
+      for (var objective : solution.objectives()) {
+        text.append(Double.doubleToRawLongBits(objective)).append(' ');
+      }
+      for (var pair : solution.getPlan()) {
+        text.append(pair.task().getName()).append('@').append(pair.host().getName()).append(' ');
+      }
+      text.append('\n');
+    }
+    return text.toString();
+  }
+}
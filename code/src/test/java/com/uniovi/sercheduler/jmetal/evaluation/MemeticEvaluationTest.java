@@ -0,0 +1,119 @@
+package com.uniovi.sercheduler.jmetal.evaluation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import com.uniovi.sercheduler.service.FitnessCalculatorSimple;
+import com.uniovi.sercheduler.util.LoadTestInstanceData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.SequentialEvaluation;
+
+class MemeticEvaluationTest {
+
+  private static final List<Objective> OBJECTIVES = List.of(Objective.MAKESPAN, Objective.ENERGY);
+
+  private static List<SchedulePermutationSolution> solutions(SchedulingProblem problem) {
+    var solutions = new ArrayList<SchedulePermutationSolution>();
+    for (int i = 0; i < 20; i++) {
+      solutions.add(problem.createSolution());
+    }
+    return solutions;
+  }
+
+  private static double best(List<SchedulePermutationSolution> solutions) {
+    return solutions.stream().mapToDouble(s -> s.objectives()[0]).min().orElseThrow();
+  }
+
+  @Test
+  void improveTheEliteWithoutWorseningIt() {
+    var instanceData = LoadTestInstanceData.loadMontageTest();
+    var problem =
+        new SchedulingProblem(
+            "montage", instanceData, "simple", new SplittableRandom(1), OBJECTIVES, "makespan");
+    var solutions = solutions(problem);
+    var plain = new SequentialEvaluation<>(problem);
+    var reference = new ArrayList<SchedulePermutationSolution>();
+    solutions.forEach(s -> reference.add((SchedulePermutationSolution) s.copy()));
+    plain.evaluate(reference);
+
+    var memetic =
+        new MemeticEvaluation(
+            new SequentialEvaluation<>(problem),
+            problem,
+            new FitnessCalculatorSimple(instanceData),
+            List.of(Objective.MAKESPAN),
+            0.25,
+            200);
+    var improved = memetic.evaluate(solutions);
+
+    assertEquals(20, improved.size());
+    assertTrue(best(improved) <= best(reference));
+    for (int i = 0; i < improved.size(); i++) {
+      assertTrue(improved.get(i).objectives()[0] <= reference.get(i).objectives()[0]);
+    }
+    assertTrue(memetic.movesTried() > 0);
+    assertTrue(memetic.movesTried() <= 5 * 200);
+    assertEquals(20 + memetic.improvements(), memetic.computedEvaluations());
+  }
+
+  @Test
+  void keepTheSolutionsAddedByTheEvaluation() {
+    var instanceData = LoadTestInstanceData.loadMontageTest();
+    var problem =
+        new SchedulingProblem(
+            "montage", instanceData, "simple", new SplittableRandom(1), OBJECTIVES, "makespan");
+    var memetic =
+        new MemeticEvaluation(
+            new MultiThreadEvaluationMulti(0, problem, "energy", true),
+            problem,
+            new FitnessCalculatorSimple(instanceData),
+            OBJECTIVES,
+            0.25,
+            50);
+
+    // The multi evaluation returns a copy of each solution for the alternative arbiter.
+    var evaluated = memetic.evaluate(solutions(problem));
+    assertEquals(40, evaluated.size());
+    assertEquals(20, evaluated.stream().filter(s -> "energy".equals(s.getArbiter())).count());
+    assertEquals(40 + memetic.improvements(), memetic.computedEvaluations());
+    // The elite is a quarter of the 20 solutions given, not of the 40 evaluated.
+    assertTrue(memetic.improvements() <= 5);
+    assertTrue(memetic.movesTried() <= 5 * 50);
+  }
+
+  @Test
+  void restoreTheCounters() {
+    var instanceData = LoadTestInstanceData.loadMontageTest();
+    var problem =
+        new SchedulingProblem(
+            "montage", instanceData, "simple", new SplittableRandom(1), OBJECTIVES, "makespan");
+    var memetic =
+        new MemeticEvaluation(
+            new SequentialEvaluation<>(problem),
+            problem,
+            new FitnessCalculatorSimple(instanceData),
+            OBJECTIVES,
+            0.1,
+            50);
+    memetic.evaluate(solutions(problem));
+
+    var restored =
+        new MemeticEvaluation(
+            new SequentialEvaluation<>(problem),
+            problem,
+            new FitnessCalculatorSimple(instanceData),
+            OBJECTIVES,
+            0.1,
+            50);
+    restored.restore(memetic.checkpoint());
+    assertEquals(memetic.movesTried(), restored.movesTried());
+    assertEquals(memetic.improvements(), restored.improvements());
+    assertEquals(memetic.computedEvaluations(), restored.computedEvaluations());
+  }
+}
@@ -0,0 +1,53 @@
+package com.uniovi.sercheduler.jmetal.evaluation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.uniovi.sercheduler.dto.InstanceData;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.service.FitnessCalculatorSimple;
+import com.uniovi.sercheduler.service.PlanGenerator;
+import com.uniovi.sercheduler.util.LoadTestInstanceData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PopulationDeduplicatorTest {
+
+  @Test
+  void evaluateOnlyDistinctGenotypes() {
+    InstanceData instanceData = LoadTestInstanceData.loadFitnessTest();
+    var planGenerator = new PlanGenerator(new Random(1L), instanceData);
+    var calculator = new FitnessCalculatorSimple(instanceData);
+
+    var plan1 = planGenerator.generatePlan();
+    var plan2 = planGenerator.generatePlan();
+
+    var solutions =
+        List.of(
+            new SchedulePermutationSolution(10, 2, null, plan1, "makespan"),
+            new SchedulePermutationSolution(10, 2, null, new ArrayList<>(plan1), "makespan"),
+            new SchedulePermutationSolution(10, 2, null, plan2, "makespan"),
+            new SchedulePermutationSolution(10, 2, null, List.copyOf(plan1), "energy"));
+
+    var evaluated = new ArrayList<SchedulePermutationSolution>();
+    var deduplicator = new PopulationDeduplicator(null);
+    deduplicator.evaluate(
+        solutions,
+        distinct ->
+            distinct.forEach(
+                s -> {
+                  evaluated.add(s);
+                  s.setFitnessInfo(calculator.calculateFitness(s));
+                  s.objectives()[0] = s.getFitnessInfo().fitness().get("makespan");
+                }));
+
+    // Without a scheduling problem the arbiters are not grouped, so the energy copy is evaluated.
+    assertEquals(3, evaluated.size());
+    assertEquals(3, deduplicator.distinctEvaluations());
+    assertEquals(0.25D, deduplicator.duplicateRatios().get(0), 1e-10);
+    assertSame(solutions.get(0).getFitnessInfo(), solutions.get(1).getFitnessInfo());
+    assertEquals(solutions.get(0).objectives()[0], solutions.get(1).objectives()[0]);
+  }
+}
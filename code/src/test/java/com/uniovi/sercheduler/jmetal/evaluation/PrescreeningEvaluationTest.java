@@ -0,0 +1,141 @@
+package com.uniovi.sercheduler.jmetal.evaluation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import com.uniovi.sercheduler.service.FitnessCalculator;
+import com.uniovi.sercheduler.service.FitnessCalculatorSimple;
+import com.uniovi.sercheduler.service.FitnessInfo;
+import com.uniovi.sercheduler.service.statistics.RunPrescreening;
+import com.uniovi.sercheduler.util.LoadTestInstanceData;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.component.catalogue.common.evaluation.impl.SequentialEvaluation;
+
+class PrescreeningEvaluationTest {
+
+  private static final List<Objective> OBJECTIVES = List.of(Objective.MAKESPAN, Objective.ENERGY);
+
+  private static List<SchedulePermutationSolution> solutions(SchedulingProblem problem) {
+    var solutions = new ArrayList<SchedulePermutationSolution>();
+    for (int i = 0; i < 40; i++) {
+      solutions.add(problem.createSolution());
+    }
+    return solutions;
+  }
+
+  @Test
+  void evaluateOnlyThePromisingFraction() {
+    var instanceData = LoadTestInstanceData.loadMontageTest();
+    var problem =
+        new SchedulingProblem(
+            "montage", instanceData, "heft", new SplittableRandom(1), OBJECTIVES, "makespan");
+    var prescreening =
+        new PrescreeningEvaluation(
+            new SequentialEvaluation<>(problem),
+            new FitnessCalculatorSimple(instanceData),
+            List.of(Objective.MAKESPAN),
+            0.25,
+            -1);
+
+    // The first population is evaluated in full to calibrate the proxy.
+    prescreening.evaluate(solutions(problem));
+    assertEquals(40, prescreening.computedEvaluations());
+    assertEquals(1, prescreening.correlations().size());
+
+    var offspring = prescreening.evaluate(solutions(problem));
+    assertEquals(10, prescreening.computedEvaluations());
+    assertEquals(30, prescreening.screenedOut());
+    assertEquals(30, offspring.stream().filter(s -> s.getFitnessInfo().isPruned()).count());
+    assertTrue(
+        offspring.stream()
+            .filter(s -> !s.getFitnessInfo().isPruned())
+            .allMatch(s -> s.objectives()[0] < Double.POSITIVE_INFINITY));
+  }
+
+  @Test
+  void evaluateInFullWhenTheProxyDisagrees() {
+    var instanceData = LoadTestInstanceData.loadMontageTest();
+    var problem =
+        new SchedulingProblem(
+            "montage", instanceData, "simple", new SplittableRandom(1), OBJECTIVES, "makespan");
+    var simple = new FitnessCalculatorSimple(instanceData);
+    // Ranks the plans backwards, the correlation is -1.
+    var inverse =
+        new FitnessCalculator(instanceData) {
+          @Override
+          public FitnessInfo calculateFitness(SchedulePermutationSolution solution) {
+            var fitness = simple.calculateFitness(solution).fitness();
+            return new FitnessInfo(
+                Map.of("makespan", -fitness.get("makespan"), "energy", -fitness.get("energy")),
+                List.of(),
+                fitnessName());
+          }
+
+          @Override
+          public String fitnessName() {
+            return "inverse";
+          }
+        };
+    var prescreening =
+        new PrescreeningEvaluation(
+            new SequentialEvaluation<>(problem), inverse, OBJECTIVES, 0.25, 0.5);
+
+    prescreening.evaluate(solutions(problem));
+    assertTrue(prescreening.isFallback());
+    assertTrue(prescreening.correlations().get(0) < -0.99);
+
+    prescreening.evaluate(solutions(problem));
+    assertEquals(40, prescreening.computedEvaluations());
+    assertEquals(0, prescreening.screenedOut());
+    assertFalse(prescreening.correlations().isEmpty());
+  }
+
+  @Test
+  void keepTheSolutionsAddedByTheEvaluation() {
+    var instanceData = LoadTestInstanceData.loadMontageTest();
+    var problem =
+        new SchedulingProblem(
+            "montage", instanceData, "simple", new SplittableRandom(1), OBJECTIVES, "makespan");
+    var prescreening =
+        new PrescreeningEvaluation(
+            new MultiThreadEvaluationMulti(0, problem, "energy", true),
+            new FitnessCalculatorSimple(instanceData),
+            List.of(Objective.MAKESPAN),
+            0.25,
+            -1);
+
+    // Calibration, every solution and its copy for the alternative arbiter.
+    assertEquals(80, prescreening.evaluate(solutions(problem)).size());
+
+    // The 10 promising ones with their copies and the 30 screened out.
+    var offspring = prescreening.evaluate(solutions(problem));
+    assertEquals(50, offspring.size());
+    assertEquals(30, offspring.stream().filter(s -> s.getFitnessInfo().isPruned()).count());
+  }
+
+  @Test
+  void writeTheCorrelationsOfTheRun() throws IOException {
+    var file = Files.createTempFile("prescreening", ".csv");
+    try {
+      var prescreening = new RunPrescreening(30, List.of(0.9, -0.25));
+      prescreening.write(file);
+      assertEquals(prescreening, RunPrescreening.read(file).orElseThrow());
+
+      var calibrationOnly = new RunPrescreening(0, List.of());
+      calibrationOnly.write(file);
+      assertEquals(calibrationOnly, RunPrescreening.read(file).orElseThrow());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.uniovi.sercheduler.jmetal.experiment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import com.uniovi.sercheduler.util.LoadTestInstanceData;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.lab.experiment.ExperimentBuilder;
+import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
+
+class ExecuteAlgorithmsCustomTest {
+
+  /** Throws in the first runs, as a run that runs out of memory or meets a broken plan. */
+  private static class FailingAlgorithm implements Algorithm<List<SchedulePermutationSolution>> {
+
+    private final SchedulingProblem problem;
+    private final int failures;
+    private int runs;
+
+    FailingAlgorithm(SchedulingProblem problem, int failures) {
+      this.problem = problem;
+      this.failures = failures;
+    }
+
+    @Override
+    public void run() {
+      if (++runs <= failures) {
+        throw new IllegalStateException("Run " + runs + " failed");
+      }
+    }
+
+    @Override
+    public List<SchedulePermutationSolution> result() {
+      return List.of(problem.evaluate(problem.createSolution()));
+    }
+
+    @Override
+    public String name() {
+      return "failing";
+    }
+
+    @Override
+    public String description() {
+      return "Fails the first runs";
+    }
+  }
+
+  private static SchedulingProblem problem() {
+    return new SchedulingProblem(
+        "montage",
+        LoadTestInstanceData.loadMontageTest(),
+        "simple",
+        new SplittableRandom(1),
+        List.of(Objective.MAKESPAN, Objective.ENERGY),
+        "makespan");
+  }
+
+  /** Executes the algorithm as the only run of an experiment, returns its directory. */
+  private static Path execute(Path directory, FailingAlgorithm algorithm) {
+    var problem = new ExperimentProblem<>(algorithm.problem);
+    var experiment =
+        new ExperimentBuilder<SchedulePermutationSolution, List<SchedulePermutationSolution>>(
+                "failing")
+            .setAlgorithmList(List.of(new ExperimentAlgorithm<>(algorithm, "simple", problem, 0)))
+            .setProblemList(List.of(problem))
+            .setExperimentBaseDirectory(directory.toString())
+            .setOutputParetoFrontFileName("FUN")
+            .setOutputParetoSetFileName("VAR")
+            .setNumberOfCores(1)
+            .build();
+    new ExecuteAlgorithmsCustom(experiment).run();
+    return Path.of(experiment.getExperimentBaseDirectory());
+  }
+
+  @Test
+  void retryARunThatThrows(@TempDir Path directory) {
+    var algorithm = new FailingAlgorithm(problem(), 1);
+    var experimentDirectory = execute(directory, algorithm);
+
+    assertEquals(2, algorithm.runs);
+    assertTrue(Files.exists(experimentDirectory.resolve("data/simple/montage/FUN0.csv")));
+    var ledgerFile = experimentDirectory.resolve(ExecuteAlgorithmsCustom.LEDGER_FILE);
+    try (var ledger = new RunLedger(ledgerFile)) {
+      assertEquals(1, ledger.finishedCount());
+    }
+  }
+
+  @Test
+  void leaveARunThatAlwaysThrowsOutOfTheLedger(@TempDir Path directory) {
+    var algorithm = new FailingAlgorithm(problem(), Integer.MAX_VALUE);
+    var experimentDirectory = execute(directory, algorithm);
+
+    assertEquals(ExecuteAlgorithmsCustom.MAX_RETRIES, algorithm.runs);
+    assertFalse(Files.exists(experimentDirectory.resolve("data/simple/montage/FUN0.csv")));
+    var ledgerFile = experimentDirectory.resolve(ExecuteAlgorithmsCustom.LEDGER_FILE);
+    try (var ledger = new RunLedger(ledgerFile)) {
+      assertEquals(0, ledger.finishedCount());
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.uniovi.sercheduler.jmetal.experiment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import com.uniovi.sercheduler.util.LoadTestInstanceData;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
+
+class RunLedgerTest {
+
+  @Test
+  void appendAfterATruncatedLine() throws Exception {
+    var problem =
+        new SchedulingProblem(
+            "montage",
+            LoadTestInstanceData.loadMontageTest(),
+            "simple",
+            new SplittableRandom(1),
+            List.of(Objective.MAKESPAN, Objective.ENERGY),
+            "makespan");
+    var experimentProblem = new ExperimentProblem<>(problem);
+    var first = new ExperimentAlgorithm<>(null, "simple", experimentProblem, 0);
+    var second = new ExperimentAlgorithm<>(null, "simple", experimentProblem, 1);
+
+    var ledgerFile = Files.createTempFile("runs", ".ledger");
+    try {
+      // A crash in the middle of the record of the second run.
+      Files.writeString(
+          ledgerFile,
+          "montage\tsimple\t0\t2026-01-01T00:00:00Z\nmontage\tsimp",
+          StandardCharsets.UTF_8);
+      try (var ledger = new RunLedger(ledgerFile)) {
+        assertTrue(ledger.isFinished(first));
+        assertFalse(ledger.isFinished(second));
+        ledger.markFinished(second);
+      }
+
+      try (var ledger = new RunLedger(ledgerFile)) {
+        assertTrue(ledger.isFinished(first));
+        assertTrue(ledger.isFinished(second));
+        assertEquals(2, ledger.finishedCount());
+      }
+    } finally {
+      Files.deleteIfExists(ledgerFile);
+    }
+  }
+}
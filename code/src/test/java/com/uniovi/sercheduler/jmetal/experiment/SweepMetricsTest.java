@@ -0,0 +1,98 @@
+package com.uniovi.sercheduler.jmetal.experiment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.jmetal.algorithm.ConvergenceTermination;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import com.uniovi.sercheduler.util.LoadTestInstanceData;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
+
+class SweepMetricsTest {
+
+  private static final String LABELS = "problem=\"montage\",algorithm=\"simple\",run=\"0\"";
+
+  @Test
+  void publishTheProgressOfTheRuns(@TempDir Path directory) throws Exception {
+    var problem =
+        new SchedulingProblem(
+            "montage",
+            LoadTestInstanceData.loadMontageTest(),
+            "simple",
+            new SplittableRandom(1),
+            List.of(Objective.MAKESPAN, Objective.ENERGY),
+            "makespan");
+    var experimentProblem = new ExperimentProblem<>(problem);
+    var first = new ExperimentAlgorithm<>(null, "simple", experimentProblem, 0);
+    var second = new ExperimentAlgorithm<>(null, "simple", experimentProblem, 1);
+
+    var population = new ArrayList<SchedulePermutationSolution>();
+    for (int i = 0; i < 10; i++) {
+      population.add(problem.evaluate(problem.createSolution()));
+    }
+    var termination = new ConvergenceTermination(1000, Double.NEGATIVE_INFINITY);
+    termination.isMet(Map.of("EVALUATIONS", 200, "POPULATION", population));
+    double bestMakespan =
+        population.stream().mapToDouble(s -> s.objectives()[0]).min().orElseThrow();
+
+    var metrics = new SweepMetrics(Map.of(first, termination));
+    try (var ledger = new RunLedger(directory.resolve("runs.ledger"))) {
+      metrics.sweepStarted(ledger, null, 2);
+      metrics.runStarted(first);
+
+      var text = metrics.render();
+      assertTrue(text.contains("sercheduler_run_evaluations_total{" + LABELS + "} 200\n"));
+      assertTrue(text.contains("sercheduler_run_evaluations_per_second{" + LABELS + "} "));
+      assertTrue(
+          text.contains(
+              "sercheduler_run_best_objective{" + LABELS + ",objective=\"0\"} "));
+      assertTrue(text.contains("sercheduler_sweep_runs 2\n"));
+      assertTrue(text.contains("sercheduler_sweep_eta_seconds NaN\n"));
+      assertTrue(text.contains("# TYPE sercheduler_gc_pause_seconds_total counter\n"));
+      assertEquals(
+          bestMakespan,
+          Double.parseDouble(
+              text.lines()
+                  .filter(l -> l.startsWith("sercheduler_run_best_objective{"))
+                  .findFirst()
+                  .orElseThrow()
+                  .split(" ")[1]),
+          bestMakespan * 1e-5);
+
+      ledger.markFinished(first);
+      metrics.runEnded(first);
+      metrics.runStarted(second);
+
+      try (var server = new MetricsServer(0, metrics)) {
+        var response =
+            HttpClient.newHttpClient()
+                .send(
+                    HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + server.port() + "/metrics"))
+                        .build(),
+                    HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        var body = response.body();
+        assertTrue(body.contains("sercheduler_sweep_runs_finished 1\n"));
+        assertFalse(body.contains("sercheduler_sweep_eta_seconds NaN"));
+        // The second run has no termination, so it has no progress.
+        assertFalse(body.contains("run=\"1\""));
+      }
+    }
+  }
+}
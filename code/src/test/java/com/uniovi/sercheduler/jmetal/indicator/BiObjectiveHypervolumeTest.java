@@ -0,0 +1,41 @@
+package com.uniovi.sercheduler.jmetal.indicator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.util.NormalizeUtils;
+
+class BiObjectiveHypervolumeTest {
+
+  private static double[][] front(Random random, int size) {
+    var front = new double[size][2];
+    for (var point : front) {
+      // Few distinct values, so there are ties, duplicated and dominated points.
+      point[0] = random.nextInt(30);
+      point[1] = random.nextInt(30);
+    }
+    return front;
+  }
+
+  @Test
+  void hypervolumeMatchesPisaHypervolume() {
+    var random = new Random(3L);
+    for (int run = 0; run < 50; run++) {
+      // Normalized as the quality indicators of the experiments do.
+      var referenceFront = front(random, 40);
+      var minimumValues = NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront);
+      var maximumValues = NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront);
+      var normalizedReference = NormalizeUtils.normalize(referenceFront);
+      // Some points fall outside the bounds of the reference front.
+      var front =
+          NormalizeUtils.normalize(front(random, 60), minimumValues, maximumValues);
+
+      var expected = new PISAHypervolume(normalizedReference).compute(front);
+      var hypervolume = new BiObjectiveHypervolume(normalizedReference).compute(front);
+
+      assertEquals(expected, hypervolume, 1e-12);
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package com.uniovi.sercheduler.jmetal.operator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.service.FitnessInfo;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class ScheduleReplacementTest {
+
+  private static List<SchedulePermutationSolution> solutions(Random random, int size) {
+    var solutions = new ArrayList<SchedulePermutationSolution>();
+    for (int i = 0; i < size; i++) {
+      // Few distinct values, so there are ties inside the groups.
+      var fitness =
+          new FitnessInfo(Map.of("makespan", (double) random.nextInt(4)), List.of(), "simple");
+      solutions.add(new SchedulePermutationSolution(1, 2, fitness, List.of(), "makespan"));
+    }
+    return solutions;
+  }
+
+  /** The original tournament, sorting and removing the duplicated values with a TreeSet. */
+  private static List<SchedulePermutationSolution> reference(
+      List<SchedulePermutationSolution> parents, List<SchedulePermutationSolution> children) {
+    Comparator<SchedulePermutationSolution> comparator =
+        Comparator.comparing(s -> s.getFitnessInfo().fitness().get("makespan"));
+    var replacement = new ArrayList<SchedulePermutationSolution>();
+    for (int i = 0; i < parents.size(); i = i + 2) {
+      var result =
+          List.of(parents.get(i), parents.get(i + 1), children.get(i), children.get(i + 1))
+              .stream()
+              .sorted(comparator)
+              .collect(
+                  Collectors.collectingAndThen(
+                      Collectors.toCollection(() -> new TreeSet<>(comparator)), ArrayList::new));
+      if (result.size() == 1) {
+        result.add(result.get(0));
+      }
+      replacement.addAll(result.subList(0, 2));
+    }
+    return replacement;
+  }
+
+  @Test
+  void replaceKeepsTheOriginalTournament() {
+    var random = new Random(1L);
+    var replacement = new ScheduleReplacement(Objective.MAKESPAN);
+    var tournamentReplacement = new ScheduleTournamentReplacement(Objective.MAKESPAN, 4);
+
+    for (int run = 0; run < 50; run++) {
+      var parents = solutions(random, 20);
+      var children = solutions(random, 20);
+
+      var expected = reference(parents, children);
+      var result = replacement.replace(parents, children);
+      var tournamentResult = tournamentReplacement.replace(parents, children);
+
+      assertEquals(expected.size(), result.size());
+      for (int i = 0; i < expected.size(); i++) {
+        assertSame(expected.get(i), result.get(i));
+        assertSame(expected.get(i), tournamentResult.get(i));
+      }
+    }
+  }
+
+  @Test
+  void largerTournamentKeepsTheBestDistinctValues() {
+    var parents = new ArrayList<SchedulePermutationSolution>();
+    var children = new ArrayList<SchedulePermutationSolution>();
+    double[] parentValues = {5, 3, 3, 9};
+    double[] childValues = {1, 3, 7, 1};
+    for (int i = 0; i < 4; i++) {
+      parents.add(solution(parentValues[i]));
+      children.add(solution(childValues[i]));
+    }
+
+    var result =
+        new ScheduleTournamentReplacement(Objective.MAKESPAN, 8).replace(parents, children);
+
+    assertEquals(4, result.size());
+    assertSame(children.get(0), result.get(0));
+    assertSame(parents.get(1), result.get(1));
+    assertSame(parents.get(0), result.get(2));
+    assertSame(children.get(2), result.get(3));
+  }
+
+  @Test
+  void prunedOffspringNeverSurvive() {
+    var parents = List.of(solution(3), solution(3));
+    var pruned = FitnessInfo.pruned("simple");
+    var children =
+        List.of(
+            new SchedulePermutationSolution(1, 2, pruned, List.of(), "makespan"),
+            new SchedulePermutationSolution(1, 2, pruned, List.of(), "makespan"));
+
+    var result = new ScheduleReplacement(Objective.MAKESPAN).replace(parents, children);
+    var tournamentResult =
+        new ScheduleTournamentReplacement(Objective.MAKESPAN, 4).replace(parents, children);
+
+    for (var replacement : List.of(result, tournamentResult)) {
+      assertEquals(2, replacement.size());
+      assertSame(parents.get(0), replacement.get(0));
+      assertSame(parents.get(0), replacement.get(1));
+    }
+  }
+
+  private static SchedulePermutationSolution solution(double makespan) {
+    var fitness = new FitnessInfo(Map.of("makespan", makespan), List.of(), "simple");
+    return new SchedulePermutationSolution(1, 2, fitness, List.of(), "makespan");
+  }
+}
@@ -0,0 +1,85 @@
+package com.uniovi.sercheduler.jmetal.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+
+class BiObjectiveRankingTest {
+
+  private static List<SchedulePermutationSolution> population(Random random, int size) {
+    var population = new ArrayList<SchedulePermutationSolution>();
+    for (int i = 0; i < size; i++) {
+      var solution = new SchedulePermutationSolution(1, 2, null, List.of(), "makespan");
+      // Few distinct values, so there are ties and duplicated points.
+      solution.objectives()[0] = random.nextInt(20);
+      solution.objectives()[1] = random.nextInt(20);
+      population.add(solution);
+    }
+    return population;
+  }
+
+  @Test
+  void rankingMatchesFastNonDominatedSort() {
+    var random = new Random(1L);
+    for (int run = 0; run < 20; run++) {
+      var population = population(random, 200);
+
+      var expected = new FastNonDominatedSortRanking<SchedulePermutationSolution>();
+      expected.compute(population);
+      var ranking = new BiObjectiveRanking<SchedulePermutationSolution>();
+      ranking.compute(population);
+
+      assertEquals(expected.getNumberOfSubFronts(), ranking.getNumberOfSubFronts());
+      for (var solution : population) {
+        assertEquals(expected.getRank(solution), ranking.getRank(solution));
+      }
+    }
+  }
+
+  @Test
+  void crowdingMatchesCrowdingDistance() {
+    var random = new Random(2L);
+    for (int run = 0; run < 20; run++) {
+      var population = population(random, 100);
+      var front =
+          new BiObjectiveRanking<SchedulePermutationSolution>().compute(population).getSubFront(0);
+
+      var expected = new CrowdingDistanceDensityEstimator<SchedulePermutationSolution>();
+      expected.compute(front);
+      var crowding = new BiObjectiveCrowdingDistance<SchedulePermutationSolution>();
+      crowding.compute(front);
+
+      for (var solution : front) {
+        assertEquals(expected.value(solution), crowding.value(solution), 1e-10);
+      }
+    }
+  }
+
+  @Test
+  void sortByCrowdingIsStableAndDescending() {
+    var random = new Random(3L);
+    for (int run = 0; run < 20; run++) {
+      var ranked = RankedPopulation.of(population(random, 100));
+      for (int[] front : ranked.fronts()) {
+        var expected =
+            Arrays.stream(front)
+                .boxed()
+                .sorted((a, b) -> Double.compare(ranked.crowding()[b], ranked.crowding()[a]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        ranked.sortByCrowding(front);
+
+        assertArrayEquals(expected, front);
+      }
+    }
+  }
+}
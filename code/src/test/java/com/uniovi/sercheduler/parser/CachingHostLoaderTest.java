@@ -0,0 +1,24 @@
+package com.uniovi.sercheduler.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+class CachingHostLoaderTest {
+
+  @Test
+  void shareTheHostsOfEachFile() throws IOException {
+    var hostsJson = new ClassPathResource("hosts_test.json").getFile();
+    var plainLoader = new HostFileLoader();
+    var cachingLoader = new CachingHostLoader(plainLoader);
+
+    var hostsDao = cachingLoader.readFromFile(hostsJson);
+    assertSame(hostsDao, cachingLoader.readFromFile(hostsJson));
+    assertEquals(plainLoader.readFromFile(hostsJson), hostsDao);
+    assertThrows(UnsupportedOperationException.class, hostsDao::clear);
+  }
+}
@@ -0,0 +1,40 @@
+package com.uniovi.sercheduler.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+class CachingWorkflowLoaderTest {
+
+  @Test
+  void parseEachFileOnce() throws IOException {
+    var workflowJson = new ClassPathResource("workflow_test.json").getFile();
+    var plainLoader = new WorkflowFileLoader();
+    var cachingLoader = new CachingWorkflowLoader(plainLoader);
+
+    var workflowDao = cachingLoader.readFromFile(workflowJson);
+    assertSame(workflowDao, cachingLoader.readFromFile(workflowJson));
+    assertNotSame(plainLoader.readFromFile(workflowJson), plainLoader.readFromFile(workflowJson));
+    assertEquals(plainLoader.readFromFile(workflowJson), workflowDao);
+
+    // A new loader does not see the files of another one.
+    assertNotSame(workflowDao, new CachingWorkflowLoader(plainLoader).readFromFile(workflowJson));
+  }
+
+  @Test
+  void shareAnUnmodifiableWorkflow() throws IOException {
+    var workflowJson = new ClassPathResource("workflow_test.json").getFile();
+    var cachingLoader = new CachingWorkflowLoader(new WorkflowFileLoader());
+    var workflowDao = cachingLoader.readFromFile(workflowJson);
+
+    assertThrows(UnsupportedOperationException.class, () -> workflowDao.tasks().clear());
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> workflowDao.tasks().get(0).parents().add("task01"));
+  }
+}
@@ -0,0 +1,39 @@
+package com.uniovi.sercheduler.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.uniovi.sercheduler.dto.BenchmarkData;
+import java.io.IOException;
+import java.nio.file.Files;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+class BenchmarkResultsWriterTest {
+
+  @Test
+  void closeWritesBothFiles() throws IOException {
+    var csvFile = Files.createTempFile("results", ".csv");
+    var excelFile = Files.createTempFile("results", ".xlsx");
+    try {
+      try (var writer = new BenchmarkResultsWriter(csvFile, excelFile)) {
+        writer.write(new BenchmarkData("montage", 4, "simple", 120.5, 800.25, 3L));
+        writer.write(new BenchmarkData("cycles", 8, "heft", 99.0, 640.0, 5L));
+      }
+
+      var lines = Files.readAllLines(csvFile);
+      assertEquals(3, lines.size());
+      assertEquals(String.join(",", BenchmarkResultsWriter.HEADER), lines.get(0));
+      assertEquals("montage,4,simple,120.5,800.25,3", lines.get(1));
+
+      try (var workbook = new XSSFWorkbook(Files.newInputStream(excelFile))) {
+        var sheet = workbook.getSheet("Data");
+        assertEquals(2, sheet.getLastRowNum());
+        assertEquals("cycles", sheet.getRow(2).getCell(0).getStringCellValue());
+        assertEquals(99.0, sheet.getRow(2).getCell(3).getNumericCellValue());
+      }
+    } finally {
+      Files.deleteIfExists(csvFile);
+      Files.deleteIfExists(excelFile);
+    }
+  }
+}
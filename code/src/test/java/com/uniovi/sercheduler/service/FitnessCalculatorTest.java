@@ -13,6 +13,7 @@ import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 public class FitnessCalculatorTest {
@@ -251,6 +252,30 @@ public class FitnessCalculatorTest {
     assertEquals(209D, result.fitness().get("makespan"));
   }
 
+  @Test
+  void calculateFitnessByArbiterMatchesSeparateEvaluations() {
+
+    InstanceData instanceData = loadFitnessTest();
+    FitnessCalculator fitnessCalculator = FitnessCalculator.getFitness("multi", instanceData);
+
+    var plan = new PlanGenerator(new Random(1L), instanceData).generatePlan();
+
+    var results =
+        fitnessCalculator.calculateFitnessByArbiter(
+            new SchedulePermutationSolution(1, 2, null, plan, "makespan"),
+            List.of("makespan", "energy"));
+
+    var makespan =
+        fitnessCalculator.calculateFitness(
+            new SchedulePermutationSolution(1, 2, null, plan, "makespan"));
+    var energy =
+        fitnessCalculator.calculateFitness(
+            new SchedulePermutationSolution(1, 2, null, plan, "energy"));
+
+    assertEquals(makespan.fitness(), results.get("makespan").fitness());
+    assertEquals(energy.fitness(), results.get("energy").fitness());
+  }
+
 
 
 
@@ -0,0 +1,46 @@
+package com.uniovi.sercheduler.service;
+
+import static com.uniovi.sercheduler.util.LoadTestInstanceData.loadFitnessTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.uniovi.sercheduler.dto.Host;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import java.util.ArrayList;
+import java.util.HashMap;
+import org.junit.jupiter.api.Test;
+
+class HeuristicSchedulerTest {
+
+  @Test
+  void scheduleMatchesHeftWithTheChosenHosts() {
+    var instanceData = loadFitnessTest();
+
+    var result = new HeuristicScheduler(instanceData, "heft").schedule();
+
+    // Evaluating the ranking with the hosts chosen by the heuristic gives the same schedule, and
+    // then the calculator charges the energy to the right hosts.
+    var calculator = new FitnessCalculatorHeft(instanceData);
+    var hosts = new HashMap<String, Host>();
+    for (var taskSchedule : result.schedule()) {
+      hosts.put(taskSchedule.task().getName(), taskSchedule.host());
+    }
+    var plan = new ArrayList<PlanPair>();
+    for (var task : calculator.calculateHeftRanking().keySet()) {
+      plan.add(new PlanPair(task, hosts.get(task.getName())));
+    }
+    var expected =
+        calculator.calculateFitness(
+            new SchedulePermutationSolution(plan.size(), 2, null, plan, "makespan"));
+
+    assertEquals(expected.fitness().get("makespan"), result.fitness().get("makespan"), 1e-9);
+    assertEquals(expected.fitness().get("energy"), result.fitness().get("energy"), 1e-6);
+    assertEquals(expected.schedule(), result.schedule());
+  }
+
+  @Test
+  void scheduleIsDeterministic() {
+    var scheduler = new HeuristicScheduler(loadFitnessTest(), "min-energy-UM-active");
+
+    assertEquals(scheduler.schedule(), scheduler.schedule());
+  }
+}
@@ -0,0 +1,127 @@
+package com.uniovi.sercheduler.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.dto.Host;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import com.uniovi.sercheduler.util.LoadTestInstanceData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class IncrementalScheduleTest {
+
+  private static FitnessInfo fullEvaluation(FitnessCalculator calculator, List<PlanPair> plan) {
+    return calculator.calculateFitness(
+        new SchedulePermutationSolution(plan.size(), 2, null, plan, null));
+  }
+
+  private static List<PlanPair> move(List<PlanPair> plan, int position, Host host) {
+    var moved = new ArrayList<>(plan);
+    moved.set(position, new PlanPair(plan.get(position).task(), host));
+    return moved;
+  }
+
+  @Test
+  void everyMoveMatchesTheFullEvaluation() {
+    var instanceData = LoadTestInstanceData.loadMontageTest();
+    var calculator = new FitnessCalculatorSimple(instanceData);
+    var planGenerator = new PlanGenerator(new Random(1L), instanceData);
+
+    for (int i = 0; i < 10; i++) {
+      var plan = planGenerator.generatePlan();
+      var schedule = new IncrementalSchedule(calculator, plan);
+      var current = fullEvaluation(calculator, plan).fitness();
+      assertEquals(current.get("makespan"), schedule.objective(Objective.MAKESPAN));
+      double energy = current.get("energy");
+      assertEquals(energy, schedule.objective(Objective.ENERGY), energy * 1e-9);
+
+      for (int position = 0; position < plan.size(); position++) {
+        for (var host : schedule.hosts()) {
+          var expected = fullEvaluation(calculator, move(plan, position, host)).fitness();
+          var result = schedule.tryHost(position, host);
+          assertEquals(expected.get("makespan"), result[0]);
+          double expectedEnergy = expected.get("energy");
+          assertEquals(expectedEnergy, result[1], expectedEnergy * 1e-9);
+        }
+      }
+    }
+  }
+
+  @Test
+  void movesFewerTasksThanTheFullReplay() {
+    var instanceData = LoadTestInstanceData.loadMontageTest();
+    var calculator = new FitnessCalculatorSimple(instanceData);
+    var plan = new PlanGenerator(new Random(2L), instanceData).generatePlan();
+    var schedule = new IncrementalSchedule(calculator, plan);
+
+    long moves = 0;
+    for (int position = 0; position < plan.size(); position++) {
+      for (var host : schedule.hosts()) {
+        schedule.tryHost(position, host);
+        moves++;
+      }
+    }
+    assertTrue(schedule.recomputedTasks() < moves * plan.size());
+  }
+
+  @Test
+  void setHostKeepsTheScheduleConsistent() {
+    var instanceData = LoadTestInstanceData.loadMontageTest();
+    var calculator = new FitnessCalculatorSimple(instanceData);
+    var plan = new PlanGenerator(new Random(3L), instanceData).generatePlan();
+    var schedule = new IncrementalSchedule(calculator, plan);
+
+    var host = schedule.hosts().get(0);
+    var tried = schedule.tryHost(plan.size() / 2, host);
+    schedule.setHost(plan.size() / 2, host);
+
+    var moved = move(plan, plan.size() / 2, host);
+    assertEquals(moved, schedule.plan());
+    assertEquals(tried[0], schedule.objective(Objective.MAKESPAN));
+    assertEquals(
+        fullEvaluation(calculator, moved).fitness().get("makespan"),
+        schedule.objective(Objective.MAKESPAN));
+  }
+
+  @Test
+  void criticalPathChainsTheTasksThatDelayTheMakespan() {
+    var instanceData = LoadTestInstanceData.loadMontageTest();
+    var calculator = new FitnessCalculatorSimple(instanceData);
+    var planGenerator = new PlanGenerator(new Random(4L), instanceData);
+
+    for (int i = 0; i < 10; i++) {
+      var plan = planGenerator.generatePlan();
+      var schedule = new IncrementalSchedule(calculator, plan);
+      var fitness = fullEvaluation(calculator, plan);
+      var byTask = new HashMap<String, TaskSchedule>();
+      fitness.schedule().forEach(s -> byTask.put(s.task().getName(), s));
+
+      var tasks =
+          schedule.criticalPath().stream()
+              .map(p -> byTask.get(plan.get(p).task().getName()))
+              .toList();
+      assertEquals(0D, tasks.get(0).ast());
+      assertEquals(fitness.fitness().get("makespan"), tasks.get(tasks.size() - 1).eft());
+      for (int k = 1; k < tasks.size(); k++) {
+        assertEquals(tasks.get(k - 1).eft(), tasks.get(k).ast());
+      }
+    }
+  }
+
+  @Test
+  void rejectChildrenBeforeTheirParents() {
+    var instanceData = LoadTestInstanceData.loadMontageTest();
+    var calculator = new FitnessCalculatorSimple(instanceData);
+    var plan = new ArrayList<>(new PlanGenerator(new Random(5L), instanceData).generatePlan());
+    Collections.reverse(plan);
+
+    assertThrows(IllegalArgumentException.class, () -> new IncrementalSchedule(calculator, plan));
+  }
+}
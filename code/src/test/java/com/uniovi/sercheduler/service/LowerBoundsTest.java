@@ -0,0 +1,73 @@
+package com.uniovi.sercheduler.service;
+
+import static com.uniovi.sercheduler.util.LoadTestInstanceData.loadMontageTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LowerBoundsTest {
+
+  @Test
+  void boundsAreBelowEveryScheduleAndPruneWorsePlans() {
+    var instanceData = loadMontageTest();
+    var calculator = new FitnessCalculatorSimple(instanceData);
+    var bounds = new LowerBounds(instanceData);
+    var planGenerator = new PlanGenerator(new Random(1L), instanceData);
+
+    for (int i = 0; i < 200; i++) {
+      var solution =
+          new SchedulePermutationSolution(
+              instanceData.workflow().size(), 2, null, planGenerator.generatePlan(), "makespan");
+      var fitness = calculator.calculateFitness(solution);
+      double makespan = fitness.fitness().get("makespan");
+      double energy = fitness.fitness().get("energy");
+      assertTrue(bounds.makespan() <= makespan);
+      assertTrue(bounds.energy() <= energy);
+
+      // A cutoff above the value keeps the full evaluation, one below aborts it.
+      assertEquals(
+          fitness, calculator.calculateFitness(solution, Objective.MAKESPAN, makespan * 1.01));
+      assertTrue(
+          calculator.calculateFitness(solution, Objective.MAKESPAN, makespan * 0.99).isPruned());
+      assertFalse(
+          calculator.calculateFitness(solution, Objective.ENERGY, energy * 1.01).isPruned());
+      assertTrue(
+          calculator.calculateFitness(solution, Objective.ENERGY, energy * 0.99).isPruned());
+    }
+  }
+
+  @Test
+  void rankCutoffEvaluatesTheRankedPlan() {
+    var instanceData = loadMontageTest();
+    var calculator = new FitnessCalculatorRank(instanceData);
+    var planGenerator = new PlanGenerator(new Random(2L), instanceData);
+
+    for (int i = 0; i < 50; i++) {
+      var plan = planGenerator.generatePlan();
+      var size = instanceData.workflow().size();
+      var fitness =
+          calculator.calculateFitness(
+              new SchedulePermutationSolution(size, 2, null, plan, "makespan"));
+      double makespan = fitness.fitness().get("makespan");
+
+      var kept =
+          calculator.calculateFitness(
+              new SchedulePermutationSolution(size, 2, null, plan, "makespan"),
+              Objective.MAKESPAN,
+              makespan * 1.01);
+      assertEquals(fitness, kept);
+      var pruned =
+          calculator.calculateFitness(
+              new SchedulePermutationSolution(size, 2, null, plan, "makespan"),
+              Objective.MAKESPAN,
+              makespan * 0.99);
+      assertTrue(pruned.isPruned());
+      assertEquals("rank", pruned.fitnessFunction());
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.uniovi.sercheduler.service;
+
+import static com.uniovi.sercheduler.util.LoadTestInstanceData.loadMontageTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ScheduleSimulatorTest {
+
+  @Test
+  void aSingleHostHasNoContention() {
+    var instanceData = loadMontageTest();
+    var host = instanceData.hosts().values().iterator().next();
+    var plan =
+        new PlanGenerator(new Random(1L), instanceData)
+            .generatePlan().stream().map(p -> new PlanPair(p.task(), host)).toList();
+    var estimate =
+        new FitnessCalculatorSimple(instanceData)
+            .calculateFitness(
+                new SchedulePermutationSolution(plan.size(), 2, null, plan, "makespan"));
+
+    var result = new ScheduleSimulator(instanceData).simulate(estimate);
+
+    assertEquals(result.estimatedMakespan(), result.makespan(), 1e-6);
+    assertEquals(result.estimatedEnergy(), result.energy(), 1e-6);
+    assertEquals(0, result.maxFinishDeviation(), 1e-6);
+  }
+
+  @Test
+  void simulatedSchedulesRespectHostsAndDependencies() {
+    var instanceData = loadMontageTest();
+    var planGenerator = new PlanGenerator(new Random(1L), instanceData);
+    var estimates = new ArrayList<FitnessInfo>();
+    for (var fitness : List.of("simple", "heft", "min-energy-UM-active")) {
+      var calculator = FitnessCalculator.getFitness(fitness, instanceData);
+      for (int i = 0; i < 20; i++) {
+        var plan = planGenerator.generatePlan();
+        estimates.add(
+            calculator.calculateFitness(
+                new SchedulePermutationSolution(plan.size(), 2, null, plan, "makespan")));
+      }
+    }
+
+    var results = new ScheduleSimulator(instanceData).simulateAll(estimates);
+
+    assertEquals(estimates.size(), results.size());
+    for (var result : results) {
+      assertEquals(instanceData.workflow().size(), result.schedule().size());
+      var finish = new HashMap<String, Double>();
+      var hostFree = new HashMap<String, Double>();
+      for (var taskSchedule : result.schedule()) {
+        for (var parent : taskSchedule.task().getParents()) {
+          assertTrue(finish.get(parent.getName()) <= taskSchedule.ast());
+        }
+        assertTrue(hostFree.getOrDefault(taskSchedule.host().getName(), 0D) <= taskSchedule.ast());
+        finish.put(taskSchedule.task().getName(), taskSchedule.eft());
+        hostFree.put(taskSchedule.host().getName(), taskSchedule.eft());
+      }
+      assertTrue(result.makespan() > 0);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.uniovi.sercheduler.service;
+
+import static com.uniovi.sercheduler.util.LoadTestInstanceData.loadFitnessTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SeededPlanGeneratorTest {
+
+  @Test
+  void generatePlanKeepsTheRatioOfValidSeeds() {
+    var instanceData = loadFitnessTest();
+    var seeds = SeededPlanGenerator.heuristicSeeds(instanceData);
+    var generator = new SeededPlanGenerator(new Random(1L), instanceData, seeds, 0.25);
+
+    var heft = new HeuristicScheduler(instanceData, "heft").schedule().schedule();
+    var heftHosts = heft.stream().map(s -> s.task().getName() + s.host().getName()).toList();
+    var seedHosts = seeds.get(0).stream().map(p -> p.task().getName() + p.host().getName());
+    assertEquals(new HashSet<>(heftHosts), new HashSet<>(seedHosts.toList()));
+
+    var seededPositions = new HashSet<Integer>();
+    for (int i = 0; i < 100; i++) {
+      var plan = generator.generatePlan();
+      assertTopological(plan);
+      if (seeds.contains(plan)) {
+        seededPositions.add(i);
+      }
+    }
+    // One plan in four is a seed, the first round of seeds is not mutated.
+    assertTrue(seededPositions.containsAll(List.of(3, 7)));
+    assertTrue(seededPositions.size() <= 25);
+  }
+
+  private static void assertTopological(List<PlanPair> plan) {
+    var done = new HashSet<String>();
+    for (var pair : plan) {
+      for (var parent : pair.task().getParents()) {
+        assertTrue(done.contains(parent.getName()), pair.task().getName());
+      }
+      done.add(pair.task().getName());
+    }
+    assertEquals(plan.size(), done.size());
+  }
+}
@@ -0,0 +1,52 @@
+package com.uniovi.sercheduler.service;
+
+import static com.uniovi.sercheduler.util.LoadTestInstanceData.loadWorkflowTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class WorkflowCoarsenerTest {
+
+  @Test
+  void coarsePlansExpandToValidPlans() {
+    var instanceData = loadWorkflowTest("soykb.json");
+    var random = new SplittableRandom(1L);
+
+    var levels = new ArrayList<ReducedWorkflow>();
+    var current = instanceData;
+    for (int i = 0; i < 3; i++) {
+      var coarse = WorkflowCoarsener.coarsen(current, random);
+      assertTrue(coarse.workflow().size() < current.workflow().size());
+      assertTrue(coarse.workflow().size() * 2 >= current.workflow().size());
+      assertEquals(
+          current.workflow().size(),
+          coarse.members().values().stream().mapToInt(List::size).sum());
+      // The coarse workflow is still a DAG, every task can be ordered.
+      assertEquals(
+          coarse.workflow().size(),
+          SeededPlanGenerator.topologicalOrder(List.copyOf(coarse.workflow().values())).size());
+
+      levels.add(coarse);
+      current = coarse.instanceData(current);
+    }
+
+    var plan = new PlanGenerator(new Random(1L), current).generatePlan();
+    for (int i = levels.size() - 1; i >= 0; i--) {
+      plan = levels.get(i).expand(plan);
+    }
+
+    assertEquals(instanceData.workflow().size(), plan.size());
+    var done = new HashSet<String>();
+    for (var pair : plan) {
+      var task = instanceData.workflow().get(pair.task().getName());
+      assertTrue(task.getParents().stream().allMatch(p -> done.contains(p.getName())));
+      done.add(task.getName());
+    }
+  }
+}
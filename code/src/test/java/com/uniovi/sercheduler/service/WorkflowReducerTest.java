@@ -0,0 +1,66 @@
+package com.uniovi.sercheduler.service;
+
+import static com.uniovi.sercheduler.util.LoadTestInstanceData.loadEpigenomicsTest;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.uniovi.sercheduler.dto.Task;
+import com.uniovi.sercheduler.jmetal.problem.SchedulePermutationSolution;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class WorkflowReducerTest {
+
+  @Test
+  void reducedPlansCostTheSameAsTheirExpansion() {
+    var instanceData = loadEpigenomicsTest();
+    var reduced = WorkflowReducer.reduce(instanceData.workflow());
+    var reducedInstance = reduced.instanceData(instanceData);
+
+    assertTrue(reduced.workflow().size() < instanceData.workflow().size());
+    assertEquals(
+        instanceData.workflow().size() - reduced.workflow().size(), reduced.removedTasks());
+
+    var reducedCalculator = new FitnessCalculatorSimple(reducedInstance);
+    var calculator = new FitnessCalculatorSimple(instanceData);
+    var planGenerator = new PlanGenerator(new Random(1L), reducedInstance);
+
+    for (int i = 0; i < 50; i++) {
+      var solution =
+          new SchedulePermutationSolution(
+              reducedInstance.workflow().size(),
+              2,
+              null,
+              planGenerator.generatePlan(),
+              "makespan");
+      var fitness = reducedCalculator.calculateFitness(solution);
+      solution.setFitnessInfo(fitness);
+      var expanded = reduced.expand(solution, calculator);
+
+      assertEquals(
+          instanceData.workflow().keySet(),
+          expanded.schedule().stream()
+              .map(s -> s.task().getName())
+              .collect(Collectors.toSet()));
+      for (var objective : fitness.fitness().keySet()) {
+        double value = fitness.fitness().get(objective);
+        assertEquals(value, expanded.fitness().get(objective), value * 1e-9);
+      }
+    }
+  }
+
+  @Test
+  void chainsKeepTheirOrder() {
+    var instanceData = loadEpigenomicsTest();
+    var reduced = WorkflowReducer.reduce(instanceData.workflow());
+
+    for (var members : reduced.members().values()) {
+      for (int i = 1; i < members.size(); i++) {
+        Task parent = members.get(i - 1);
+        assertEquals(1, parent.getChildren().size());
+        assertEquals(parent, members.get(i).getParents().get(0));
+      }
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.uniovi.sercheduler.service.profiling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.uniovi.sercheduler.dao.Objective;
+import com.uniovi.sercheduler.jmetal.problem.SchedulingProblem;
+import com.uniovi.sercheduler.util.LoadTestInstanceData;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class PhaseProfilerTest {
+
+  private static SchedulingProblem problem(String fitness) {
+    return new SchedulingProblem(
+        "montage",
+        LoadTestInstanceData.loadMontageTest(),
+        fitness,
+        new SplittableRandom(1),
+        List.of(Objective.MAKESPAN, Objective.ENERGY),
+        "makespan");
+  }
+
+  @Test
+  void recordNothingWhenDisabled() {
+    PhaseProfiler.reset();
+    var problem = problem("heft");
+    for (int i = 0; i < 10; i++) {
+      problem.evaluate(problem.createSolution());
+    }
+    assertTrue(PhaseProfiler.snapshot().isEmpty());
+  }
+
+  @Test
+  void timeEveryPhaseOfTheSampledEvaluations() {
+    PhaseProfiler.reset();
+    var problem = problem("heft");
+    PhaseProfiler.enable(4);
+    try {
+      for (int i = 0; i < 20; i++) {
+        problem.evaluate(problem.createSolution());
+      }
+    } finally {
+      PhaseProfiler.disable();
+    }
+
+    var times =
+        PhaseProfiler.snapshot().stream()
+            .filter(t -> t.owner().equals("FitnessCalculatorHeft"))
+            .collect(Collectors.toMap(PhaseTime::phase, t -> t));
+    assertEquals(5, times.get(Phase.EVALUATION).calls());
+    assertEquals(5, times.get(Phase.SORTING).calls());
+    assertEquals(5, times.get(Phase.ENERGY).calls());
+    int tasks = problem.getInstanceData().workflow().size();
+    int hosts = problem.getInstanceData().hosts().size();
+    assertEquals(5L * tasks, times.get(Phase.HOST_SELECTION).calls());
+    // Every host is tried for every task, and the chosen gap is split once per task.
+    assertEquals(5L * tasks * (hosts + 1), times.get(Phase.GAP_SEARCH).calls());
+    assertEquals(5L * tasks * hosts, times.get(Phase.COMMUNICATIONS).calls());
+    assertTrue(
+        times.get(Phase.EVALUATION).nanos() >= times.get(Phase.HOST_SELECTION).nanos());
+  }
+
+  @Test
+  void keepSamplingAfterAFailedEvaluation() {
+    PhaseProfiler.reset();
+    var problem = problem("simple");
+    var broken = problem.createSolution();
+    broken.setPlan(null);
+    PhaseProfiler.enable(1);
+    try {
+      assertThrows(RuntimeException.class, () -> problem.evaluate(broken));
+      for (int i = 0; i < 3; i++) {
+        problem.evaluate(problem.createSolution());
+      }
+    } finally {
+      PhaseProfiler.disable();
+    }
+
+    var evaluations =
+        PhaseProfiler.snapshot().stream()
+            .filter(t -> t.phase() == Phase.EVALUATION)
+            .mapToLong(PhaseTime::calls)
+            .sum();
+    assertEquals(4, evaluations);
+  }
+}
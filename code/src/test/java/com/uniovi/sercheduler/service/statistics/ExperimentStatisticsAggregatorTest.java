@@ -0,0 +1,42 @@
+package com.uniovi.sercheduler.service.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.uniovi.sercheduler.dao.Objective;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ExperimentStatisticsAggregatorTest {
+
+  @Test
+  void aggregateThePrescreeningOfTheRuns(@TempDir Path directory) throws IOException {
+    var screened = directory.resolve("data/screened/montage-hosts-4");
+    var plain = directory.resolve("data/plain/montage-hosts-4");
+    Files.createDirectories(screened);
+    Files.createDirectories(plain);
+    new RunPrescreening(10, List.of(0.5, 1.0)).write(RunPrescreening.file(screened, 0));
+    new RunPrescreening(30, List.of(0.0)).write(RunPrescreening.file(screened, 1));
+
+    var aggregator =
+        new ExperimentStatisticsAggregator(
+            directory.toString(), 3, List.of(Objective.MAKESPAN, Objective.ENERGY));
+    var file = directory.resolve("prescreening.csv");
+    aggregator.writePrescreening(file, List.of("plain", "screened"), List.of("montage-hosts-4"));
+
+    var lines = Files.readAllLines(file);
+    assertEquals(2, lines.size());
+    var fields = lines.get(1).split(",");
+    assertEquals("screened", fields[0]);
+    assertEquals("montage-hosts-4", fields[1]);
+    assertEquals(2, Integer.parseInt(fields[2]));
+    assertEquals(20, Double.parseDouble(fields[3]), 1e-9);
+    assertEquals(3, Integer.parseInt(fields[4]));
+    assertEquals(0.5, Double.parseDouble(fields[5]), 1e-9);
+    assertEquals(0.0, Double.parseDouble(fields[6]), 1e-9);
+    assertEquals(1.0, Double.parseDouble(fields[7]), 1e-9);
+  }
+}
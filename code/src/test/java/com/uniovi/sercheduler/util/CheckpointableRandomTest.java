@@ -0,0 +1,62 @@
+package com.uniovi.sercheduler.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class CheckpointableRandomTest {
+
+  @Test
+  void sameNumbersAsRandom() {
+    var expected = new Random(42);
+    var random = new CheckpointableRandom(42);
+
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(expected.nextInt(17), random.nextInt(17));
+      assertEquals(expected.nextLong(), random.nextLong());
+      assertEquals(expected.nextDouble(), random.nextDouble());
+      assertEquals(expected.nextBoolean(), random.nextBoolean());
+    }
+  }
+
+  @Test
+  void sameNumbersAsSplittableRandom() {
+    var expected = new SplittableRandom(42);
+    var random = new CheckpointableSplittableRandom(42);
+
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(expected.nextInt(17), random.nextInt(17));
+      assertEquals(expected.nextInt(), random.nextInt());
+      assertEquals(expected.nextLong(), random.nextLong());
+      assertEquals(expected.nextDouble(), random.nextDouble());
+      assertEquals(expected.nextBoolean(), random.nextBoolean());
+    }
+    var expectedSplit = expected.split();
+    var split = random.split();
+    for (int i = 0; i < 100; i++) {
+      assertEquals(expectedSplit.nextInt(1000), split.nextInt(1000));
+    }
+  }
+
+  @Test
+  void restoreRepeatsTheSequence() {
+    var random = new CheckpointableRandom(7);
+    var splittable = new CheckpointableSplittableRandom(7);
+    random.nextInt();
+    splittable.nextInt();
+    var state = random.checkpoint();
+    var splittableState = splittable.checkpoint();
+    var first = random.nextLong();
+    var splittableFirst = splittable.nextLong();
+
+    random.nextLong();
+    splittable.nextLong();
+    random.restore(state);
+    splittable.restore(splittableState);
+
+    assertEquals(first, random.nextLong());
+    assertEquals(splittableFirst, splittable.nextLong());
+  }
+}
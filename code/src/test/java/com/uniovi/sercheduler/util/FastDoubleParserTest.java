@@ -0,0 +1,42 @@
+package com.uniovi.sercheduler.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class FastDoubleParserTest {
+
+  private static double parse(String text) {
+    var bytes = text.getBytes(StandardCharsets.US_ASCII);
+    return FastDoubleParser.parse(bytes, 0, bytes.length);
+  }
+
+  @Test
+  void parseMatchesDoubleParseDouble() {
+    var texts =
+        List.of(
+            "0", "-0.0", "1", "+2.5", "123.456", "0.000123", "1.0E10", "1.7976931348623157E308",
+            "4.9E-324", "2.2250738585072014E-308", "12345678901234567890", "0.1", "-3.14e-2",
+            "NaN", "Infinity", "-Infinity", "  42.5 ", ".5", "5.");
+    for (var text : texts) {
+      assertEquals(Double.parseDouble(text), parse(text), text);
+    }
+  }
+
+  @Test
+  void parseRandomDoubles() {
+    var random = new Random(1L);
+    for (int i = 0; i < 10_000; i++) {
+      double value = random.nextDouble() * Math.pow(10, random.nextInt(20) - 10);
+      var text = Double.toString(value);
+      assertEquals(value, parse(text), text);
+
+      var rounded = String.format(Locale.ROOT, "%.6f", value);
+      assertEquals(Double.parseDouble(rounded), parse(rounded), rounded);
+    }
+  }
+}
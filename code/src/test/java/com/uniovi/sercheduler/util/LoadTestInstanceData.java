@@ -19,6 +19,18 @@ public class LoadTestInstanceData {
     return loadTestJson("hosts_test.json", "workflow_test.json");
   }
 
+  public static InstanceData loadMontageTest() {
+    return loadTestJson("extreme/hosts-8.json", "montage.json");
+  }
+
+  public static InstanceData loadEpigenomicsTest() {
+    return loadTestJson("extreme/hosts-8.json", "epigenomics.json");
+  }
+
+  public static InstanceData loadWorkflowTest(String workflowFile) {
+    return loadTestJson("extreme/hosts-8.json", workflowFile);
+  }
+
   private static InstanceData loadTestJson(String hostFile, String workflowFile) {
     try {
       HostLoader hostLoader = new HostFileLoader();
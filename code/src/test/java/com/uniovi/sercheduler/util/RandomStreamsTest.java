@@ -0,0 +1,30 @@
+package com.uniovi.sercheduler.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+class RandomStreamsTest {
+
+  @Test
+  void sameRunSameStream() {
+    var random1 = RandomStreams.forRun(1L, "montage", 4, "heft", 3);
+    var random2 = RandomStreams.forRun(1L, "montage", 4, "heft", 3);
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(random1.nextLong(), random2.nextLong());
+    }
+  }
+
+  @Test
+  void differentRunsDifferentStreams() {
+    long base = RandomStreams.forRun(1L, "montage", 4, "heft", 0).nextLong();
+
+    assertNotEquals(base, RandomStreams.forRun(1L, "montage", 4, "heft", 1).nextLong());
+    assertNotEquals(base, RandomStreams.forRun(1L, "montage", 8, "heft", 0).nextLong());
+    assertNotEquals(base, RandomStreams.forRun(1L, "montage", 4, "rank", 0).nextLong());
+    assertNotEquals(base, RandomStreams.forRun(1L, "cybershake", 4, "heft", 0).nextLong());
+    assertNotEquals(base, RandomStreams.forRun(2L, "montage", 4, "heft", 0).nextLong());
+  }
+}
@@ -0,0 +1,20 @@
+#!/usr/bin/env bash
+# Compares the time from the JVM start to the first evaluation of the Spring Shell launcher, the
+# headless launcher and the headless launcher with the AppCDS archive (mvn -P appcds package).
+TARGET=../../target
+HOSTS=${1:-hosts/hosts-8.json}
+WORKFLOW=${2:-workflows/montage.json}
+RUNS=${3:-5}
+
+run() {
+  for _ in $(seq "$RUNS"); do
+    "$@" evaluate -H "$HOSTS" -W "$WORKFLOW" -E 200 2>&1 \
+      | grep -o "First evaluation [0-9]* ms" | grep -o "[0-9]*"
+  done | awk -v name="$LABEL" '{ s += $1 } END { printf "%s: %.0f ms\n", name, s / NR }'
+}
+
+LABEL="Spring Shell" run java -jar $TARGET/sercheduler-0.0.1-SNAPSHOT.jar
+LABEL="Headless" run java -cp $TARGET/sercheduler-0.0.1-SNAPSHOT.jar \
+  -Dloader.main=com.uniovi.sercheduler.HeadlessLauncher org.springframework.boot.loader.launch.PropertiesLauncher
+LABEL="Headless with AppCDS" run java -XX:SharedArchiveFile=$TARGET/cds/sercheduler.jsa \
+  -cp $TARGET/cds/sercheduler-0.0.1-SNAPSHOT.jar com.uniovi.sercheduler.HeadlessLauncher